@@ -0,0 +1,121 @@
+package back.fcz.benchmark;
+
+import back.fcz.domain.openai.moderation.dto.ModerationField;
+import back.fcz.domain.openai.moderation.prefilter.AhoCorasickMatcher;
+import back.fcz.domain.openai.moderation.prefilter.ModerationPrefilter;
+import back.fcz.domain.openai.moderation.prefilter.PrefilterNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * moderation 사전 검사: Aho–Corasick 한 번 훑기 vs 금칙어마다 contains 반복 비교
+ * - 입력: 실제 캡슐 본문과 비슷한 한국어 문장(이모지/띄어쓰기 포함)을 길이별로 구성
+ * - 금칙어: 기본 목록 + 임의 2~3음절 단어로 termCount까지 채움 (목록이 커질 때의 차이 확인)
+ * - 실행: ./gradlew jmh -PjmhInclude=ModerationPrefilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModerationPrefilterBenchmark {
+
+    private static final String[] SENTENCES = {
+            "1년 뒤의 나에게, 오늘은 오랜만에 한강에서 친구들이랑 치킨을 먹었어. ",
+            "요즘 회사 일이 많아서 힘들었는데 그래도 잘 버티고 있는 것 같아 🙂 ",
+            "이 캡슐을 열 때쯤엔 이사한 집에도 익숙해졌겠지? ",
+            "엄마 생신 선물로 산 목도리, 마음에 들어 하셔서 정말 다행이었다. ",
+            "다음 여름엔 꼭 제주도 올레길을 끝까지 걸어 보자!! ",
+            "We promised to meet again at the same cafe next spring. ",
+            "시발점이 어디였든 지금 여기까지 온 게 대단해. ",
+            "운동 3개월째, 아직 목표까지는 멀었지만 포기하지 말자. "
+    };
+
+    @Param({"80", "500", "3000"})
+    public int bodyLength;
+
+    @Param({"20", "500"})
+    public int termCount;
+
+    private ModerationPrefilter prefilter;
+    private AhoCorasickMatcher matcher;
+    private List<String> normalizedTerms;
+    private Map<ModerationField, String> fields;
+    private String normalizedBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<String> terms = new ArrayList<>(loadDefaultTerms());
+        Random random = new Random(42);
+        while (terms.size() < termCount) {
+            int syllables = 2 + random.nextInt(2);
+            StringBuilder term = new StringBuilder();
+            for (int i = 0; i < syllables; i++) {
+                term.append((char) (0xAC00 + random.nextInt(11172)));
+            }
+            terms.add(term.toString());
+        }
+
+        prefilter = ModerationPrefilter.of(terms, 20);
+        normalizedTerms = terms.stream().map(PrefilterNormalizer::normalize).toList();
+        matcher = AhoCorasickMatcher.of(normalizedTerms);
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; body.length() < bodyLength; i++) {
+            body.append(SENTENCES[i % SENTENCES.length]);
+        }
+        fields = new LinkedHashMap<>();
+        fields.put(ModerationField.TITLE, "미래의 나에게 보내는 편지");
+        fields.put(ModerationField.CONTENT, body.substring(0, bodyLength));
+        fields.put(ModerationField.RECEIVER_NICKNAME, "나");
+        fields.put(ModerationField.LOCATION_NAME, "뚝섬한강공원");
+        normalizedBody = PrefilterNormalizer.normalize(body.substring(0, bodyLength));
+    }
+
+    // 실제 서비스 경로 (필드별 정규화 + 매칭)
+    @Benchmark
+    public ModerationPrefilter.Result prefilterCheck() {
+        return prefilter.check(fields);
+    }
+
+    @Benchmark
+    public String normalizeOnly() {
+        return PrefilterNormalizer.normalize(fields.get(ModerationField.CONTENT));
+    }
+
+    // 일치한 금칙어를 모두 수집 (차단 사유 기록용, 서비스와 같은 방식)
+    @Benchmark
+    public Set<String> ahoCorasickFindAll() {
+        return matcher.findAll(normalizedBody);
+    }
+
+    // 비교 기준: 금칙어마다 본문 전체를 다시 훑음 (O(본문 길이 x 금칙어 수))
+    @Benchmark
+    public Set<String> naiveContainsFindAll() {
+        Set<String> found = new LinkedHashSet<>();
+        for (String term : normalizedTerms) {
+            if (normalizedBody.contains(term)) {
+                found.add(term);
+            }
+        }
+        return found;
+    }
+
+    private static List<String> loadDefaultTerms() throws IOException {
+        String text = new ClassPathResource("moderation/prefilter-terms.txt")
+                .getContentAsString(StandardCharsets.UTF_8);
+        return text.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+}
@@ -0,0 +1,118 @@
+package back.fcz.benchmark;
+
+import back.fcz.global.crypto.PhoneCrypto;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PhoneCrypto: 호출마다 Cipher/SecureRandom/MessageDigest 생성(기존) vs Engine 풀 재사용 비교
+ * - 실행: ./gradlew jmh -PjmhInclude=PhoneCryptoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PhoneCryptoBenchmark {
+
+    private static final String AES_KEY = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
+    private static final String SALT = "benchmark-salt";
+    private static final String PHONE = "01012345678";
+    private static final int BATCH_SIZE = 50;
+
+    private PhoneCrypto phoneCrypto;
+    private SecretKeySpec secretKey;
+    private String encrypted;
+    private List<String> phones;
+    private List<String> encryptedPhones;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        phoneCrypto = new PhoneCrypto(AES_KEY, SALT);
+        secretKey = new SecretKeySpec(Base64.getDecoder().decode(AES_KEY), "AES");
+        encrypted = phoneCrypto.encrypt(PHONE);
+
+        phones = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            phones.add(String.format("010%08d", i));
+        }
+        encryptedPhones = phoneCrypto.encryptAll(phones);
+    }
+
+    @Benchmark
+    public String pooledEncrypt() {
+        return phoneCrypto.encrypt(PHONE);
+    }
+
+    @Benchmark
+    public String pooledDecrypt() {
+        return phoneCrypto.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public String pooledHash() {
+        return phoneCrypto.hash(PHONE);
+    }
+
+    @Benchmark
+    public List<String> pooledDecryptAll() {
+        return phoneCrypto.decryptAll(encryptedPhones);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        byte[] iv = new byte[16];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+        byte[] encryptedBytes = cipher.doFinal(PHONE.getBytes(StandardCharsets.UTF_8));
+
+        byte[] combined = new byte[iv.length + encryptedBytes.length];
+        System.arraycopy(iv, 0, combined, 0, iv.length);
+        System.arraycopy(encryptedBytes, 0, combined, iv.length, encryptedBytes.length);
+        return Base64.getEncoder().encodeToString(combined);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        return legacyDecrypt(encrypted);
+    }
+
+    @Benchmark
+    public String legacyHash() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return Hex.encodeHexString(digest.digest((PHONE + SALT).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public List<String> legacyDecryptLoop() throws Exception {
+        List<String> result = new ArrayList<>(encryptedPhones.size());
+        for (String value : encryptedPhones) {
+            result.add(legacyDecrypt(value));
+        }
+        return result;
+    }
+
+    private String legacyDecrypt(String value) throws Exception {
+        byte[] combined = Base64.getDecoder().decode(value);
+
+        byte[] iv = new byte[16];
+        System.arraycopy(combined, 0, iv, 0, 16);
+        byte[] encryptedBytes = new byte[combined.length - 16];
+        System.arraycopy(combined, 16, encryptedBytes, 0, encryptedBytes.length);
+
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new IvParameterSpec(iv));
+        return new String(cipher.doFinal(encryptedBytes), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package back.fcz.benchmark;
+
+import back.fcz.domain.sanction.constant.RiskLevel;
+import back.fcz.domain.sanction.properties.SanctionProperties;
+import back.fcz.domain.sanction.service.RateLimitService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitService 슬라이딩 윈도우: 기존 다중 명령 방식 vs Lua 스크립트 1회 왕복 비교
+ * - 로컬 Redis 필요 (-Dredis.host, -Dredis.port 로 변경 가능)
+ * - 실행: ./gradlew jmh -PjmhInclude=RateLimitBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RateLimitBenchmark {
+
+    private static final String KEY_PREFIX = "bench:rate_limit:member:";
+    private static final int MEMBER_COUNT = 10_000;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private RateLimitService rateLimitService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"),
+                Integer.getInteger("redis.port", 6379)
+        );
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        StringRedisSerializer serializer = new StringRedisSerializer();
+        redisTemplate.setKeySerializer(serializer);
+        redisTemplate.setValueSerializer(serializer);
+        redisTemplate.afterPropertiesSet();
+
+        // 차단 없이 순수 처리량만 비교하도록 넉넉한 한도 설정
+        SanctionProperties properties = new SanctionProperties();
+        properties.getRateLimit().setWindowSeconds(Map.of(RiskLevel.LOW, 60));
+        properties.getRateLimit().setMaxRequests(Map.of(RiskLevel.LOW, 1_000_000));
+        properties.getRateLimit().setCooldownSeconds(Map.of(RiskLevel.LOW, 60));
+
+        rateLimitService = new RateLimitService(redisTemplate, properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public boolean luaScript() {
+        long memberId = ThreadLocalRandom.current().nextLong(MEMBER_COUNT);
+        return rateLimitService.tryAcquire(memberId, RiskLevel.LOW);
+    }
+
+    // 변경 전 RateLimitFilter 경로: isInCooldown(ZCARD + TTL) + apply(TTL + ZREMRANGEBYSCORE + ZADD + ZCARD + EXPIRE)
+    @Benchmark
+    public boolean legacyMultiCommand() {
+        String key = KEY_PREFIX + ThreadLocalRandom.current().nextLong(MEMBER_COUNT);
+        int windowSeconds = 60;
+        long now = System.currentTimeMillis();
+
+        Long count = redisTemplate.opsForZSet().zCard(key);
+        if (count != null && count > 0) {
+            Long ttl = redisTemplate.getExpire(key);
+            if (ttl != null && ttl > windowSeconds) {
+                return false;
+            }
+        }
+
+        Long currentTtl = redisTemplate.getExpire(key);
+        if (currentTtl != null && currentTtl > windowSeconds) {
+            return false;
+        }
+        redisTemplate.opsForZSet().removeRangeByScore(key, 0, now - windowSeconds * 1000L);
+        redisTemplate.opsForZSet().add(key, String.valueOf(now), now);
+        redisTemplate.opsForZSet().zCard(key);
+        redisTemplate.expire(key, Duration.ofSeconds(windowSeconds));
+        return true;
+    }
+}
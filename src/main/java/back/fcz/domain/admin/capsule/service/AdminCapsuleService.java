@@ -7,6 +7,7 @@ import back.fcz.domain.capsule.entity.Capsule;
 import back.fcz.domain.capsule.entity.CapsuleRecipient;
 import back.fcz.domain.capsule.repository.CapsuleRecipientRepository;
 import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.capsule.service.CapsuleEntityCache;
 import back.fcz.domain.report.repository.ReportRepository;
 import back.fcz.global.dto.PageResponse;
 import back.fcz.global.exception.BusinessException;
@@ -27,6 +28,7 @@ public class AdminCapsuleService {
     private final CapsuleRepository capsuleRepository;
     private final CapsuleRecipientRepository capsuleRecipientRepository;
     private final ReportRepository reportRepository;
+    private final CapsuleEntityCache capsuleEntityCache;
 
     /**
      * 관리자 캡슐 목록 조회 (검색/필터 포함)
@@ -132,6 +134,7 @@ public class AdminCapsuleService {
             capsule.setIsDeleted(0);
             capsule.clearDeletedAt();
         }
+        capsuleEntityCache.evict(capsuleId);
 
         // 상세 응답은 항상 최신 기준으로 재구성
         return getCapsuleDetail(capsuleId);
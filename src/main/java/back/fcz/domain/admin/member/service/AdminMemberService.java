@@ -7,6 +7,7 @@ import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.entity.MemberStatus;
 import back.fcz.domain.member.repository.MemberRepository;
 import back.fcz.domain.member.service.CurrentUserContext;
+import back.fcz.domain.member.service.MemberStatusCache;
 import back.fcz.domain.report.repository.ReportRepository;
 import back.fcz.domain.sanction.entity.MemberSanctionHistory;
 import back.fcz.domain.sanction.entity.SanctionType;
@@ -39,6 +40,7 @@ public class AdminMemberService {
     private final PhoneVerificationRepository phoneVerificationRepository;
     private final MemberSanctionHistoryRepository sanctionHistoryRepository;
     private final CurrentUserContext currentUserContext;
+    private final MemberStatusCache memberStatusCache;
 
     /**
      * 관리자 회원 목록 조회 + 통계(신고당함/보호캡슐/캡슐수)
@@ -219,6 +221,7 @@ public class AdminMemberService {
                 request.getSanctionUntil()
         );
         sanctionHistoryRepository.save(history);
+        memberStatusCache.invalidateCache(member.getMemberId());
 
         return AdminMemberStatusUpdateResponse.of(member, request.getReason(), request.getSanctionUntil());
     }
@@ -2,9 +2,11 @@ package back.fcz.domain.admin.report.service;
 
 import back.fcz.domain.admin.report.dto.*;
 import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.service.CapsuleEntityCache;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.entity.MemberStatus;
 import back.fcz.domain.member.service.CurrentUserContext;
+import back.fcz.domain.member.service.MemberStatusCache;
 import back.fcz.domain.report.entity.Report;
 import back.fcz.domain.report.entity.ReportStatus;
 import back.fcz.domain.report.repository.ReportRepository;
@@ -29,6 +31,8 @@ public class AdminReportService {
     private final ReportRepository reportRepository;
     private final MemberSanctionHistoryRepository memberSanctionHistoryRepository;
     private final CurrentUserContext currentUserContext;
+    private final CapsuleEntityCache capsuleEntityCache;
+    private final MemberStatusCache memberStatusCache;
 
     public PageResponse<AdminReportSummaryResponse> getReports(AdminReportSearchRequest cond) {
         ReportStatus status = parseReportStatusOrNull(cond.getStatus());
@@ -103,18 +107,26 @@ public class AdminReportService {
         switch (action) {
             case NONE -> { /* nothing */ }
 
-            case HIDE_CAPSULE -> capsule.setProtected(1);
+            case HIDE_CAPSULE -> {
+                capsule.setProtected(1);
+                capsuleEntityCache.evict(capsule.getCapsuleId());
+            }
 
-            case UNHIDE_CAPSULE -> capsule.setProtected(0);
+            case UNHIDE_CAPSULE -> {
+                capsule.setProtected(0);
+                capsuleEntityCache.evict(capsule.getCapsuleId());
+            }
 
             case DELETE_CAPSULE -> {
                 capsule.setIsDeleted(2);
                 capsule.markDeleted();
+                capsuleEntityCache.evict(capsule.getCapsuleId());
             }
 
             case RESTORE_CAPSULE -> {
                 capsule.setIsDeleted(0);
                 capsule.clearDeletedAt();
+                capsuleEntityCache.evict(capsule.getCapsuleId());
             }
 
             case SUSPEND_MEMBER -> {
@@ -139,6 +151,7 @@ public class AdminReportService {
                                 req.getSanctionUntil()
                         )
                 );
+                memberStatusCache.invalidateCache(writer.getMemberId());
             }
 
             case RESTORE_MEMBER -> {
@@ -163,6 +176,7 @@ public class AdminReportService {
                                 req.getSanctionUntil()
                         )
                 );
+                memberStatusCache.invalidateCache(writer.getMemberId());
             }
         }
     }
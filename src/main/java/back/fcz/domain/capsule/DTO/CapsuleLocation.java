@@ -0,0 +1,18 @@
+package back.fcz.domain.capsule.DTO;
+
+// 근처 캡슐 공간 인덱스 적재용 위치 정보
+public record CapsuleLocation(
+        Long capsuleId,
+        Double locationLat,
+        Double locationLng,
+        String visibility,
+        int isDeleted
+) {
+    // 공간 인덱스에 포함될 수 있는 캡슐인지 (공개 + 삭제되지 않음 + 위치 정보 존재)
+    public boolean isIndexable() {
+        return "PUBLIC".equals(visibility)
+                && isDeleted == 0
+                && locationLat != null
+                && locationLng != null;
+    }
+}
@@ -0,0 +1,68 @@
+package back.fcz.domain.capsule.DTO;
+
+import back.fcz.domain.capsule.entity.Capsule;
+
+import java.time.LocalDateTime;
+
+// 캡슐 엔티티 캐시(로컬 + Redis)에 저장되는 불변 스냅샷
+public record CapsuleSnapshot(
+        Long capsuleId,
+        Long memberId,
+        String uuid,
+        String nickname,
+        String receiverNickname,
+        String title,
+        String content,
+        String capPassword,
+        String capsuleColor,
+        String capsulePackingColor,
+        String visibility,
+        String unlockType,
+        LocalDateTime unlockAt,
+        LocalDateTime unlockUntil,
+        String locationName,
+        String address,
+        Double locationLat,
+        Double locationLng,
+        int locationRadiusM,
+        int maxViewCount,
+        int currentViewCount,
+        int isDeleted,
+        int isProtected,
+        int likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime deletedAt
+) {
+    public static CapsuleSnapshot from(Capsule capsule) {
+        return new CapsuleSnapshot(
+                capsule.getCapsuleId(),
+                capsule.getMemberId() != null ? capsule.getMemberId().getMemberId() : null,
+                capsule.getUuid(),
+                capsule.getNickname(),
+                capsule.getReceiverNickname(),
+                capsule.getTitle(),
+                capsule.getContent(),
+                capsule.getCapPassword(),
+                capsule.getCapsuleColor(),
+                capsule.getCapsulePackingColor(),
+                capsule.getVisibility(),
+                capsule.getUnlockType(),
+                capsule.getUnlockAt(),
+                capsule.getUnlockUntil(),
+                capsule.getLocationName(),
+                capsule.getAddress(),
+                capsule.getLocationLat(),
+                capsule.getLocationLng(),
+                capsule.getLocationRadiusM(),
+                capsule.getMaxViewCount(),
+                capsule.getCurrentViewCount(),
+                capsule.getIsDeleted(),
+                capsule.getIsProtected(),
+                capsule.getLikeCount(),
+                capsule.getCreatedAt(),
+                capsule.getUpdatedAt(),
+                capsule.getDeletedAt()
+        );
+    }
+}
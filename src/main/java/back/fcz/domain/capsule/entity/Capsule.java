@@ -1,5 +1,6 @@
 package back.fcz.domain.capsule.entity;
 
+import back.fcz.domain.capsule.DTO.CapsuleSnapshot;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.global.entity.BaseEntity;
 import jakarta.persistence.*;
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_lat_lng", columnList = "locationLat, locationLng"),
         @Index(name = "idx_member_deleted", columnList = "member_id, isDeleted"),
         @Index(name = "idx_visibility_deleted", columnList = "visibility, isDeleted"),
-        @Index(name = "idx_visibility_deleted_lat_lng", columnList = "visibility, isDeleted, locationLat, locationLng")
+        @Index(name = "idx_visibility_deleted_lat_lng", columnList = "visibility, isDeleted, locationLat, locationLng"),
+        @Index(name = "idx_capsule_updated_at", columnList = "updated_at")
 })
 public class Capsule extends BaseEntity {
     @Id
@@ -116,4 +118,36 @@ public class Capsule extends BaseEntity {
     public void setIsDeleted(int i) {
         this.isDeleted = i;
     }
+
+    // 캐시 스냅샷으로부터 읽기 전용 캡슐 복원 (영속성 컨텍스트에 속하지 않음)
+    public static Capsule restore(CapsuleSnapshot snapshot, Member member) {
+        Capsule capsule = Capsule.builder()
+                .capsuleId(snapshot.capsuleId())
+                .memberId(member)
+                .uuid(snapshot.uuid())
+                .nickname(snapshot.nickname())
+                .receiverNickname(snapshot.receiverNickname())
+                .title(snapshot.title())
+                .content(snapshot.content())
+                .capPassword(snapshot.capPassword())
+                .capsuleColor(snapshot.capsuleColor())
+                .capsulePackingColor(snapshot.capsulePackingColor())
+                .visibility(snapshot.visibility())
+                .unlockType(snapshot.unlockType())
+                .unlockAt(snapshot.unlockAt())
+                .unlockUntil(snapshot.unlockUntil())
+                .locationName(snapshot.locationName())
+                .address(snapshot.address())
+                .locationLat(snapshot.locationLat())
+                .locationLng(snapshot.locationLng())
+                .locationRadiusM(snapshot.locationRadiusM())
+                .maxViewCount(snapshot.maxViewCount())
+                .currentViewCount(snapshot.currentViewCount())
+                .isDeleted(snapshot.isDeleted())
+                .isProtected(snapshot.isProtected())
+                .likeCount(snapshot.likeCount())
+                .build();
+        capsule.restoreAuditFields(snapshot.createdAt(), snapshot.updatedAt(), snapshot.deletedAt());
+        return capsule;
+    }
 }
@@ -3,6 +3,9 @@ package back.fcz.domain.capsule.repository;
 import back.fcz.domain.capsule.entity.CapsuleAttachment;
 import back.fcz.domain.capsule.entity.CapsuleAttachmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -19,5 +22,17 @@ public interface CapsuleAttachmentRepository extends JpaRepository<CapsuleAttach
 
     List<CapsuleAttachment> findTop1000ByStatusAndCreatedAtBeforeOrderByIdAsc(CapsuleAttachmentStatus status, LocalDateTime localDateTime);
 
-    List<CapsuleAttachment> findTop1000ByStatusOrderByDeletedAtAsc(CapsuleAttachmentStatus status);
-}
\ No newline at end of file
+    // 하드삭제 대상 keyset 조회 (S3 삭제에 계속 실패하는 행이 앞을 막지 않도록 id 커서로 넘어감)
+    List<CapsuleAttachment> findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(CapsuleAttachmentStatus status, Long id);
+
+    // 캡슐 하드 딜리트 전 첨부파일 분리 (FK 해제 + DELETED, S3 객체는 첨부파일 정리 스케줄러가 삭제)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update CapsuleAttachment a
+            set a.capsule = null,
+                a.status = back.fcz.domain.capsule.entity.CapsuleAttachmentStatus.DELETED,
+                a.deletedAt = :now
+            where a.capsule.capsuleId in :capsuleIds
+            """)
+    int detachAndMarkDeletedByCapsuleIds(@Param("capsuleIds") List<Long> capsuleIds, @Param("now") LocalDateTime now);
+}
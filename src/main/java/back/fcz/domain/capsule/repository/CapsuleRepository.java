@@ -1,5 +1,6 @@
 package back.fcz.domain.capsule.repository;
 
+import back.fcz.domain.capsule.DTO.CapsuleLocation;
 import back.fcz.domain.capsule.entity.Capsule;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -89,7 +90,8 @@ public interface CapsuleRepository extends JpaRepository<Capsule, Long> {
      * - PRIVATE + isProtected=0(비회원/비밀번호) + isDeleted=1(소프트삭제)
      * - TIME 포함: unlockAt 기준
      * - LOCATION만: createdAt 기준
-     * - 1회 실행당 limit(최대 100) 적용을 위해 Pageable 사용
+     * - 1회 실행당 limit 적용을 위해 Pageable 사용
+     * - afterId: 이어서 처리할 체크포인트 (capsuleId 오름차순 keyset, 처음부터면 0)
      */
     @Query("""
             select c.capsuleId
@@ -98,6 +100,7 @@ public interface CapsuleRepository extends JpaRepository<Capsule, Long> {
               and c.isProtected = 0
               and c.isDeleted = 1
               and c.deletedAt is not null
+              and c.capsuleId > :afterId
               and (
                    (c.unlockType in ('TIME', 'TIME_AND_LOCATION')
                         and c.unlockAt is not null
@@ -107,7 +110,9 @@ public interface CapsuleRepository extends JpaRepository<Capsule, Long> {
               )
             order by c.capsuleId asc
             """)
-    List<Long> findHardDeleteCandidateIds(@Param("now") LocalDateTime now, Pageable pageable);
+    List<Long> findHardDeleteCandidateIds(@Param("now") LocalDateTime now,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from Capsule c where c.capsuleId in :capsuleIds")
@@ -206,4 +211,31 @@ public interface CapsuleRepository extends JpaRepository<Capsule, Long> {
             @Param("now") LocalDateTime now,
             @Param("sixtyDaysAgo") LocalDateTime sixtyDaysAgo
     );
+
+    // 근처 캡슐 공간 인덱스 초기 적재 대상 (공개 + 삭제되지 않은 + 60일 이내 캡슐 위치)
+    @Query("""
+    SELECT new back.fcz.domain.capsule.DTO.CapsuleLocation(
+        c.capsuleId, c.locationLat, c.locationLng, c.visibility, c.isDeleted
+    )
+    FROM Capsule c
+    WHERE c.visibility = 'PUBLIC'
+    AND c.isDeleted = 0
+    AND c.locationLat IS NOT NULL
+    AND c.locationLng IS NOT NULL
+    AND (
+        (c.unlockType IN ('TIME', 'TIME_AND_LOCATION') AND c.unlockAt IS NOT NULL AND c.unlockAt >= :sixtyDaysAgo)
+        OR (c.unlockType = 'LOCATION' AND c.createdAt >= :sixtyDaysAgo)
+    )
+    """)
+    List<CapsuleLocation> findIndexableLocations(@Param("sixtyDaysAgo") LocalDateTime sixtyDaysAgo);
+
+    // 근처 캡슐 공간 인덱스 증분 갱신 대상 (since 이후 생성/수정된 캡슐 위치)
+    @Query("""
+    SELECT new back.fcz.domain.capsule.DTO.CapsuleLocation(
+        c.capsuleId, c.locationLat, c.locationLng, c.visibility, c.isDeleted
+    )
+    FROM Capsule c
+    WHERE c.updatedAt >= :since
+    """)
+    List<CapsuleLocation> findLocationsUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -32,6 +32,10 @@ public interface PublicCapsuleRecipientRepository extends JpaRepository<PublicCa
     @Query("SELECT p.capsuleId.capsuleId FROM PublicCapsuleRecipient p WHERE p.memberId = :memberId")
     Set<Long> findViewedCapsuleIdsByMemberId(Long memberId);
 
+    // 특정 공개 캡슐을 열람한 회원 ID 목록 조회 (선착순 티켓 초기화용)
+    @Query("SELECT p.memberId FROM PublicCapsuleRecipient p WHERE p.capsuleId.capsuleId = :capsuleId")
+    List<Long> findMemberIdsByCapsuleId(@Param("capsuleId") Long capsuleId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from PublicCapsuleRecipient pcr where pcr.capsuleId.capsuleId in :capsuleIds")
     int deleteByCapsuleIds(@Param("capsuleIds") List<Long> capsuleIds);
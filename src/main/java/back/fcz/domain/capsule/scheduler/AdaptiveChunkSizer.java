@@ -0,0 +1,49 @@
+package back.fcz.domain.capsule.scheduler;
+
+/**
+ * 청크 트랜잭션 시간(= 행 락 유지 시간)을 보고 다음 청크 크기를 조정
+ * - 목표 시간 초과: 절반으로 줄임 (운영 트래픽과 락 경합 시 빠르게 물러남)
+ * - 목표의 절반 미만이고 청크를 가득 채웠을 때만: 1.5배로 늘림
+ * - [min, max] 범위 밖으로 나가지 않음
+ */
+final class AdaptiveChunkSizer {
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetMillis;
+    private int current;
+
+    AdaptiveChunkSizer(int initialSize, int minSize, int maxSize, long targetMillis) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.targetMillis = targetMillis;
+        this.current = clamp(initialSize);
+    }
+
+    int current() {
+        return current;
+    }
+
+    void record(long elapsedMillis, int processed) {
+        if (elapsedMillis > targetMillis) {
+            current = clamp(current / 2);
+        } else if (elapsedMillis * 2 < targetMillis && processed >= current) {
+            current = clamp(current + Math.max(1, current / 2));
+        }
+    }
+
+    /**
+     * 실패한 청크를 더 작게 다시 시도할 수 있으면 줄이고 true
+     */
+    boolean shrink() {
+        if (current <= minSize) {
+            return false;
+        }
+        current = clamp(current / 2);
+        return true;
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+}
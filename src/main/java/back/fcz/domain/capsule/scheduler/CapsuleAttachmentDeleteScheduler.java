@@ -3,17 +3,26 @@ package back.fcz.domain.capsule.scheduler;
 import back.fcz.domain.capsule.entity.CapsuleAttachment;
 import back.fcz.domain.capsule.entity.CapsuleAttachmentStatus;
 import back.fcz.domain.capsule.repository.CapsuleAttachmentRepository;
+import back.fcz.infra.storage.BulkDeleteResult;
 import back.fcz.infra.storage.FileStorage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.function.Supplier;
+
+/**
+ * 첨부파일 정리 스케줄러
+ * - 대상이 1000건을 넘어도 한 번 실행에서 끝까지 처리 (1000건 단위 배치, 배치마다 짧은 트랜잭션)
+ * - 한 번 실행의 배치 수는 MAX_BATCHES_PER_RUN으로 제한, 남은 건은 다음 실행에서 처리
+ * - S3 삭제는 트랜잭션 밖에서 DeleteObjects(최대 1000키) 한 번으로 처리
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,79 +31,139 @@ public class CapsuleAttachmentDeleteScheduler {
 
     private final CapsuleAttachmentRepository capsuleAttachmentRepository;
     private final FileStorage fileStorage;
+    private final TransactionTemplate transactionTemplate;
+
+    // 업로드 예약(UPLOADING) 후 이 시간이 지나도 확정되지 않으면 멈춘 업로드로 보고 정리
+    private static final long STUCK_UPLOADING_MINUTES = 30;
+    // 조회 쿼리(findTop1000...)와 같은 크기
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_BATCHES_PER_RUN = 50;
+
+    // hardDeletedFromS3의 keyset 커서 (마지막으로 처리한 id, 스케줄러 스레드에서만 사용)
+    private long hardDeleteCursor = 0L;
 
-    @Transactional
     @Scheduled(cron = "0 30 4 * * *") //
     public void markExpiredTempAsDeleted(){
         LocalDateTime now = LocalDateTime.now();
 
-        List<CapsuleAttachment> expired = capsuleAttachmentRepository.findTop1000ByStatusAndExpiredAtBeforeOrderByIdAsc(
+        int total = markDeletedInBatches(() -> capsuleAttachmentRepository.findTop1000ByStatusAndExpiredAtBeforeOrderByIdAsc(
                 CapsuleAttachmentStatus.TEMP,
                 now
-        );
+        ));
 
-        if(expired.isEmpty()) return ;
+        if (total > 0) log.info("[CapsuleAttachmentDeleteScheduler] TEMP -> DELETED: {}건", total);
+    }
 
-        expired.forEach(CapsuleAttachment::markDeleted);
-        capsuleAttachmentRepository.saveAll(expired);
+    /**
+     * 멈춘 업로드 보상 (서버 업로드 중 노드 종료, 보상 실패, presign 업로드 미완료 등)
+     * UPLOADING -> DELETED 로 바꾸면 hardDeletedFromS3에서 S3 객체(업로드됐다면)와 행을 함께 정리
+     */
+    @Scheduled(fixedDelayString = "${capsule.attachment.stuck-upload-sweep-interval-ms:600000}")
+    public void compensateStuckUploads() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(STUCK_UPLOADING_MINUTES);
 
-        log.info("[CapsuleAttachmentDeleteScheduler] TEMP -> DELETED: {}건", expired.size());
+        int total = markDeletedInBatches(() -> capsuleAttachmentRepository.findTop1000ByStatusAndCreatedAtBeforeOrderByIdAsc(
+                CapsuleAttachmentStatus.UPLOADING,
+                threshold
+        ));
+
+        if (total > 0) log.info("[CapsuleAttachmentDeleteScheduler] stuck UPLOADING -> DELETED: {}건", total);
     }
 
-    @Transactional
     @Scheduled(cron = "0 40 4 * * *")
     public void markExpiredUploadingOrPendingAsDeleted() {
         LocalDateTime now = LocalDateTime.now();
 
         // 예: createdAt 기준 30분 초과 UPLOADING 정리
-        List<CapsuleAttachment> uploadingExpired =
+        int uploadingExpired = markDeletedInBatches(() ->
                 capsuleAttachmentRepository.findTop1000ByStatusAndCreatedAtBeforeOrderByIdAsc(
                         CapsuleAttachmentStatus.UPLOADING,
-                        now.minusMinutes(30)
-                );
+                        now.minusMinutes(STUCK_UPLOADING_MINUTES)
+                ));
 
         // 예: 20분 초과 PENDING
-        List<CapsuleAttachment> pendingExpired =
+        int pendingExpired = markDeletedInBatches(() ->
                 capsuleAttachmentRepository.findTop1000ByStatusAndExpiredAtBeforeOrderByIdAsc(
                         CapsuleAttachmentStatus.PENDING,
                         now.minusMinutes(20)
-                );
-
-        uploadingExpired.forEach(CapsuleAttachment::markDeleted);
-        pendingExpired.forEach(CapsuleAttachment::markDeleted);
-
-        capsuleAttachmentRepository.saveAll(uploadingExpired);
-        capsuleAttachmentRepository.saveAll(pendingExpired);
+                ));
 
         log.info("[CapsuleAttachmentDeleteScheduler] UPLOADING->DELETED: {}, PENDING->DELETED: {}",
-                uploadingExpired.size(), pendingExpired.size());
+                uploadingExpired, pendingExpired);
     }
 
+    /**
+     * DELETED 행의 S3 객체를 지우고, 삭제된 것만 DB에서 하드삭제
+     * - 조회/하드삭제만 각각 짧은 트랜잭션, S3 호출 동안은 DB 커넥션을 잡지 않음
+     * - id keyset 커서로 배치를 넘기므로, S3 삭제에 계속 실패하는 행이 1000건을 넘어도 뒤의 행은 계속 정리됨
+     * - S3 삭제 실패 키는 행을 남겨 커서가 끝까지 돈 뒤 처음부터 다시 시작할 때 재시도
+     * - 한 배치에서 하나도 지우지 못하면(S3 장애 등) 중단하고, 다음 실행은 그 배치 뒤부터 이어서 처리
+     */
     @Scheduled(cron = "0 00 5 * * *")
-    @Transactional
     public void hardDeletedFromS3() {
-        List<CapsuleAttachment> targets =
-                capsuleAttachmentRepository.findTop1000ByStatusOrderByDeletedAtAsc(
-                        CapsuleAttachmentStatus.DELETED
-                );
-        if (targets.isEmpty()) return;
-
-        List<Long> successIds = new java.util.ArrayList<>();
-
-        for (CapsuleAttachment att : targets) {
-            try {
-                fileStorage.delete(att.getS3Key());
-                successIds.add(att.getId());
-            } catch (Exception e) {
-                log.error("[CapsuleAttachmentDeleteScheduler] S3 삭제 실패 - attachmentId: {}, s3Key: {}, error: {}",
-                        att.getId(), att.getS3Key(), e.getMessage());
+        int total = 0;
+
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            long cursor = hardDeleteCursor;
+            List<CapsuleAttachment> targets = transactionTemplate.execute(status ->
+                    capsuleAttachmentRepository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(
+                            CapsuleAttachmentStatus.DELETED,
+                            cursor
+                    ));
+            if (targets == null || targets.isEmpty()) {
+                if (cursor == 0L) break;
+                // 커서 뒤로 남은 행이 없으면 처음부터 다시 (앞쪽의 실패 행 재시도)
+                hardDeleteCursor = 0L;
+                continue;
+            }
+            // 실패한 행은 남기고 다음 배치는 그 뒤부터 (끝까지 가면 처음부터 다시 돌며 실패 행 재시도)
+            hardDeleteCursor = targets.get(targets.size() - 1).getId();
+
+            BulkDeleteResult result = fileStorage.deleteAll(
+                    targets.stream().map(CapsuleAttachment::getS3Key).toList());
+
+            List<Long> successIds = new ArrayList<>();
+            for (CapsuleAttachment att : targets) {
+                if (result.isDeleted(att.getS3Key())) {
+                    successIds.add(att.getId());
+                } else {
+                    log.error("[CapsuleAttachmentDeleteScheduler] S3 삭제 실패 - attachmentId: {}, s3Key: {}, error: {}",
+                            att.getId(), att.getS3Key(), result.failures().get(att.getS3Key()));
+                }
+            }
+
+            // 전부 실패하면 S3 장애로 보고 중단 (커서는 이미 넘겼으므로 다음 실행은 이 배치 뒤부터)
+            if (successIds.isEmpty()) break;
+
+            transactionTemplate.executeWithoutResult(status ->
+                    capsuleAttachmentRepository.deleteAllByIdInBatch(successIds));
+            total += successIds.size();
+
+            if (targets.size() < BATCH_SIZE) {
+                hardDeleteCursor = 0L;
+                break;
             }
         }
 
-        if (!successIds.isEmpty()) {
-            capsuleAttachmentRepository.deleteAllByIdInBatch(successIds);
-            log.info("[CapsuleAttachmentDeleteScheduler] hard deleted: {}", successIds.size());
+        if (total > 0) log.info("[CapsuleAttachmentDeleteScheduler] hard deleted: {}", total);
+    }
+
+    // 조회 결과가 BATCH_SIZE보다 작아질 때까지 배치마다 별도 트랜잭션으로 DELETED 마킹
+    private int markDeletedInBatches(Supplier<List<CapsuleAttachment>> nextBatch) {
+        int total = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            Integer marked = transactionTemplate.execute(status -> {
+                List<CapsuleAttachment> targets = nextBatch.get();
+                if (targets.isEmpty()) return 0;
+                targets.forEach(CapsuleAttachment::markDeleted);
+                capsuleAttachmentRepository.saveAll(targets);
+                return targets.size();
+            });
+            int count = marked == null ? 0 : marked;
+            total += count;
+            if (count < BATCH_SIZE) break;
         }
+        return total;
     }
 
 }
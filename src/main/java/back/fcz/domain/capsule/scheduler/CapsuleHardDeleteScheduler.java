@@ -1,12 +1,29 @@
 package back.fcz.domain.capsule.scheduler;
 
 import back.fcz.domain.capsule.service.CapsuleHardDeleteService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소프트 삭제된 캡슐 하드 딜리트
+ * - 후보를 capsuleId 오름차순 청크로 나눠, 청크마다 별도 트랜잭션으로 자식 테이블 -> 캡슐 순 일괄 삭제
+ * - 청크 크기는 청크 트랜잭션 시간(락 유지 시간)에 맞춰 조정 (AdaptiveChunkSizer)
+ * - 처리한 마지막 capsuleId를 Redis 체크포인트로 남겨, 실행 시간 초과/노드 종료 후 다음 실행에서 이어서 처리
+ *   (끝까지 훑으면 체크포인트를 지워 다음 실행은 처음부터 - 건너뛴 청크와 새 후보 재처리)
+ * - 한 노드만 실행 (Redis 락), 처리량은 Micrometer 지표(capsule.hard_delete.*)와 로그로 남김
+ */
 @Slf4j
 @Component
 @Profile("!test") // 테스트에서 스케줄 자동 실행 방지
@@ -14,13 +31,134 @@ import org.springframework.stereotype.Component;
 public class CapsuleHardDeleteScheduler {
 
     private final CapsuleHardDeleteService capsuleHardDeleteService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    static final String CHECKPOINT_KEY = "capsule:hard-delete:checkpoint";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(7);
+    static final String LOCK_KEY = "capsule:hard-delete:lock";
+
+    @Value("${capsule.hard-delete.initial-chunk-size:200}")
+    private int initialChunkSize = 200;
+
+    @Value("${capsule.hard-delete.min-chunk-size:50}")
+    private int minChunkSize = 50;
+
+    @Value("${capsule.hard-delete.max-chunk-size:1000}")
+    private int maxChunkSize = 1000;
+
+    // 청크 트랜잭션 목표 시간 (넘으면 청크를 줄임)
+    @Value("${capsule.hard-delete.target-chunk-millis:200}")
+    private long targetChunkMillis = 200;
+
+    // 1회 실행 최대 시간 (남은 후보는 체크포인트부터 다음 실행에서)
+    @Value("${capsule.hard-delete.max-run-seconds:600}")
+    private long maxRunSeconds = 600;
+
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """,
+            Long.class
+    );
 
     // 기본: 매일 새벽 4시 (원하면 yml에서 capsule.hard-delete.cron 으로 덮어쓰기)
     @Scheduled(cron = "${capsule.hard-delete.cron:0 0 4 * * *}")
     public void run() {
-        int deleted = capsuleHardDeleteService.hardDeleteOnce(100);
-        if (deleted > 0) {
-            log.info("[CapsuleHardDeleteScheduler] deleted={}", deleted);
+        String lockToken = UUID.randomUUID().toString();
+        Duration lockTtl = Duration.ofSeconds(maxRunSeconds).plusMinutes(5);
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, lockTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("[CapsuleHardDeleteScheduler] 다른 노드에서 실행 중 - 건너뜀");
+            return;
+        }
+
+        try {
+            drain();
+        } finally {
+            redisTemplate.execute(unlockScript, List.of(LOCK_KEY), lockToken);
+        }
+    }
+
+    private void drain() {
+        AdaptiveChunkSizer sizer = new AdaptiveChunkSizer(
+                initialChunkSize, minChunkSize, maxChunkSize, targetChunkMillis);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(maxRunSeconds);
+
+        long afterId = readCheckpoint();
+        long resumedFrom = afterId;
+        int deletedTotal = 0;
+        int chunks = 0;
+        int failedChunks = 0;
+        boolean reachedEnd = false;
+
+        while (System.nanoTime() < deadline) {
+            List<Long> capsuleIds = capsuleHardDeleteService.findCandidateIds(afterId, sizer.current());
+            if (capsuleIds.isEmpty()) {
+                reachedEnd = true;
+                break;
+            }
+
+            long chunkStartedAt = System.nanoTime();
+            try {
+                int deleted = capsuleHardDeleteService.hardDeleteChunk(capsuleIds);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStartedAt);
+
+                meterRegistry.timer("capsule.hard_delete.chunk").record(elapsedMillis, TimeUnit.MILLISECONDS);
+                meterRegistry.counter("capsule.hard_delete.deleted").increment(deleted);
+
+                sizer.record(elapsedMillis, capsuleIds.size());
+                deletedTotal += deleted;
+                chunks++;
+            } catch (Exception e) {
+                meterRegistry.counter("capsule.hard_delete.chunk.failed").increment();
+                failedChunks++;
+
+                // 더 작은 청크로 같은 구간 재시도, 최소 크기에서도 실패하면 건너뛰고 다음 전체 순회에서 재시도
+                if (sizer.shrink()) {
+                    log.warn("[CapsuleHardDeleteScheduler] 청크 삭제 실패, 크기 줄여 재시도 - afterId: {}, nextSize: {}",
+                            afterId, sizer.current(), e);
+                    continue;
+                }
+                log.error("[CapsuleHardDeleteScheduler] 청크 삭제 실패, 건너뜀 - capsuleIds: {}~{}",
+                        capsuleIds.get(0), capsuleIds.get(capsuleIds.size() - 1), e);
+            }
+
+            afterId = capsuleIds.get(capsuleIds.size() - 1);
+            writeCheckpoint(afterId);
+        }
+
+        if (reachedEnd) {
+            redisTemplate.delete(CHECKPOINT_KEY);
         }
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        if (deletedTotal > 0 || failedChunks > 0) {
+            log.info("[CapsuleHardDeleteScheduler] deleted={}, chunks={}, failedChunks={}, elapsedMs={}, throughput={}/s, "
+                            + "resumedFrom={}, checkpoint={}, lastChunkSize={}",
+                    deletedTotal, chunks, failedChunks, elapsedMillis, deletedTotal * 1000L / elapsedMillis,
+                    resumedFrom, reachedEnd ? "reset" : afterId, sizer.current());
+        }
+    }
+
+    private long readCheckpoint() {
+        String value = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("[CapsuleHardDeleteScheduler] 잘못된 체크포인트 무시 - value: {}", value);
+            return 0L;
+        }
+    }
+
+    private void writeCheckpoint(long afterId) {
+        redisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(afterId), CHECKPOINT_TTL);
     }
 }
@@ -1,84 +1,236 @@
 package back.fcz.domain.capsule.scheduler;
 
-import back.fcz.domain.capsule.entity.Capsule;
-import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.capsule.service.CapsuleEntityCache;
+import back.fcz.domain.capsule.service.ViewCountBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-
+import java.util.UUID;
+
+/**
+ * Redis 조회수 버퍼(ViewCountBuffer)를 DB에 반영
+ * - 버킷을 flushing 키로 RENAME 해 스냅샷을 뜨고, HSCAN으로 CHUNK_SIZE씩 읽어 JDBC 배치 UPDATE
+ * - 청크 커밋 후 해당 필드를 HDEL 하므로, 중간 실패 시 남은 필드만 다음 주기에 이어서 반영
+ * - 반영은 at-least-once: DB 커밋과 HDEL 사이에 노드가 죽거나 HDEL이 실패하면 그 청크는 다음 주기에 한 번 더 더해짐
+ *   (조회수는 근사치로 취급해 별도 반영 기록 테이블을 두지 않음, 창은 청크 하나의 HDEL 시간으로 한정)
+ * - HSCAN은 같은 필드를 두 번 돌려줄 수 있으므로 스냅샷 안에서 이미 읽은 필드는 건너뜀
+ * - 선착순 캡슐(max_view_count > 0)은 DB에서 직접 집계하므로 UPDATE 조건에서 제외
+ * - 여러 노드가 같은 스냅샷을 중복 반영하지 않도록 Redis 락으로 한 노드만 실행
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ViewCountSyncScheduler {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final CapsuleRepository capsuleRepository;
-
-    private static final String VIEW_COUNT_KEY_PREFIX = "capsule:view:";
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CapsuleEntityCache capsuleEntityCache;
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String FLUSH_LOCK_KEY = "capsule:view:flush:lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(10);
+
+    // 이전 버전의 캡슐별 조회수 키 (capsule:view:{capsuleId})
+    private static final String LEGACY_KEY_PATTERN = "capsule:view:[0-9]*";
+    private static final String LEGACY_KEY_PREFIX = "capsule:view:";
+
+    private static final String UPDATE_SQL = """
+            UPDATE capsule
+            SET current_view_count = current_view_count + ?
+            WHERE capsule_id = ?
+            AND max_view_count = 0
+            """;
+
+    // 버킷 스냅샷: 반영 중이던 스냅샷이 남아 있으면 그것부터 처리, 없으면 버킷을 RENAME
+    private final DefaultRedisScript<Long> snapshotScript = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              return 1
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return 1
+            """,
+            Long.class
+    );
+
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """,
+            Long.class
+    );
+
+    private record ViewCountDelta(Long capsuleId, long count) {
+    }
 
-    @Scheduled(fixedRate = 900000)
-    @Transactional
+    @Scheduled(fixedRateString = "${capsule.view-count.flush-interval-ms:900000}")
     public void syncViewCountsToDB() {
-        Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY_PREFIX + "*");
+        String lockToken = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, lockToken, FLUSH_LOCK_TTL);
 
-        if (keys == null || keys.isEmpty()) {
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("다른 노드에서 조회수 동기화 중 - 건너뜀");
             return;
         }
 
-        int syncCount = 0;
-        int errorCount = 0;
+        try {
+            int syncCount = 0;
+            int errorCount = 0;
+
+            for (int bucket = 0; bucket < ViewCountBuffer.BUCKET_COUNT; bucket++) {
+                try {
+                    syncCount += flushBucket(bucket);
+                } catch (Exception e) {
+                    log.error("조회수 버킷 동기화 실패 - bucket: {}", bucket, e);
+                    errorCount++;
+                }
+            }
 
-        for (String key : keys) {
             try {
-                Long capsuleId = Long.parseLong(key.replace(VIEW_COUNT_KEY_PREFIX, ""));
-                String countStr = redisTemplate.opsForValue().get(key);
+                syncCount += flushLegacyKeys();
+            } catch (Exception e) {
+                log.error("이전 형식 조회수 키 동기화 실패", e);
+                errorCount++;
+            }
 
-                if (countStr == null || countStr.equals("0")) {
-                    redisTemplate.delete(key);
-                    continue;
-                }
+            if (syncCount > 0 || errorCount > 0) {
+                log.info("조회수 배치 동기화 완료 - 성공: {}, 실패: {}", syncCount, errorCount);
+            }
+        } finally {
+            redisTemplate.execute(unlockScript, List.of(FLUSH_LOCK_KEY), lockToken);
+        }
+    }
 
-                // 조회수가 0보다 크면 동기화 진행
-                int redisCount = Integer.parseInt(countStr);
+    private int flushBucket(int bucket) {
+        String flushingKey = ViewCountBuffer.flushingKey(bucket);
 
-                Capsule capsule = capsuleRepository.findById(capsuleId)
-                        .orElse(null);
+        Long snapshot = redisTemplate.execute(
+                snapshotScript,
+                List.of(ViewCountBuffer.bucketKey(bucket), flushingKey)
+        );
+        if (snapshot == null || snapshot == 0L) {
+            return 0;
+        }
+
+        int synced = 0;
+        List<ViewCountDelta> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Object> fields = new ArrayList<>(CHUNK_SIZE);
+        Set<Object> seen = new HashSet<>();
 
-                if (capsule == null) {
-                    // 캡슐이 삭제되었으면 Redis 키만 삭제
-                    redisTemplate.delete(key);
+        ScanOptions options = ScanOptions.scanOptions().count(CHUNK_SIZE).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(flushingKey, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                if (!seen.add(entry.getKey())) {
                     continue;
                 }
+                fields.add(entry.getKey());
+
+                ViewCountDelta delta = parse(entry.getKey().toString(), entry.getValue().toString());
+                if (delta != null) {
+                    chunk.add(delta);
+                }
 
-                // 선착순 캡슐은 동기화 제외 (Redis 키만 삭제)
-                if (hasFirstComeLimit(capsule)) {
-                    log.debug("선착순 캡슐 동기화 건너뜀 - capsuleId: {}", capsuleId);
-                    redisTemplate.delete(key);
+                if (fields.size() >= CHUNK_SIZE) {
+                    synced += writeChunk(chunk);
+                    redisTemplate.opsForHash().delete(flushingKey, fields.toArray());
+                    chunk.clear();
+                    fields.clear();
+                }
+            }
+        }
+
+        if (!fields.isEmpty()) {
+            synced += writeChunk(chunk);
+            redisTemplate.opsForHash().delete(flushingKey, fields.toArray());
+        }
+
+        // 모든 필드 반영 완료 후 스냅샷 제거
+        redisTemplate.delete(flushingKey);
+        return synced;
+    }
+
+    // 배포 전 버전이 남긴 capsule:view:{capsuleId} 키 반영 (KEYS 대신 SCAN)
+    private int flushLegacyKeys() {
+        int synced = 0;
+        List<ViewCountDelta> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(CHUNK_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String value = redisTemplate.opsForValue().getAndDelete(key);
+                if (value == null) {
                     continue;
                 }
 
-                capsule.increasedViewCount(redisCount);
-                syncCount++;
+                ViewCountDelta delta = parse(key.substring(LEGACY_KEY_PREFIX.length()), value);
+                if (delta != null) {
+                    chunk.add(delta);
+                }
 
-                redisTemplate.delete(key);
-            } catch (Exception e) {
-                log.error("조회수 동기화 실패 - key: {}", key, e);
-                errorCount++;
+                if (chunk.size() >= CHUNK_SIZE) {
+                    synced += writeChunk(chunk);
+                    chunk.clear();
+                }
             }
         }
 
-        if (syncCount > 0 || errorCount > 0) {
-            log.info("조회수 배치 동기화 완료 - 성공: {}, 실패: {}", syncCount, errorCount);
+        synced += writeChunk(chunk);
+        return synced;
+    }
+
+    // 청크 단위 배치 UPDATE (청크별 트랜잭션)
+    private int writeChunk(List<ViewCountDelta> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
         }
+
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), (ps, delta) -> {
+                    ps.setLong(1, delta.count());
+                    ps.setLong(2, delta.capsuleId());
+                })
+        );
+
+        // 조회수가 응답에 노출되므로 캐시 무효화
+        capsuleEntityCache.evictAll(chunk.stream().map(ViewCountDelta::capsuleId).toList());
+        return chunk.size();
     }
 
-    private boolean hasFirstComeLimit(Capsule capsule) {
-        Integer maxViewCount = capsule.getMaxViewCount();
-        return maxViewCount != null && maxViewCount > 0;
+    // 잘못된 값이거나 0 이하인 경우 null (필드는 그대로 삭제됨)
+    private ViewCountDelta parse(String capsuleId, String count) {
+        try {
+            long value = Long.parseLong(count);
+            if (value <= 0) {
+                return null;
+            }
+            return new ViewCountDelta(Long.parseLong(capsuleId), value);
+        } catch (NumberFormatException e) {
+            log.error("잘못된 조회수 값 - 건너뜀. capsuleId: {}, value: {}", capsuleId, count);
+            return null;
+        }
     }
 }
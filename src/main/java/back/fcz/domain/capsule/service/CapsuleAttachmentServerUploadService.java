@@ -2,6 +2,7 @@ package back.fcz.domain.capsule.service;
 
 import back.fcz.domain.capsule.DTO.response.CapsuleAttachmentUploadResponse;
 import back.fcz.domain.capsule.entity.CapsuleAttachment;
+import back.fcz.domain.capsule.entity.CapsuleAttachmentStatus;
 import back.fcz.domain.capsule.repository.CapsuleAttachmentRepository;
 import back.fcz.domain.openai.moderation.entity.ModerationActionType;
 import back.fcz.domain.openai.moderation.service.CapsuleImageModerationService;
@@ -14,12 +15,23 @@ import back.fcz.infra.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Duration;
 import java.util.UUID;
 
+/**
+ * 서버 업로드 방식 첨부파일 업로드 (단계별 처리)
+ * 1) 예약: 짧은 트랜잭션으로 UPLOADING 행을 먼저 저장 (S3 키 확정)
+ * 2) 업로드/검사: 트랜잭션 없이 S3 업로드 + 이미지 moderation (원격 지연 동안 DB 커넥션을 잡지 않음)
+ * 3) 확정: 짧은 트랜잭션으로 UPLOADING -> TEMP
+ *
+ * 보상
+ * - 2), 3)이 실패하면 업로드된 S3 객체를 지우고 행을 DELETED로 바꾼 뒤 예외 전파
+ * - 보상까지 실패하거나 처리 중 노드가 죽어 UPLOADING으로 남은 행은
+ *   CapsuleAttachmentDeleteScheduler가 주기적으로 DELETED로 바꾸고, S3 객체는 hard delete 단계에서 삭제
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -29,19 +41,29 @@ public class CapsuleAttachmentServerUploadService {
     private final CapsuleAttachmentRepository capsuleAttachmentRepository;
     private final PresignedUrlProvider presignedUrlProvider;
     private final CapsuleImageModerationService capsuleImageModerationService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public CapsuleAttachmentUploadResponse uploadTemp (Long uploaderId, MultipartFile file){
+        // 파일 유효성 검사
+        if(file.isEmpty()) throw new BusinessException(ErrorCode.CAPSULE_FILE_UPLOAD_FAILED);
+        if(file.getContentType() == null || !file.getContentType().startsWith("image/")) throw new BusinessException(ErrorCode.CAPSULE_FILE_UPLOAD_FAILED);
+
+        String key = generateKey(file.getName(),uploaderId);
+
+        // 1) 예약
+        Long attachmentId = transactionTemplate.execute(status -> capsuleAttachmentRepository.save(
+                CapsuleAttachment.createUploading(
+                        uploaderId,
+                        key,
+                        file.getOriginalFilename(),
+                        file.getSize(),
+                        file.getContentType()
+                )
+        ).getId());
+
         StoredFile stored = null;
         try {
-            // 파일 유효성 검사
-            if(file.isEmpty()) throw new BusinessException(ErrorCode.CAPSULE_FILE_UPLOAD_FAILED);
-            if(file.getContentType() == null || !file.getContentType().startsWith("image/")) throw new BusinessException(ErrorCode.CAPSULE_FILE_UPLOAD_FAILED);
-
-
-            String key = generateKey(file.getName(),uploaderId);
-
-            // s3에 파일 업로드
+            // 2) s3에 파일 업로드
             FileUploadCommand cmd = new FileUploadCommand(
                     "capsules/" + uploaderId,
                     file.getOriginalFilename(),
@@ -56,31 +78,45 @@ public class CapsuleAttachmentServerUploadService {
 
             capsuleImageModerationService.validateImageUrl(uploaderId, ModerationActionType.CAPSULE_CREATE,imageUrl);
 
-            // DB에 메타데이터 저장
-            CapsuleAttachment attachment = CapsuleAttachment.createUploading(
-                    uploaderId,
-                    stored.key(),
-                    stored.filename(),
-                    stored.size(),
-                    stored.contentType()
-            );
-            capsuleAttachmentRepository.save(attachment);
+            // 3) 확정
+            transactionTemplate.executeWithoutResult(status -> markTemp(attachmentId));
 
             return new CapsuleAttachmentUploadResponse(
-                    attachment.getId(),
+                    attachmentId,
                     null,
                     null,
                     null
             );
         } catch (BusinessException e) {
-            if (stored != null) safeDeleteStoredFile(stored.key());
+            compensate(attachmentId, stored);
             throw e;
         } catch (Exception e) {
-            if (stored != null) safeDeleteStoredFile(stored.key());
+            compensate(attachmentId, stored);
             throw new BusinessException(ErrorCode.CAPSULE_CONTENT_BLOCKED, e);
         }
     }
 
+    // 예약 이후 정리 스케줄러가 먼저 DELETED로 바꿨다면 확정하지 않고 실패 처리
+    private void markTemp(Long attachmentId) {
+        CapsuleAttachment attachment = capsuleAttachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_FILE_UPLOAD_FAILED));
+        if (attachment.getStatus() != CapsuleAttachmentStatus.UPLOADING) {
+            throw new BusinessException(ErrorCode.CAPSULE_FILE_UPLOAD_FAILED);
+        }
+        attachment.markTemp();
+    }
+
+    private void compensate(Long attachmentId, StoredFile stored) {
+        if (stored != null) safeDeleteStoredFile(stored.key());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    capsuleAttachmentRepository.findById(attachmentId).ifPresent(CapsuleAttachment::markDeleted));
+        } catch (Exception ex) {
+            // UPLOADING으로 남은 행은 정리 스케줄러가 처리
+            log.warn("[Attachment] 업로드 실패 보상 실패 attachmentId={}", attachmentId, ex);
+        }
+    }
+
     private void safeDeleteStoredFile(String key) {
         try {
             fileStorage.delete(key);
@@ -97,4 +133,3 @@ public class CapsuleAttachmentServerUploadService {
         return "capsules/" + uploaderId + "/" + UUID.randomUUID() + ext;
     }
 }
-
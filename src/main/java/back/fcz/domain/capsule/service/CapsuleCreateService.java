@@ -14,7 +14,8 @@ import back.fcz.domain.member.repository.MemberRepository;
 import back.fcz.domain.openai.moderation.dto.CapsuleModerationBlockedPayload;
 import back.fcz.domain.openai.moderation.entity.ModerationActionType;
 import back.fcz.domain.openai.moderation.service.CapsuleModerationService;
-import back.fcz.domain.sms.service.SmsNotificaationService;
+import back.fcz.domain.sms.service.SmsNotificationAsyncService;
+import back.fcz.domain.unlock.service.NearbyCapsuleIndex;
 import back.fcz.global.crypto.PhoneCrypto;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
@@ -22,13 +23,26 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 
 import static io.micrometer.common.util.StringUtils.isBlank;
 
+/**
+ * 캡슐 생성/수정/삭제
+ *
+ * 생성은 세 단계로 나눠 외부 호출 동안 DB 커넥션을 잡지 않도록 함
+ * 1) 트랜잭션 밖: 입력 검증 + OpenAI moderation (DB 조회 없음, flagged/장애면 여기서 예외 → 저장할 것도 롤백할 것도 없음)
+ * 2) 짧은 쓰기 트랜잭션(TransactionTemplate): 회원 조회, 캡슐/수신자 저장, 첨부파일 연결
+ *    (회원 없음, 프로필 미완성, 첨부파일 오류 등은 여기서 예외 → 전체 롤백)
+ * 3) 커밋 후: 근처 캡슐 인덱스 반영, 수신자 알림 SMS 비동기 발송 (실패해도 캡슐 생성은 유지)
+ * 수정도 같은 방식으로 moderation을 트랜잭션 밖에서 먼저 수행
+ * 생성/수정 메서드는 외부 트랜잭션 없이(컨트롤러에서) 호출하는 것을 전제로 함
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class CapsuleCreateService {
 
@@ -38,7 +52,8 @@ public class CapsuleCreateService {
     private final MemberRepository memberRepository;
     private final PhoneCrypto phoneCrypto;
     private final PublicCapsuleRecipientRepository publicRecipientRepository;
-    private final SmsNotificaationService smsNotificaationService;
+    private final SmsNotificationAsyncService smsNotificationAsyncService;
+    private final TransactionTemplate transactionTemplate;
 
     // moderation
     private final CapsuleModerationService capsuleModerationService;
@@ -46,6 +61,10 @@ public class CapsuleCreateService {
     // 캡슐 첨부 파일
     private final CapsuleAttachmentRepository capsuleAttachmentRepository;
 
+    // 캡슐 엔티티 캐시 무효화
+    private final CapsuleEntityCache capsuleEntityCache;
+    private final NearbyCapsuleIndex nearbyCapsuleIndex;
+
     // url 도메인
     @Value("${cors.capsule-domain}")
     private String domain;
@@ -83,41 +102,35 @@ public class CapsuleCreateService {
      * - moderation flagged이면 생성 자체를 막고(CPS011) payload로 위반 필드/카테고리 내려줌 (CapsuleModerationService에서 처리)
      * - PASS/SKIPPED는 로그 저장 안 함, 실패만 저장
      */
-    @Transactional
     public CapsuleCreateResponseDTO publicCapsuleCreate(CapsuleCreateRequestDTO capsuleCreate) {
         Capsule capsule = capsuleCreate.toEntity();
 
-        Member member = memberRepository.findById(capsuleCreate.memberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        // 1) 트랜잭션 밖에서 moderation (flagged면 서비스에서 예외 던짐 / PASS는 아무것도 저장 안 함)
+        validateText(capsuleCreate.memberId(), capsule);
 
-        // 저장 직전 moderation 검사 (flagged면 서비스에서 예외 던짐 / PASS는 아무것도 저장 안 함)
-        capsuleModerationService.validateCapsuleText(
-                member.getMemberId(),
-                ModerationActionType.CAPSULE_CREATE,
-                capsule.getTitle(),
-                capsule.getContent(),
-                capsule.getReceiverNickname(),
-                capsule.getLocationName(),
-                capsule.getAddress()
-        );
+        // 2) 쓰기 트랜잭션
+        return transactionTemplate.execute(status -> {
+            Member member = findMember(capsuleCreate.memberId());
+            capsule.setMemberId(member);
 
-        capsule.setMemberId(member);
+            isCapsuleProfileIncomplete(capsule);
 
-        isCapsuleProfileIncomplete(capsule);
+            capsule.setUuid(setUUID());
+            Capsule saved = capsuleRepository.save(capsule);
 
-        capsule.setUuid(setUUID());
-        Capsule saved = capsuleRepository.save(capsule);
+            // 첨부파일 캡슐에 연결
+            attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
 
-        // 첨부파일 캡슐에 연결
-        attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
+            // 3) 커밋 후 근처 캡슐 인덱스 반영
+            afterCommit(() -> nearbyCapsuleIndex.add(saved));
 
-        return CapsuleCreateResponseDTO.from(saved);
+            return CapsuleCreateResponseDTO.from(saved);
+        });
     }
 
     /**
      * 비공개 캡슐 생성 - 통합 진입점
      */
-    @Transactional
     public SecretCapsuleCreateResponseDTO createPrivateCapsule(SecretCapsuleCreateRequestDTO requestDTO) {
         String recipientPhone = requestDTO.recipientPhone();
         String capsulePassword = requestDTO.capsulePassword();
@@ -145,9 +158,6 @@ public class CapsuleCreateService {
 
     private SecretCapsuleCreateResponseDTO privateCapsulePassword(SecretCapsuleCreateRequestDTO capsuleCreate, String password) {
 
-        Member member = memberRepository.findById(capsuleCreate.memberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
         Capsule secretCapsule = capsuleCreate.toEntity();
 
         // 수신자 닉네임 null 방지 ("" 허용)
@@ -155,37 +165,33 @@ public class CapsuleCreateService {
             throw new BusinessException(ErrorCode.RECEIVERNICKNAME_IS_REQUIRED);
         }
 
-        // moderation (저장 직전 / flagged면 예외 / PASS는 저장 안 함)
-        capsuleModerationService.validateCapsuleText(
-                member.getMemberId(),
-                ModerationActionType.CAPSULE_CREATE,
-                secretCapsule.getTitle(),
-                secretCapsule.getContent(),
-                secretCapsule.getReceiverNickname(),
-                secretCapsule.getLocationName(),
-                secretCapsule.getAddress()
-        );
+        // moderation (트랜잭션 밖 / flagged면 예외 / PASS는 저장 안 함)
+        validateText(capsuleCreate.memberId(), secretCapsule);
 
-        secretCapsule.setUuid(setUUID());
-        secretCapsule.setCapPassword(phoneCrypto.hash(password));
-        secretCapsule.setMemberId(member);
+        return transactionTemplate.execute(status -> {
+            Member member = findMember(capsuleCreate.memberId());
 
-        isCapsuleProfileIncomplete(secretCapsule);
+            secretCapsule.setUuid(setUUID());
+            secretCapsule.setCapPassword(phoneCrypto.hash(password));
+            secretCapsule.setMemberId(member);
 
-        // URL+비밀번호 방식은 보호=0
-        secretCapsule.setProtected(0);
+            isCapsuleProfileIncomplete(secretCapsule);
 
-        Capsule saved = capsuleRepository.save(secretCapsule);
-        // 첨부파일 캡슐에 연결
-        attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
+            // URL+비밀번호 방식은 보호=0
+            secretCapsule.setProtected(0);
+
+            Capsule saved = capsuleRepository.save(secretCapsule);
+            // 첨부파일 캡슐에 연결
+            attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
 
-        String url = domain + "/" + saved.getUuid();
-        return SecretCapsuleCreateResponseDTO.from(saved, url, password);
+            String url = domain + "/" + saved.getUuid();
+            return SecretCapsuleCreateResponseDTO.from(saved, url, password);
+        });
     }
 
     /**
      * 비공개 캡슐 생성 - 전화번호 조회
-     * - 수신자 전화번호가 "회원"이면 보호=1 (recipient 테이블 저장)
+     * - 수신자 전화번호가 "회원"이면 보호=1 (recipient 테이블 저장) + 커밋 후 알림 SMS
      * - "비회원"이면 보호=0 + 비밀번호 생성
      */
 
@@ -198,69 +204,67 @@ public class CapsuleCreateService {
             throw new BusinessException(ErrorCode.RECEIVERNICKNAME_IS_REQUIRED);
         }
 
-        Member member = memberRepository.findById(capsuleCreate.memberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        // moderation (트랜잭션 밖 / flagged면 예외 / PASS는 저장 안 함)
+        validateText(capsuleCreate.memberId(), capsule);
 
-        // moderation (저장 직전 / flagged면 예외 / PASS는 저장 안 함)
-        capsuleModerationService.validateCapsuleText(
-                member.getMemberId(),
-                ModerationActionType.CAPSULE_CREATE,
-                capsule.getTitle(),
-                capsule.getContent(),
-                capsule.getReceiverNickname(),
-                capsule.getLocationName(),
-                capsule.getAddress()
-        );
+        String receiveTelHash = phoneCrypto.hash(receiveTel);
 
-        boolean isRecipientMember = memberRepository.existsByPhoneHash(phoneCrypto.hash(receiveTel));
+        return transactionTemplate.execute(status -> {
+            Member member = findMember(capsuleCreate.memberId());
 
-        if (isRecipientMember) { // 회원 수신자
+            boolean isRecipientMember = memberRepository.existsByPhoneHash(receiveTelHash);
 
-            capsule.setMemberId(member);
+            if (isRecipientMember) { // 회원 수신자
 
-            isCapsuleProfileIncomplete(capsule);
+                capsule.setMemberId(member);
 
-            capsule.setProtected(1); // 보호=1
-            Capsule saved = capsuleRepository.save(capsule);
+                isCapsuleProfileIncomplete(capsule);
 
-            CapsuleRecipient recipientRecord = CapsuleRecipient.builder()
-                    .capsuleId(saved)
-                    .recipientName(capsuleCreate.nickname())
-                    .recipientPhone(receiveTel)
-                    .recipientPhoneHash(phoneCrypto.hash(receiveTel))
-                    .isSenderSelf(0)
-                    .build();
+                capsule.setProtected(1); // 보호=1
+                Capsule saved = capsuleRepository.save(capsule);
 
-            recipientRepository.save(recipientRecord);
-            // 첨부파일 캡슐에 연결
-            attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
+                CapsuleRecipient recipientRecord = CapsuleRecipient.builder()
+                        .capsuleId(saved)
+                        .recipientName(capsuleCreate.nickname())
+                        .recipientPhone(receiveTel)
+                        .recipientPhoneHash(receiveTelHash)
+                        .isSenderSelf(0)
+                        .build();
 
-            String url = domain + "/" + saved.getUuid();
-            smsNotificaationService.sendCapsuleCreatedNotification(receiveTel,member.getName(),capsule.getTitle());
-            return SecretCapsuleCreateResponseDTO.from(saved, url, null);
+                recipientRepository.save(recipientRecord);
+                // 첨부파일 캡슐에 연결
+                attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
 
-        } else { // 비회원 수신자
+                // 커밋 후 알림 발송 (롤백되면 보내지 않음)
+                String senderName = member.getName();
+                String title = capsule.getTitle();
+                afterCommit(() -> smsNotificationAsyncService.sendCapsuleCreatedNotification(receiveTel, senderName, title));
 
-            String capsulePW = generatePassword();
-            capsule.setCapPassword(phoneCrypto.hash(capsulePW));
-            capsule.setMemberId(member);
+                String url = domain + "/" + saved.getUuid();
+                return SecretCapsuleCreateResponseDTO.from(saved, url, null);
 
-            isCapsuleProfileIncomplete(capsule);
+            } else { // 비회원 수신자
 
-            capsule.setProtected(0); // 미보호=0
-            Capsule saved = capsuleRepository.save(capsule);
-            // 첨부파일 캡슐에 연결
-            attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
+                String capsulePW = generatePassword();
+                capsule.setCapPassword(phoneCrypto.hash(capsulePW));
+                capsule.setMemberId(member);
 
-            String url = domain + "/" + saved.getUuid();
-            return SecretCapsuleCreateResponseDTO.from(saved, url, capsulePW);
-        }
+                isCapsuleProfileIncomplete(capsule);
+
+                capsule.setProtected(0); // 미보호=0
+                Capsule saved = capsuleRepository.save(capsule);
+                // 첨부파일 캡슐에 연결
+                attachFiles(member.getMemberId(), saved, capsuleCreate.attachmentIds());
+
+                String url = domain + "/" + saved.getUuid();
+                return SecretCapsuleCreateResponseDTO.from(saved, url, capsulePW);
+            }
+        });
     }
 
     /**
      * 비공개 캡슐 - 나에게 보내는 캡슐 (보호=1)
      */
-    @Transactional
     public SecretCapsuleCreateResponseDTO capsuleToMe(SecretCapsuleCreateRequestDTO requestDTO, String encryptedPhone, String phoneHash) {
         Capsule capsule = requestDTO.toEntity();
 
@@ -268,67 +272,61 @@ public class CapsuleCreateService {
             throw new BusinessException(ErrorCode.RECEIVERNICKNAME_IS_REQUIRED);
         }
 
-        Member member = memberRepository.findById(requestDTO.memberId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        // moderation (트랜잭션 밖 / flagged면 예외 / PASS는 저장 안 함)
+        validateText(requestDTO.memberId(), capsule);
 
-        // moderation (저장 직전 / flagged면 예외 / PASS는 저장 안 함)
-        capsuleModerationService.validateCapsuleText(
-                member.getMemberId(),
-                ModerationActionType.CAPSULE_CREATE,
-                capsule.getTitle(),
-                capsule.getContent(),
-                capsule.getReceiverNickname(),
-                capsule.getLocationName(),
-                capsule.getAddress()
-        );
+        return transactionTemplate.execute(status -> {
+            Member member = findMember(requestDTO.memberId());
 
-        capsule.setProtected(1);
-        capsule.setUuid(setUUID());
-        capsule.setMemberId(member);
+            capsule.setProtected(1);
+            capsule.setUuid(setUUID());
+            capsule.setMemberId(member);
 
-        isCapsuleProfileIncomplete(capsule);
+            isCapsuleProfileIncomplete(capsule);
 
-        Capsule saved = capsuleRepository.save(capsule);
-        // 첨부파일 캡슐에 연결
-        attachFiles(member.getMemberId(), saved, requestDTO.attachmentIds());
+            Capsule saved = capsuleRepository.save(capsule);
+            // 첨부파일 캡슐에 연결
+            attachFiles(member.getMemberId(), saved, requestDTO.attachmentIds());
 
-        CapsuleRecipient recipientRecord = CapsuleRecipient.builder()
-                .capsuleId(saved)
-                .recipientName(requestDTO.nickname())
-                .recipientPhone(encryptedPhone)
-                .recipientPhoneHash(phoneHash)
-                .isSenderSelf(1)
-                .build();
+            CapsuleRecipient recipientRecord = CapsuleRecipient.builder()
+                    .capsuleId(saved)
+                    .recipientName(requestDTO.nickname())
+                    .recipientPhone(encryptedPhone)
+                    .recipientPhoneHash(phoneHash)
+                    .isSenderSelf(1)
+                    .build();
 
-        recipientRepository.save(recipientRecord);
+            recipientRepository.save(recipientRecord);
 
-        return SecretCapsuleCreateResponseDTO.from(saved, null, null);
+            return SecretCapsuleCreateResponseDTO.from(saved, null, null);
+        });
     }
 
     /**
      * 캡슐 수정
      * - 열람 전(조회수=0)만 수정 가능
      * - moderation flagged이면 수정 자체를 막고(CPS011) payload로 위반 필드/카테고리 내려줌
+     * - 생성과 같이 moderation은 트랜잭션 밖에서 호출하고, 통과한 뒤 짧은 쓰기 트랜잭션에서 조회수 재확인 후 반영
      *
      * 수정은 capsuleId가 이미 있으므로,
      *    실패(예외) 때 payload의 auditId를 뽑아서 attach해두면 관리자 추적이 좋아짐
      */
-    @Transactional
     public CapsuleUpdateResponseDTO updateCapsule(Long capsuleId, CapsuleUpdateRequestDTO updateDTO) {
 
+        // 1) 트랜잭션 밖: 수정 가능 여부 확인 + moderation 대상 텍스트 결정
         if (capsuleRepository.findCurrentViewCountByCapsuleId(capsuleId) > 0) {
             throw new BusinessException(ErrorCode.CAPSULE_NOT_UPDATE);
         }
 
-        Capsule targetCapsule = capsuleRepository.findById(capsuleId)
+        Capsule current = capsuleRepository.findById(capsuleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
 
-        String nextTitle = (updateDTO.title() != null) ? updateDTO.title() : targetCapsule.getTitle();
-        String nextContent = (updateDTO.content() != null) ? updateDTO.content() : targetCapsule.getContent();
+        String nextTitle = (updateDTO.title() != null) ? updateDTO.title() : current.getTitle();
+        String nextContent = (updateDTO.content() != null) ? updateDTO.content() : current.getContent();
 
         Long actorId = null;
-        if (targetCapsule.getMemberId() != null) {
-            actorId = targetCapsule.getMemberId().getMemberId();
+        if (current.getMemberId() != null) {
+            actorId = current.getMemberId().getMemberId();
         }
 
         // 수정 저장 전 moderation (flagged/error면 예외)
@@ -338,28 +336,40 @@ public class CapsuleCreateService {
                     ModerationActionType.CAPSULE_UPDATE,
                     nextTitle,
                     nextContent,
-                    targetCapsule.getReceiverNickname(),
-                    targetCapsule.getLocationName(),
-                    targetCapsule.getAddress()
+                    current.getReceiverNickname(),
+                    current.getLocationName(),
+                    current.getAddress()
             );
         } catch (BusinessException e) {
             // 실패 로그(FLAGGED/ERROR)는 이미 저장되었으니, auditId를 뽑아서 capsuleId만 붙여준다
             Long auditId = extractAuditId(e.getData());
-            capsuleModerationService.attachCapsuleId(auditId, targetCapsule.getCapsuleId());
+            capsuleModerationService.attachCapsuleId(auditId, capsuleId);
             throw e;
         }
 
-        if (updateDTO.title() != null) {
-            targetCapsule.setTitle(updateDTO.title());
-        }
-        if (updateDTO.content() != null) {
-            targetCapsule.setContent(updateDTO.content());
-        }
+        // 2) 쓰기 트랜잭션 (moderation 중 열람되었을 수 있으므로 조회수 재확인)
+        Long attachActorId = actorId;
+        return transactionTemplate.execute(status -> {
+            if (capsuleRepository.findCurrentViewCountByCapsuleId(capsuleId) > 0) {
+                throw new BusinessException(ErrorCode.CAPSULE_NOT_UPDATE);
+            }
+
+            Capsule targetCapsule = capsuleRepository.findById(capsuleId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
+
+            if (updateDTO.title() != null) {
+                targetCapsule.setTitle(updateDTO.title());
+            }
+            if (updateDTO.content() != null) {
+                targetCapsule.setContent(updateDTO.content());
+            }
 
-        Capsule saved = capsuleRepository.save(targetCapsule);
-        // 첨부파일 캡슐에 연결
-        attachFiles(actorId, saved, updateDTO.attachmentIds());
-        return CapsuleUpdateResponseDTO.from(saved);
+            Capsule saved = capsuleRepository.save(targetCapsule);
+            capsuleEntityCache.evict(saved.getCapsuleId());
+            // 첨부파일 캡슐에 연결
+            attachFiles(attachActorId, saved, updateDTO.attachmentIds());
+            return CapsuleUpdateResponseDTO.from(saved);
+        });
     }
 
     /**
@@ -418,6 +428,8 @@ public class CapsuleCreateService {
 
         capsule.markDeleted();
         capsule.setIsDeleted(1);
+        capsuleEntityCache.evict(capsuleId);
+        nearbyCapsuleIndex.delete(capsuleId);
 
         // 관련된 첨부파일 모두 삭제 처리
         List<CapsuleAttachment> used = capsuleAttachmentRepository
@@ -454,6 +466,40 @@ public class CapsuleCreateService {
         return null;
     }
 
+    // 생성 시 moderation (트랜잭션 밖에서 호출, actor는 요청의 memberId)
+    private void validateText(Long memberId, Capsule capsule) {
+        capsuleModerationService.validateCapsuleText(
+                memberId,
+                ModerationActionType.CAPSULE_CREATE,
+                capsule.getTitle(),
+                capsule.getContent(),
+                capsule.getReceiverNickname(),
+                capsule.getLocationName(),
+                capsule.getAddress()
+        );
+    }
+
+    private Member findMember(Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+    }
+
+    // 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 바로 실행)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        task.run();
+                    }
+                }
+        );
+    }
+
     // 첨부파일 캡슐에 연결
     private List<Long> attachFiles(Long memberId, Capsule capsule, List<Long> attachmentIds) {
         if (attachmentIds == null || attachmentIds.isEmpty()) return List.of();
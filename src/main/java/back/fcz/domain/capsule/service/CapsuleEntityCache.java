@@ -0,0 +1,248 @@
+package back.fcz.domain.capsule.service;
+
+import back.fcz.domain.capsule.DTO.CapsuleSnapshot;
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.member.entity.Member;
+import back.fcz.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 캡슐 조회 경로용 2단 캐시 (로컬 Caffeine -> Redis -> DB)
+ * - 캐시에서 꺼낸 캡슐은 영속성 컨텍스트에 속하지 않는 읽기 전용 객체
+ * - 변경 경로에서 evict() 호출 시 Redis 키 삭제 후 pub/sub으로 모든 노드의 로컬 캐시를 무효화
+ *   (삭제/숨김/보호 전환이 다른 노드에 LOCAL_TTL 동안 남지 않도록)
+ * - 메시지 유실에 대비해 로컬 캐시는 LOCAL_TTL 이후 자동 만료
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CapsuleEntityCache implements MessageListener {
+
+    private final CapsuleRepository capsuleRepository;
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public static final String INVALIDATION_CHANNEL = "capsule:entity:invalidate";
+    private static final String CAPSULE_KEY_PREFIX = "capsule:entity:";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final long LOCAL_MAX_SIZE = 10_000L;
+
+    private final Cache<Long, CapsuleSnapshot> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public Optional<Capsule> find(Long capsuleId) {
+        CapsuleSnapshot snapshot = localCache.getIfPresent(capsuleId);
+        if (snapshot != null) {
+            return Optional.of(toEntity(snapshot));
+        }
+
+        snapshot = readFromRedis(capsuleId);
+        if (snapshot != null) {
+            localCache.put(capsuleId, snapshot);
+            return Optional.of(toEntity(snapshot));
+        }
+
+        Optional<Capsule> loaded = capsuleRepository.findById(capsuleId);
+        loaded.ifPresent(capsule -> {
+            CapsuleSnapshot fresh = CapsuleSnapshot.from(capsule);
+            localCache.put(capsuleId, fresh);
+            writeToRedis(fresh);
+        });
+
+        // DB에서 읽은 경우 관리 중인 엔티티를 그대로 반환
+        return loaded;
+    }
+
+    // 여러 캡슐을 한 번에 조회 (로컬 -> Redis MGET -> DB IN 조회 순), 존재하지 않는 캡슐은 결과에서 제외
+    public List<Capsule> findAll(Collection<Long> capsuleIds) {
+        if (capsuleIds == null || capsuleIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Capsule> result = new ArrayList<>(capsuleIds.size());
+
+        Map<Long, CapsuleSnapshot> localHits = localCache.getAllPresent(capsuleIds);
+        localHits.values().forEach(snapshot -> result.add(toEntity(snapshot)));
+
+        List<Long> localMisses = capsuleIds.stream()
+                .filter(id -> !localHits.containsKey(id))
+                .distinct()
+                .toList();
+        if (localMisses.isEmpty()) {
+            return result;
+        }
+
+        List<Long> dbMisses = new ArrayList<>();
+        List<String> cached = multiReadFromRedis(localMisses);
+        for (int i = 0; i < localMisses.size(); i++) {
+            CapsuleSnapshot snapshot = parse(cached.get(i));
+            if (snapshot == null) {
+                dbMisses.add(localMisses.get(i));
+                continue;
+            }
+            localCache.put(snapshot.capsuleId(), snapshot);
+            result.add(toEntity(snapshot));
+        }
+
+        if (!dbMisses.isEmpty()) {
+            for (Capsule capsule : capsuleRepository.findAllById(dbMisses)) {
+                CapsuleSnapshot fresh = CapsuleSnapshot.from(capsule);
+                localCache.put(capsule.getCapsuleId(), fresh);
+                writeToRedis(fresh);
+                result.add(capsule);
+            }
+        }
+        return result;
+    }
+
+    // 캡슐 변경 시 캐시 무효화 (트랜잭션 중이면 커밋 이후 한 번 더 무효화)
+    public void evict(Long capsuleId) {
+        if (capsuleId == null) {
+            return;
+        }
+        evictNow(List.of(capsuleId));
+        evictAfterCommit(List.of(capsuleId));
+    }
+
+    public void evictAll(Collection<Long> capsuleIds) {
+        if (capsuleIds == null || capsuleIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(capsuleIds);
+        evictNow(ids);
+        evictAfterCommit(ids);
+    }
+
+    private void evictAfterCommit(List<Long> capsuleIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // 커밋 전 다른 요청이 이전 값을 다시 채워 넣는 경우를 막기 위해 커밋 후 재삭제
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictNow(capsuleIds);
+                    }
+                }
+        );
+    }
+
+    // 다른 노드(및 자신)가 발행한 무효화 메시지 수신 (본문: 쉼표로 구분한 capsuleId 목록)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> capsuleIds = new ArrayList<>();
+        for (String token : body.split(",")) {
+            try {
+                capsuleIds.add(Long.parseLong(token.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 캡슐 캐시 무효화 메시지: {}", body);
+            }
+        }
+        localCache.invalidateAll(capsuleIds);
+    }
+
+    private void evictNow(List<Long> capsuleIds) {
+        localCache.invalidateAll(capsuleIds);
+        try {
+            redisTemplate.delete(capsuleIds.stream().map(id -> CAPSULE_KEY_PREFIX + id).toList());
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    String.join(",", capsuleIds.stream().map(String::valueOf).toList()));
+        } catch (Exception e) {
+            log.error("캡슐 캐시 무효화 실패 - capsuleIds: {}", capsuleIds, e);
+        }
+    }
+
+    private CapsuleSnapshot readFromRedis(Long capsuleId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(CAPSULE_KEY_PREFIX + capsuleId);
+            if (cached == null) {
+                return null;
+            }
+            return objectMapper.readValue(cached, CapsuleSnapshot.class);
+        } catch (Exception e) {
+            log.error("캡슐 캐시 조회 실패 - DB 조회로 폴백. capsuleId: {}", capsuleId, e);
+            return null;
+        }
+    }
+
+    // Redis 장애 시 전부 miss로 처리
+    private List<String> multiReadFromRedis(List<Long> capsuleIds) {
+        try {
+            List<String> cached = redisTemplate.opsForValue()
+                    .multiGet(capsuleIds.stream().map(id -> CAPSULE_KEY_PREFIX + id).toList());
+            if (cached != null && cached.size() == capsuleIds.size()) {
+                return cached;
+            }
+        } catch (Exception e) {
+            log.error("캡슐 캐시 일괄 조회 실패 - DB 조회로 폴백. size: {}", capsuleIds.size(), e);
+        }
+        return Collections.nCopies(capsuleIds.size(), null);
+    }
+
+    private CapsuleSnapshot parse(String cached) {
+        if (cached == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(cached, CapsuleSnapshot.class);
+        } catch (Exception e) {
+            log.error("캡슐 캐시 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(CapsuleSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(
+                    CAPSULE_KEY_PREFIX + snapshot.capsuleId(),
+                    objectMapper.writeValueAsString(snapshot),
+                    REDIS_TTL
+            );
+        } catch (Exception e) {
+            log.error("캡슐 캐시 저장 실패 - capsuleId: {}", snapshot.capsuleId(), e);
+        }
+    }
+
+    private Capsule toEntity(CapsuleSnapshot snapshot) {
+        // 조회 경로에서는 작성자 ID만 사용하므로 프록시 참조로 충분
+        Member member = snapshot.memberId() != null
+                ? memberRepository.getReferenceById(snapshot.memberId())
+                : null;
+        return Capsule.restore(snapshot, member);
+    }
+}
@@ -32,20 +32,46 @@ public class CapsuleHardDeleteService {
 
     private final StorytrackStepRepository storytrackStepRepository;
 
+    private final CapsuleEntityCache capsuleEntityCache;
+
     /**
-     * 스케줄러/테스트에서 호출하는 1회 실행 메서드
+     * 1회 실행 메서드 (후보 조회 + 삭제를 한 트랜잭션으로)
+     * - 청크 삭제와 같은 경로(deleteByCapsuleIds)를 쓰므로 첨부파일도 캡슐에서 분리 + DELETED 처리됨
      * @return 실제 삭제된 캡슐 개수
      */
     @Transactional
     public int hardDeleteOnce(int limit) {
         int size = Math.min(limit, 100);
-        LocalDateTime now = LocalDateTime.now();
 
-        List<Long> capsuleIds = capsuleRepository.findHardDeleteCandidateIds(now, PageRequest.of(0, size));
+        List<Long> capsuleIds = findCandidateIds(0L, size);
+        if (capsuleIds.isEmpty()) {
+            return 0;
+        }
+        return deleteByCapsuleIds(capsuleIds);
+    }
+
+    /**
+     * 체크포인트(afterId) 이후 하드 딜리트 후보를 capsuleId 오름차순으로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findCandidateIds(Long afterId, int size) {
+        return capsuleRepository.findHardDeleteCandidateIds(LocalDateTime.now(), afterId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 삭제 (스케줄러가 청크마다 호출)
+     * @return 실제 삭제된 캡슐 개수
+     */
+    @Transactional
+    public int hardDeleteChunk(List<Long> capsuleIds) {
         if (capsuleIds.isEmpty()) {
             return 0;
         }
+        return deleteByCapsuleIds(capsuleIds);
+    }
 
+    // 캡슐 FK를 가진 테이블부터 IN 절 일괄 삭제 후 캡슐 삭제
+    private int deleteByCapsuleIds(List<Long> capsuleIds) {
         // 1) 자식(연관) 먼저 삭제
         // 스토리트랙 step (capsule FK)
         storytrackStepRepository.deleteByCapsuleIds(capsuleIds);
@@ -56,6 +82,9 @@ public class CapsuleHardDeleteService {
         capsuleOpenLogRepository.deleteByCapsuleIds(capsuleIds);
         capsuleLikeRepository.deleteByCapsuleIds(capsuleIds);
 
+        // 첨부파일은 행을 지우지 않고 분리만 (S3 객체 + 행은 CapsuleAttachmentDeleteScheduler가 정리)
+        capsuleAttachmentRepository.detachAndMarkDeletedByCapsuleIds(capsuleIds, LocalDateTime.now());
+
         // 기타 연관(캡슐ID 참조)
         bookmarkRepository.deleteByCapsuleIdIn(capsuleIds);
         moderationAuditLogRepository.deleteByCapsuleIdIn(capsuleIds);
@@ -63,8 +92,9 @@ public class CapsuleHardDeleteService {
 
         // 2) 마지막에 Capsule 하드 딜리트
         int deleted = capsuleRepository.hardDeleteByCapsuleIds(capsuleIds);
+        capsuleEntityCache.evictAll(capsuleIds);
 
-        log.info("[CapsuleHardDelete] deleted={} (requestedIds={})", deleted, capsuleIds.size());
+        log.debug("[CapsuleHardDelete] deleted={} (requestedIds={})", deleted, capsuleIds.size());
         return deleted;
     }
 }
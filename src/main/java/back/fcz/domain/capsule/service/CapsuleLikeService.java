@@ -24,6 +24,7 @@ public class CapsuleLikeService {
     private final CapsuleLikeRepository capsuleLikeRepository;
     private final MemberRepository memberRepository;
     private final CurrentUserContext currentUserContext;
+    private final CapsuleEntityCache capsuleEntityCache;
 
     public CapsuleLikeResponse likeUp(Long capsuleId) {
         Long memberId = currentUserContext.getCurrentMemberId();
@@ -54,6 +55,7 @@ public class CapsuleLikeService {
         capsuleLikeRepository.save(capsuleLike);
         //해당 캡슐의 좋아요 값 +1
         capsuleRepository.incrementLikeCount(capsuleId);
+        capsuleEntityCache.evict(capsuleId);
         capsule = capsuleRepository.findById(capsuleId).orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
         return CapsuleLikeResponse.from(capsule.getLikeCount(), "좋아요 증가처리 성공");
     }
@@ -79,6 +81,7 @@ public class CapsuleLikeService {
 
         //해당 캡슐의 좋아요 값 -1
         capsuleRepository.decrementLikeCount(capsuleId);
+        capsuleEntityCache.evict(capsuleId);
 
         capsule = capsuleRepository.findById(capsuleId).orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
         return CapsuleLikeResponse.from(capsule.getLikeCount(), "좋아요 감소처리 성공");
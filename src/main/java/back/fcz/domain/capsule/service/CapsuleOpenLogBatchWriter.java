@@ -0,0 +1,304 @@
+package back.fcz.domain.capsule.service;
+
+import back.fcz.domain.capsule.entity.CapsuleOpenLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CapsuleOpenLog write-behind 배치 저장기
+ * - 요청 스레드는 bounded 큐에 적재만 하고, 전용 스레드가 flush-size / flush-interval 기준으로 JDBC 배치 INSERT
+ * - 큐가 가득 차면 offer-timeout 동안 대기 후, 그래도 자리가 없으면 호출 스레드에서 직접 저장 (백프레셔, 유실 없음)
+ * - 배치 실패 시 건별로 다시 저장하고, 일시적 오류로 실패한 행은 재시도 큐에 넣어 저장될 때까지 재시도
+ *   (재시도 간격은 flush-interval부터 두 배씩 늘려 retry-max-backoff-ms에서 멈춤)
+ * - 재시도 대기 행이 있는 동안에는 큐를 비우지 않으므로, 장애가 길어지면 큐가 차고 호출 스레드가 대기 (백프레셔)
+ * - 제약 조건 위반 등 재시도해도 소용없는 오류만 로그를 남기고 버림
+ * - 종료 시 신규 적재를 막고 큐/재시도 큐에 남은 로그를 모두 저장할 때까지 같은 간격으로 재시도한 뒤 종료
+ */
+@Slf4j
+@Component
+public class CapsuleOpenLogBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO capsule_open_log
+                (capsule_id, member_id, viewer_type, opened_at, current_lat, current_lng,
+                 user_agent, ip_address, status, anomaly_type)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int flushSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long retryMaxBackoffMs;
+    private final BlockingQueue<CapsuleOpenLog> queue;
+    // worker는 재시도 대기 행이 있으면 큐를 비우지 않으므로 worker가 넣는 행은 flush-size 이내로 유지됨
+    private final BlockingQueue<CapsuleOpenLog> retryQueue = new LinkedBlockingQueue<>();
+    private boolean retryScheduled = false;   // 재시도 타이머는 worker 스레드에서만 사용
+    private long nextRetryAt;
+    private int retryFailures = 0;
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public CapsuleOpenLogBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${capsule.open-log.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${capsule.open-log.write-behind.flush-size:500}") int flushSize,
+            @Value("${capsule.open-log.write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${capsule.open-log.write-behind.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${capsule.open-log.write-behind.retry-max-backoff-ms:30000}") long retryMaxBackoffMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushSize = flushSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.retryMaxBackoffMs = retryMaxBackoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "open-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 로그 적재 (큐 포화 시 호출 스레드에서 직접 저장)
+    public void submit(CapsuleOpenLog openLog) {
+        if (running) {
+            try {
+                if (queue.offer(openLog, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    // 적재 직후 종료가 시작되어 drain이 끝났다면 직접 저장
+                    if (!running && queue.remove(openLog)) {
+                        writeDirect(List.of(openLog));
+                    }
+                    return;
+                }
+                log.warn("CapsuleOpenLog 큐 포화 - 호출 스레드에서 직접 저장. queueSize={}", queue.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeDirect(List.of(openLog));
+    }
+
+    public int pendingCount() {
+        return queue.size() + retryQueue.size();
+    }
+
+    // 호출 스레드에서 직접 저장 (실패 행은 큐 자리가 날 때까지 대기 후 적재, 종료 중이면 재시도 큐로)
+    private void writeDirect(List<CapsuleOpenLog> logs) {
+        List<CapsuleOpenLog> failed = writeBatch(logs);
+        for (int i = 0; i < failed.size(); i++) {
+            if (!running || Thread.currentThread().isInterrupted()) {
+                retryQueue.addAll(failed.subList(i, failed.size()));
+                return;
+            }
+            try {
+                queue.put(failed.get(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                retryQueue.addAll(failed.subList(i, failed.size()));
+                return;
+            }
+        }
+    }
+
+    private void runLoop() {
+        List<CapsuleOpenLog> batch = new ArrayList<>(flushSize);
+
+        while (running) {
+            try {
+                if (!retryQueue.isEmpty()) {
+                    // 재시도 대기 행이 모두 저장될 때까지 큐는 비우지 않음
+                    retryWhenDue();
+                    continue;
+                }
+                CapsuleOpenLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                if (!batch.isEmpty()) {
+                    retryQueue.addAll(writeBatch(batch));
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    // flush-size에 도달하거나 flush-interval이 지날 때까지 배치 채우기
+    private void fillBatch(List<CapsuleOpenLog> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        while (batch.size() < flushSize) {
+            queue.drainTo(batch, flushSize - batch.size());
+            if (batch.size() >= flushSize) {
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            CapsuleOpenLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // 저장 후 일시적 오류로 실패한 행 반환 (재시도해도 소용없는 행은 로그만 남기고 제외)
+    private List<CapsuleOpenLog> writeBatch(List<CapsuleOpenLog> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            log.debug("CapsuleOpenLog 배치 저장 완료 - size: {}", batch.size());
+            return List.of();
+        } catch (Exception e) {
+            log.error("CapsuleOpenLog 배치 저장 실패 - 건별 재시도. size: {}", batch.size(), e);
+            return writeOneByOne(batch);
+        }
+    }
+
+    // 배치 실패 시 문제 행만 격리하기 위해 건별 저장
+    private List<CapsuleOpenLog> writeOneByOne(List<CapsuleOpenLog> batch) {
+        List<CapsuleOpenLog> failed = new ArrayList<>();
+        for (CapsuleOpenLog openLog : batch) {
+            if (!writeOne(openLog)) {
+                failed.add(openLog);
+            }
+        }
+        return failed;
+    }
+
+    // 재시도는 실패 후 backoff만큼 지난 뒤 수행 (대기 중에도 종료 여부를 확인하도록 flush-interval 단위로 끊어 대기)
+    private void retryWhenDue() throws InterruptedException {
+        long now = System.nanoTime();
+        if (!retryScheduled) {
+            retryScheduled = true;
+            nextRetryAt = now + TimeUnit.MILLISECONDS.toNanos(backoffMs(retryFailures));
+            return;
+        }
+        long wait = nextRetryAt - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(wait, TimeUnit.MILLISECONDS.toNanos(flushIntervalMs)));
+            return;
+        }
+        retryScheduled = false;
+        retryFailures = retryFailed() ? 0 : retryFailures + 1;
+    }
+
+    // 재시도 큐에 쌓인 로그를 다시 저장하고 모두 저장됐는지 반환 (다시 실패한 행은 재시도 큐로)
+    private boolean retryFailed() {
+        List<CapsuleOpenLog> entries = new ArrayList<>(retryQueue.size());
+        retryQueue.drainTo(entries);
+        if (entries.isEmpty()) {
+            return true;
+        }
+        List<CapsuleOpenLog> failed = writeBatch(entries);
+        retryQueue.addAll(failed);
+        if (!failed.isEmpty()) {
+            log.warn("CapsuleOpenLog 재시도 실패 - 다음 재시도까지 대기. remaining: {}", failed.size());
+        }
+        return failed.isEmpty();
+    }
+
+    // flush-interval부터 실패할 때마다 두 배, retry-max-backoff-ms에서 멈춤
+    private long backoffMs(int failures) {
+        long backoff = flushIntervalMs << Math.min(failures, 20);
+        return Math.min(Math.max(backoff, flushIntervalMs), retryMaxBackoffMs);
+    }
+
+    // 저장했거나 재시도가 소용없는 행이면 true
+    private boolean writeOne(CapsuleOpenLog openLog) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, openLog));
+            return true;
+        } catch (NonTransientDataAccessException e) {
+            log.error("CapsuleOpenLog 저장 실패 - capsuleId: {}, memberId: {}, ip: {}, status: {}, openedAt: {}",
+                    openLog.getCapsuleId().getCapsuleId(), openLog.getMemberId(), openLog.getIpAddress(),
+                    openLog.getStatus(), openLog.getOpenedAt(), e);
+            return true;
+        } catch (Exception e) {
+            log.warn("CapsuleOpenLog 저장 실패 - 재시도 예정. capsuleId: {}, error: {}",
+                    openLog.getCapsuleId().getCapsuleId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void bind(PreparedStatement ps, CapsuleOpenLog openLog) throws SQLException {
+        ps.setLong(1, openLog.getCapsuleId().getCapsuleId());
+        ps.setObject(2, openLog.getMemberId(), Types.BIGINT);
+        ps.setString(3, openLog.getViewerType());
+        ps.setTimestamp(4, openLog.getOpenedAt() != null ? Timestamp.valueOf(openLog.getOpenedAt()) : null);
+        ps.setObject(5, openLog.getCurrentLat(), Types.DOUBLE);
+        ps.setObject(6, openLog.getCurrentLng(), Types.DOUBLE);
+        ps.setString(7, openLog.getUserAgent());
+        ps.setString(8, openLog.getIpAddress());
+        ps.setString(9, openLog.getStatus().name());
+        ps.setString(10, openLog.getAnomalyType() != null ? openLog.getAnomalyType().name() : null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("CapsuleOpenLog 배치 저장기 종료 시작 - 대기 로그: {}", queue.size());
+        running = false;
+
+        if (worker != null) {
+            try {
+                worker.join(flushIntervalMs * 2 + 5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // 종료 시점에 남은 로그는 모두 저장
+        List<CapsuleOpenLog> remaining = new ArrayList<>(flushSize);
+        while (queue.drainTo(remaining, flushSize) > 0) {
+            retryQueue.addAll(writeBatch(remaining));
+            remaining.clear();
+        }
+        // 재시도 대기 로그는 저장될 때까지 backoff 간격으로 재시도
+        int failures = 0;
+        while (!retryFailed()) {
+            long backoff = backoffMs(failures++);
+            log.warn("CapsuleOpenLog 종료 중 재시도 대기 - remaining: {}, backoffMs: {}", retryQueue.size(), backoff);
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 강제 종료 시에만 도달 - 수동 복구가 가능하도록 남은 행을 모두 기록
+                retryQueue.forEach(openLog -> log.error(
+                        "CapsuleOpenLog 종료 중 재시도 중단 - capsuleId: {}, memberId: {}, ip: {}, status: {}, openedAt: {}",
+                        openLog.getCapsuleId().getCapsuleId(), openLog.getMemberId(), openLog.getIpAddress(),
+                        openLog.getStatus(), openLog.getOpenedAt()));
+                break;
+            }
+        }
+        log.info("CapsuleOpenLog 배치 저장기 종료 완료");
+    }
+}
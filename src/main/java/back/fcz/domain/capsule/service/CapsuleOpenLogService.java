@@ -2,11 +2,15 @@ package back.fcz.domain.capsule.service;
 
 import back.fcz.domain.capsule.entity.CapsuleOpenLog;
 import back.fcz.domain.capsule.repository.CapsuleOpenLogRepository;
+import back.fcz.domain.unlock.service.UnlockAttemptHistory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -14,11 +18,60 @@ import org.springframework.transaction.annotation.Transactional;
 public class CapsuleOpenLogService {
 
     private final CapsuleOpenLogRepository capsuleOpenLogRepository;
+    private final CapsuleOpenLogBatchWriter capsuleOpenLogBatchWriter;
+    private final UnlockAttemptHistory unlockAttemptHistory;
+
+    // false면 write-behind 없이 즉시 저장 (테스트 등)
+    @Value("${capsule.open-log.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveLogInNewTransaction(CapsuleOpenLog openLog) {
         capsuleOpenLogRepository.save(openLog);
+        recordAfterCommit(openLog);
         log.debug("독립 트랜잭션으로 로그 저장 완료 - capsuleId: {}, status: {}",
                 openLog.getCapsuleId().getCapsuleId(), openLog.getStatus());
     }
+
+    /**
+     * 즉시 저장 (호출자 트랜잭션에 참여)
+     * - 첫 열람 성공 기록은 재조회 판단(SUCCESS 존재 여부)에 바로 쓰이므로 write-behind 대신 이 경로를 사용
+     */
+    @Transactional
+    public void saveLog(CapsuleOpenLog openLog) {
+        capsuleOpenLogRepository.save(openLog);
+        recordAfterCommit(openLog);
+    }
+
+    /**
+     * 배치 write-behind 저장
+     * - 호출자 트랜잭션과 무관하게 비동기로 저장되므로 실패/이상 감지 로그와 재조회 로그에만 사용한다
+     * - 이후 판단에 즉시 조회되어야 하는 로그(첫 열람 성공 기록)는 {@link #saveLog}로 저장
+     */
+    public void saveLogWriteBehind(CapsuleOpenLog openLog) {
+        // 이상 탐지 이력은 DB 반영 여부와 무관하게 즉시 기록
+        unlockAttemptHistory.record(openLog);
+
+        if (!writeBehindEnabled) {
+            capsuleOpenLogRepository.save(openLog);
+            return;
+        }
+        capsuleOpenLogBatchWriter.submit(openLog);
+    }
+
+    // 롤백된 로그가 이상 탐지 이력에 남지 않도록 커밋 후 기록
+    private void recordAfterCommit(CapsuleOpenLog openLog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlockAttemptHistory.record(openLog);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        unlockAttemptHistory.record(openLog);
+                    }
+                }
+        );
+    }
 }
@@ -18,23 +18,17 @@ import back.fcz.global.crypto.PhoneCrypto;
 import back.fcz.global.dto.InServerMemberResponse;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
-import back.fcz.infra.storage.PresignedUrlProvider;
-import jakarta.annotation.PreDestroy;
+import back.fcz.infra.storage.PresignedUrlCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -52,21 +46,14 @@ public class CapsuleReadService {
     private final BookmarkRepository bookmarkRepository;
     private final MonitoringService monitoringService;
     private final CapsuleAttachmentRepository capsuleAttachmentRepository;
-    private final PresignedUrlProvider presignedUrlProvider;
+    private final PresignedUrlCache presignedUrlCache;
     private final CapsuleOpenLogService capsuleOpenLogService;
 
-    // PresignedUrl, 개인 캡슐 조회수 Redis 캐싱
-    private final RedisTemplate<String, String> redisTemplate;
-
-    private static final String PRESIGNED_URL_KEY_PREFIX = "presigned:attachment:";
-    private static final Duration PRESIGNED_URL_TTL = Duration.ofMinutes(14);
-    private static final Duration PRESIGNED_URL_VALIDITY = Duration.ofMinutes(15);
-
-    private static final String VIEW_COUNT_KEY_PREFIX = "capsule:view:";
-    private static final Duration VIEW_COUNT_TTL = Duration.ofMinutes(30);
-
-    private final ExecutorService s3ExecutorService = Executors.newFixedThreadPool(10);
+    // 캡슐 엔티티 2단 캐시 (로컬 + Redis)
+    private final CapsuleEntityCache capsuleEntityCache;
 
+    // 조회수 Redis 버퍼 (ViewCountSyncScheduler가 DB에 반영)
+    private final ViewCountBuffer viewCountBuffer;
 
     public CapsuleConditionResponseDTO capsuleRead(Long capsuleId){
         //자신이 작성한 캡슐이면 검증 없이 읽기
@@ -91,7 +78,7 @@ public class CapsuleReadService {
     //조건 확인하고 검증됐다면 읽기
     @Transactional
     public CapsuleConditionResponseDTO conditionAndRead(CapsuleConditionRequestDTO requestDto) {
-        Capsule capsule = capsuleRepository.findById(requestDto.capsuleId()).orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
+        Capsule capsule = capsuleEntityCache.find(requestDto.capsuleId()).orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
 
         // 공개인지 비공개인지
         if(capsule.getVisibility().equals("PUBLIC")){
@@ -152,7 +139,7 @@ public class CapsuleReadService {
 
             detectAndHandleAnomaly(failLog, validationResult, currentMemberId, requestDto.ipAddress());
 
-            capsuleOpenLogRepository.save(failLog);
+            capsuleOpenLogService.saveLogWriteBehind(failLog);
 
             if (validationResult.hasAnomaly()) {
                 throwAnomalyException(validationResult, currentMemberId);
@@ -181,7 +168,8 @@ public class CapsuleReadService {
                     currentMemberId,
                     "MEMBER"
             );
-            capsuleOpenLogRepository.save(successLog);
+            // 재조회 판단에 바로 쓰이므로 즉시 저장 (write-behind면 flush 전 재요청이 첫 조회로 처리됨)
+            capsuleOpenLogService.saveLog(successLog);
 
             // 수신자 정보 저장 + 조회수 증가
             firstComeService.saveRecipientWithoutFirstCome(
@@ -207,7 +195,7 @@ public class CapsuleReadService {
                 currentMemberId,
                 "MEMBER"
         );
-        capsuleOpenLogRepository.save(openLog);
+        capsuleOpenLogService.saveLogWriteBehind(openLog);
 
         return readPublicCapsule(capsule, requestDto, true);
     }
@@ -303,7 +291,7 @@ public class CapsuleReadService {
 
             detectAndHandleAnomaly(failLog, validationResult, currentMemberId, requestDto.ipAddress());
 
-            capsuleOpenLogRepository.save(failLog);
+            capsuleOpenLogService.saveLogWriteBehind(failLog);
 
             if (validationResult.hasAnomaly()) {
                 throwAnomalyException(validationResult, currentMemberId);
@@ -320,7 +308,8 @@ public class CapsuleReadService {
                 currentMemberId,
                 "MEMBER"
         );
-        capsuleOpenLogRepository.save(successLog);
+        // 첫 열람 성공 기록은 재조회 판단에 바로 쓰이므로 즉시 저장 (이상 탐지 이력에도 함께 기록)
+        capsuleOpenLogService.saveLog(successLog);
 
         return readMemberCapsule(capsule, requestDto, true, recipient);
     }
@@ -340,7 +329,7 @@ public class CapsuleReadService {
                 currentMemberId,
                 "MEMBER"
         );
-        capsuleOpenLogRepository.save(openLog);
+        capsuleOpenLogService.saveLogWriteBehind(openLog);
 
         return readMemberCapsule(capsule, requestDto, false, recipient);
     }
@@ -406,7 +395,7 @@ public class CapsuleReadService {
 
             detectAndHandleAnomaly(failLog, validationResult, memberId, requestDto.ipAddress());
 
-            capsuleOpenLogRepository.save(failLog);
+            capsuleOpenLogService.saveLogWriteBehind(failLog);
 
             if (validationResult.hasAnomaly()) {
                 throwAnomalyException(validationResult, memberId);
@@ -423,7 +412,8 @@ public class CapsuleReadService {
                 memberId,
                 viewerType
         );
-        capsuleOpenLogRepository.save(successLog);
+        // 첫 열람 성공 기록은 재조회 판단에 바로 쓰이므로 즉시 저장 (이상 탐지 이력에도 함께 기록)
+        capsuleOpenLogService.saveLog(successLog);
 
         detectAndHandleAnomaly(successLog, validationResult, memberId, requestDto.ipAddress());
         if (validationResult.hasAnomaly()) {
@@ -453,7 +443,7 @@ public class CapsuleReadService {
                 memberId,
                 viewerType
         );
-        capsuleOpenLogRepository.save(openLog);
+        capsuleOpenLogService.saveLogWriteBehind(openLog);
 
 
         boolean isLoggedIn = (memberId != null);
@@ -513,7 +503,7 @@ public class CapsuleReadService {
                 capsuleRecipientRepository.save(recipient);
             }
 
-            incrementViewCountViaRedis(capsule.getCapsuleId());
+            viewCountBuffer.increment(capsule.getCapsuleId());
         }
 
         boolean isBookmarked = bookmarkRepository.existsByMemberIdAndCapsuleIdAndDeletedAtIsNull(
@@ -531,7 +521,7 @@ public class CapsuleReadService {
 
         // 첫 조회일 때만 조회수 증가
         if (shouldIncrement) {
-            incrementViewCountViaRedis(capsule.getCapsuleId());
+            viewCountBuffer.increment(capsule.getCapsuleId());
         }
 
         boolean isBookmarked = bookmarkRepository.existsByMemberIdAndCapsuleIdAndDeletedAtIsNull(
@@ -547,7 +537,7 @@ public class CapsuleReadService {
 
         // 처음 조회하면 조회수 증가
         if (shouldIncrement) {
-            incrementViewCountViaRedis(capsule.getCapsuleId());
+            viewCountBuffer.increment(capsule.getCapsuleId());
         }
         var attachments = buildAttachmentViews(capsule.getCapsuleId());
         return CapsuleConditionResponseDTO.from(capsule, attachments);
@@ -601,30 +591,6 @@ public class CapsuleReadService {
                 .build();
     }
 
-    // Redis 이용 조회수 증가
-    private void incrementViewCountViaRedis(Long capsuleId) {
-        String key = VIEW_COUNT_KEY_PREFIX + capsuleId;
-
-        try {
-            Long newCount = redisTemplate.opsForValue().increment(key);
-
-            if (newCount != null && newCount == 1) {
-                redisTemplate.expire(key, VIEW_COUNT_TTL);
-                log.debug("Redis 조회수 TTL 설정 - capsuleId: {}, TTL: {}분",
-                        capsuleId, VIEW_COUNT_TTL.toMinutes());
-            }
-        } catch (Exception e) {
-            log.error("Redis 장애 발생 - DB 직접 업데이트로 폴백. capsuleId: {}", capsuleId, e);
-
-            try {
-                capsuleRepository.incrementViewCount(capsuleId);
-                log.info("DB 직접 업데이트 성공 - capsuleId: {}", capsuleId);
-            } catch (Exception dbError) {
-                log.error("DB 업데이트도 실패 - capsuleId: {}", capsuleId, dbError);
-            }
-        }
-    }
-
     // 이상 활동 감지 및 제재 처리
     private void detectAndHandleAnomaly(
             CapsuleOpenLog openLog,
@@ -696,7 +662,7 @@ public class CapsuleReadService {
         };
     }
 
-    // 캡슐 첨부파일 Presigned URL 생성
+    // 캡슐 첨부파일 Presigned URL 생성 (캐시 일괄 조회 후 미스만 서명)
     private List<CapsuleAttachmentViewResponse> buildAttachmentViews(Long capsuleId) {
         List<CapsuleAttachment> list = capsuleAttachmentRepository
                 .findAllByCapsule_CapsuleIdAndStatus(capsuleId, CapsuleAttachmentStatus.USED);
@@ -705,80 +671,15 @@ public class CapsuleReadService {
             return Collections.emptyList();
         }
 
-        List<CompletableFuture<CapsuleAttachmentViewResponse>> futures =  list.stream()
-                .map(attachment -> CompletableFuture.supplyAsync(
-                        () -> getPresignedUrlWithCache(attachment),
-                        s3ExecutorService
-                ))
-                .toList();
+        Map<String, String> urls = presignedUrlCache.getUrls(
+                list.stream().map(CapsuleAttachment::getS3Key).toList()
+        );
 
-        return futures.stream()
-                .map(CompletableFuture::join)
+        return list.stream()
+                .map(attachment -> new CapsuleAttachmentViewResponse(urls.get(attachment.getS3Key()), attachment.getId()))
                 .toList();
     }
 
-    private CapsuleAttachmentViewResponse getPresignedUrlWithCache(
-            CapsuleAttachment attachment
-    ) {
-        String cacheKey = PRESIGNED_URL_KEY_PREFIX + attachment.getS3Key();
-
-        try {
-            // 1. 캐시 조회
-            String cachedUrl = redisTemplate.opsForValue().get(cacheKey);
-
-            if (cachedUrl != null) {
-                log.debug("Presigned URL 캐시 히트 - S3Key: {}", attachment.getS3Key());
-                return new CapsuleAttachmentViewResponse(cachedUrl, attachment.getId());
-            }
-
-            // 2. 캐시 미스 - S3 API 호출
-            log.debug("Presigned URL 캐시 미스 - S3 API 호출 - S3Key: {}",
-                    attachment.getS3Key());
-
-            String presignedUrl = presignedUrlProvider.presignGet(
-                    attachment.getS3Key(),
-                    PRESIGNED_URL_VALIDITY
-            );
-
-            // 3. 캐시 저장
-            redisTemplate.opsForValue().set(
-                    cacheKey,
-                    presignedUrl,
-                    PRESIGNED_URL_TTL
-            );
-
-            return new CapsuleAttachmentViewResponse(presignedUrl, attachment.getId());
-
-        } catch (Exception e) {
-            log.error("Redis 캐시 오류 - 폴백: S3 직접 호출 - S3Key: {}",
-                    attachment.getS3Key(), e);
-
-            String presignedUrl = presignedUrlProvider.presignGet(
-                    attachment.getS3Key(),
-                    PRESIGNED_URL_VALIDITY
-            );
-
-            return new CapsuleAttachmentViewResponse(presignedUrl, attachment.getId());
-        }
-    }
-
-    @PreDestroy
-    public void shutdown() {
-        log.info("S3 ExecutorService 종료 시작");
-        s3ExecutorService.shutdown();
-
-        try {
-            if (!s3ExecutorService.awaitTermination(10, TimeUnit.SECONDS)) {
-                log.warn("S3 ExecutorService 정상 종료 실패 - 강제 종료");
-                s3ExecutorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            log.error("S3 ExecutorService 종료 중 인터럽트 발생", e);
-            s3ExecutorService.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
-
     // 스토리트랙 캡슐 조회 시, 캡슐 재조회
     @Transactional
     public CapsuleConditionResponseDTO readAlreadyOpendeStorytrackCapsule(
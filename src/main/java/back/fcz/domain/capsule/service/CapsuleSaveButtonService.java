@@ -32,6 +32,7 @@ public class CapsuleSaveButtonService {
     private final CapsuleRepository  capsuleRepository;
     private final CapsuleRecipientRepository capsuleRecipientRepository;
     private final CapsuleOpenLogRepository capsuleOpenLogRepository;
+    private final CapsuleEntityCache capsuleEntityCache;
 
     public CapsuleSaveButtonResponse saveRecipient(CapsuleSaveButtonRequest request) {
         //로그인 상태라면 개인 캡슐 수신자 정보 생성(현재 로그인 중인 회원의 데이터 기록)
@@ -79,6 +80,8 @@ public class CapsuleSaveButtonService {
         capsuleRecipientRepository.save(capsuleRecipient);
         capsule.setProtected(1);
         capsuleRepository.save(capsule);
+        // 캐시된 isProtected=0 스냅샷이 남지 않도록 커밋 후 무효화
+        capsuleEntityCache.evict(capsule.getCapsuleId());
 
         return new CapsuleSaveButtonResponse("캡슐이 저장 되었습니다.");
     }
@@ -0,0 +1,71 @@
+package back.fcz.domain.capsule.service;
+
+import back.fcz.domain.capsule.repository.CapsuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 일반 캡슐 조회수 Redis 버퍼
+ * - capsuleId % BUCKET_COUNT 로 나눈 해시 버킷에 HINCRBY로 누적 (키 개수가 캡슐 수에 비례하지 않음)
+ * - ViewCountSyncScheduler가 버킷을 flushing 키로 RENAME 해 스냅샷을 떠서 DB에 반영
+ *   (RENAME 이후 들어온 증가분은 새 버킷에 쌓이므로 유실 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CapsuleRepository capsuleRepository;
+
+    public static final int BUCKET_COUNT = 16;
+    private static final String BUCKET_KEY_PREFIX = "capsule:view:bucket:";
+    private static final String FLUSHING_KEY_PREFIX = "capsule:view:flushing:";
+
+    // Redis 이용 조회수 증가 (Redis 장애 시 DB 직접 업데이트로 폴백)
+    public void increment(Long capsuleId) {
+        try {
+            redisTemplate.opsForHash().increment(bucketKeyOf(capsuleId), String.valueOf(capsuleId), 1L);
+            log.debug("Redis 조회수 증가 성공 - capsuleId: {}", capsuleId);
+        } catch (Exception e) {
+            log.error("Redis 장애 발생 - DB 직접 업데이트로 폴백. capsuleId: {}", capsuleId, e);
+
+            try {
+                capsuleRepository.incrementViewCount(capsuleId);
+                log.info("DB 직접 업데이트 성공 - capsuleId: {}", capsuleId);
+            } catch (Exception dbError) {
+                log.error("DB 업데이트도 실패 - capsuleId: {}", capsuleId, dbError);
+            }
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 조회수 (버킷 + 반영 중인 스냅샷)
+    public long getBufferedCount(Long capsuleId) {
+        int bucket = bucketOf(capsuleId);
+        String field = String.valueOf(capsuleId);
+        return toLong(redisTemplate.opsForHash().get(bucketKey(bucket), field))
+                + toLong(redisTemplate.opsForHash().get(flushingKey(bucket), field));
+    }
+
+    public static String bucketKey(int bucket) {
+        return BUCKET_KEY_PREFIX + bucket;
+    }
+
+    public static String flushingKey(int bucket) {
+        return FLUSHING_KEY_PREFIX + bucket;
+    }
+
+    public static String bucketKeyOf(Long capsuleId) {
+        return bucketKey(bucketOf(capsuleId));
+    }
+
+    private static int bucketOf(Long capsuleId) {
+        return (int) Math.floorMod(capsuleId, (long) BUCKET_COUNT);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -38,6 +38,7 @@ public class MemberService {
     private final PhoneCrypto phoneCrypto;
     private final NicknameHistoryRepository nicknameHistoryRepository;
     private final PhoneVerificationService phoneVerificationService;
+    private final MemberStatusCache memberStatusCache;
 
     private static final int NICKNAME_CHANGE_COOLDOWN_DAYS = 90;
     private static final int VERIFIED_VALID_MINUTES = 10;
@@ -110,6 +111,7 @@ public class MemberService {
 
         member.markDeleted();
         member.updateStatus(MemberStatus.EXIT);
+        memberStatusCache.invalidateCache(member.getMemberId());
 
         log.info("회원 탈퇴 처리 완료 - memberId: {}, userId: {}, deletedAt: {}",
                 member.getMemberId(), member.getUserId(), member.getDeletedAt());
@@ -5,55 +5,128 @@ import back.fcz.domain.member.entity.MemberStatus;
 import back.fcz.domain.member.repository.MemberRepository;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
+/**
+ * 회원 상태 캐시 (로컬 Caffeine -> Redis -> DB)
+ * - 인증 요청마다 조회되므로 노드별 로컬 캐시를 앞단에 둠
+ * - 상태 변경 시 invalidateCache()가 Redis 키 삭제 후 pub/sub으로 모든 노드의 로컬 캐시를 무효화
+ * - 메시지 유실에 대비해 로컬 캐시는 LOCAL_TTL 이후 자동 만료
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class MemberStatusCache {
+public class MemberStatusCache implements MessageListener {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final MemberRepository memberRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
 
     private static final String STATUS_KEY_PREFIX = "member:status:";
     private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
+    public static final String INVALIDATION_CHANNEL = "member:status:invalidate";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(60);
+    private static final long LOCAL_MAX_SIZE = 100_000L;
+
+    private final Cache<Long, MemberStatus> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
     public MemberStatus getStatus(Long memberId) {
+        MemberStatus local = localCache.getIfPresent(memberId);
+        if (local != null) {
+            return local;
+        }
+
         String key = STATUS_KEY_PREFIX + memberId;
 
         try {
             String cached = redisTemplate.opsForValue().get(key);
             if (cached != null) {
                 log.debug("캐시에서 회원 상태 조회: memberId={}, status={}", memberId, cached);
-                return MemberStatus.valueOf(cached);
+                MemberStatus status = MemberStatus.valueOf(cached);
+                localCache.put(memberId, status);
+                return status;
             }
 
             Member member = memberRepository.findById(memberId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
             redisTemplate.opsForValue().set(key, member.getStatus().name(), CACHE_TTL);
+            localCache.put(memberId, member.getStatus());
             log.debug("DB에서 회원 상태 조회 및 캐싱: memberId={}, status={}", memberId, member.getStatus());
 
             return member.getStatus();
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("회원 상태 조회 실패: memberId={}", memberId, e);
-            // Redis 장애 시 DB에서 직접 조회
+            // Redis 장애 시 DB에서 직접 조회 (무효화 메시지를 받지 못할 수 있으므로 로컬 캐시에 적재하지 않음)
             Member member = memberRepository.findById(memberId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
             return member.getStatus();
         }
     }
 
-    // 회원 상태 변경 시 캐시 무효화
+    /**
+     * 회원 상태 변경 시 캐시 무효화
+     * 트랜잭션 중이면 커밋 전 조회가 이전 상태를 다시 캐싱할 수 있으므로 커밋 이후 한 번 더 무효화
+     */
     public void invalidateCache(Long memberId) {
+        evictEverywhere(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictEverywhere(memberId);
+                        }
+                    }
+            );
+        }
+    }
+
+    // 다른 노드(및 자신)가 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 회원 상태 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evictEverywhere(Long memberId) {
+        localCache.invalidate(memberId);
+
         String key = STATUS_KEY_PREFIX + memberId;
         try {
             redisTemplate.delete(key);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(memberId));
             log.info("회원 상태 캐시 무효화: memberId={}", memberId);
         } catch (Exception e) {
             log.error("캐시 무효화 실패: memberId={}", memberId, e);
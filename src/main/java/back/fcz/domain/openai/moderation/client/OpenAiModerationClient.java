@@ -20,8 +20,6 @@ import java.util.*;
 @Component
 public class OpenAiModerationClient {
 
-    private static final String MODERATIONS_URL = "https://api.openai.com/v1/moderations";
-
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
@@ -29,16 +27,19 @@ public class OpenAiModerationClient {
     private final String model;
 
     private final String apiKey;
+    private final String moderationsUrl;
 
     public OpenAiModerationClient(
             RestTemplateBuilder builder,
             ObjectMapper objectMapper,
             @Value("${openai.api.key}") String apiKey,
-            @Value("${openai.moderation.model:omni-moderation-2024-09-26}") String model
+            @Value("${openai.moderation.model:omni-moderation-2024-09-26}") String model,
+            @Value("${openai.moderation.url:https://api.openai.com/v1/moderations}") String moderationsUrl
     ) {
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
         this.model = model;
+        this.moderationsUrl = moderationsUrl;
 
         this.restTemplate = builder
                 .connectTimeout(Duration.ofSeconds(3))
@@ -52,6 +53,32 @@ public class OpenAiModerationClient {
         return callModeration(input);
     }
 
+    /**
+     * 여러 텍스트를 multi-input 요청 한 번으로 검사
+     * 반환 목록은 inputs와 같은 순서이며, 각 결과의 raw는 해당 입력의 results[i] 노드
+     */
+    public List<OpenAiModerationResult> moderateTexts(List<String> inputs) {
+        List<String> normalized = inputs.stream()
+                .map(input -> input == null ? "" : input)
+                .toList();
+
+        JsonNode results = call(normalized).path("results");
+        if (!results.isArray() || results.size() != normalized.size()) {
+            throw new RestClientException("OpenAI moderation result count mismatch: expected "
+                    + normalized.size() + ", got " + (results.isArray() ? results.size() : 0));
+        }
+
+        List<OpenAiModerationResult> moderationResults = new ArrayList<>(results.size());
+        for (JsonNode result : results) {
+            moderationResults.add(new OpenAiModerationResult(
+                    result.path("flagged").asBoolean(false),
+                    extractTrueCategories(result),
+                    result
+            ));
+        }
+        return moderationResults;
+    }
+
     /** ✅ 이미지 URL moderation 추가 */
     public OpenAiModerationResult moderateImageUrl(String imageUrl) {
         if (imageUrl == null || imageUrl.isBlank()) {
@@ -69,8 +96,22 @@ public class OpenAiModerationClient {
         return callModeration(input);
     }
 
-    /** 공통 호출 로직 (input이 String이든, List<Object>든 그대로 body에 넣음) */
+    /** 단일 입력 호출 (input이 String이든, List<Object>든 그대로 body에 넣음) */
     private OpenAiModerationResult callModeration(Object input) {
+        JsonNode root = call(input);
+
+        JsonNode results = root.path("results");
+        JsonNode result0 = (results.isArray() && results.size() > 0) ? results.get(0) : null;
+
+        boolean flagged = result0 != null && result0.path("flagged").asBoolean(false);
+
+        List<String> trueCategories = extractTrueCategories(result0);
+
+        return new OpenAiModerationResult(flagged, trueCategories, root);
+    }
+
+    /** 공통 호출 로직 (응답 JSON 루트 반환) */
+    private JsonNode call(Object input) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -83,7 +124,7 @@ public class OpenAiModerationClient {
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
 
             ResponseEntity<String> response = restTemplate.exchange(
-                    MODERATIONS_URL,
+                    moderationsUrl,
                     HttpMethod.POST,
                     request,
                     String.class
@@ -94,16 +135,7 @@ public class OpenAiModerationClient {
                 throw new RestClientException("OpenAI moderation response body is empty");
             }
 
-            JsonNode root = objectMapper.readTree(rawJson);
-
-            JsonNode results = root.path("results");
-            JsonNode result0 = (results.isArray() && results.size() > 0) ? results.get(0) : null;
-
-            boolean flagged = result0 != null && result0.path("flagged").asBoolean(false);
-
-            List<String> trueCategories = extractTrueCategories(result0);
-
-            return new OpenAiModerationResult(flagged, trueCategories, root);
+            return objectMapper.readTree(rawJson);
 
         } catch (RestClientException e) {
             log.warn("OpenAI moderation call failed: {}", e.getMessage());
@@ -0,0 +1,176 @@
+package back.fcz.domain.openai.moderation.prefilter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aho–Corasick 다중 패턴 매처
+ * - 입력 길이에 선형, 패턴 수와 무관하게 한 번 훑어서 모든 등록어를 찾음
+ * - 생성 후 불변이므로 여러 스레드에서 공유 가능
+ * - 패턴/입력은 호출 측에서 같은 방식으로 정규화해서 넘겨야 함 (PrefilterNormalizer)
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+
+    // 상태별 전이 (정렬된 문자 -> 다음 상태, 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 상태에서 끝나는 패턴 인덱스 (실패 링크를 따라 도달하는 출력 포함)
+    private final int[][] outputs;
+    private final String[] patterns;
+
+    private AhoCorasickMatcher(char[][] edgeChars, int[][] edgeTargets, int[] failure, int[][] outputs, String[] patterns) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.patterns = patterns;
+    }
+
+    public static AhoCorasickMatcher of(Iterable<String> patterns) {
+        List<String> distinct = new ArrayList<>();
+        for (String pattern : new LinkedHashSet<>(toList(patterns))) {
+            if (pattern != null && !pattern.isEmpty()) {
+                distinct.add(pattern);
+            }
+        }
+
+        // 1) trie
+        List<Map<Character, Integer>> gotos = new ArrayList<>();
+        List<List<Integer>> outs = new ArrayList<>();
+        gotos.add(new HashMap<>());
+        outs.add(new ArrayList<>());
+
+        for (int index = 0; index < distinct.size(); index++) {
+            String pattern = distinct.get(index);
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = gotos.get(state).get(pattern.charAt(i));
+                if (next == null) {
+                    next = gotos.size();
+                    gotos.add(new HashMap<>());
+                    outs.add(new ArrayList<>());
+                    gotos.get(state).put(pattern.charAt(i), next);
+                }
+                state = next;
+            }
+            outs.get(state).add(index);
+        }
+
+        // 2) 실패 링크 (BFS)
+        int size = gotos.size();
+        int[] failure = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : gotos.get(ROOT).values()) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : gotos.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+
+                int fallback = failure[state];
+                while (fallback != ROOT && !gotos.get(fallback).containsKey(c)) {
+                    fallback = failure[fallback];
+                }
+                Integer target = gotos.get(fallback).get(c);
+                failure[child] = target != null && target != child ? target : ROOT;
+                outs.get(child).addAll(outs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        // 3) 조회용 배열로 압축
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        int[][] outputs = new int[size][];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = gotos.get(state);
+            char[] chars = new char[edges.size()];
+            int i = 0;
+            for (char c : edges.keySet()) {
+                chars[i++] = c;
+            }
+            Arrays.sort(chars);
+
+            int[] targets = new int[chars.length];
+            for (int j = 0; j < chars.length; j++) {
+                targets[j] = edges.get(chars[j]);
+            }
+            edgeChars[state] = chars;
+            edgeTargets[state] = targets;
+            outputs[state] = outs.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new AhoCorasickMatcher(edgeChars, edgeTargets, failure, outputs, distinct.toArray(String[]::new));
+    }
+
+    public boolean isEmpty() {
+        return patterns.length == 0;
+    }
+
+    public int size() {
+        return patterns.length;
+    }
+
+    // 패턴이 하나라도 포함되어 있는지 (첫 일치에서 종료)
+    public boolean containsAny(CharSequence text) {
+        if (isEmpty()) {
+            return false;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 포함된 패턴 목록 (중복 없이 처음 발견된 순서)
+    public Set<String> findAll(CharSequence text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (isEmpty()) {
+            return found;
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int index : outputs[state]) {
+                found.add(patterns[index]);
+            }
+        }
+        return found;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int position = Arrays.binarySearch(edgeChars[state], c);
+            if (position >= 0) {
+                return edgeTargets[state][position];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    private static List<String> toList(Iterable<String> patterns) {
+        List<String> list = new ArrayList<>();
+        patterns.forEach(list::add);
+        return list;
+    }
+}
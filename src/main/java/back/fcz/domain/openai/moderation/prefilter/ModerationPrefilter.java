@@ -0,0 +1,128 @@
+package back.fcz.domain.openai.moderation.prefilter;
+
+import back.fcz.domain.openai.moderation.dto.ModerationField;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OpenAI moderation 호출 전 로컬 사전 검사
+ * - 금칙어 목록(정규화 후)을 Aho–Corasick 오토마톤 하나로 만들어 필드별로 한 번씩만 훑음
+ * - 매칭은 토큰(단어) 안에서만 일어남 ({@link PrefilterNormalizer} 참고)
+ * - BLOCK: 명백한 금칙어 포함 → 원격 호출 없이 차단
+ * - SAFE: 금칙어 없음 + 제목/본문 없이 짧은 필드만 있음(닉네임만 수정 등) → 원격 호출 생략
+ *   (단어 경계를 넘어서만 금칙어가 만들어지는 짧은 필드는 SAFE 대신 REMOTE)
+ * - REMOTE: 그 외는 기존대로 OpenAI 검사
+ * - 목록에는 문맥과 무관하게 차단해도 되는 표현만 둠 (애매한 표현은 원격 검사에 맡김)
+ */
+@Slf4j
+@Component
+public class ModerationPrefilter {
+
+    public static final String CATEGORY = "profanity";
+
+    private final AhoCorasickMatcher matcher;
+    private final boolean enabled;
+    private final int safeMaxLength;
+
+    public ModerationPrefilter(
+            @Value("${openai.moderation.prefilter.terms-location:classpath:moderation/prefilter-terms.txt}") Resource terms,
+            @Value("${openai.moderation.prefilter.enabled:true}") boolean enabled,
+            @Value("${openai.moderation.prefilter.safe-max-length:20}") int safeMaxLength
+    ) {
+        this(loadTerms(terms), enabled, safeMaxLength);
+        log.info("moderation 사전 검사 금칙어 적재 - terms: {}, enabled: {}", matcher.size(), enabled);
+    }
+
+    private ModerationPrefilter(List<String> terms, boolean enabled, int safeMaxLength) {
+        this.matcher = AhoCorasickMatcher.of(terms.stream().map(PrefilterNormalizer::normalize).toList());
+        this.enabled = enabled;
+        this.safeMaxLength = safeMaxLength;
+    }
+
+    // 테스트/벤치마크용 (원문 금칙어 목록으로 생성)
+    public static ModerationPrefilter of(List<String> terms, int safeMaxLength) {
+        return new ModerationPrefilter(terms, true, safeMaxLength);
+    }
+
+    public enum Decision {
+        BLOCK,
+        SAFE,
+        REMOTE
+    }
+
+    /**
+     * @param matches BLOCK일 때 금칙어가 걸린 필드 -> 일치한 금칙어(정규화 형태)
+     */
+    public record Result(Decision decision, Map<ModerationField, Set<String>> matches) {
+
+        static Result of(Decision decision) {
+            return new Result(decision, Map.of());
+        }
+    }
+
+    public Result check(Map<ModerationField, String> fields) {
+        if (!enabled) {
+            return Result.of(Decision.REMOTE);
+        }
+
+        Map<ModerationField, Set<String>> matches = new LinkedHashMap<>();
+        boolean shortOnly = true;
+        for (Map.Entry<ModerationField, String> entry : fields.entrySet()) {
+            String value = entry.getValue();
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+
+            String normalized = PrefilterNormalizer.normalize(value);
+            Set<String> found = matcher.findAll(normalized);
+            if (!found.isEmpty()) {
+                matches.put(entry.getKey(), found);
+            }
+
+            ModerationField field = entry.getKey();
+            if (field == ModerationField.TITLE || field == ModerationField.CONTENT
+                    || value.trim().length() > safeMaxLength) {
+                shortOnly = false;
+            } else if (found.isEmpty() && matcher.containsAny(PrefilterNormalizer.compact(normalized))) {
+                // 단어 경계를 넘어서만 걸리는 경우("아저씨 발")는 차단하지 않고 원격 검사에 맡김
+                shortOnly = false;
+            }
+        }
+
+        if (!matches.isEmpty()) {
+            return new Result(Decision.BLOCK, matches);
+        }
+        return Result.of(shortOnly ? Decision.SAFE : Decision.REMOTE);
+    }
+
+    // 한 줄에 하나, '#'으로 시작하는 줄과 빈 줄은 무시
+    private static List<String> loadTerms(Resource resource) {
+        List<String> terms = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String term = line.trim();
+                if (!term.isEmpty() && !term.startsWith("#")) {
+                    terms.add(term);
+                }
+            }
+        } catch (IOException e) {
+            // 목록이 없으면 사전 검사 없이 원격 검사만 수행
+            log.warn("moderation 금칙어 목록 적재 실패 - location: {}, error: {}", resource, e.getMessage());
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,83 @@
+package back.fcz.domain.openai.moderation.prefilter;
+
+import java.text.Normalizer;
+
+/**
+ * 금칙어 매칭용 정규화
+ * - NFKD: 한글 음절을 초/중/종성 자모로 분해하고, 호환 자모(ㅅ, ㅂ)는 초성 자모로 맞춤
+ *   → 초성만 쓴 "ㅆㅂ"도 음절 "씨발"과 같은 초성 자모로 비교
+ *   (종성은 초성과 다른 문자로 남겨 "밥시" 같은 일반 단어가 "ㅂㅅ"에 걸리지 않게 함)
+ * - 전각/합자 문자는 기본 문자로, 라틴 문자의 결합 기호는 제거
+ * - 소문자화 + 문자(letter) 외 공백/숫자/기호는 토큰 구분자로 취급
+ * - 한 글자짜리 토큰이 이어질 때만 구분자를 없앰 → "f.u.c.k", "씨 발" 같은 띄어쓰기 우회 대응
+ *   그 외 토큰 사이에는 공백 하나를 남겨 "아저씨 발", "a bit cheaper"처럼
+ *   단어 경계를 넘는 부분 일치가 생기지 않게 함 (금칙어 자체에는 공백이 없음)
+ */
+public final class PrefilterNormalizer {
+
+    static final char TOKEN_SEPARATOR = ' ';
+
+    private PrefilterNormalizer() {
+    }
+
+    public static String normalize(String input) {
+        if (input == null || input.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(input, Normalizer.Form.NFKD);
+
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        int tokenStart = -1;     // 현재 토큰의 시작 위치 (토큰 밖이면 -1)
+        int tokenChars = 0;      // 원문 기준 글자 수 (음절 하나 = 1)
+        boolean prevSingle = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isLetter(c)) {
+                if (tokenStart < 0) {
+                    tokenStart = sb.length();
+                    tokenChars = 0;
+                }
+                if (tokenChars == 0 || !isVowelOrFinalJamo(c)) {
+                    tokenChars++;
+                }
+                sb.append(Character.toLowerCase(c));
+            } else if (tokenStart >= 0 && !isCombiningMark(c)) {
+                prevSingle = endToken(sb, tokenStart, tokenChars, prevSingle);
+                tokenStart = -1;
+            }
+        }
+        if (tokenStart >= 0) {
+            endToken(sb, tokenStart, tokenChars, prevSingle);
+        }
+        return sb.toString();
+    }
+
+    // 한 글자 토큰끼리는 그대로 이어 붙이고, 그 외에는 앞 토큰과의 사이에 구분자를 넣음
+    private static boolean endToken(StringBuilder sb, int tokenStart, int tokenChars, boolean prevSingle) {
+        boolean single = tokenChars <= 1;
+        if (tokenStart > 0 && !(single && prevSingle)) {
+            sb.insert(tokenStart, TOKEN_SEPARATOR);
+        }
+        return single;
+    }
+
+    // 토큰 구분 없이 문자만 이어 붙인 형태 (단어 경계를 넘는 일치 확인용)
+    public static String compact(String normalized) {
+        return normalized.indexOf(TOKEN_SEPARATOR) < 0
+                ? normalized
+                : normalized.replace(String.valueOf(TOKEN_SEPARATOR), "");
+    }
+
+    // 한글 중성/종성 자모 (초성과 합쳐 한 글자를 이루므로 글자 수에 세지 않음)
+    private static boolean isVowelOrFinalJamo(char c) {
+        return c >= '\u1160' && c <= '\u11FF';
+    }
+
+    // NFKD로 분리된 결합 기호는 구분자가 아니라 앞 글자의 일부로 보고 버림
+    private static boolean isCombiningMark(char c) {
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+}
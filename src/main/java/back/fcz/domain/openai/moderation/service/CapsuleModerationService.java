@@ -7,6 +7,7 @@ import back.fcz.domain.openai.moderation.dto.OpenAiModerationResult;
 import back.fcz.domain.openai.moderation.entity.ModerationActionType;
 import back.fcz.domain.openai.moderation.entity.ModerationAuditLog;
 import back.fcz.domain.openai.moderation.entity.ModerationDecision;
+import back.fcz.domain.openai.moderation.prefilter.ModerationPrefilter;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +24,8 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,11 +36,15 @@ public class CapsuleModerationService {
     private final OpenAiModerationClient openAiModerationClient;
     private final ModerationAuditLogWriter auditLogWriter; // ✅ 실패 로그만 별도 트랜잭션으로 저장
     private final ObjectMapper objectMapper;
+    private final ModerationResultCache moderationResultCache; // 같은 입력 재제출 시 OpenAI 호출 생략
+    private final ModerationPrefilter moderationPrefilter; // 명백한 금칙어 차단 / 짧은 입력 통과를 로컬에서 처리
+
+    private static final String PREFILTER_MODEL = "local-prefilter";
 
     /**
+     * 트랜잭션 없이 동작 (원격 호출 동안 DB 커넥션을 잡지 않도록, 감사 로그는 writer가 별도 트랜잭션으로 저장)
      * @return auditId (FLAGGED/ERROR일 때만 저장 후 반환, PASS/SKIPPED는 null)
      */
-    @Transactional
     public Long validateCapsuleText(
             Long actorMemberId,
             ModerationActionType actionType,
@@ -62,16 +69,50 @@ public class CapsuleModerationService {
             return null;
         }
 
+        // 0) 로컬 사전 검사 (금칙어면 원격 호출 없이 차단, 닉네임만 있는 짧은 입력 등은 통과)
+        ModerationPrefilter.Result prefiltered = moderationPrefilter.check(fields);
+        if (prefiltered.decision() == ModerationPrefilter.Decision.BLOCK) {
+            throw blocked(actorMemberId, actionType, PREFILTER_MODEL, inputHash, prefilterVerdict(prefiltered));
+        }
+        if (prefiltered.decision() == ModerationPrefilter.Decision.SAFE) {
+            return null;
+        }
+
+        String model = openAiModerationClient.getModel();
+
+        // 같은 입력의 이전 판정이 있으면 재사용
+        Optional<ModerationResultCache.Verdict> cached = moderationResultCache.find(model, combinedInput);
+        if (cached.isPresent()) {
+            if (!cached.get().flagged()) {
+                return null;
+            }
+            throw blocked(actorMemberId, actionType, model, inputHash, cached.get());
+        }
+
+        // 전체 입력 + 필드별 입력 (결과 인덱스 1..n이 checkedFields 순서와 대응)
+        List<ModerationField> checkedFields = new ArrayList<>();
+        List<String> inputs = new ArrayList<>();
+        inputs.add(combinedInput);
+        for (Map.Entry<ModerationField, String> entry : fields.entrySet()) {
+            String v = normalize(entry.getValue());
+            if (v.isBlank()) continue;
+
+            checkedFields.add(entry.getKey());
+            inputs.add(v);
+        }
+
         try {
-            // 1) 전체 검사
-            OpenAiModerationResult overall = openAiModerationClient.moderateText(combinedInput);
+            // 1) 전체 검사 + 필드별 검사를 multi-input 요청 한 번으로 처리
+            List<OpenAiModerationResult> results = openAiModerationClient.moderateTexts(inputs);
+            OpenAiModerationResult overall = results.get(0);
 
             // ✅ PASS면 DB 저장 안 함
             if (!overall.flagged()) {
+                moderationResultCache.put(model, combinedInput, ModerationResultCache.Verdict.pass());
                 return null;
             }
 
-            // 2) flagged → 필드별 재검사(어느 필드가 문제인지)
+            // 2) flagged → 같은 응답의 필드별 결과로 어느 필드가 문제인지 확인
             List<CapsuleModerationBlockedPayload.Violation> violations = new ArrayList<>();
 
             ObjectNode combinedRaw = objectMapper.createObjectNode();
@@ -79,16 +120,14 @@ public class CapsuleModerationService {
 
             ObjectNode byFieldRaw = objectMapper.createObjectNode();
 
-            for (Map.Entry<ModerationField, String> entry : fields.entrySet()) {
-                String v = normalize(entry.getValue());
-                if (v.isBlank()) continue;
-
-                OpenAiModerationResult perField = openAiModerationClient.moderateText(v);
-                byFieldRaw.set(entry.getKey().name(), perField.raw());
+            for (int i = 0; i < checkedFields.size(); i++) {
+                ModerationField field = checkedFields.get(i);
+                OpenAiModerationResult perField = results.get(i + 1);
+                byFieldRaw.set(field.name(), perField.raw());
 
                 if (perField.flagged()) {
                     violations.add(CapsuleModerationBlockedPayload.Violation.builder()
-                            .field(entry.getKey())
+                            .field(field)
                             .categories(perField.categories())
                             .build());
                 }
@@ -104,26 +143,15 @@ public class CapsuleModerationService {
                         .build());
             }
 
-            // ✅ FLAGGED만 DB 저장(예외로 롤백돼도 남도록 REQUIRES_NEW로 저장)
-            ModerationAuditLog logEntity = ModerationAuditLog.success(
-                    actorMemberId,
-                    actionType,
-                    null,
-                    openAiModerationClient.getModel(),
-                    true,
-                    ModerationDecision.FLAGGED,
-                    inputHash,
+            ModerationResultCache.Verdict verdict = ModerationResultCache.Verdict.flagged(
+                    violations.stream()
+                            .map(v -> new ModerationResultCache.Violation(v.getField(), v.getCategories()))
+                            .toList(),
                     openAiModerationClient.toRawJson(combinedRaw)
             );
-            Long auditId = auditLogWriter.saveAndReturnId(logEntity);
-
-            CapsuleModerationBlockedPayload payload = CapsuleModerationBlockedPayload.builder()
-                    .auditId(auditId)
-                    .violations(violations)
-                    .build();
+            moderationResultCache.put(model, combinedInput, verdict);
 
-            String message = buildBlockedMessage(violations);
-            throw new BusinessException(ErrorCode.CAPSULE_CONTENT_BLOCKED, message, payload);
+            throw blocked(actorMemberId, actionType, model, inputHash, verdict);
 
         } catch (RestClientException e) {
             // ✅ ERROR만 DB 저장(예외로 롤백돼도 남도록 REQUIRES_NEW로 저장)
@@ -131,7 +159,7 @@ public class CapsuleModerationService {
                     actorMemberId,
                     actionType,
                     null,
-                    openAiModerationClient.getModel(),
+                    model,
                     inputHash,
                     e.getMessage()
             );
@@ -150,6 +178,55 @@ public class CapsuleModerationService {
         auditLogWriter.attachCapsuleId(auditId, capsuleId);
     }
 
+    // ✅ FLAGGED만 DB 저장(예외로 롤백돼도 남도록 REQUIRES_NEW로 저장) 후 차단 예외 생성 (캐시 적중 시에도 동일)
+    private BusinessException blocked(
+            Long actorMemberId,
+            ModerationActionType actionType,
+            String model,
+            String inputHash,
+            ModerationResultCache.Verdict verdict
+    ) {
+        ModerationAuditLog logEntity = ModerationAuditLog.success(
+                actorMemberId,
+                actionType,
+                null,
+                model,
+                true,
+                ModerationDecision.FLAGGED,
+                inputHash,
+                verdict.rawJson()
+        );
+        Long auditId = auditLogWriter.saveAndReturnId(logEntity);
+
+        List<CapsuleModerationBlockedPayload.Violation> violations = verdict.violations().stream()
+                .map(v -> CapsuleModerationBlockedPayload.Violation.builder()
+                        .field(v.field())
+                        .categories(v.categories())
+                        .build())
+                .toList();
+
+        CapsuleModerationBlockedPayload payload = CapsuleModerationBlockedPayload.builder()
+                .auditId(auditId)
+                .violations(violations)
+                .build();
+
+        String message = buildBlockedMessage(violations);
+        return new BusinessException(ErrorCode.CAPSULE_CONTENT_BLOCKED, message, payload);
+    }
+
+    private ModerationResultCache.Verdict prefilterVerdict(ModerationPrefilter.Result result) {
+        List<ModerationResultCache.Violation> violations = new ArrayList<>();
+        ObjectNode raw = objectMapper.createObjectNode();
+        raw.put("source", PREFILTER_MODEL);
+        ObjectNode matches = raw.putObject("matches");
+
+        for (Map.Entry<ModerationField, Set<String>> entry : result.matches().entrySet()) {
+            violations.add(new ModerationResultCache.Violation(entry.getKey(), List.of(ModerationPrefilter.CATEGORY)));
+            entry.getValue().forEach(matches.putArray(entry.getKey().name())::add);
+        }
+        return ModerationResultCache.Verdict.flagged(violations, openAiModerationClient.toRawJson(raw));
+    }
+
     private String buildBlockedMessage(List<CapsuleModerationBlockedPayload.Violation> violations) {
         String fields = violations.stream()
                 .map(v -> v.getField().name())
@@ -0,0 +1,96 @@
+package back.fcz.domain.openai.moderation.service;
+
+import back.fcz.domain.openai.moderation.dto.ModerationField;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 텍스트 moderation 판정 캐시 (Redis, TTL)
+ * - 키: 모델 + 정규화(NFC, 연속 공백 축약)한 입력의 SHA-256 → 같은 내용을 다시 제출하면 OpenAI를 호출하지 않음
+ * - PASS/FLAGGED 판정만 저장 (호출 실패(ERROR)는 저장하지 않음)
+ * - FLAGGED는 필드별 위반 내역과 원본 응답을 함께 저장해 감사 로그를 그대로 남길 수 있게 함
+ * - Redis 장애 시 캐시 없이 동작
+ */
+@Slf4j
+@Component
+public class ModerationResultCache {
+
+    private static final String KEY_PREFIX = "moderation:text:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public ModerationResultCache(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${openai.moderation.cache-ttl:7d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    public record Verdict(boolean flagged, List<Violation> violations, String rawJson) {
+
+        public static Verdict pass() {
+            return new Verdict(false, List.of(), null);
+        }
+
+        public static Verdict flagged(List<Violation> violations, String rawJson) {
+            return new Verdict(true, violations, rawJson);
+        }
+    }
+
+    public record Violation(ModerationField field, List<String> categories) {
+    }
+
+    public Optional<Verdict> find(String model, String input) {
+        String key = keyOf(model, input);
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, Verdict.class));
+        } catch (Exception e) {
+            log.warn("moderation 캐시 조회 실패 - 원격 검사로 진행. error: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String model, String input, Verdict verdict) {
+        String key = keyOf(model, input);
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(verdict), ttl);
+        } catch (Exception e) {
+            log.warn("moderation 캐시 저장 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private static String keyOf(String model, String input) {
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(input, Normalizer.Form.NFC))
+                .replaceAll(" ")
+                .trim();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + model + ":" + HexFormat.of().formatHex(hash);
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
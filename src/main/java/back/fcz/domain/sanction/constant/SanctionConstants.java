@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -21,13 +23,16 @@ public class SanctionConstants  {
 
     // 캐싱된 시스템 관리자 ID (애플리케이션 시작 시 초기화)
     private volatile Long systemAdminIdCache;
+    private final ReentrantLock systemAdminIdLock = new ReentrantLock();
 
     public Long getSystemAdminId() {
         if (systemAdminIdCache != null) {
             return systemAdminIdCache;
         }
 
-        synchronized (this) {
+        // DB 조회를 감싸므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지)
+        systemAdminIdLock.lock();
+        try {
             if (systemAdminIdCache == null) {
                 systemAdminIdCache = memberRepository.findByUserId(SYSTEM_ADMIN_USER_ID)
                         .map(Member::getMemberId)
@@ -35,6 +40,8 @@ public class SanctionConstants  {
                                 new IllegalStateException("SYSTEM 계정이 존재하지 않습니다."));
                 log.info("시스템 관리자 ID Lazy 초기화 완료: {}", systemAdminIdCache);
             }
+        } finally {
+            systemAdminIdLock.unlock();
         }
         return systemAdminIdCache;
     }
@@ -0,0 +1,14 @@
+package back.fcz.domain.sanction.constant;
+
+// 의심 점수 임계 구간 (NONE < WARNING < LIMIT)
+public enum SuspicionTier {
+    NONE,
+    WARNING,
+    LIMIT;
+
+    // 점수 평가 스크립트의 반환 코드(0/1/2)
+    public static SuspicionTier fromCode(long code) {
+        SuspicionTier[] tiers = values();
+        return code >= 0 && code < tiers.length ? tiers[(int) code] : NONE;
+    }
+}
@@ -24,6 +24,17 @@ public class SanctionProperties {
         private Map<RiskLevel, Integer> windowSeconds;
         private Map<RiskLevel, Integer> maxRequests;
         private Map<RiskLevel, Integer> cooldownSeconds;
+        private Local local = new Local();
+
+        // 노드 로컬 토큰 버킷 티어 (HybridRateLimiter)
+        @Getter
+        @Setter
+        public static class Local {
+            private boolean enabled = true;
+            private double shareRatio = 0.5;       // 전체 한도 중 로컬에서 허용할 비율 (나머지는 Redis 확인)
+            private Duration nodeTtl = Duration.ofSeconds(30);
+            private Duration blockRecheck = Duration.ofSeconds(1);
+        }
     }
 
     @Getter
@@ -32,6 +43,7 @@ public class SanctionProperties {
         private Thresholds thresholds = new Thresholds();
         private Map<AnomalyType, Integer> anomalyScores;
         private Duration suspicionTtl;
+        private Duration sanctionLease = Duration.ofMinutes(5);   // LIMIT 제재 처리 중 표시 유지 시간 (결과 없이 만료되면 다시 발동)
 
         @Getter
         @Setter
@@ -0,0 +1,43 @@
+package back.fcz.domain.sanction.scheduler;
+
+import back.fcz.domain.sanction.service.BlockedIpMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("!test") // 테스트에서는 스냅샷 없이 pub/sub 델타만 반영
+@RequiredArgsConstructor
+public class BlockedIpSyncScheduler {
+
+    private final BlockedIpMatcher blockedIpMatcher;
+
+    // 시작 시 기존 차단 키 인덱스 등록 + 스냅샷 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            blockedIpMatcher.importLegacyKeys();
+            blockedIpMatcher.reload();
+        } catch (Exception e) {
+            log.error("차단 IP 규칙 초기 적재 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    // 놓친 pub/sub 델타 보정 및 만료 규칙 정리
+    @Scheduled(
+            fixedDelayString = "${sanction.ip-block.reload-interval-ms:60000}",
+            initialDelayString = "${sanction.ip-block.reload-interval-ms:60000}"
+    )
+    public void reload() {
+        try {
+            blockedIpMatcher.reload();
+        } catch (Exception e) {
+            log.error("차단 IP 규칙 스냅샷 갱신 실패", e);
+        }
+    }
+}
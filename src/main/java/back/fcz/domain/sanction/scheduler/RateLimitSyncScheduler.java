@@ -0,0 +1,27 @@
+package back.fcz.domain.sanction.scheduler;
+
+import back.fcz.domain.sanction.service.HybridRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 로컬 rate limit 사용량 Redis 반영 + 노드 몫 갱신
+@Slf4j
+@Component
+@Profile("!test") // 테스트에서는 로컬 티어만으로 판단
+@RequiredArgsConstructor
+public class RateLimitSyncScheduler {
+
+    private final HybridRateLimiter hybridRateLimiter;
+
+    @Scheduled(fixedDelayString = "${sanction.rate-limit.local.sync-interval-ms:1000}")
+    public void sync() {
+        try {
+            hybridRateLimiter.sync();
+        } catch (Exception e) {
+            log.error("RateLimit 로컬 사용량 동기화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package back.fcz.domain.sanction.service;
+
+import back.fcz.domain.sanction.util.IpPrefixTrie;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 차단 IP/CIDR 로컬 매처
+ * - 차단 규칙은 Redis ZSET(INDEX_KEY, score = 만료 시각)에 모아 두고, 노드마다 IpPrefixTrie로 들고 있음
+ * - 요청마다의 차단 확인은 Redis 조회 없이 트라이에서 O(32/128)로 처리
+ * - 동기화: 주기적 스냅샷(reload) + 추가/해제 시 pub/sub 델타(CHANGE_CHANNEL)
+ * - 델타는 현재 트라이에 잠금 안에서 바로 넣고/빼며, 스냅샷 때만 새 트라이를 만들어 교체 (조회는 잠금 없이 수행)
+ * - 스냅샷을 읽는 동안 들어온 델타는 따로 모아 두었다가 스냅샷 적용 후 순서대로 다시 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockedIpMatcher implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public static final String CHANGE_CHANNEL = "blocked:ip:changes";
+    private static final String INDEX_KEY = "blocked:index:ip";
+    private static final String BLOCKED_IP_PREFIX = "blocked:ip:";
+    private static final String ADD = "+";
+    private static final String REMOVE = "-";
+    private static final String FIELD_SEPARATOR = "|";
+
+    // 규칙 -> 만료 시각(epoch ms), 트라이 재생성의 원본
+    private final Map<String, Long> rules = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    // 스냅샷 적재 중에 들어온 델타 (lock 안에서만 접근)
+    private final List<Delta> deltasDuringReload = new ArrayList<>();
+    private boolean reloading = false;
+    private volatile IpPrefixTrie trie = new IpPrefixTrie();
+
+    private record Delta(String operation, String rule, long expiresAtMs) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    /**
+     * ip를 포함하는 차단 규칙 (단일 IP 또는 CIDR), 없으면 null
+     */
+    public String match(String ipAddress) {
+        return trie.match(ipAddress, System.currentTimeMillis());
+    }
+
+    /**
+     * 차단 규칙 등록 (로컬 즉시 반영 후 인덱스 저장 + 다른 노드에 전파)
+     * rule은 IpPrefixTrie.normalize를 거친 값이어야 함
+     */
+    public void add(String rule, Duration duration) {
+        long expiresAtMs = System.currentTimeMillis() + duration.toMillis();
+        apply(ADD, rule, expiresAtMs);
+
+        redisTemplate.opsForZSet().add(INDEX_KEY, rule, expiresAtMs);
+        redisTemplate.convertAndSend(CHANGE_CHANNEL, ADD + FIELD_SEPARATOR + rule + FIELD_SEPARATOR + expiresAtMs);
+    }
+
+    public void remove(String rule) {
+        apply(REMOVE, rule, 0L);
+
+        redisTemplate.opsForZSet().remove(INDEX_KEY, rule);
+        redisTemplate.convertAndSend(CHANGE_CHANNEL, REMOVE + FIELD_SEPARATOR + rule);
+    }
+
+    /**
+     * 스냅샷 재적재: 만료 규칙을 정리한 뒤 인덱스 전체로 트라이를 다시 만듦
+     * (pub/sub 메시지를 놓친 노드도 다음 스냅샷에서 맞춰짐)
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            startReload(true);
+            Map<String, Long> snapshot;
+            try {
+                snapshot = readSnapshot();
+            } catch (RuntimeException e) {
+                startReload(false);
+                throw e;
+            }
+
+            int replayed;
+            lock.lock();
+            try {
+                rules.clear();
+                rules.putAll(snapshot);
+                // 스냅샷을 읽는 동안 들어온 델타 재적용 (델타는 멱등이라 스냅샷에 이미 반영됐어도 결과가 같음)
+                for (Delta delta : deltasDuringReload) {
+                    if (ADD.equals(delta.operation())) {
+                        rules.put(delta.rule(), delta.expiresAtMs());
+                    } else {
+                        rules.remove(delta.rule());
+                    }
+                }
+                replayed = deltasDuringReload.size();
+                deltasDuringReload.clear();
+                reloading = false;
+                rebuild();
+            } finally {
+                lock.unlock();
+            }
+            log.debug("차단 IP 규칙 스냅샷 적재 - rules: {}, replayed: {}", snapshot.size(), replayed);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // 델타 기록 시작/중단
+    private void startReload(boolean reloading) {
+        lock.lock();
+        try {
+            this.reloading = reloading;
+            deltasDuringReload.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, Long> readSnapshot() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, 0, now);
+        Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet().rangeWithScores(INDEX_KEY, 0, -1);
+
+        Map<String, Long> snapshot = new HashMap<>();
+        if (entries != null) {
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    snapshot.put(entry.getValue(), entry.getScore().longValue());
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 인덱스 도입 전 blocked:ip:{ip} 키로만 저장된 차단을 인덱스에 등록 (시작 시 1회)
+     */
+    public int importLegacyKeys() {
+        int imported = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(BLOCKED_IP_PREFIX + "*").count(1000).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String rule = IpPrefixTrie.normalize(key.substring(BLOCKED_IP_PREFIX.length()));
+                if (rule == null) {
+                    continue;
+                }
+
+                Long ttlMs = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMs == null || ttlMs <= 0) {
+                    continue;
+                }
+                Boolean added = redisTemplate.opsForZSet()
+                        .addIfAbsent(INDEX_KEY, rule, System.currentTimeMillis() + ttlMs);
+                if (Boolean.TRUE.equals(added)) {
+                    imported++;
+                }
+            }
+        }
+
+        if (imported > 0) {
+            log.info("기존 차단 IP 키 인덱스 등록 - count: {}", imported);
+        }
+        return imported;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", -1);
+        try {
+            if (ADD.equals(parts[0]) && parts.length == 3) {
+                apply(ADD, parts[1], Long.parseLong(parts[2]));
+            } else if (REMOVE.equals(parts[0]) && parts.length == 2) {
+                apply(REMOVE, parts[1], 0L);
+            } else {
+                log.warn("잘못된 차단 IP 변경 메시지: {}", body);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 차단 IP 변경 메시지: {}", body);
+        }
+    }
+
+    int size() {
+        return trie.size();
+    }
+
+    private void apply(String operation, String rule, long expiresAtMs) {
+        lock.lock();
+        try {
+            if (reloading) {
+                deltasDuringReload.add(new Delta(operation, rule, expiresAtMs));
+            }
+            if (ADD.equals(operation)) {
+                rules.put(rule, expiresAtMs);
+                trie.put(rule, expiresAtMs);
+            } else if (rules.remove(rule) != null) {
+                trie.remove(rule);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 안에서 호출 (만료된 규칙은 이때 함께 제거)
+    private void rebuild() {
+        long now = System.currentTimeMillis();
+        rules.values().removeIf(expiresAtMs -> expiresAtMs <= now);
+        trie = IpPrefixTrie.of(rules);
+    }
+}
@@ -0,0 +1,258 @@
+package back.fcz.domain.sanction.service;
+
+import back.fcz.domain.sanction.constant.RiskLevel;
+import back.fcz.domain.sanction.properties.SanctionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis rate limiter 앞단의 노드 로컬 토큰 버킷 티어
+ * - 키(회원/IP)별 버킷 용량 = maxRequests * shareRatio / 활성 노드 수, 윈도우 동안 같은 양이 다시 채워짐
+ * - 토큰이 남아 있으면(한도에 한참 못 미치면) Redis 없이 허용하고 허용 건수만 누적
+ * - 토큰이 떨어지면 누적분과 함께 기존 슬라이딩 윈도우 스크립트로 확인하고,
+ *   남은 전체 한도 중 이 노드 몫만큼으로 토큰을 줄여 한도에 가까울수록 Redis 확인 비중을 높임
+ * - sync()가 주기적으로 누적분을 Redis에 반영하고 하트비트로 활성 노드 수(노드 몫)를 갱신
+ * - 차단(쿨다운/초과) 결과를 받은 키는 쿨다운 동안 로컬 허용 없이 Redis로만 확인
+ * - 로컬 허용 전에 applyCooldown으로 걸린 쿨다운 키를 block-recheck 간격마다 확인 (다른 노드가 건 쿨다운도 그 안에 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HybridRateLimiter {
+
+    private final RateLimitService rateLimitService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SanctionProperties sanctionProperties;
+
+    private static final String NODES_KEY = "rate_limit:nodes";
+    private static final long MAX_BUCKETS = 100_000L;
+    private static final Duration BUCKET_IDLE_TTL = Duration.ofMinutes(10);
+
+    // 하트비트 갱신 + 만료 노드 정리 + 활성 노드 수 반환
+    // KEYS: 노드 ZSET / ARGV: nodeId, nowMs, nodeTtlMs
+    private final DefaultRedisScript<Long> heartbeatScript = new DefaultRedisScript<>(
+            """
+            local now = tonumber(ARGV[2])
+            local ttl = tonumber(ARGV[3])
+            redis.call('ZADD', KEYS[1], now, ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - ttl)
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            return redis.call('ZCARD', KEYS[1])
+            """,
+            Long.class
+    );
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile int activeNodes = 1;
+
+    private final Cache<BucketKey, Bucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_BUCKETS)
+            .expireAfterAccess(BUCKET_IDLE_TTL)
+            .build();
+
+    /* ==========================
+       외부 진입 포인트
+       ========================== */
+
+    // RateLimitService.tryAcquire와 같은 의미 (쿨다운 중이거나 한도 초과 시 false)
+    public boolean tryAcquire(Long memberId, RiskLevel riskLevel) {
+        return tryAcquireInternal(RateLimitService.memberKey(memberId), riskLevel);
+    }
+
+    public boolean tryAcquireByIp(String ipAddress, RiskLevel riskLevel) {
+        return tryAcquireInternal(RateLimitService.ipKey(ipAddress), riskLevel);
+    }
+
+    /**
+     * 하트비트로 노드 몫을 갱신하고, 로컬에서 허용한 요청 수를 파이프라인 한 번으로 Redis에 반영
+     * 반영 결과(윈도우 내 전체 요청 수)로 각 버킷의 토큰을 남은 노드 몫 이하로 맞춤
+     */
+    public void sync() {
+        SanctionProperties.RateLimit.Local local = localConfig();
+        if (!local.isEnabled()) {
+            return;
+        }
+        heartbeat(local);
+
+        List<RateLimitService.LocalUsage> usages = new ArrayList<>();
+        List<Bucket> owners = new ArrayList<>();
+        for (Map.Entry<BucketKey, Bucket> entry : buckets.asMap().entrySet()) {
+            Bucket bucket = entry.getValue();
+            int count;
+            synchronized (bucket) {
+                count = bucket.drain();
+            }
+            if (count > 0) {
+                usages.add(new RateLimitService.LocalUsage(entry.getKey().key(), entry.getKey().riskLevel(), count));
+                owners.add(bucket);
+            }
+        }
+
+        List<Long> results = rateLimitService.reconcile(usages);
+        if (results == null) {
+            // 장애 시 누적분은 버림 (Redis 경로와 같은 fail-open)
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < results.size(); i++) {
+            RateLimitService.LocalUsage usage = usages.get(i);
+            applyResult(owners.get(i), rateLimitService.limitOf(usage.riskLevel()), results.get(i), now, local);
+        }
+
+        if (!usages.isEmpty()) {
+            log.debug("RateLimit 로컬 사용량 반영 - keys: {}, nodes: {}", usages.size(), activeNodes);
+        }
+    }
+
+    @PreDestroy
+    void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.debug("RateLimit 노드 하트비트 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    int activeNodes() {
+        return activeNodes;
+    }
+
+    /* ==========================
+       핵심 로직
+       ========================== */
+
+    private boolean tryAcquireInternal(String key, RiskLevel riskLevel) {
+        SanctionProperties.RateLimit.Local local = localConfig();
+        if (!local.isEnabled()) {
+            return rateLimitService.acquire(key, riskLevel, 0) >= 0;
+        }
+
+        RateLimitService.Limit limit = rateLimitService.limitOf(riskLevel);
+        double capacity = limit.maxRequests() * local.getShareRatio() / activeNodes;
+        long now = System.currentTimeMillis();
+
+        Bucket bucket = buckets.get(new BucketKey(key, riskLevel), k -> new Bucket(capacity, now));
+        boolean checkCooldown;
+        synchronized (bucket) {
+            if (now < bucket.blockedUntil) {
+                return false;
+            }
+            checkCooldown = now >= bucket.redisOnlyUntil
+                    && now - bucket.cooldownCheckedAt >= local.getBlockRecheck().toMillis();
+            if (checkCooldown) {
+                bucket.cooldownCheckedAt = now;
+            }
+        }
+        if (checkCooldown && rateLimitService.isCoolingDown(key)) {
+            applyResult(bucket, limit, -1L, now, local);
+            return false;
+        }
+
+        int localCount;
+        synchronized (bucket) {
+            if (now < bucket.blockedUntil) {
+                return false;
+            }
+            if (now >= bucket.redisOnlyUntil && bucket.tryConsume(capacity, limit.windowMs(), now)) {
+                return true;
+            }
+            localCount = bucket.drain();
+        }
+
+        // 노드 몫을 다 쓴 경우에만 Redis 확인 (누적분도 함께 반영)
+        long result = rateLimitService.acquire(key, riskLevel, localCount);
+        applyResult(bucket, limit, result, now, local);
+        return result >= 0;
+    }
+
+    private void applyResult(Bucket bucket, RateLimitService.Limit limit, long result, long now,
+                             SanctionProperties.RateLimit.Local local) {
+        synchronized (bucket) {
+            if (result < 0) {
+                bucket.tokens = 0;
+                bucket.blockedUntil = now + local.getBlockRecheck().toMillis();
+                bucket.redisOnlyUntil = now + Math.max(limit.windowMs(), limit.cooldownMs());
+                return;
+            }
+            double remainingShare = Math.max(0, limit.maxRequests() - result) * local.getShareRatio() / activeNodes;
+            bucket.tokens = Math.min(bucket.tokens, remainingShare);
+        }
+    }
+
+    private void heartbeat(SanctionProperties.RateLimit.Local local) {
+        try {
+            Long count = redisTemplate.execute(
+                    heartbeatScript,
+                    List.of(NODES_KEY),
+                    nodeId,
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(local.getNodeTtl().toMillis())
+            );
+            if (count != null && count > 0) {
+                activeNodes = count.intValue();
+            }
+        } catch (Exception e) {
+            // 직전 노드 수 유지
+            log.warn("RateLimit 노드 하트비트 실패 - nodes: {}, error: {}", activeNodes, e.getMessage());
+        }
+    }
+
+    private SanctionProperties.RateLimit.Local localConfig() {
+        return sanctionProperties.getRateLimit().getLocal();
+    }
+
+    private record BucketKey(String key, RiskLevel riskLevel) {
+    }
+
+    // 키별 로컬 토큰 버킷 (모든 필드는 버킷 모니터 안에서만 접근)
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillMs;
+        private int pending;
+        private long blockedUntil;
+        private long redisOnlyUntil;
+        private long cooldownCheckedAt;
+
+        private Bucket(double capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillMs = now;
+        }
+
+        private boolean tryConsume(double capacity, long windowMs, long now) {
+            if (capacity < 1) {
+                return false;
+            }
+            long elapsed = now - lastRefillMs;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * capacity / windowMs);
+                lastRefillMs = now;
+            }
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            pending++;
+            return true;
+        }
+
+        private int drain() {
+            int count = pending;
+            pending = 0;
+            return count;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package back.fcz.domain.sanction.service;
 
+import back.fcz.domain.sanction.util.IpPrefixTrie;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -7,13 +8,18 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 
-// Redis 기반 IP 차단 관리 서비스
+/**
+ * Redis 기반 IP 차단 관리 서비스
+ * - 차단 사유는 규칙(단일 IP 또는 CIDR)별 blocked:ip:{rule} 키에 저장
+ * - 차단 여부 확인은 BlockedIpMatcher의 로컬 트라이로 처리 (요청마다 Redis 조회 없음)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IpBlockService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final BlockedIpMatcher blockedIpMatcher;
 
     // Redis 키 접두사
     private static final String BLOCKED_IP_PREFIX = "blocked:ip:";
@@ -21,14 +27,22 @@ public class IpBlockService {
     // 기본 차단 기간 (7일)
     private static final Duration DEFAULT_BLOCK_DURATION = Duration.ofDays(7);
 
-    // IP를 차단 목록에 추가
+    // IP를 차단 목록에 추가 (단일 IP 또는 CIDR 대역, 예: 203.0.113.0/24)
     public void blockIp(String ipAddress, String reason, int durationDays) {
-        String key = BLOCKED_IP_PREFIX + ipAddress;
+        String rule = IpPrefixTrie.normalize(ipAddress);
+        if (rule == null) {
+            log.warn("IP 차단 생략 - 잘못된 IP/CIDR 형식: {}", ipAddress);
+            return;
+        }
+
+        String key = BLOCKED_IP_PREFIX + rule;
         String value = reason + "|" + System.currentTimeMillis();
+        Duration duration = Duration.ofDays(durationDays);
 
         try {
-            redisTemplate.opsForValue().set(key, value, Duration.ofDays(durationDays));
-            log.warn("IP 차단 완료: {} (사유: {}, 기간: {}일)", ipAddress, reason, durationDays);
+            redisTemplate.opsForValue().set(key, value, duration);
+            blockedIpMatcher.add(rule, duration);
+            log.warn("IP 차단 완료: {} (사유: {}, 기간: {}일)", rule, reason, durationDays);
         } catch (Exception e) {
             log.error("IP 차단 실패: {}", ipAddress, e);
         }
@@ -39,35 +53,31 @@ public class IpBlockService {
         blockIp(ipAddress, reason, 7);
     }
 
-    // IP 차단 유무 확인
+    // IP 차단 유무 확인 (IP 자체 또는 IP가 속한 대역이 차단된 경우)
     public boolean isBlocked(String ipAddress) {
-        String key = BLOCKED_IP_PREFIX + ipAddress;
-
-        try {
-            String value = redisTemplate.opsForValue().get(key);
-            return value != null;
-        } catch (Exception e) {
-            log.error("IP 차단 상태 조회 실패: {}", ipAddress, e);
-            // Redis 장애 시 false 반환 (정상 접근 허용)
-            return false;
-        }
+        return blockedIpMatcher.match(ipAddress) != null;
     }
 
-    // IP 차단 해제
+    // IP 차단 해제 (차단할 때와 같은 IP 또는 CIDR로 해제)
     public void unblockIp(String ipAddress) {
-        String key = BLOCKED_IP_PREFIX + ipAddress;
+        String rule = IpPrefixTrie.normalize(ipAddress);
+        String key = BLOCKED_IP_PREFIX + (rule != null ? rule : ipAddress);
 
         try {
             redisTemplate.delete(key);
+            if (rule != null) {
+                blockedIpMatcher.remove(rule);
+            }
             log.info("IP 차단 해제 완료: {}", ipAddress);
         } catch (Exception e) {
             log.error("IP 차단 해제 실패: {}", ipAddress, e);
         }
     }
 
-    // 차단 사유 조회
+    // 차단 사유 조회 (대역 차단이면 해당 대역의 사유)
     public String getBlockReason(String ipAddress) {
-        String key = BLOCKED_IP_PREFIX + ipAddress;
+        String rule = blockedIpMatcher.match(ipAddress);
+        String key = BLOCKED_IP_PREFIX + (rule != null ? rule : ipAddress);
 
         try {
             String value = redisTemplate.opsForValue().get(key);
@@ -1,94 +1,157 @@
 package back.fcz.domain.sanction.service;
 
 import back.fcz.domain.sanction.constant.RiskLevel;
+import back.fcz.domain.sanction.constant.SuspicionTier;
 import back.fcz.domain.sanction.properties.SanctionProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.util.List;
 
-// Redis 기반 의심 점수 모니터링 서비스
+/**
+ * Redis 기반 의심 점수 모니터링 서비스
+ * - 점수 증가/TTL 갱신/임계 구간 판정을 스크립트 한 번으로 처리
+ * - 이번 증가로 새 구간에 들어선 경우에만 제재를 SanctionAsyncService에 넘김 (요청 스레드에서는 적용하지 않음)
+ * - LIMIT 제재는 처리 중 표시(lease)를 두고 발동하며, 제재가 성공한 뒤에만 점수를 초기화
+ *   (실패하면 표시만 지워 다음 증가에서 다시 발동, 결과 없이 노드가 죽으면 lease 만료 후 다시 발동)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MonitoringService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final SanctionService sanctionService;
-    private final IpBlockService ipBlockService;
-    private final RateLimitService rateLimitService;
+    private final SanctionAsyncService sanctionAsyncService;
     private final SanctionProperties sanctionProperties;
 
     // Redis 키 접두사
     private static final String SUSPICION_KEY_PREFIX_MEMBER = "suspicion:member:";
     private static final String SUSPICION_KEY_PREFIX_IP = "suspicion:ip:";
+    private static final String SANCTION_KEY_SUFFIX = ":sanctioning";
+
+    // 점수 증가 + TTL 갱신 + 통과한 임계 구간 판정
+    // KEYS: 의심 점수 키, 제재 처리 중 표시 키 / ARGV: increment, ttlMs, warning, limit, leaseMs
+    // 반환: {증가 후 점수, 이번 증가로 새로 들어선 구간(0: 없음, 1: WARNING, 2: LIMIT)}
+    // LIMIT 이상이면 처리 중 표시가 없을 때만 LIMIT을 반환 (점수는 제재 성공 후 finishSanction에서 초기화)
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> scoreScript = new DefaultRedisScript<>(
+            """
+            local increment = tonumber(ARGV[1])
+            local warning = tonumber(ARGV[3])
+            local limit = tonumber(ARGV[4])
+            local score = redis.call('INCRBY', KEYS[1], increment)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if score >= limit then
+              if redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[5]) then
+                return {score, 2}
+              end
+              return {score, 0}
+            end
+            if score >= warning and score - increment < warning then
+              return {score, 1}
+            end
+            return {score, 0}
+            """,
+            List.class
+    );
+
+    private record Evaluation(int score, SuspicionTier crossed) {
+        static final Evaluation NONE = new Evaluation(0, SuspicionTier.NONE);
+    }
 
     // 회원의 의심 점수 증가
     public void incrementSuspicionScore(Long memberId, int score) {
         String key = SUSPICION_KEY_PREFIX_MEMBER + memberId;
-        int currentScore = incrementScore(key, score, "회원 " + memberId);
-
-        // 임계값 확인 및 제재 적용
-        checkAndApplySanctionForMember(memberId, currentScore);
+        Evaluation evaluation = evaluate(key, score, "회원 " + memberId);
+
+        switch (evaluation.crossed()) {
+            case LIMIT -> sanctionAsyncService.suspendMember(memberId, sanctionReason(evaluation))
+                    .thenAccept(applied -> finishSanction(key, applied));
+            case WARNING -> sanctionAsyncService.applyCooldown(memberId, warningCooldownMinutes());
+            default -> {
+            }
+        }
     }
 
     //  비회원(IP)의 의심 점수 증가
     public void incrementSuspicionScoreByIp(String ipAddress, int score) {
         String key = SUSPICION_KEY_PREFIX_IP + ipAddress;
-        int currentScore = incrementScore(key, score, "IP " + ipAddress);
-
-        checkAndApplySanctionForIp(ipAddress, currentScore);
+        Evaluation evaluation = evaluate(key, score, "IP " + ipAddress);
+
+        switch (evaluation.crossed()) {
+            case LIMIT -> sanctionAsyncService.blockIp(ipAddress, sanctionReason(evaluation))
+                    .thenAccept(applied -> finishSanction(key, applied));
+            case WARNING -> sanctionAsyncService.applyCooldownByIp(ipAddress, warningCooldownMinutes());
+            default -> {
+            }
+        }
     }
 
-    // 임계값 확인하고 필요 시 제재 - 멤버
-    private void checkAndApplySanctionForMember(Long memberId, int currentScore) {
-        var thresholds = sanctionProperties.getMonitoring().getThresholds();
-
-        if (currentScore >= thresholds.getLimit()) {
-            sanctionService.applyAutoSuspension(
-                    memberId,
-                    "의심 활동 누적 (점수: " + currentScore + "점)",
-                    7
-            );
-            resetSuspicionScore(memberId);
-        } else if (currentScore >= thresholds.getWarning()) {
-            int cooldownSeconds = sanctionProperties.getRateLimit()
-                    .getCooldownSeconds().get(RiskLevel.MEDIUM);
-            rateLimitService.applyCooldown(memberId, cooldownSeconds / 60);
+    // 제재 결과 반영 (성공: 점수와 표시 초기화, 실패: 표시만 지워 다음 증가에서 재발동, 건너뜀: 처리 중인 쪽에 맡김)
+    private void finishSanction(String key, Boolean applied) {
+        if (applied == null) {
+            return;
+        }
+        try {
+            if (applied) {
+                redisTemplate.delete(List.of(key, sanctionKey(key)));
+            } else {
+                redisTemplate.delete(sanctionKey(key));
+            }
+        } catch (Exception e) {
+            // 표시는 lease 만료로 풀리므로 로그만 남김
+            log.error("제재 결과 반영 실패: {} (applied: {})", key, applied, e);
         }
     }
 
-    // 임계값 확인하고 필요 시 제재 - 비회원
-    private void checkAndApplySanctionForIp(String ipAddress, int currentScore) {
-        var thresholds = sanctionProperties.getMonitoring().getThresholds();
+    // 점수 키 전체를 해시 태그로 감싸 Redis Cluster에서도 점수 키와 같은 슬롯에 둠
+    private String sanctionKey(String key) {
+        return "{" + key + "}" + SANCTION_KEY_SUFFIX;
+    }
 
-        if (currentScore >= thresholds.getLimit()) {
-            ipBlockService.blockIp(
-                    ipAddress,
-                    "의심 활동 누적 (점수: " + currentScore + "점)"
-            );
-            resetSuspicionScoreByIp(ipAddress);
-        } else if (currentScore >= thresholds.getWarning()) {
-            int cooldownSeconds = sanctionProperties.getRateLimit()
-                    .getCooldownSeconds().get(RiskLevel.MEDIUM);
-            rateLimitService.applyCooldownByIp(ipAddress, cooldownSeconds / 60);
-        }
+    private String sanctionReason(Evaluation evaluation) {
+        return "의심 활동 누적 (점수: " + evaluation.score() + "점)";
     }
 
-    // 공통 점수 증가 로직
-    private int incrementScore(String key, int score, String identifier) {
-        try {
-            Long newScore = redisTemplate.opsForValue().increment(key, score);
+    private int warningCooldownMinutes() {
+        int cooldownSeconds = sanctionProperties.getRateLimit()
+                .getCooldownSeconds().get(RiskLevel.MEDIUM);
+        return cooldownSeconds / 60;
+    }
 
-            Duration ttl = sanctionProperties.getMonitoring().getSuspicionTtl();
-            redisTemplate.expire(key, ttl);
+    // 공통 점수 증가 + 임계 구간 판정 (Redis 장애 시 제재 없음)
+    private Evaluation evaluate(String key, int score, String identifier) {
+        var monitoring = sanctionProperties.getMonitoring();
 
-            return newScore != null ? newScore.intValue() : 0;
+        try {
+            List<?> result = redisTemplate.execute(
+                    scoreScript,
+                    List.of(key, sanctionKey(key)),
+                    String.valueOf(score),
+                    String.valueOf(monitoring.getSuspicionTtl().toMillis()),
+                    String.valueOf(monitoring.getThresholds().getWarning()),
+                    String.valueOf(monitoring.getThresholds().getLimit()),
+                    String.valueOf(monitoring.getSanctionLease().toMillis())
+            );
+
+            if (result == null || result.size() < 2) {
+                return Evaluation.NONE;
+            }
+            Evaluation evaluation = new Evaluation(
+                    ((Number) result.get(0)).intValue(),
+                    SuspicionTier.fromCode(((Number) result.get(1)).longValue())
+            );
+            if (evaluation.crossed() != SuspicionTier.NONE) {
+                log.warn("의심 점수 임계값 도달: {} (점수: {}, 구간: {})",
+                        identifier, evaluation.score(), evaluation.crossed());
+            }
+            return evaluation;
         } catch (Exception e) {
             log.error("Redis 점수 증가 실패: {}", identifier, e);
-            return 0;
+            return Evaluation.NONE;
         }
     }
 
@@ -119,7 +182,7 @@ public class MonitoringService {
     public void resetSuspicionScore(Long memberId) {
         String key = SUSPICION_KEY_PREFIX_MEMBER + memberId;
         try {
-            redisTemplate.delete(key);
+            redisTemplate.delete(List.of(key, sanctionKey(key)));
             log.info("의심 점수 초기화 완료: 회원 {}", memberId);
         } catch (Exception e) {
             log.error("Redis 점수 초기화 실패: 회원 {}", memberId, e);
@@ -130,7 +193,7 @@ public class MonitoringService {
     public void resetSuspicionScoreByIp(String ipAddress) {
         String key = SUSPICION_KEY_PREFIX_IP + ipAddress;
         try {
-            redisTemplate.delete(key);
+            redisTemplate.delete(List.of(key, sanctionKey(key)));
             log.info("의심 점수 초기화 완료: IP {}", ipAddress);
         } catch (Exception e) {
             log.error("Redis 점수 초기화 실패: IP {}", ipAddress, e);
@@ -4,10 +4,18 @@ import back.fcz.domain.sanction.constant.RiskLevel;
 import back.fcz.domain.sanction.properties.SanctionProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 // Redis 기반 Rate Limiting 서비스
 @Slf4j
@@ -21,103 +29,224 @@ public class RateLimitService {
     // Redis 키 접두사
     private static final String RATE_LIMIT_KEY_MEMBER = "rate_limit:member:";
     private static final String RATE_LIMIT_KEY_IP = "rate_limit:ip:";
+    private static final String COOLDOWN_KEY_SUFFIX = ":cooldown";
+
+    // 슬라이딩 윈도우 검사 + 쿨다운 확인을 한 번에 처리하는 스크립트
+    // KEYS: rate limit 키, 쿨다운 키(applyCooldown) / ARGV: nowMs, windowMs, maxRequests, cooldownMs, member, [localCount], [acquire]
+    // - localCount: 로컬 티어(HybridRateLimiter)가 먼저 허용한 요청 수, member 접미사로 구분해 함께 기록
+    // - acquire: '0'이면 이번 요청 없이 localCount 반영만 수행 (생략 시 이번 요청도 기록)
+    // 반환: 허용 시 윈도우 내 요청 수, 쿨다운 중이면 -1, 이번 요청(또는 반영분)으로 초과하면 -2
+    private final DefaultRedisScript<Long> slidingWindowScript = new DefaultRedisScript<>(
+            """
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local cooldown = tonumber(ARGV[4])
+            local localCount = tonumber(ARGV[6] or '0')
+            local acquire = ARGV[7] ~= '0'
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              return -1
+            end
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl > window then
+              return -1
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            for i = 1, localCount do
+              redis.call('ZADD', KEYS[1], now, ARGV[5] .. ':' .. i)
+            end
+            if acquire then
+              redis.call('ZADD', KEYS[1], now, ARGV[5])
+            end
+            local count = redis.call('ZCARD', KEYS[1])
+            if count > tonumber(ARGV[3]) then
+              if acquire then
+                redis.call('ZREM', KEYS[1], ARGV[5])
+              end
+              redis.call('PEXPIRE', KEYS[1], math.max(window, cooldown))
+              return -2
+            end
+            redis.call('PEXPIRE', KEYS[1], window)
+            return count
+            """,
+            Long.class
+    );
 
     /* ==========================
        외부 진입 포인트
        ========================== */
 
-    public void apply(Long memberId, RiskLevel riskLevel) {
-        String key = RATE_LIMIT_KEY_MEMBER + memberId;
-        applyInternal(key, riskLevel, "회원 " + memberId);
+    // 요청 허용 여부 (쿨다운 중이거나 윈도우 내 요청 수 초과 시 false)
+    public boolean tryAcquire(Long memberId, RiskLevel riskLevel) {
+        return acquire(memberKey(memberId), riskLevel, 0) >= 0;
     }
 
-    public void applyByIp(String ipAddress, RiskLevel riskLevel) {
-        String key = RATE_LIMIT_KEY_IP + ipAddress;
-        applyInternal(key, riskLevel, "IP " + ipAddress);
+    public boolean tryAcquireByIp(String ipAddress, RiskLevel riskLevel) {
+        return acquire(ipKey(ipAddress), riskLevel, 0) >= 0;
     }
 
+    // 윈도우 키가 없어도(요청 기록 만료) 쿨다운이 남도록 별도 키로 SET PX
     public void applyCooldown(Long memberId, int minutes) {
-        String key = RATE_LIMIT_KEY_MEMBER + memberId;
-        redisTemplate.expire(key, Duration.ofMinutes(minutes));
+        setCooldown(memberKey(memberId), minutes);
         log.warn("RateLimit 쿨다운 적용: 회원 {}, {}분", memberId, minutes);
     }
 
     public void applyCooldownByIp(String ipAddress, int minutes) {
-        String key = RATE_LIMIT_KEY_IP + ipAddress;
-        redisTemplate.expire(key, Duration.ofMinutes(minutes));
+        setCooldown(ipKey(ipAddress), minutes);
         log.warn("RateLimit 쿨다운 적용: IP {}, {}분", ipAddress, minutes);
     }
 
     public boolean isInCooldown(Long memberId) {
         String key = RATE_LIMIT_KEY_MEMBER + memberId;
-        return isInCooldownInternal(key);
+        return isCoolingDown(key) || isInCooldownInternal(key);
     }
 
     public boolean isInCooldownByIp(String ipAddress) {
         String key = RATE_LIMIT_KEY_IP + ipAddress;
-        return isInCooldownInternal(key);
+        return isCoolingDown(key) || isInCooldownInternal(key);
     }
 
     /* ==========================
        핵심 로직
        ========================== */
 
-    private void applyInternal(String key, RiskLevel riskLevel, String identifier) {
+    static String memberKey(Long memberId) {
+        return RATE_LIMIT_KEY_MEMBER + memberId;
+    }
 
-        var rateLimit = sanctionProperties.getRateLimit();
+    static String ipKey(String ipAddress) {
+        return RATE_LIMIT_KEY_IP + ipAddress;
+    }
 
-        int windowSeconds = rateLimit.getWindowSeconds().get(riskLevel);
-        int maxRequests = rateLimit.getMaxRequests().get(riskLevel);
-        int cooldownSeconds = rateLimit.getCooldownSeconds().get(riskLevel);
+    // rate limit 키 전체를 해시 태그로 감싸 Redis Cluster에서도 스크립트의 두 키가 같은 슬롯에 있도록 함
+    static String cooldownKey(String key) {
+        return "{" + key + "}" + COOLDOWN_KEY_SUFFIX;
+    }
 
-        long now = System.currentTimeMillis();
+    private void setCooldown(String key, int minutes) {
+        redisTemplate.opsForValue().set(cooldownKey(key), "1", Duration.ofMinutes(minutes).toMillis(), TimeUnit.MILLISECONDS);
+    }
 
+    // applyCooldown으로 걸린 쿨다운 여부 (HybridRateLimiter 로컬 경로용, 장애 시 false)
+    boolean isCoolingDown(String key) {
         try {
-            // 1. 현재 TTL 확인
-            Long currentTtl = redisTemplate.getExpire(key);
-
-            // 2. 이미 쿨다운 중이면 요청 추가하지 않음
-            if (currentTtl != null && currentTtl > windowSeconds) {
-                log.warn("쿨다운 중 요청 차단: {}, 남은 시간: {}초", identifier, currentTtl);
-                return;
-            }
+            return Boolean.TRUE.equals(redisTemplate.hasKey(cooldownKey(key)));
+        } catch (Exception e) {
+            log.error("쿨다운 확인 실패: {}", key, e);
+            return false;
+        }
+    }
 
-            // 3. 윈도우 밖 요청 제거
-            redisTemplate.opsForZSet()
-                    .removeRangeByScore(key, 0, now - windowSeconds * 1000L);
+    /**
+     * 이번 요청을 기록하면서 로컬 티어가 먼저 허용한 요청 수(localCount)도 함께 반영
+     * 반환: 윈도우 내 요청 수(장애 시 0), 쿨다운 중이면 -1, 초과 시 -2
+     */
+    long acquire(String key, RiskLevel riskLevel, int localCount) {
+        Limit limit = limitOf(riskLevel);
 
-            // 4. 현재 요청 기록
-            redisTemplate.opsForZSet()
-                    .add(key, String.valueOf(now), now);
+        long now = System.currentTimeMillis();
+        // 같은 ms에 들어온 요청이 하나로 합쳐지지 않도록 난수 접미사 추가
+        String member = now + "-" + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
 
-            // 5. 요청 수 계산
-            Long requestCount = redisTemplate.opsForZSet().zCard(key);
+        try {
+            Long result = redisTemplate.execute(
+                    slidingWindowScript,
+                    List.of(key, cooldownKey(key)),
+                    scriptArgs(limit, now, member, localCount, true)
+            );
 
-            // 6. TTL 설정 (윈도우 기준)
-            if (requestCount == null || requestCount <= maxRequests) {
-                // 정상: 윈도우 TTL
-                redisTemplate.expire(key, Duration.ofSeconds(windowSeconds));
-            } else {
-                // 초과: 쿨다운 TTL
+            if (result == null) {
+                return 0L;
+            }
+            if (result == -1L) {
+                log.warn("쿨다운 중 요청 차단: {}", key);
+            } else if (result == -2L) {
                 log.warn("RateLimit 초과: {} ({}회 / {}초), 쿨다운 {}초 적용",
-                        identifier, requestCount, windowSeconds, cooldownSeconds);
-                redisTemplate.expire(key, Duration.ofSeconds(cooldownSeconds));
+                        key, limit.maxRequests(), limit.windowMs() / 1000, limit.cooldownMs() / 1000);
             }
+            return result;
         } catch (Exception e) {
-            log.error("RateLimit 처리 실패: {}", identifier, e);
+            log.error("RateLimit 처리 실패: {}", key, e);
             // 장애 시 서비스는 계속 동작
+            return 0L;
         }
     }
 
-    private boolean isInCooldownInternal(String key) {
+    /**
+     * 로컬 티어가 허용한 요청 수를 파이프라인 한 번으로 일괄 반영
+     * 반환: usages와 같은 순서의 스크립트 결과 (윈도우 내 요청 수 / -1 / -2), Redis 장애 시 null
+     */
+    List<Long> reconcile(List<LocalUsage> usages) {
+        if (usages.isEmpty()) {
+            return List.of();
+        }
+
+        byte[] script = slidingWindowScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        long now = System.currentTimeMillis();
+
         try {
-            Long count = redisTemplate.opsForZSet().zCard(key);
-            if (count == null || count == 0) {
-                return false;
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (LocalUsage usage : usages) {
+                    String member = now + "-" + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+                    Object[] args = scriptArgs(limitOf(usage.riskLevel()), now, member, usage.count(), false);
+
+                    byte[][] keysAndArgs = new byte[args.length + 2][];
+                    keysAndArgs[0] = usage.key().getBytes(StandardCharsets.UTF_8);
+                    keysAndArgs[1] = cooldownKey(usage.key()).getBytes(StandardCharsets.UTF_8);
+                    for (int i = 0; i < args.length; i++) {
+                        keysAndArgs[i + 2] = ((String) args[i]).getBytes(StandardCharsets.UTF_8);
+                    }
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, keysAndArgs);
+                }
+                return null;
+            });
+
+            List<Long> counts = new ArrayList<>(results.size());
+            for (Object result : results) {
+                counts.add(result instanceof Long value ? value : 0L);
             }
+            return counts;
+        } catch (Exception e) {
+            log.error("RateLimit 로컬 사용량 반영 실패 - keys: {}", usages.size(), e);
+            return null;
+        }
+    }
+
+    Limit limitOf(RiskLevel riskLevel) {
+        var rateLimit = sanctionProperties.getRateLimit();
+        return new Limit(
+                rateLimit.getWindowSeconds().get(riskLevel) * 1000L,
+                rateLimit.getMaxRequests().get(riskLevel),
+                rateLimit.getCooldownSeconds().get(riskLevel) * 1000L
+        );
+    }
+
+    // 로컬 반영분이 없으면 기존과 같은 5개 인자만 전달
+    private static Object[] scriptArgs(Limit limit, long now, String member, int localCount, boolean acquire) {
+        List<String> args = new ArrayList<>(7);
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(limit.windowMs()));
+        args.add(String.valueOf(limit.maxRequests()));
+        args.add(String.valueOf(limit.cooldownMs()));
+        args.add(member);
+        if (localCount > 0 || !acquire) {
+            args.add(String.valueOf(localCount));
+            args.add(acquire ? "1" : "0");
+        }
+        return args.toArray();
+    }
 
-            Long ttl = redisTemplate.getExpire(key);
-            if (ttl == null || ttl <= 0) {
+    record Limit(long windowMs, int maxRequests, long cooldownMs) {
+    }
+
+    // 로컬 티어에서 허용한 키별 요청 수
+    record LocalUsage(String key, RiskLevel riskLevel, int count) {
+    }
+
+    // 한도 초과로 걸린 쿨다운: 키가 있으면 요청 기록이 있는 것이므로 TTL만으로 판단 (1회 왕복)
+    private boolean isInCooldownInternal(String key) {
+        try {
+            Long ttlMs = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            if (ttlMs == null || ttlMs <= 0) {
                 return false;
             }
 
@@ -125,10 +254,10 @@ public class RateLimitService {
             var rateLimit = sanctionProperties.getRateLimit();
             int windowSeconds = rateLimit.getWindowSeconds().get(RiskLevel.LOW);
 
-            return ttl > windowSeconds;
+            return ttlMs > windowSeconds * 1000L;
         } catch (Exception e) {
             log.error("쿨다운 확인 실패: {}", key, e);
             return false;
         }
     }
-}
\ No newline at end of file
+}
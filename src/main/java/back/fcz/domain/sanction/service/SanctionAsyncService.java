@@ -0,0 +1,70 @@
+package back.fcz.domain.sanction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 의심 점수 임계값 도달 시의 제재를 요청 스레드 밖에서 적용
+ * - 사용자 요청(캡슐 조회/해제)이 제재용 두 번째 트랜잭션(REQUIRES_NEW)을 열지 않도록 비동기로 처리
+ * - 같은 대상/종류의 제재가 이미 처리 중이면 건너뜀 (노드 간 중복은 점수 스크립트가 임계값 통과 시 1회만 반환해 방지)
+ * - 실패는 요청에 전파하지 않고 로그만 남김
+ * - 정지/차단은 적용 결과를 돌려주어, 호출 측이 성공한 경우에만 의심 점수를 초기화하도록 함
+ *   (true: 적용, false: 실패, null: 이미 처리 중이라 건너뜀)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SanctionAsyncService {
+
+    private final SanctionService sanctionService;
+    private final IpBlockService ipBlockService;
+    private final RateLimitService rateLimitService;
+
+    private static final int AUTO_SUSPENSION_DAYS = 7;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Async
+    public CompletableFuture<Boolean> suspendMember(Long memberId, String reason) {
+        return CompletableFuture.completedFuture(runOnce("suspend:member:" + memberId,
+                () -> sanctionService.applyAutoSuspension(memberId, reason, AUTO_SUSPENSION_DAYS)));
+    }
+
+    @Async
+    public CompletableFuture<Boolean> blockIp(String ipAddress, String reason) {
+        return CompletableFuture.completedFuture(
+                runOnce("block:ip:" + ipAddress, () -> ipBlockService.blockIp(ipAddress, reason)));
+    }
+
+    @Async
+    public void applyCooldown(Long memberId, int minutes) {
+        runOnce("cooldown:member:" + memberId, () -> rateLimitService.applyCooldown(memberId, minutes));
+    }
+
+    @Async
+    public void applyCooldownByIp(String ipAddress, int minutes) {
+        runOnce("cooldown:ip:" + ipAddress, () -> rateLimitService.applyCooldownByIp(ipAddress, minutes));
+    }
+
+    private Boolean runOnce(String taskKey, Runnable task) {
+        if (!inFlight.add(taskKey)) {
+            log.debug("이미 처리 중인 제재 - 건너뜀: {}", taskKey);
+            return null;
+        }
+        try {
+            task.run();
+            return true;
+        } catch (Exception e) {
+            log.error("제재 적용 실패: {}", taskKey, e);
+            return false;
+        } finally {
+            inFlight.remove(taskKey);
+        }
+    }
+}
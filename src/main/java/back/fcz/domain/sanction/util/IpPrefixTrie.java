@@ -0,0 +1,313 @@
+package back.fcz.domain.sanction.util;
+
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * IP/CIDR 차단 규칙 매칭용 이진 prefix 트라이 (IPv4 32비트 / IPv6 128비트)
+ * - 규칙 문자열: 단일 IP(192.168.1.100) 또는 CIDR(203.0.113.0/24, 2001:db8::/32)
+ * - 조회는 주소 비트를 따라 최대 32/128단계만 내려가며, 만료 시각이 지난 규칙은 매칭하지 않음
+ * - put/remove는 한 스레드(호출 측 잠금 안)에서만 수행하고, 조회는 잠금 없이 동시에 수행 가능
+ *   (규칙은 만료 시각을 먼저 쓰고 volatile rule로 공개하므로, 조회는 변경 전 또는 후 상태만 봄)
+ * - remove는 노드를 정리하지 않으므로 빈 노드와 만료 규칙은 주기적으로 새로 만들어 교체
+ */
+public final class IpPrefixTrie {
+
+    private final Node v4Root = new Node();
+    private final Node v6Root = new Node();
+    private int size;
+
+    // 규칙 -> 만료 시각(epoch ms) 목록으로 트라이 생성 (잘못된 규칙은 건너뜀)
+    public static IpPrefixTrie of(Map<String, Long> rules) {
+        IpPrefixTrie trie = new IpPrefixTrie();
+        rules.forEach(trie::put);
+        return trie;
+    }
+
+    public boolean put(String rule, long expiresAtMs) {
+        Prefix prefix = parseRule(rule);
+        if (prefix == null) {
+            return false;
+        }
+
+        Node node = prefix.address().length == 4 ? v4Root : v6Root;
+        for (int i = 0; i < prefix.length(); i++) {
+            int bit = bitAt(prefix.address(), i);
+            if (node.children[bit] == null) {
+                node.children[bit] = new Node();
+            }
+            node = node.children[bit];
+        }
+
+        if (node.rule == null) {
+            size++;
+        }
+        node.expiresAtMs = expiresAtMs;
+        node.rule = rule;
+        return true;
+    }
+
+    // 규칙 제거 (없거나 형식이 잘못되면 false)
+    public boolean remove(String rule) {
+        Prefix prefix = parseRule(rule);
+        if (prefix == null) {
+            return false;
+        }
+
+        Node node = prefix.address().length == 4 ? v4Root : v6Root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children[bitAt(prefix.address(), i)];
+        }
+        if (node == null || !rule.equals(node.rule)) {
+            return false;
+        }
+        node.rule = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * ip를 포함하는 유효한 규칙 (없거나 ip 형식이 잘못되면 null)
+     */
+    public String match(String ip, long nowMs) {
+        byte[] address = parseAddress(ip);
+        if (address == null) {
+            return null;
+        }
+
+        Node node = address.length == 4 ? v4Root : v6Root;
+        int bits = address.length * 8;
+        for (int i = 0; ; i++) {
+            if (node.rule != null && node.expiresAtMs > nowMs) {
+                return node.rule;
+            }
+            if (i == bits) {
+                return null;
+            }
+            node = node.children[bitAt(address, i)];
+            if (node == null) {
+                return null;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 규칙 정규화 (CIDR은 호스트 비트를 0으로 맞춘 네트워크 주소, 단일 IP는 입력 그대로)
+     * 잘못된 형식이면 null
+     */
+    public static String normalize(String rule) {
+        Prefix prefix = parseRule(rule);
+        if (prefix == null) {
+            return null;
+        }
+        if (rule.indexOf('/') < 0) {
+            return rule.trim();
+        }
+        try {
+            return InetAddress.getByAddress(prefix.address()).getHostAddress() + "/" + prefix.length();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Prefix parseRule(String rule) {
+        if (rule == null || rule.isBlank()) {
+            return null;
+        }
+
+        String value = rule.trim();
+        int slash = value.indexOf('/');
+        byte[] address = parseAddress(slash < 0 ? value : value.substring(0, slash));
+        if (address == null) {
+            return null;
+        }
+
+        int maxLength = address.length * 8;
+        int length = maxLength;
+        if (slash >= 0) {
+            try {
+                length = Integer.parseInt(value.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (length < 0 || length > maxLength) {
+                return null;
+            }
+        }
+
+        // 호스트 비트 제거
+        for (int i = length; i < maxLength; i++) {
+            address[i >> 3] &= (byte) ~(0x80 >>> (i & 7));
+        }
+        return new Prefix(address, length);
+    }
+
+    // IPv4/IPv6 모두 직접 파싱 (InetAddress.getByName은 리터럴이 아니면 DNS 조회를 하므로 사용하지 않음)
+    static byte[] parseAddress(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return null;
+        }
+        if (ip.indexOf(':') < 0) {
+            return parseIpv4(ip);
+        }
+        return parseIpv6(ip);
+    }
+
+    /**
+     * IPv6 리터럴 파싱 (:: 축약, 끝자리 IPv4 표기, %scope 허용)
+     * - 16진수/':'/'.' 외 문자가 있으면 바로 거절
+     * - IPv4-mapped IPv6(::ffff:a.b.c.d)는 IPv4(4바이트)로 반환
+     */
+    private static byte[] parseIpv6(String ip) {
+        int percent = ip.indexOf('%');
+        if (percent >= 0 && !isValidScope(ip.substring(percent + 1))) {
+            return null;
+        }
+        String value = percent < 0 ? ip : ip.substring(0, percent);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != ':' && c != '.' && hexValue(c) < 0) {
+                return null;
+            }
+        }
+
+        int[] groups = new int[8];
+        int doubleColon = value.indexOf("::");
+        if (doubleColon < 0) {
+            if (parseGroups(value, groups, 0, true) != 8) {
+                return null;
+            }
+        } else {
+            if (value.indexOf("::", doubleColon + 1) >= 0) {
+                return null;
+            }
+            int[] tail = new int[8];
+            int left = parseGroups(value.substring(0, doubleColon), groups, 0, false);
+            int right = parseGroups(value.substring(doubleColon + 2), tail, 0, true);
+            if (left < 0 || right < 0 || left + right > 7) {
+                return null;
+            }
+            System.arraycopy(tail, 0, groups, 8 - right, right);
+        }
+
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i * 2] = (byte) (groups[i] >>> 8);
+            bytes[i * 2 + 1] = (byte) groups[i];
+        }
+        return isIpv4Mapped(groups) ? Arrays.copyOfRange(bytes, 12, 16) : bytes;
+    }
+
+    // ':'로 나뉜 16비트 그룹 파싱 (allowIpv4Tail이면 마지막 토큰에 a.b.c.d 허용) → 그룹 수, 잘못되면 -1
+    private static int parseGroups(String part, int[] groups, int offset, boolean allowIpv4Tail) {
+        if (part.isEmpty()) {
+            return 0;
+        }
+        String[] tokens = part.split(":", -1);
+        int count = offset;
+        for (int t = 0; t < tokens.length; t++) {
+            String token = tokens[t];
+            if (allowIpv4Tail && t == tokens.length - 1 && token.indexOf('.') >= 0) {
+                byte[] v4 = parseIpv4(token);
+                if (v4 == null || count + 2 > 8) {
+                    return -1;
+                }
+                groups[count++] = ((v4[0] & 0xff) << 8) | (v4[1] & 0xff);
+                groups[count++] = ((v4[2] & 0xff) << 8) | (v4[3] & 0xff);
+                continue;
+            }
+            if (token.isEmpty() || token.length() > 4 || count >= 8) {
+                return -1;
+            }
+            int group = 0;
+            for (int i = 0; i < token.length(); i++) {
+                int digit = hexValue(token.charAt(i));
+                if (digit < 0) {
+                    return -1;
+                }
+                group = (group << 4) | digit;
+            }
+            groups[count++] = group;
+        }
+        return count - offset;
+    }
+
+    // ASCII 16진수만 허용 (Character.digit은 전각 숫자 등도 받아들임)
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean isIpv4Mapped(int[] groups) {
+        for (int i = 0; i < 5; i++) {
+            if (groups[i] != 0) {
+                return false;
+            }
+        }
+        return groups[5] == 0xffff;
+    }
+
+    // 인터페이스 이름/번호 (영문, 숫자만)
+    private static boolean isValidScope(String scope) {
+        if (scope.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < scope.length(); i++) {
+            char c = scope.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] parseIpv4(String ip) {
+        byte[] bytes = new byte[4];
+        int part = 0;
+        int value = -1;
+        for (int i = 0; i <= ip.length(); i++) {
+            char c = i < ip.length() ? ip.charAt(i) : '.';
+            if (c == '.') {
+                if (value < 0 || part == 4) {
+                    return null;
+                }
+                bytes[part++] = (byte) value;
+                value = -1;
+            } else if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 255) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return part == 4 ? bytes : null;
+    }
+
+    private static int bitAt(byte[] address, int index) {
+        return (address[index >> 3] >> (7 - (index & 7))) & 1;
+    }
+
+    private record Prefix(byte[] address, int length) {
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[2];
+        private volatile String rule;
+        private long expiresAtMs;
+    }
+}
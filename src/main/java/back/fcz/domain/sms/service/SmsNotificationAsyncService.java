@@ -0,0 +1,28 @@
+package back.fcz.domain.sms.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 캡슐 생성 알림 SMS를 요청 스레드 밖에서 발송
+ * - 캡슐 저장 트랜잭션 커밋 후에 호출 (발송 지연/재시도 동안 DB 커넥션과 응답을 붙잡지 않음)
+ * - 발송 실패는 캡슐 생성에 영향을 주지 않고 로그만 남김 (캡슐은 이미 저장되어 수신자 전화번호로 조회 가능)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SmsNotificationAsyncService {
+
+    private final SmsNotificaationService smsNotificaationService;
+
+    @Async
+    public void sendCapsuleCreatedNotification(String receiverPhoneNumber, String senderName, String capsuleTitle) {
+        try {
+            smsNotificaationService.sendCapsuleCreatedNotification(receiverPhoneNumber, senderName, capsuleTitle);
+        } catch (Exception e) {
+            log.error("캡슐 생성 알림 SMS 발송 실패 - sender: {}, title: {}", senderName, capsuleTitle, e);
+        }
+    }
+}
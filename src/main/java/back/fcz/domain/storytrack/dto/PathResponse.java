@@ -4,12 +4,14 @@ import back.fcz.domain.storytrack.entity.StorytrackStep;
 
 public record PathResponse(
         int stepOrder,
-        CapsuleResponse capsule
+        CapsuleResponse capsule,
+        long completedCount
 ) {
     public static PathResponse from(StorytrackStep step) {
         return new PathResponse(
                 step.getStepOrder(),
-                CapsuleResponse.from(step.getCapsule())
+                CapsuleResponse.from(step.getCapsule()),
+                step.getCompletedCount()
         );
     }
 }
\ No newline at end of file
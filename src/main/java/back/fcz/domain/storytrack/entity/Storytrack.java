@@ -9,6 +9,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(
+        name = "storytrack",
+        indexes = {
+                // 공개 목록 페이지 조회 (is_public, is_deleted 조건 + storytrack_id 정렬)
+                @Index(name = "idx_storytrack_public_list", columnList = "is_public, is_deleted, storytrack_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -45,6 +52,16 @@ public class Storytrack extends BaseEntity {
     @Column(name = "is_deleted", nullable = false)
     private int isDeleted; // 미삭제 0, 삭제 1
 
+    // 집계 카운터 (참여/완료/이탈 시 원자적 UPDATE, StorytrackCounterReconcileScheduler가 주기적으로 보정)
+    // updatable = false: 엔티티 변경 감지 UPDATE가 오래된 값으로 덮어쓰지 않도록 벌크 UPDATE로만 변경
+    @Builder.Default
+    @Column(name = "participant_count", nullable = false, updatable = false)
+    private long participantCount = 0; // 참여 중인 인원 (참여 종료 제외)
+
+    @Builder.Default
+    @Column(name = "completion_count", nullable = false, updatable = false)
+    private long completionCount = 0; // 완주한 인원 (완주 후 참여 종료 포함)
+
     @Builder.Default
     @OneToMany(mappedBy = "storytrack", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StorytrackStep> steps = new ArrayList<>();
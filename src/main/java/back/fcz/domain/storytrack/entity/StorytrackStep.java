@@ -27,6 +27,11 @@ public class StorytrackStep extends BaseEntity {
     @Column(name = "step_order")
     private int stepOrder;
 
+    // 이 단계를 완료한 인원 (단계 완료 시 원자적 UPDATE, 주기적으로 보정)
+    @Builder.Default
+    @Column(name = "completed_count", nullable = false, updatable = false)
+    private long completedCount = 0;
+
     public void setCapsule(Capsule updateCapsule) {
         this.capsule = updateCapsule;
     }
@@ -37,5 +37,6 @@ WHERE a.storytrack.storytrackId IN :storytrackIds
 
     List<StorytrackAttachment> findTop1000ByStatusAndCreatedAtBeforeOrderByIdAsc(StorytrackStatus storytrackStatus, LocalDateTime localDateTime);
 
-    List<StorytrackAttachment> findTop1000ByStatusOrderByDeletedAtAsc(StorytrackStatus storytrackStatus);
+    // 하드삭제 대상 keyset 조회 (S3 삭제에 계속 실패하는 행이 앞을 막지 않도록 id 커서로 넘어감)
+    List<StorytrackAttachment> findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(StorytrackStatus storytrackStatus, Long id);
 }
@@ -48,18 +48,14 @@ SELECT new back.fcz.domain.storytrack.dto.response.ParticipantStorytrackListResp
     p.startedAt,
     p.completedAt,
     s.createdAt,
-    COUNT(sp2),
+    s.participantCount,
     null
 )
 FROM StorytrackProgress p
 JOIN p.member m
 JOIN p.storytrack s
-LEFT JOIN StorytrackProgress sp2
-    ON sp2.storytrack = s
-    AND sp2.deletedAt IS NULL
 WHERE m.memberId = :memberId
 AND p.deletedAt IS NULL
-GROUP BY p, m, s
 """)
     Page<ParticipantStorytrackListResponse> findJoinedStorytracksWithMemberCount(
             @Param("memberId") Long memberId,
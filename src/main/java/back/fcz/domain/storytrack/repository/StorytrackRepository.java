@@ -6,6 +6,7 @@ import back.fcz.domain.storytrack.entity.Storytrack;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,8 +16,8 @@ public interface StorytrackRepository extends JpaRepository<Storytrack, Long> {
 
     Optional<Storytrack> findByStorytrackIdAndIsDeleted(Long id, int isDeleted);
 
-    // 스토리트랙 목록 조회 시, 참여자 수 조회를 위해서
-    @Query("""
+    // 스토리트랙 목록 조회 (참여자 수는 participantCount 카운터 사용, 로그인 회원의 참여 행만 조인)
+    @Query(value = """
 SELECT new back.fcz.domain.storytrack.dto.response.TotalStorytrackResponse(
     s.storytrackId,
     m.nickname,
@@ -27,7 +28,7 @@ SELECT new back.fcz.domain.storytrack.dto.response.TotalStorytrackResponse(
     s.price,
     s.totalSteps,
     s.createdAt,
-    COUNT(spAllActive),
+    s.participantCount,
     CASE
         WHEN m.memberId = :loginMemberId THEN back.fcz.domain.storytrack.dto.StorytrackMemberType.CREATOR
         WHEN spMeActive.completedAt IS NOT NULL THEN back.fcz.domain.storytrack.dto.StorytrackMemberType.COMPLETED
@@ -38,16 +39,18 @@ SELECT new back.fcz.domain.storytrack.dto.response.TotalStorytrackResponse(
 )
 FROM Storytrack s
 JOIN s.member m
-LEFT JOIN StorytrackProgress spAllActive
-    ON spAllActive.storytrack = s
-   AND spAllActive.deletedAt IS NULL
 LEFT JOIN StorytrackProgress spMeActive
     ON spMeActive.storytrack = s
    AND spMeActive.member.memberId = :loginMemberId
    AND spMeActive.deletedAt IS NULL
 WHERE s.isPublic = 1
   AND s.isDeleted = 0
-GROUP BY s, m, spMeActive
+""",
+            countQuery = """
+SELECT COUNT(s)
+FROM Storytrack s
+WHERE s.isPublic = 1
+  AND s.isDeleted = 0
 """)
     Page<TotalStorytrackResponse> findPublicStorytracksWithMemberType(
             @Param("loginMemberId") Long loginMemberId,
@@ -55,7 +58,7 @@ GROUP BY s, m, spMeActive
     );
 
     // 내가 생성한 스토리트랙 조회 시, 참여자 수 포함
-    @Query("""
+    @Query(value = """
     SELECT new back.fcz.domain.storytrack.dto.response.CreaterStorytrackListResponse(
         s.storytrackId,
         s.member.nickname,
@@ -66,19 +69,65 @@ GROUP BY s, m, spMeActive
         s.price,
         s.totalSteps,
         s.createdAt,
-        COUNT(sp),
+        s.participantCount,
         null
     )
     FROM Storytrack s
-    LEFT JOIN StorytrackProgress sp
-        ON sp.storytrack = s
-        AND sp.deletedAt IS NULL
     WHERE s.member.memberId = :memberId
       AND s.isDeleted = 0
-    GROUP BY s
+    """,
+            countQuery = """
+    SELECT COUNT(s)
+    FROM Storytrack s
+    WHERE s.member.memberId = :memberId
+      AND s.isDeleted = 0
     """)
     Page<CreaterStorytrackListResponse> findCreatedStorytracksWithMemberCount(
             @Param("memberId") Long memberId,
             Pageable pageable
     );
+
+    // 참여자 수 카운터 (참여/참여 종료 시)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Storytrack s SET s.participantCount = s.participantCount + 1 WHERE s.storytrackId = :id")
+    void incrementParticipantCount(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Storytrack s SET s.participantCount = s.participantCount - 1 WHERE s.storytrackId = :id AND s.participantCount > 0")
+    void decrementParticipantCount(@Param("id") Long id);
+
+    // 완주 인원 카운터 (마지막 단계 완료 시)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Storytrack s SET s.completionCount = s.completionCount + 1 WHERE s.storytrackId = :id")
+    void incrementCompletionCount(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(MAX(s.storytrackId), 0) FROM Storytrack s")
+    long findMaxStorytrackId();
+
+    // 카운터 보정: id 구간 안에서 실제 집계와 다른 행만 갱신 (반환값 = 보정된 행 수)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE Storytrack s
+    SET s.participantCount = (
+            SELECT COUNT(sp) FROM StorytrackProgress sp
+            WHERE sp.storytrack.storytrackId = s.storytrackId AND sp.deletedAt IS NULL
+        ),
+        s.completionCount = (
+            SELECT COUNT(sp) FROM StorytrackProgress sp
+            WHERE sp.storytrack.storytrackId = s.storytrackId AND sp.completedAt IS NOT NULL
+        )
+    WHERE s.storytrackId > :fromId
+      AND s.storytrackId <= :toId
+      AND (
+            s.participantCount <> (
+                SELECT COUNT(sp) FROM StorytrackProgress sp
+                WHERE sp.storytrack.storytrackId = s.storytrackId AND sp.deletedAt IS NULL
+            )
+         OR s.completionCount <> (
+                SELECT COUNT(sp) FROM StorytrackProgress sp
+                WHERE sp.storytrack.storytrackId = s.storytrackId AND sp.completedAt IS NOT NULL
+            )
+      )
+    """)
+    int reconcileCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
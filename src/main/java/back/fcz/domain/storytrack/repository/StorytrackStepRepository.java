@@ -53,4 +53,27 @@ public interface StorytrackStepRepository extends JpaRepository<StorytrackStep,
             @Param("storytrackId") Long storytrackId,
             @Param("memberId") Long memberId
     );
+
+    // 단계 완료 인원 카운터
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StorytrackStep s SET s.completedCount = s.completedCount + 1 WHERE s.id = :stepId")
+    void incrementCompletedCount(@Param("stepId") Long stepId);
+
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM StorytrackStep s")
+    long findMaxStepId();
+
+    // 카운터 보정: id 구간 안에서 실제 완료 기록 수와 다른 단계만 갱신
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    UPDATE StorytrackStep s
+    SET s.completedCount = (
+            SELECT COUNT(ps) FROM StorytrackProgressStep ps WHERE ps.step.id = s.id
+        )
+    WHERE s.id > :fromId
+      AND s.id <= :toId
+      AND s.completedCount <> (
+            SELECT COUNT(ps) FROM StorytrackProgressStep ps WHERE ps.step.id = s.id
+      )
+    """)
+    int reconcileCompletedCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
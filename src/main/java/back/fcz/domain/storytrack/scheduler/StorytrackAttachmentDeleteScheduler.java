@@ -3,17 +3,24 @@ package back.fcz.domain.storytrack.scheduler;
 import back.fcz.domain.storytrack.entity.StorytrackAttachment;
 import back.fcz.domain.storytrack.entity.StorytrackStatus;
 import back.fcz.domain.storytrack.repository.StorytrackAttachmentRepository;
+import back.fcz.infra.storage.BulkDeleteResult;
 import back.fcz.infra.storage.FileStorage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * 스토리트랙 첨부파일 정리 스케줄러
+ * 배치/트랜잭션 처리 방식은 CapsuleAttachmentDeleteScheduler와 같음
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,78 +29,115 @@ public class StorytrackAttachmentDeleteScheduler {
 
     private final StorytrackAttachmentRepository storytrackAttachmentRepository;
     private final FileStorage fileStorage;
+    private final TransactionTemplate transactionTemplate;
+
+    // 조회 쿼리(findTop1000...)와 같은 크기
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_BATCHES_PER_RUN = 50;
+
+    // hardDeletedFromS3의 keyset 커서 (마지막으로 처리한 id, 스케줄러 스레드에서만 사용)
+    private long hardDeleteCursor = 0L;
 
-    @Transactional
     @Scheduled(cron = "0 0 4 * * *") //
     public void markExpiredTempAsDeleted(){
         LocalDateTime now = LocalDateTime.now();
 
-        List<StorytrackAttachment> expired = storytrackAttachmentRepository.findTop1000ByStatusAndExpiredAtBeforeOrderByIdAsc(
+        int total = markDeletedInBatches(() -> storytrackAttachmentRepository.findTop1000ByStatusAndExpiredAtBeforeOrderByIdAsc(
                 StorytrackStatus.TEMP,
                 now
-        );
-
-        if(expired.isEmpty()) return ;
-
-        expired.forEach(StorytrackAttachment::markDeleted);
-        storytrackAttachmentRepository.saveAll(expired);
+        ));
 
-        log.info("[StorytrackAttachmentDeleteScheduler] TEMP -> DELETED: {}건", expired.size());
+        if (total > 0) log.info("[StorytrackAttachmentDeleteScheduler] TEMP -> DELETED: {}건", total);
     }
 
-    @Transactional
     @Scheduled(cron = "0 10 4 * * *")
     public void markExpiredUploadingOrPendingAsDeleted() {
         LocalDateTime now = LocalDateTime.now();
 
         // 예: createdAt 기준 30분 초과 UPLOADING 정리
-        List<StorytrackAttachment> uploadingExpired =
+        int uploadingExpired = markDeletedInBatches(() ->
                 storytrackAttachmentRepository.findTop1000ByStatusAndCreatedAtBeforeOrderByIdAsc(
                         StorytrackStatus.UPLOADING,
                         now.minusMinutes(30)
-                );
+                ));
 
         // 예: 20분 초과 PENDING
-        List<StorytrackAttachment> pendingExpired =
+        int pendingExpired = markDeletedInBatches(() ->
                 storytrackAttachmentRepository.findTop1000ByStatusAndExpiredAtBeforeOrderByIdAsc(
                         StorytrackStatus.PENDING,
                         now.minusMinutes(20)
-                );
-
-        uploadingExpired.forEach(StorytrackAttachment::markDeleted);
-        pendingExpired.forEach(StorytrackAttachment::markDeleted);
-
-        storytrackAttachmentRepository.saveAll(uploadingExpired);
-        storytrackAttachmentRepository.saveAll(pendingExpired);
+                ));
 
         log.info("[StorytrackAttachmentDeleteScheduler] UPLOADING->DELETED: {}, PENDING->DELETED: {}",
-                uploadingExpired.size(), pendingExpired.size());
+                uploadingExpired, pendingExpired);
     }
 
+    // S3 일괄 삭제 후 성공한 행만 하드삭제, 실패한 행은 id 커서가 한 바퀴 돈 뒤 재시도 (CapsuleAttachmentDeleteScheduler와 같음)
     @Scheduled(cron = "0 30 4 * * *")
-    @Transactional
     public void hardDeletedFromS3() {
-        List<StorytrackAttachment> targets =
-                storytrackAttachmentRepository.findTop1000ByStatusOrderByDeletedAtAsc(
-                        StorytrackStatus.DELETED
-                );
-        if (targets.isEmpty()) return;
-
-        List<Long> successIds = new java.util.ArrayList<>();
-
-        for (StorytrackAttachment att : targets) {
-            try {
-                fileStorage.delete(att.getS3Key());
-                successIds.add(att.getId());
-            } catch (Exception e) {
-                log.error("[StorytrackAttachmentDeleteScheduler] S3 삭제 실패 - attachmentId: {}, s3Key: {}, error: {}",
-                        att.getId(), att.getS3Key(), e.getMessage());
+        int total = 0;
+
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            long cursor = hardDeleteCursor;
+            List<StorytrackAttachment> targets = transactionTemplate.execute(status ->
+                    storytrackAttachmentRepository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(
+                            StorytrackStatus.DELETED,
+                            cursor
+                    ));
+            if (targets == null || targets.isEmpty()) {
+                if (cursor == 0L) break;
+                // 커서 뒤로 남은 행이 없으면 처음부터 다시 (앞쪽의 실패 행 재시도)
+                hardDeleteCursor = 0L;
+                continue;
+            }
+            // 실패한 행은 남기고 다음 배치는 그 뒤부터 (끝까지 가면 처음부터 다시 돌며 실패 행 재시도)
+            hardDeleteCursor = targets.get(targets.size() - 1).getId();
+
+            BulkDeleteResult result = fileStorage.deleteAll(
+                    targets.stream().map(StorytrackAttachment::getS3Key).toList());
+
+            List<Long> successIds = new ArrayList<>();
+            for (StorytrackAttachment att : targets) {
+                if (result.isDeleted(att.getS3Key())) {
+                    successIds.add(att.getId());
+                } else {
+                    log.error("[StorytrackAttachmentDeleteScheduler] S3 삭제 실패 - attachmentId: {}, s3Key: {}, error: {}",
+                            att.getId(), att.getS3Key(), result.failures().get(att.getS3Key()));
+                }
+            }
+
+            // 전부 실패하면 S3 장애로 보고 중단 (커서는 이미 넘겼으므로 다음 실행은 이 배치 뒤부터)
+            if (successIds.isEmpty()) break;
+
+            transactionTemplate.executeWithoutResult(status ->
+                    storytrackAttachmentRepository.deleteAllByIdInBatch(successIds));
+            total += successIds.size();
+
+            if (targets.size() < BATCH_SIZE) {
+                hardDeleteCursor = 0L;
+                break;
             }
         }
 
-        if (!successIds.isEmpty()) {
-            storytrackAttachmentRepository.deleteAllByIdInBatch(successIds);
-            log.info("[StorytrackAttachmentDeleteScheduler] hard deleted: {}", successIds.size());
+        if (total > 0) log.info("[StorytrackAttachmentDeleteScheduler] hard deleted: {}", total);
+    }
+
+    // 조회 결과가 BATCH_SIZE보다 작아질 때까지 배치마다 별도 트랜잭션으로 DELETED 마킹
+    private int markDeletedInBatches(Supplier<List<StorytrackAttachment>> nextBatch) {
+        int total = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            Integer marked = transactionTemplate.execute(status -> {
+                List<StorytrackAttachment> targets = nextBatch.get();
+                if (targets.isEmpty()) return 0;
+                targets.forEach(StorytrackAttachment::markDeleted);
+                storytrackAttachmentRepository.saveAll(targets);
+                return targets.size();
+            });
+            int count = marked == null ? 0 : marked;
+            total += count;
+            if (count < BATCH_SIZE) break;
         }
+        return total;
     }
+
 }
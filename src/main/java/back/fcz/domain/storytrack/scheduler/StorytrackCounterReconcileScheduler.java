@@ -0,0 +1,67 @@
+package back.fcz.domain.storytrack.scheduler;
+
+import back.fcz.domain.storytrack.repository.StorytrackRepository;
+import back.fcz.domain.storytrack.repository.StorytrackStepRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BiFunction;
+
+/**
+ * 스토리트랙 집계 카운터 보정
+ * - participantCount / completionCount / 단계별 completedCount를 실제 참여·완료 기록과 비교해 다른 행만 갱신
+ * - id 구간(CHUNK_SIZE)마다 짧은 트랜잭션으로 처리해 목록 조회와의 락 경합을 줄임
+ * - 배포 직후 첫 실행에서 기존 데이터의 카운터도 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!test")
+public class StorytrackCounterReconcileScheduler {
+
+    private final StorytrackRepository storytrackRepository;
+    private final StorytrackStepRepository storytrackStepRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    static final long CHUNK_SIZE = 500;
+
+    @Scheduled(
+            initialDelayString = "${storytrack.counter.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${storytrack.counter.reconcile-interval-ms:21600000}"
+    )
+    public void reconcile() {
+        int storytracks = reconcileInChunks(
+                storytrackRepository.findMaxStorytrackId(),
+                storytrackRepository::reconcileCounters
+        );
+        int steps = reconcileInChunks(
+                storytrackStepRepository.findMaxStepId(),
+                storytrackStepRepository::reconcileCompletedCounts
+        );
+
+        if (storytracks > 0 || steps > 0) {
+            log.warn("[StorytrackCounterReconcileScheduler] 카운터 보정 - storytrack: {}건, step: {}건", storytracks, steps);
+        }
+    }
+
+    // (fromId, toId] 구간씩 보정하고 보정된 행 수 합계 반환
+    private int reconcileInChunks(long maxId, BiFunction<Long, Long, Integer> reconcileRange) {
+        int fixed = 0;
+        for (long fromId = 0; fromId < maxId; fromId += CHUNK_SIZE) {
+            long from = fromId;
+            long to = Math.min(fromId + CHUNK_SIZE, maxId);
+            try {
+                Integer updated = transactionTemplate.execute(status -> reconcileRange.apply(from, to));
+                fixed += updated == null ? 0 : updated;
+            } catch (Exception e) {
+                // 실패한 구간은 다음 주기에 다시 보정
+                log.error("[StorytrackCounterReconcileScheduler] 카운터 보정 실패 - id 구간: ({}, {}]", from, to, e);
+            }
+        }
+        return fixed;
+    }
+}
@@ -21,7 +21,7 @@ import back.fcz.domain.storytrack.repository.StorytrackStepRepository;
 import back.fcz.global.dto.PageResponse;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
-import back.fcz.infra.storage.PresignedUrlProvider;
+import back.fcz.infra.storage.PresignedUrlCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,7 +31,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,7 +52,7 @@ public class StorytrackService {
     private final StorytrackAttachmentRepository storytrackAttachmentRepository;
 
     private final CapsuleReadService capsuleReadService;
-    private final PresignedUrlProvider presignedUrlProvider;
+    private final PresignedUrlCache presignedUrlCache;
 
     // 삭제
     // 생성자 : 스토리트랙 삭제
@@ -109,6 +109,7 @@ public class StorytrackService {
 
         // 삭제 - 소프트딜리트
         targetMember.markDeleted();
+        storytrackRepository.decrementParticipantCount(storytrackId);
 
         // 트랜잭션으로 인해 삭제 후 다시 DB 저장 문제 해결을 위해 삭제
         // storytrackProgressRepository.save(targetMember);
@@ -233,6 +234,7 @@ public class StorytrackService {
                 .build();
 
         storytrackProgressRepository.save(participant);
+        storytrackRepository.incrementParticipantCount(storytrack.getStorytrackId());
 
         return JoinStorytrackResponse.from(storytrack, participant);
     }
@@ -263,14 +265,7 @@ public class StorytrackService {
                 .toList();
 
         // 스토리트랙 당 image
-        Map<Long, String> imageUrlMap =
-                storytrackAttachmentRepository.findActiveImagesByStorytrackIds(storytrackIds)
-                        .stream()
-                        .collect(Collectors.toMap(
-                                a -> a.getStorytrack().getStorytrackId(),
-                                this::buildPresignedUrl,
-                                (oldV, newV) -> newV // 혹시 중복 방어
-                        ));
+        Map<Long, String> imageUrlMap = buildImageUrlMap(storytrackIds);
 
         // DTO에 이미지 url 넣기
         Page<TotalStorytrackResponse> finalPage =
@@ -294,8 +289,8 @@ public class StorytrackService {
                 .findByStorytrackIdAndIsDeleted(storytrackId, 0)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORYTRACK_NOT_FOUND));
 
-        int totalParticipant = storytrackProgressRepository.countByStorytrack_StorytrackIdAndDeletedAtIsNull(storytrackId);
-        int completeProgress = storytrackProgressRepository.countByStorytrack_StorytrackIdAndCompletedAtIsNotNull(storytrackId);
+        int totalParticipant = Math.toIntExact(storytrack.getParticipantCount());
+        int completeProgress = Math.toIntExact(storytrack.getCompletionCount());
 
         // 로그인한 사용자가 해당 대시보드와 어떤 관계인지 표시
         StorytrackMemberType memberType = resolveMemberType(memberId, storytrack);
@@ -423,14 +418,7 @@ public class StorytrackService {
                 .map(CreaterStorytrackListResponse::storytrackId)
                 .toList();
 
-        Map<Long, String> imageUrlMap =
-                storytrackAttachmentRepository.findActiveImagesByStorytrackIds(storytrackIds)
-                        .stream()
-                        .collect(Collectors.toMap(
-                                a -> a.getStorytrack().getStorytrackId(),
-                                this::buildPresignedUrl,
-                                (oldV, newV) -> newV // 혹시 중복 방어
-                        ));
+        Map<Long, String> imageUrlMap = buildImageUrlMap(storytrackIds);
 
         // DTO에 스토리트랙 이미지url 넣기
         Page<CreaterStorytrackListResponse> finalPage =
@@ -464,14 +452,7 @@ public class StorytrackService {
                 .toList();
 
         // 대표 이미지 조회 (active image)
-        Map<Long, String> imageUrlMap =
-                storytrackAttachmentRepository.findActiveImagesByStorytrackIds(storytrackIds)
-                        .stream()
-                        .collect(Collectors.toMap(
-                                a -> a.getStorytrack().getStorytrackId(),
-                                this::buildPresignedUrl,
-                                (oldV, newV) -> newV // 혹시 중복 방어
-                        ));
+        Map<Long, String> imageUrlMap = buildImageUrlMap(storytrackIds);
 
         // DTO에 imageUrl 주입
         Page<ParticipantStorytrackListResponse> finalPage =
@@ -596,11 +577,22 @@ public class StorytrackService {
         }
 
         // 진행 상태 업데이트
+        int completedBefore = progress.getCompletedSteps();
+        boolean finishedBefore = progress.getCompletedAt() != null;
+
         progress.completeStep(
                 step,
                 progress.getStorytrack().getTotalSteps()
         );
 
+        // 집계 카운터 반영 (이번 요청에서 실제로 완료된 경우만)
+        if (progress.getCompletedSteps() > completedBefore) {
+            storytrackStepRepository.incrementCompletedCount(step.getId());
+        }
+        if (!finishedBefore && progress.getCompletedAt() != null) {
+            storytrackRepository.incrementCompletionCount(storytrackId);
+        }
+
         return response;
     }
 
@@ -628,16 +620,30 @@ public class StorytrackService {
                         storytrackId,
                         StorytrackStatus.THUMBNAIL
                 )
-                .map(this::buildPresignedUrl)
+                .map(attachment -> presignedUrlCache.getUrl(attachment.getS3Key()))
                 .orElse(null);
     }
 
+    // 목록 대표 이미지 URL (S3 키 중복 제거 후 캐시 일괄 조회, 미스만 서명)
+    private Map<Long, String> buildImageUrlMap(List<Long> storytrackIds) {
+        if (storytrackIds.isEmpty()) {
+            return Map.of();
+        }
 
-    private String buildPresignedUrl(StorytrackAttachment attachment) {
-        return presignedUrlProvider.presignGet(
-                attachment.getS3Key(),
-                Duration.ofMinutes(15)
-        );
+        Map<Long, String> keyMap =
+                storytrackAttachmentRepository.findActiveImagesByStorytrackIds(storytrackIds)
+                        .stream()
+                        .collect(Collectors.toMap(
+                                a -> a.getStorytrack().getStorytrackId(),
+                                StorytrackAttachment::getS3Key,
+                                (oldV, newV) -> newV // 혹시 중복 방어
+                        ));
+
+        Map<String, String> urls = presignedUrlCache.getUrls(keyMap.values());
+
+        Map<Long, String> imageUrlMap = new HashMap<>(keyMap.size() * 2);
+        keyMap.forEach((storytrackId, s3Key) -> imageUrlMap.put(storytrackId, urls.get(s3Key)));
+        return imageUrlMap;
     }
 
 }
\ No newline at end of file
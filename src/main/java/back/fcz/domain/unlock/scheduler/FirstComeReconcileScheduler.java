@@ -0,0 +1,186 @@
+package back.fcz.domain.unlock.scheduler;
+
+import back.fcz.domain.unlock.service.FirstComeService;
+import back.fcz.domain.unlock.service.FirstComeTicketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Redis에서 발급된 선착순 티켓을 DB(PublicCapsuleRecipient, 조회수)에 반영
+ * - 대기 항목이 있는 캡슐 목록(PENDING_CAPSULES_KEY)을 돌며 캡슐별 pending -> processing 으로 옮긴 뒤
+ *   반영이 끝나면 processing에서 제거 (RPOPLPUSH 패턴, 두 목록은 같은 해시 슬롯)
+ * - 반영 로직이 멱등이므로, 재시작 시 processing에 남은 항목은 다시 pending으로 돌려 재처리
+ */
+@Slf4j
+@Component
+@Profile("!test") // 테스트에서는 즉시 반영 모드 사용
+@RequiredArgsConstructor
+public class FirstComeReconcileScheduler {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FirstComeService firstComeService;
+
+    @Value("${capsule.first-come.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${capsule.first-come.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        Set<String> capsuleIds;
+        try {
+            capsuleIds = redisTemplate.opsForSet().members(FirstComeTicketService.PENDING_CAPSULES_KEY);
+        } catch (Exception e) {
+            log.error("선착순 대기 캡슐 목록 조회 실패", e);
+            return;
+        }
+        if (capsuleIds == null || capsuleIds.isEmpty()) {
+            return;
+        }
+
+        int persisted = 0;
+        for (String id : capsuleIds) {
+            if (persisted >= batchSize) {
+                break;
+            }
+            int drained = drainCapsule(Long.parseLong(id), batchSize - persisted);
+            if (drained < 0) {
+                // DB 장애로 보고 다음 주기에 재시도
+                break;
+            }
+            persisted += drained;
+        }
+
+        if (persisted > 0) {
+            log.info("[FirstComeReconcileScheduler] persisted={}", persisted);
+        }
+    }
+
+    // 캡슐 하나의 대기 항목을 최대 limit건 반영 (반영 건수, DB 장애면 -1)
+    private int drainCapsule(Long capsuleId, int limit) {
+        String pendingKey = FirstComeTicketService.pendingKey(capsuleId);
+        String processingKey = FirstComeTicketService.processingKey(capsuleId);
+
+        int persisted = 0;
+        while (persisted < limit) {
+            String payload;
+            try {
+                payload = redisTemplate.opsForList().rightPopAndLeftPush(pendingKey, processingKey);
+            } catch (Exception e) {
+                log.error("선착순 대기 목록 조회 실패. capsuleId={}", capsuleId, e);
+                return -1;
+            }
+
+            if (payload == null) {
+                unregisterIfEmpty(capsuleId);
+                break;
+            }
+
+            if (!persist(payload)) {
+                redisTemplate.opsForList().remove(processingKey, 1, payload);
+                redisTemplate.opsForList().rightPush(pendingKey, payload);
+                return -1;
+            }
+
+            redisTemplate.opsForList().remove(processingKey, 1, payload);
+            persisted++;
+        }
+        return persisted;
+    }
+
+    // 목록에서 뺀 뒤 다시 확인 (그 사이 발급된 티켓은 발급 측의 적재 후 재등록 또는 여기서 되살림)
+    private void unregisterIfEmpty(Long capsuleId) {
+        String id = String.valueOf(capsuleId);
+        redisTemplate.opsForSet().remove(FirstComeTicketService.PENDING_CAPSULES_KEY, id);
+
+        Long pending = redisTemplate.opsForList().size(FirstComeTicketService.pendingKey(capsuleId));
+        Long processing = redisTemplate.opsForList().size(FirstComeTicketService.processingKey(capsuleId));
+        if ((pending != null && pending > 0) || (processing != null && processing > 0)) {
+            redisTemplate.opsForSet().add(FirstComeTicketService.PENDING_CAPSULES_KEY, id);
+        }
+    }
+
+    // 비정상 종료로 processing에 남은 항목을 pending으로 복구 (전역 목록에 남은 이전 형식 항목은 캡슐별 목록으로 이전)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverProcessing() {
+        try {
+            int migrated = migrateLegacy(FirstComeTicketService.LEGACY_PROCESSING_KEY)
+                    + migrateLegacy(FirstComeTicketService.LEGACY_PENDING_KEY);
+
+            int recovered = 0;
+            Set<String> capsuleIds = redisTemplate.opsForSet().members(FirstComeTicketService.PENDING_CAPSULES_KEY);
+            if (capsuleIds != null) {
+                for (String id : capsuleIds) {
+                    Long capsuleId = Long.parseLong(id);
+                    while (redisTemplate.opsForList().rightPopAndLeftPush(
+                            FirstComeTicketService.processingKey(capsuleId),
+                            FirstComeTicketService.pendingKey(capsuleId)) != null) {
+                        recovered++;
+                    }
+                }
+            }
+            if (recovered > 0 || migrated > 0) {
+                log.warn("선착순 반영 대기 항목 복구 - recovered: {}, migrated: {}", recovered, migrated);
+            }
+        } catch (Exception e) {
+            log.error("선착순 반영 대기 항목 복구 실패", e);
+        }
+    }
+
+    private int migrateLegacy(String legacyKey) {
+        int migrated = 0;
+        String payload;
+        while ((payload = redisTemplate.opsForList().rightPop(legacyKey)) != null) {
+            Long capsuleId = FirstComeTicketService.capsuleIdOf(payload);
+            if (capsuleId == null) {
+                log.error("잘못된 선착순 대기 항목 - 폐기. payload: {}", payload);
+                continue;
+            }
+            redisTemplate.opsForSet().add(FirstComeTicketService.PENDING_CAPSULES_KEY, String.valueOf(capsuleId));
+            redisTemplate.opsForList().leftPush(FirstComeTicketService.pendingKey(capsuleId), payload);
+            migrated++;
+        }
+        return migrated;
+    }
+
+    // 반영 성공(또는 재시도 불필요) 시 true
+    private boolean persist(String payload) {
+        String[] fields = payload.split("\\|");
+
+        Long capsuleId;
+        Long memberId;
+        LocalDateTime unlockedAt;
+        try {
+            capsuleId = Long.parseLong(fields[0]);
+            memberId = Long.parseLong(fields[1]);
+            unlockedAt = "null".equals(fields[2]) ? null : LocalDateTime.parse(fields[2]);
+        } catch (RuntimeException e) {
+            log.error("잘못된 선착순 대기 항목 - 폐기. payload: {}", payload, e);
+            return true;
+        }
+
+        try {
+            if (!firstComeService.persistTicket(capsuleId, memberId, unlockedAt)) {
+                // DB 기준 마감 → 수신자로 저장하지 않고 티켓 폐기 (재시도해도 결과가 같음)
+                log.warn("선착순 티켓 반영 거절(DB 마감) - payload: {}", payload);
+            }
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 동시 처리로 이미 저장되었거나 캡슐이 삭제된 경우
+            log.warn("선착순 티켓 반영 건너뜀 - payload: {}", payload, e);
+            return true;
+        } catch (Exception e) {
+            log.error("선착순 티켓 반영 실패 - 재시도 예정. payload: {}", payload, e);
+            return false;
+        }
+    }
+}
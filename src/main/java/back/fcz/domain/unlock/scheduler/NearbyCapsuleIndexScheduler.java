@@ -0,0 +1,55 @@
+package back.fcz.domain.unlock.scheduler;
+
+import back.fcz.domain.unlock.service.NearbyCapsuleIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("!test") // 테스트에서는 인덱스를 적재하지 않고 DB 조회 사용
+@RequiredArgsConstructor
+public class NearbyCapsuleIndexScheduler {
+
+    private final NearbyCapsuleIndex nearbyCapsuleIndex;
+
+    // 시작 시 인덱스 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            nearbyCapsuleIndex.rebuild();
+        } catch (Exception e) {
+            log.error("근처 캡슐 인덱스 초기 적재 실패 - DB 조회로 동작", e);
+        }
+    }
+
+    // 다른 노드에서 생성/삭제된 캡슐 반영
+    @Scheduled(
+            fixedDelayString = "${capsule.nearby-index.refresh-interval-ms:10000}",
+            initialDelayString = "${capsule.nearby-index.refresh-interval-ms:10000}"
+    )
+    public void refresh() {
+        try {
+            nearbyCapsuleIndex.refresh();
+        } catch (Exception e) {
+            log.error("근처 캡슐 인덱스 증분 갱신 실패", e);
+        }
+    }
+
+    // 만료(60일 경과)되거나 물리 삭제된 캡슐 정리
+    @Scheduled(
+            fixedDelayString = "${capsule.nearby-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${capsule.nearby-index.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        try {
+            nearbyCapsuleIndex.rebuild();
+        } catch (Exception e) {
+            log.error("근처 캡슐 인덱스 재적재 실패", e);
+        }
+    }
+}
@@ -2,21 +2,20 @@ package back.fcz.domain.unlock.service;
 
 import back.fcz.domain.capsule.DTO.request.CapsuleConditionRequestDTO;
 import back.fcz.domain.capsule.entity.*;
-import back.fcz.domain.capsule.repository.CapsuleOpenLogRepository;
 import back.fcz.domain.capsule.repository.CapsuleRepository;
 import back.fcz.domain.capsule.repository.PublicCapsuleRecipientRepository;
+import back.fcz.domain.capsule.service.CapsuleEntityCache;
+import back.fcz.domain.capsule.service.CapsuleOpenLogService;
+import back.fcz.domain.capsule.service.ViewCountBuffer;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.time.LocalDateTime;
 
 // 선착순 캡슐 조회수 관리 서비스
 
@@ -27,19 +26,14 @@ public class FirstComeService {
 
     private final CapsuleRepository capsuleRepository;
     private final PublicCapsuleRecipientRepository publicCapsuleRecipientRepository;
-    private final RedissonClient redissonClient;
-    private final CapsuleOpenLogRepository capsuleOpenLogRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final CapsuleOpenLogService capsuleOpenLogService;
+    private final CapsuleEntityCache capsuleEntityCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final FirstComeTicketService firstComeTicketService;
 
-
-    // 선착순 Redisson 락 관련 상수
-    private static final String FIRST_COME_LOCK_PREFIX = "capsule:firstcome:lock:";
-    private static final long LOCK_WAIT_TIME = 5L;  // 락 획득 대기 시간 (초)
-    private static final long LOCK_LEASE_TIME = 2L;  // 락 자동 해제 시간 (초)
-
-    // Redis 조회수 관리 상수
-    private static final String VIEW_COUNT_KEY_PREFIX = "capsule:view:";
-    private static final Duration VIEW_COUNT_TTL = Duration.ofMinutes(30);
+    // 선착순 수신자 DB 반영을 비동기(FirstComeReconcileScheduler)로 처리할지 여부
+    @Value("${capsule.first-come.async-persist:true}")
+    private boolean asyncPersist;
 
     // 선착순 제한이 있는 캡슐인지 확인
     public boolean hasFirstComeLimit(Capsule capsule) {
@@ -63,36 +57,81 @@ public class FirstComeService {
             Long memberId,
             CapsuleConditionRequestDTO requestDto
     ) {
-        String lockKey = FIRST_COME_LOCK_PREFIX + capsuleId;
-        RLock lock = redissonClient.getLock(lockKey);
+        // 비동기 반영 모드에서는 티켓 발급과 함께 Redis 대기 목록에 적재
+        String pendingPayload = asyncPersist
+                ? FirstComeTicketService.toPendingPayload(capsuleId, memberId, requestDto.unlockAt())
+                : null;
 
+        long ticket;
         try {
-            // 락 획득 시도 (대기 시간, 자동 해제 시간)
-            boolean acquired = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
-
-            if (!acquired) {
-                log.warn("락 획득 실패 - 타임아웃. capsuleId={}, memberId={}", capsuleId, memberId);
-                throw new BusinessException(ErrorCode.FIRST_COME_TIMEOUT);
-            }
-
-            log.debug("락 획득 성공. capsuleId={}, memberId={}", capsuleId, memberId);
-
-            return processFirstComeWithLock(capsuleId, memberId, requestDto);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("락 획득 중 인터럽트 발생. capsuleId={}", capsuleId, e);
-            throw new BusinessException(ErrorCode.FIRST_COME_INTERRUPTED);
-        } finally {
-            // 락 해제 (현재 스레드가 락을 보유한 경우에만)
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.debug("락 해제 완료. capsuleId={}", capsuleId);
-            }
+            ticket = firstComeTicketService.tryAcquire(capsuleId, memberId, pendingPayload);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Redis 장애 발생 - DB 조건부 UPDATE로 폴백. capsuleId={}", capsuleId, e);
+            return processFirstComeWithDb(capsuleId, memberId, requestDto);
+        }
+
+        if (ticket == FirstComeTicketService.ALREADY_VIEWED) {
+            log.info("이미 조회한 사용자 - 재조회. capsuleId={}, memberId={}", capsuleId, memberId);
+            return false;
+        }
+
+        if (ticket == FirstComeTicketService.SOLD_OUT) {
+            log.info("선착순 마감. capsuleId={}", capsuleId);
+            throw new BusinessException(ErrorCode.FIRST_COME_CLOSED);
+        }
+
+        if (!asyncPersist && !persistTicket(capsuleId, memberId, requestDto.unlockAt())) {
+            throw new BusinessException(ErrorCode.FIRST_COME_CLOSED);
+        }
+
+        saveSuccessLog(capsuleId, memberId, requestDto);
+
+        log.info("선착순 티켓 발급 성공. capsuleId={}, memberId={}", capsuleId, memberId);
+        return true;
+    }
+
+    /**
+     * 발급된 선착순 티켓을 DB에 반영 (수신자 저장 + 조회수 증가)
+     * - 이미 수신자로 저장된 경우 무시하므로 재처리해도 안전
+     * - 조회수 증가에 실패하면(DB 기준 마감) Redis 티켓과 DB가 어긋난 것이므로 수신자로 저장하지 않고,
+     *   티켓 키를 비워 DB 기준으로 재초기화 (해당 티켓은 발급 취소)
+     * @return 조회수 증가 성공 여부
+     */
+    @Transactional
+    public boolean persistTicket(Long capsuleId, Long memberId, LocalDateTime unlockedAt) {
+        boolean alreadySaved = publicCapsuleRecipientRepository
+                .existsByCapsuleId_CapsuleIdAndMemberId(capsuleId, memberId);
+
+        if (alreadySaved) {
+            return true;
+        }
+
+        int updatedRows = capsuleRepository.incrementViewCountIfAvailable(capsuleId);
+
+        if (updatedRows == 0) {
+            log.error("선착순 티켓과 DB 조회수 불일치 - 수신자 저장 생략 및 티켓 재초기화. capsuleId={}, memberId={}",
+                    capsuleId, memberId);
+            firstComeTicketService.clear(capsuleId);
+            return false;
         }
+
+        PublicCapsuleRecipient recipient = PublicCapsuleRecipient.builder()
+                .capsuleId(capsuleRepository.getReferenceById(capsuleId))
+                .memberId(memberId)
+                .unlockedAt(unlockedAt)
+                .build();
+        publicCapsuleRecipientRepository.save(recipient);
+
+        // 남은 인원이 응답에 노출되므로 캐시된 조회수 무효화
+        capsuleEntityCache.evict(capsuleId);
+
+        return true;
     }
 
-    // 락을 획득한 상태에서 실제 공개 캡슐 조회 처리
-    public boolean processFirstComeWithLock(
+    // Redis 장애 시 DB 조건부 UPDATE만으로 선착순 처리 (수량 초과는 UPDATE 조건, 중복은 유니크 제약이 방지)
+    private boolean processFirstComeWithDb(
             Long capsuleId,
             Long memberId,
             CapsuleConditionRequestDTO requestDto
@@ -106,10 +145,6 @@ public class FirstComeService {
             return false;
         }
 
-        // 캡슐 조회
-        Capsule capsule = capsuleRepository.findById(capsuleId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
-
         // UPDATE 쿼리로 원자적으로 증가 및 마감 체크
         int updatedRows = capsuleRepository.incrementViewCountIfAvailable(capsuleId);
 
@@ -119,11 +154,26 @@ public class FirstComeService {
             throw new BusinessException(ErrorCode.FIRST_COME_CLOSED);
         }
 
-        log.info("선착순 조회수 증가 성공. capsuleId={}", capsuleId);
+        capsuleEntityCache.evict(capsuleId);
+
+        //수신자 정보 저장
+        PublicCapsuleRecipient recipient = PublicCapsuleRecipient.builder()
+                .capsuleId(capsuleRepository.getReferenceById(capsuleId))
+                .memberId(memberId)
+                .unlockedAt(requestDto.unlockAt())
+                .build();
+        publicCapsuleRecipientRepository.save(recipient);
+
+        saveSuccessLog(capsuleId, memberId, requestDto);
 
-        // 성공 로그 저장
+        log.info("선착순 진입 성공(DB 폴백). capsuleId={}, memberId={}", capsuleId, memberId);
+        return true;
+    }
+
+    // 성공 로그 저장 (재조회 판단에 바로 쓰이므로 write-behind 없이 즉시 저장)
+    private void saveSuccessLog(Long capsuleId, Long memberId, CapsuleConditionRequestDTO requestDto) {
         CapsuleOpenLog openLog = CapsuleOpenLog.builder()
-                .capsuleId(capsule)
+                .capsuleId(capsuleRepository.getReferenceById(capsuleId))
                 .memberId(memberId)
                 .viewerType("MEMBER")
                 .status(CapsuleOpenStatus.SUCCESS)
@@ -134,21 +184,7 @@ public class FirstComeService {
                 .userAgent(requestDto.userAgent())
                 .ipAddress(requestDto.ipAddress())
                 .build();
-        capsuleOpenLogRepository.save(openLog);
-
-        //수신자 정보 저장
-        PublicCapsuleRecipient recipient = PublicCapsuleRecipient.builder()
-                .capsuleId(capsule)
-                .memberId(memberId)
-                .unlockedAt(requestDto.unlockAt())
-                .build();
-
-        publicCapsuleRecipientRepository.save(recipient);
-
-        log.info("선착순 진입 성공. capsuleId={}, memberId={}, currentCount={}/{}",
-                capsuleId, memberId, capsule.getCurrentViewCount(), capsule.getMaxViewCount());
-
-        return true;
+        capsuleOpenLogService.saveLog(openLog);
     }
 
     // 일반 공개 캡슐
@@ -169,7 +205,7 @@ public class FirstComeService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
 
         // 조회수 증가
-        incrementViewCountViaRedis(capsuleId);
+        viewCountBuffer.increment(capsuleId);
 
         // 수신자 정보 저장
         PublicCapsuleRecipient recipient = PublicCapsuleRecipient.builder()
@@ -181,22 +217,4 @@ public class FirstComeService {
 
         log.info("선착순 없음 - 첫 조회 성공. capsuleId={}, memberId={}", capsuleId, memberId);
     }
-
-    // Redis 활용한 조회수 증가
-    private void incrementViewCountViaRedis(Long capsuleId) {
-        String key = VIEW_COUNT_KEY_PREFIX + capsuleId;
-
-        try {
-            Long newCount = redisTemplate.opsForValue().increment(key);
-
-            if (newCount != null && newCount == 1) {
-                redisTemplate.expire(key, VIEW_COUNT_TTL);
-            }
-
-            log.debug("Redis 조회수 증가 성공 - capsuleId: {}", capsuleId);
-        } catch (Exception e) {
-            log.error("Redis 장애 발생 - DB 직접 업데이트로 폴백. capsuleId: {}", capsuleId, e);
-            capsuleRepository.incrementViewCount(capsuleId);
-        }
-    }
 }
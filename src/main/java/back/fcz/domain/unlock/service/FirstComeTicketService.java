@@ -0,0 +1,218 @@
+package back.fcz.domain.unlock.service;
+
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.capsule.repository.PublicCapsuleRecipientRepository;
+import back.fcz.global.exception.BusinessException;
+import back.fcz.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선착순 캡슐 티켓 발급 (Redis Lua 스크립트 기반, 락 없음)
+ * - 회원 중복 확인 + 잔여 수량 차감 + 수신자 등록을 하나의 스크립트로 원자적으로 처리
+ * - 잔여 수량 키가 없으면 DB의 현재 조회수/수신자 목록 + 아직 DB에 반영되지 않은 대기 항목으로 초기화
+ * - 비동기 반영 모드에서는 발급과 동시에 캡슐별 대기 목록(pending)에 적재하고, FirstComeReconcileScheduler가 DB에 반영
+ * - 한 캡슐의 키는 모두 {capsuleId} 해시 태그를 붙여 Redis Cluster에서도 같은 슬롯에 둠
+ *   (대기 항목이 있는 캡슐 목록은 태그 없는 별도 Set으로 관리하고 스크립트 밖에서 갱신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FirstComeTicketService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CapsuleRepository capsuleRepository;
+    private final PublicCapsuleRecipientRepository publicCapsuleRecipientRepository;
+
+    private static final String KEY_PREFIX = "capsule:firstcome:";
+    private static final String REMAINING_SUFFIX = ":remaining";
+    private static final String MEMBERS_SUFFIX = ":members";
+    private static final String PENDING_SUFFIX = ":pending";
+    private static final String PROCESSING_SUFFIX = ":processing";
+    // 대기 항목이 있을 수 있는 캡슐 id 목록 (스케줄러 순회용)
+    public static final String PENDING_CAPSULES_KEY = "capsule:firstcome:pending-capsules";
+    // 캡슐별 대기 목록 이전에 쓰던 전역 목록 (기동 시 캡슐별 목록으로 옮김)
+    public static final String LEGACY_PENDING_KEY = "capsule:firstcome:pending";
+    public static final String LEGACY_PROCESSING_KEY = "capsule:firstcome:processing";
+    private static final Duration TICKET_TTL = Duration.ofHours(24);
+
+    public static final long GRANTED = 1L;
+    public static final long ALREADY_VIEWED = 0L;
+    public static final long SOLD_OUT = -1L;
+    private static final long NOT_INITIALIZED = -2L;
+
+    private static final String FIELD_DELIMITER = "|";
+
+    // KEYS: remaining, members, pending / ARGV: memberId, ttlSeconds, pendingPayload('' 이면 적재 안 함)
+    private final DefaultRedisScript<Long> ticketScript = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -2
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+              return 0
+            end
+            local remaining = tonumber(redis.call('GET', KEYS[1]))
+            if remaining <= 0 then
+              return -1
+            end
+            redis.call('DECR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[2]))
+            redis.call('EXPIRE', KEYS[2], tonumber(ARGV[2]))
+            if ARGV[3] ~= '' then
+              redis.call('LPUSH', KEYS[3], ARGV[3])
+            end
+            return 1
+            """,
+            Long.class
+    );
+
+    // KEYS: remaining, members, pending, processing / ARGV: DB 기준 remaining, ttlSeconds, memberId...
+    // 아직 DB에 반영되지 않은 대기/처리 중 항목은 이미 발급된 티켓이므로 잔여 수량에서 빼고 회원 목록에 넣음
+    private final DefaultRedisScript<Long> initScript = new DefaultRedisScript<>(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            local backlog = 0
+            for k = 3, 4 do
+              for _, item in ipairs(redis.call('LRANGE', KEYS[k], 0, -1)) do
+                local memberId = string.match(item, '^[^|]*|([^|]*)|')
+                if memberId then
+                  redis.call('SADD', KEYS[2], memberId)
+                  backlog = backlog + 1
+                end
+              end
+            end
+            local remaining = math.max(0, tonumber(ARGV[1]) - backlog)
+            redis.call('SET', KEYS[1], remaining, 'EX', tonumber(ARGV[2]))
+            for i = 3, #ARGV do
+              redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              redis.call('EXPIRE', KEYS[2], tonumber(ARGV[2]))
+            end
+            return 1
+            """,
+            Long.class
+    );
+
+    /**
+     * 선착순 티켓 발급 시도
+     * @param pendingPayload 비동기 반영용 대기 목록 항목 (null이면 호출 측에서 즉시 반영)
+     * @return GRANTED / ALREADY_VIEWED / SOLD_OUT
+     */
+    public long tryAcquire(Long capsuleId, Long memberId, String pendingPayload) {
+        if (pendingPayload != null) {
+            // 적재 전에 먼저 등록 (적재 직후 장애가 나도 스케줄러가 이 캡슐의 대기 목록을 찾을 수 있게)
+            registerPendingCapsule(capsuleId);
+        }
+
+        long result = executeTicket(capsuleId, memberId, pendingPayload);
+
+        if (result == NOT_INITIALIZED) {
+            initialize(capsuleId);
+            result = executeTicket(capsuleId, memberId, pendingPayload);
+        }
+
+        if (result == NOT_INITIALIZED) {
+            // 초기화 직후 TTL 만료 등 비정상 상황
+            log.error("선착순 티켓 초기화 실패. capsuleId={}", capsuleId);
+            throw new BusinessException(ErrorCode.FAILED_FIRST_COME_REQUEST);
+        }
+
+        if (result == GRANTED && pendingPayload != null) {
+            // 스케줄러가 빈 목록이라 보고 등록을 지운 직후 적재된 경우를 위해 적재 후 한 번 더 등록
+            // (티켓은 이미 발급됐으므로 실패해도 예외를 올리지 않음 - 적재 전 등록이 있어 대부분 이미 등록된 상태)
+            try {
+                registerPendingCapsule(capsuleId);
+            } catch (Exception e) {
+                log.warn("선착순 대기 캡슐 재등록 실패. capsuleId={}", capsuleId, e);
+            }
+        }
+        return result;
+    }
+
+    // 대기 항목이 있는 캡슐로 등록 (멱등)
+    public void registerPendingCapsule(Long capsuleId) {
+        redisTemplate.opsForSet().add(PENDING_CAPSULES_KEY, String.valueOf(capsuleId));
+    }
+
+    // 티켓 키 삭제 (캡슐 삭제 등으로 DB 기준 재초기화가 필요할 때)
+    public void clear(Long capsuleId) {
+        redisTemplate.delete(List.of(remainingKey(capsuleId), membersKey(capsuleId)));
+    }
+
+    public static String toPendingPayload(Long capsuleId, Long memberId, LocalDateTime unlockedAt) {
+        return capsuleId + FIELD_DELIMITER + memberId + FIELD_DELIMITER + unlockedAt;
+    }
+
+    private long executeTicket(Long capsuleId, Long memberId, String pendingPayload) {
+        Long result = redisTemplate.execute(
+                ticketScript,
+                List.of(remainingKey(capsuleId), membersKey(capsuleId), pendingKey(capsuleId)),
+                String.valueOf(memberId),
+                String.valueOf(TICKET_TTL.getSeconds()),
+                pendingPayload == null ? "" : pendingPayload
+        );
+        return result == null ? NOT_INITIALIZED : result;
+    }
+
+    // DB의 현재 조회수/수신자 목록과 미반영 대기 항목으로 티켓 키 초기화 (이미 있으면 무시)
+    private void initialize(Long capsuleId) {
+        Capsule capsule = capsuleRepository.findById(capsuleId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CAPSULE_NOT_FOUND));
+
+        int remaining = Math.max(0, capsule.getMaxViewCount() - capsule.getCurrentViewCount());
+        List<Long> memberIds = publicCapsuleRecipientRepository.findMemberIdsByCapsuleId(capsuleId);
+
+        List<String> args = new ArrayList<>(memberIds.size() + 2);
+        args.add(String.valueOf(remaining));
+        args.add(String.valueOf(TICKET_TTL.getSeconds()));
+        memberIds.forEach(id -> args.add(String.valueOf(id)));
+
+        redisTemplate.execute(
+                initScript,
+                List.of(remainingKey(capsuleId), membersKey(capsuleId), pendingKey(capsuleId), processingKey(capsuleId)),
+                args.toArray()
+        );
+        log.info("선착순 티켓 초기화 (미반영 대기 항목은 스크립트에서 차감). capsuleId={}, dbRemaining={}, recipients={}",
+                capsuleId, remaining, memberIds.size());
+    }
+
+    private String remainingKey(Long capsuleId) {
+        return KEY_PREFIX + "{" + capsuleId + "}" + REMAINING_SUFFIX;
+    }
+
+    private String membersKey(Long capsuleId) {
+        return KEY_PREFIX + "{" + capsuleId + "}" + MEMBERS_SUFFIX;
+    }
+
+    public static String pendingKey(Long capsuleId) {
+        return KEY_PREFIX + "{" + capsuleId + "}" + PENDING_SUFFIX;
+    }
+
+    public static String processingKey(Long capsuleId) {
+        return KEY_PREFIX + "{" + capsuleId + "}" + PROCESSING_SUFFIX;
+    }
+
+    // 대기 항목에서 capsuleId 추출 (형식이 잘못되면 null)
+    public static Long capsuleIdOf(String payload) {
+        int delimiter = payload.indexOf(FIELD_DELIMITER);
+        try {
+            return Long.parseLong(delimiter < 0 ? payload : payload.substring(0, delimiter));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
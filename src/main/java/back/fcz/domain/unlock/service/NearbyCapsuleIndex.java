@@ -0,0 +1,251 @@
+package back.fcz.domain.unlock.service;
+
+import back.fcz.domain.capsule.DTO.CapsuleLocation;
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.capsule.service.CapsuleEntityCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 근처 공개 캡슐 조회용 인메모리 격자(grid) 공간 인덱스
+ * - 위경도를 CELL_SIZE_DEGREE 단위 격자로 나눠 캡슐 ID/위치만 보관
+ * - 반경 조회 시 bounding box에 걸치는 격자만 훑고, 캡슐 본문은 CapsuleEntityCache에서 일괄 조회
+ * - 조회수/만료 등 시간에 따라 바뀌는 조건은 조회 시점에 캡슐 값으로 다시 검사
+ * - 노드별 인덱스이므로 다른 노드의 변경은 NearbyCapsuleIndexScheduler의 증분 갱신으로 반영
+ * - 초기 적재 전에는 DB bounding box 조회로 폴백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearbyCapsuleIndex {
+
+    private final CapsuleRepository capsuleRepository;
+    private final CapsuleEntityCache capsuleEntityCache;
+
+    // 위도 0.01도 ≒ 1.1km (최대 반경 1.5km 조회 시 격자 3~4개 x 3~4개)
+    private static final double CELL_SIZE_DEGREE = 0.01;
+    private static final int RETENTION_DAYS = 60;
+
+    // 증분 갱신 시 커밋 지연/노드 간 시계 오차를 고려해 겹쳐서 조회
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private record Entry(Long capsuleId, double lat, double lng, long cellKey) {
+    }
+
+    private volatile Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastRefreshedAt;
+
+    /**
+     * bounding box 내 공개 캡슐 조회 (CapsuleRepository.findNearbyCapsules와 같은 조건)
+     */
+    public List<Capsule> findNearbyCapsules(
+            double minLat, double maxLat,
+            double minLng, double maxLng,
+            LocalDateTime now, LocalDateTime sixtyDaysAgo
+    ) {
+        if (!ready) {
+            return capsuleRepository.findNearbyCapsules(minLat, maxLat, minLng, maxLng, now, sixtyDaysAgo);
+        }
+
+        Map<Long, Entry> currentEntries = entries;
+        Map<Long, Set<Long>> currentCells = cells;
+
+        Set<Long> candidateIds = new HashSet<>();
+        for (long latIdx = cellIndex(minLat); latIdx <= cellIndex(maxLat); latIdx++) {
+            for (long lngIdx = cellIndex(minLng); lngIdx <= cellIndex(maxLng); lngIdx++) {
+                Set<Long> cell = currentCells.get(cellKey(latIdx, lngIdx));
+                if (cell == null) {
+                    continue;
+                }
+                for (Long capsuleId : cell) {
+                    Entry entry = currentEntries.get(capsuleId);
+                    if (entry != null
+                            && entry.lat() >= minLat && entry.lat() <= maxLat
+                            && entry.lng() >= minLng && entry.lng() <= maxLng) {
+                        candidateIds.add(capsuleId);
+                    }
+                }
+            }
+        }
+
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Capsule> result = new ArrayList<>(candidateIds.size());
+        Set<Long> found = new HashSet<>();
+        for (Capsule capsule : capsuleEntityCache.findAll(candidateIds)) {
+            found.add(capsule.getCapsuleId());
+
+            if (!isIndexable(capsule)) {
+                // 삭제/비공개 전환은 되돌릴 수 있는 상태가 아니므로 인덱스에서 정리
+                remove(capsule.getCapsuleId());
+                continue;
+            }
+            if (isVisible(capsule, now, sixtyDaysAgo)) {
+                result.add(capsule);
+            }
+        }
+
+        // DB에서 완전히 삭제된 캡슐 정리
+        candidateIds.stream()
+                .filter(id -> !found.contains(id))
+                .forEach(this::remove);
+
+        return result;
+    }
+
+    // 캡슐 생성 시 인덱스 반영 (트랜잭션 중이면 커밋 이후 반영)
+    public void add(Capsule capsule) {
+        CapsuleLocation location = new CapsuleLocation(
+                capsule.getCapsuleId(),
+                capsule.getLocationLat(),
+                capsule.getLocationLng(),
+                capsule.getVisibility(),
+                capsule.getIsDeleted()
+        );
+        if (!location.isIndexable()) {
+            return;
+        }
+
+        runAfterCommit(() -> apply(location));
+    }
+
+    // 캡슐 삭제 시 인덱스에서 제거 (트랜잭션 중이면 커밋 이후 반영)
+    public void delete(Long capsuleId) {
+        runAfterCommit(() -> remove(capsuleId));
+    }
+
+    private void remove(Long capsuleId) {
+        Entry removed = entries.remove(capsuleId);
+        if (removed == null) {
+            return;
+        }
+        cells.computeIfPresent(removed.cellKey(), (key, cell) -> {
+            cell.remove(capsuleId);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    // 전체 재적재 (시작 시 / 주기적 정리)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<CapsuleLocation> locations =
+                capsuleRepository.findIndexableLocations(startedAt.minusDays(RETENTION_DAYS));
+
+        Map<Long, Entry> newEntries = new ConcurrentHashMap<>(locations.size() * 2);
+        Map<Long, Set<Long>> newCells = new ConcurrentHashMap<>();
+        for (CapsuleLocation location : locations) {
+            put(newEntries, newCells, location);
+        }
+
+        entries = newEntries;
+        cells = newCells;
+        lastRefreshedAt = startedAt;
+        ready = true;
+
+        log.info("근처 캡슐 인덱스 재적재 완료 - capsules: {}, cells: {}", newEntries.size(), newCells.size());
+    }
+
+    // 마지막 갱신 이후 생성/수정된 캡슐만 반영 (다른 노드에서 발생한 변경 포함)
+    public void refresh() {
+        if (!ready) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<CapsuleLocation> changed =
+                capsuleRepository.findLocationsUpdatedSince(lastRefreshedAt.minus(REFRESH_OVERLAP));
+
+        for (CapsuleLocation location : changed) {
+            apply(location);
+        }
+        lastRefreshedAt = startedAt;
+
+        if (!changed.isEmpty()) {
+            log.debug("근처 캡슐 인덱스 증분 갱신 - changed: {}", changed.size());
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+
+    private void apply(CapsuleLocation location) {
+        if (location.isIndexable()) {
+            remove(location.capsuleId());
+            put(entries, cells, location);
+        } else {
+            remove(location.capsuleId());
+        }
+    }
+
+    private void put(Map<Long, Entry> targetEntries, Map<Long, Set<Long>> targetCells, CapsuleLocation location) {
+        long key = cellKey(cellIndex(location.locationLat()), cellIndex(location.locationLng()));
+        targetEntries.put(location.capsuleId(),
+                new Entry(location.capsuleId(), location.locationLat(), location.locationLng(), key));
+        targetCells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(location.capsuleId());
+    }
+
+    private boolean isIndexable(Capsule capsule) {
+        return "PUBLIC".equals(capsule.getVisibility())
+                && capsule.getIsDeleted() == 0
+                && capsule.getLocationLat() != null
+                && capsule.getLocationLng() != null;
+    }
+
+    // CapsuleRepository.findNearbyCapsules의 시간/인원 조건과 동일
+    private boolean isVisible(Capsule capsule, LocalDateTime now, LocalDateTime sixtyDaysAgo) {
+        if (capsule.getMaxViewCount() != 0 && capsule.getCurrentViewCount() >= capsule.getMaxViewCount()) {
+            return false;
+        }
+        if (capsule.getUnlockUntil() != null && !now.isBefore(capsule.getUnlockUntil())) {
+            return false;
+        }
+
+        String unlockType = capsule.getUnlockType();
+        if ("TIME".equals(unlockType) || "TIME_AND_LOCATION".equals(unlockType)) {
+            return capsule.getUnlockAt() != null && !capsule.getUnlockAt().isBefore(sixtyDaysAgo);
+        }
+        if ("LOCATION".equals(unlockType)) {
+            return capsule.getCreatedAt() != null && !capsule.getCreatedAt().isBefore(sixtyDaysAgo);
+        }
+        return false;
+    }
+
+    private static long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE_DEGREE);
+    }
+
+    private static long cellKey(long latIdx, long lngIdx) {
+        return (latIdx << 32) ^ (lngIdx & 0xFFFFFFFFL);
+    }
+}
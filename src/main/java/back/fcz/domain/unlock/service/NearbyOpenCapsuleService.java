@@ -2,7 +2,6 @@ package back.fcz.domain.unlock.service;
 
 import back.fcz.domain.capsule.entity.Capsule;
 import back.fcz.domain.capsule.repository.CapsuleLikeRepository;
-import back.fcz.domain.capsule.repository.CapsuleRepository;
 import back.fcz.domain.capsule.repository.PublicCapsuleRecipientRepository;
 import back.fcz.domain.unlock.dto.request.NearbyOpenCapsuleRequest;
 import back.fcz.domain.unlock.dto.response.NearbyOpenCapsuleResponse;
@@ -22,7 +21,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NearbyOpenCapsuleService {
     private final PublicCapsuleRecipientRepository publicCapsuleRecipientRepository;
-    private final CapsuleRepository capsuleRepository;
+    private final NearbyCapsuleIndex nearbyCapsuleIndex;
     private final CapsuleLikeRepository capsuleLikeRepository;
     private final UnlockService unlockService;
 
@@ -53,8 +52,8 @@ public class NearbyOpenCapsuleService {
         double maxLng = currentLng + lngOffset;
 
         // 공개 캡슐은 위치 정보가 기본이므로, 해제 조건이 시간인지, 위치인지 필터링 불필요
-        // 공개 + 삭제되지 않은 + bounding box 범위 내 공개 캡슐 조회
-        List<Capsule> capsules = capsuleRepository.findNearbyCapsules(minLat, maxLat, minLng, maxLng, currentTime, sixtyDaysAgo);
+        // 공개 + 삭제되지 않은 + bounding box 범위 내 공개 캡슐 조회 (인메모리 공간 인덱스)
+        List<Capsule> capsules = nearbyCapsuleIndex.findNearbyCapsules(minLat, maxLat, minLng, maxLng, currentTime, sixtyDaysAgo);
 
         // 사용자가 열람한 공개 캡슐의 ID 목록 조회
         Set<Long> viewedCapsuleIds = publicCapsuleRecipientRepository.findViewedCapsuleIdsByMemberId(memberId);
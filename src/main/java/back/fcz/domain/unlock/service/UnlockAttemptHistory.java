@@ -0,0 +1,227 @@
+package back.fcz.domain.unlock.service;
+
+import back.fcz.domain.capsule.entity.CapsuleOpenLog;
+import back.fcz.domain.capsule.entity.CapsuleOpenStatus;
+import back.fcz.domain.capsule.repository.CapsuleOpenLogRepository;
+import back.fcz.domain.sanction.constant.SanctionConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 캡슐 해제 시도의 이상 탐지용 최근 이력 (Redis)
+ * - (캡슐, 회원 또는 IP)별로 최근 MAX_ATTEMPTS건의 시도(시각/위치/상태)만 리스트로 유지
+ * - CapsuleOpenLogService가 로그를 저장할 때(트랜잭션이면 커밋 후) 함께 기록하므로, 탐지 시 capsule_openLog 테이블을 조회하지 않음
+ * - 키가 없으면(eviction, Redis 재시작, 기록 실패 등) DB에서 최근 로그를 조회해 채움
+ * - Redis 장애 시에는 기존과 같이 DB에서 최근 로그를 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnlockAttemptHistory {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CapsuleOpenLogRepository capsuleOpenLogRepository;
+    private final SanctionConstants sanctionConstants;
+
+    // 기존 findTop15... 조회와 같은 건수
+    public static final int MAX_ATTEMPTS = 15;
+
+    private static final String KEY_PREFIX = "unlock:attempts:";
+    private static final String FIELD_SEPARATOR = "|";
+
+    // 최신 시도를 앞에 추가하고 MAX_ATTEMPTS건만 남긴 뒤 TTL 갱신
+    private final DefaultRedisScript<Long> recordScript = new DefaultRedisScript<>(
+            """
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """,
+            Long.class
+    );
+
+    // 키가 없을 때 DB 조회 결과로 채움 (그 사이 record로 생긴 항목은 유지하고 같은 값은 건너뜀, 오래된 항목이 뒤로)
+    // KEYS: 이력 키 / ARGV: maxAttempts, ttlMs, 최신순 시도...
+    private final DefaultRedisScript<Long> backfillScript = new DefaultRedisScript<>(
+            """
+            local existing = {}
+            for _, value in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+              existing[value] = true
+            end
+            for i = 3, #ARGV do
+              if not existing[ARGV[i]] then
+                redis.call('RPUSH', KEYS[1], ARGV[i])
+              end
+            end
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """,
+            Long.class
+    );
+
+    public record Attempt(
+            LocalDateTime openedAt,
+            Double currentLat,
+            Double currentLng,
+            CapsuleOpenStatus status
+    ) {
+        static Attempt from(CapsuleOpenLog openLog) {
+            return new Attempt(
+                    openLog.getOpenedAt(),
+                    openLog.getCurrentLat(),
+                    openLog.getCurrentLng(),
+                    openLog.getStatus()
+            );
+        }
+
+        public boolean hasLocation() {
+            return currentLat != null && currentLng != null;
+        }
+
+        // 시간/위치 조건 미충족으로 인한 실패
+        public boolean isConditionFailure() {
+            return status == CapsuleOpenStatus.FAIL_TIME
+                    || status == CapsuleOpenStatus.FAIL_LOCATION
+                    || status == CapsuleOpenStatus.FAIL_BOTH;
+        }
+    }
+
+    // 열람 로그 저장 시 호출 (기록 실패는 탐지 정확도에만 영향을 주므로 예외를 전파하지 않음)
+    public void record(CapsuleOpenLog openLog) {
+        if (openLog.getCapsuleId() == null || openLog.getOpenedAt() == null || openLog.getStatus() == null) {
+            return;
+        }
+
+        String key = keyOf(openLog.getCapsuleId().getCapsuleId(), openLog.getMemberId(), openLog.getIpAddress());
+        if (key == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(
+                    recordScript,
+                    List.of(key),
+                    serialize(Attempt.from(openLog)),
+                    String.valueOf(MAX_ATTEMPTS),
+                    String.valueOf(windowTtl().toMillis())
+            );
+        } catch (Exception e) {
+            log.warn("해제 시도 이력 기록 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * windowStart 이후의 최근 시도 (최신순, 최대 MAX_ATTEMPTS건)
+     * 회원은 memberId, 비회원은 IP 기준이며 둘 다 없으면 빈 목록
+     */
+    public List<Attempt> findRecent(Long capsuleId, Long memberId, String ipAddress, LocalDateTime windowStart) {
+        String key = keyOf(capsuleId, memberId, ipAddress);
+        if (key == null) {
+            return List.of();
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForList().range(key, 0, MAX_ATTEMPTS - 1);
+            if (values == null || values.isEmpty()) {
+                // 빈 리스트 키는 존재하지 않으므로 키가 없는 경우
+                return backfill(key, capsuleId, memberId, ipAddress, windowStart);
+            }
+
+            List<Attempt> attempts = new ArrayList<>(values.size());
+            for (String value : values) {
+                Attempt attempt = deserialize(value);
+                if (attempt != null && attempt.openedAt().isAfter(windowStart)) {
+                    attempts.add(attempt);
+                }
+            }
+            // write-behind 저장 순서와 무관하게 시각 기준 최신순
+            attempts.sort(Comparator.comparing(Attempt::openedAt).reversed());
+            return attempts;
+        } catch (Exception e) {
+            log.error("해제 시도 이력 조회 실패 - DB 조회로 폴백. key: {}", key, e);
+            return findRecentFromDb(capsuleId, memberId, ipAddress, windowStart);
+        }
+    }
+
+    // 테스트에서 이전 실행의 이력을 비울 때만 사용
+    void clear(Long capsuleId, Long memberId, String ipAddress) {
+        String key = keyOf(capsuleId, memberId, ipAddress);
+        if (key != null) {
+            redisTemplate.delete(key);
+        }
+    }
+
+    private List<Attempt> backfill(String key, Long capsuleId, Long memberId, String ipAddress, LocalDateTime windowStart) {
+        List<Attempt> attempts = findRecentFromDb(capsuleId, memberId, ipAddress, windowStart);
+        if (attempts.isEmpty()) {
+            return attempts;
+        }
+
+        List<String> args = new ArrayList<>(attempts.size() + 2);
+        args.add(String.valueOf(MAX_ATTEMPTS));
+        args.add(String.valueOf(windowTtl().toMillis()));
+        attempts.forEach(attempt -> args.add(serialize(attempt)));
+        try {
+            redisTemplate.execute(backfillScript, List.of(key), args.toArray());
+        } catch (Exception e) {
+            log.warn("해제 시도 이력 채우기 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+        return attempts;
+    }
+
+    private List<Attempt> findRecentFromDb(Long capsuleId, Long memberId, String ipAddress, LocalDateTime windowStart) {
+        List<CapsuleOpenLog> logs = memberId != null
+                ? capsuleOpenLogRepository.findTop15ByCapsuleId_CapsuleIdAndMemberIdAndOpenedAtAfterOrderByOpenedAtDesc(
+                        capsuleId, memberId, windowStart)
+                : capsuleOpenLogRepository.findTop15ByCapsuleId_CapsuleIdAndIpAddressAndOpenedAtAfterOrderByOpenedAtDesc(
+                        capsuleId, ipAddress, windowStart);
+
+        return logs.stream().map(Attempt::from).toList();
+    }
+
+    private static String keyOf(Long capsuleId, Long memberId, String ipAddress) {
+        if (memberId != null) {
+            return KEY_PREFIX + capsuleId + ":member:" + memberId;
+        }
+        if (ipAddress != null && !ipAddress.equals("UNKNOWN")) {
+            return KEY_PREFIX + capsuleId + ":ip:" + ipAddress;
+        }
+        return null;
+    }
+
+    private Duration windowTtl() {
+        return Duration.ofHours(sanctionConstants.getLogWindowHours());
+    }
+
+    private static String serialize(Attempt attempt) {
+        return attempt.openedAt()
+                + FIELD_SEPARATOR + attempt.status().name()
+                + FIELD_SEPARATOR + (attempt.currentLat() != null ? attempt.currentLat() : "")
+                + FIELD_SEPARATOR + (attempt.currentLng() != null ? attempt.currentLng() : "");
+    }
+
+    private static Attempt deserialize(String value) {
+        try {
+            String[] parts = value.split("\\|", -1);
+            return new Attempt(
+                    LocalDateTime.parse(parts[0]),
+                    parts[2].isEmpty() ? null : Double.valueOf(parts[2]),
+                    parts[3].isEmpty() ? null : Double.valueOf(parts[3]),
+                    CapsuleOpenStatus.valueOf(parts[1])
+            );
+        } catch (RuntimeException e) {
+            log.warn("잘못된 해제 시도 이력 값 - 건너뜀: {}", value);
+            return null;
+        }
+    }
+}
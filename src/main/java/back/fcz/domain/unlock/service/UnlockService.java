@@ -2,9 +2,6 @@ package back.fcz.domain.unlock.service;
 
 import back.fcz.domain.capsule.entity.AnomalyType;
 import back.fcz.domain.capsule.entity.Capsule;
-import back.fcz.domain.capsule.entity.CapsuleOpenLog;
-import back.fcz.domain.capsule.entity.CapsuleOpenStatus;
-import back.fcz.domain.capsule.repository.CapsuleOpenLogRepository;
 import back.fcz.domain.capsule.repository.CapsuleRepository;
 import back.fcz.domain.sanction.constant.SanctionConstants;
 import back.fcz.domain.sanction.util.AnomalyDetector;
@@ -26,7 +23,7 @@ import java.util.Optional;
 public class UnlockService {
     private static final double EARTH_RADIUS_M = 6371000; // 지구 반지름 (m)
     private final CapsuleRepository capsuleRepository;
-    private final CapsuleOpenLogRepository capsuleOpenLogRepository;
+    private final UnlockAttemptHistory unlockAttemptHistory;
     private final SanctionConstants sanctionConstants;
 
     // 개인 캡슐
@@ -206,69 +203,47 @@ public class UnlockService {
             return AnomalyType.TIME_MANIPULATION;
         }
 
-        // 3. 24시간 윈도우 기반 이전 로그 조회 (회원/비회원 분기)
+        // 3. 24시간 윈도우 기반 최근 시도 이력 조회 (회원은 memberId, 비회원은 IP 기준)
         int logWindowHours = sanctionConstants.getLogWindowHours();
         LocalDateTime windowStart = serverTime.minusHours(logWindowHours);
 
-        List<CapsuleOpenLog> recentLogs;
-
-        if (memberId != null) {
-            // 회원: memberId로 조회
-            recentLogs = capsuleOpenLogRepository
-                    .findTop15ByCapsuleId_CapsuleIdAndMemberIdAndOpenedAtAfterOrderByOpenedAtDesc(
-                            capsule.getCapsuleId(),
-                            memberId,
-                            windowStart
-                    );
-            log.debug("회원 최근 {}시간 로그 조회: capsuleId={}, memberId={}, 로그 개수={}",
-                    logWindowHours, capsule.getCapsuleId(), memberId, recentLogs.size());
-        } else if (ipAddress != null && !ipAddress.equals("UNKNOWN")) {
-            // 비회원: IP로 조회
-            recentLogs = capsuleOpenLogRepository
-                    .findTop15ByCapsuleId_CapsuleIdAndIpAddressAndOpenedAtAfterOrderByOpenedAtDesc(
-                            capsule.getCapsuleId(),
-                            ipAddress,
-                            windowStart
-                    );
-            log.debug("비회원 최근 {}시간 로그 조회: capsuleId={}, ip={}, 로그 개수={}",
-                    logWindowHours, capsule.getCapsuleId(), ipAddress, recentLogs.size());
-        } else {
-            log.debug("IP 정보 없음 - 패턴 분석 불가");
-            // IP도 없으면 로그 조회 불가
-            recentLogs = List.of();
-        }
+        List<UnlockAttemptHistory.Attempt> recentAttempts = unlockAttemptHistory.findRecent(
+                capsule.getCapsuleId(), memberId, ipAddress, windowStart
+        );
+        log.debug("최근 {}시간 시도 이력 조회: capsuleId={}, memberId={}, ip={}, 이력 개수={}",
+                logWindowHours, capsule.getCapsuleId(), memberId, ipAddress, recentAttempts.size());
 
         // 첫 시도면 패턴 분석 불가
-        if (recentLogs.isEmpty()) {
+        if (recentAttempts.isEmpty()) {
             log.debug("{}시간 이내 이전 기록 없음 - 첫 시도로 판단하여 정상 처리", logWindowHours);
             return AnomalyType.NONE;
         }
 
         // 4. 불가능한 이동 감지 (위치 정보가 있는 경우만)
         if (currentLat != null && currentLng != null) {
-            Optional<CapsuleOpenLog> lastValidLog = recentLogs.stream()
-                    .filter(log -> log.getCurrentLat() != null && log.getCurrentLng() != null)
+            Optional<UnlockAttemptHistory.Attempt> lastValidAttempt = recentAttempts.stream()
+                    .filter(UnlockAttemptHistory.Attempt::hasLocation)
                     .findFirst();
 
-            if (lastValidLog.isPresent()) {
-                CapsuleOpenLog baseLog = lastValidLog.get();
+            if (lastValidAttempt.isPresent()) {
+                UnlockAttemptHistory.Attempt baseAttempt = lastValidAttempt.get();
 
                 int duplicateThreshold = sanctionConstants.getDuplicateRequestSeconds();
-                long timeDiffSeconds = Duration.between(baseLog.getOpenedAt(), serverTime).getSeconds();
+                long timeDiffSeconds = Duration.between(baseAttempt.openedAt(), serverTime).getSeconds();
                 if (timeDiffSeconds < duplicateThreshold) {
                     log.info("이전 시도가 {}초 전으로 {}초 임계값 이내 - 중복 요청으로 판단하여 이동 분석 스킵",
                             timeDiffSeconds, duplicateThreshold);
                 } else {
                     int movementLevel = AnomalyDetector.classifyMovementAnomaly(
-                            baseLog.getCurrentLat(), baseLog.getCurrentLng(),
+                            baseAttempt.currentLat(), baseAttempt.currentLng(),
                             currentLat, currentLng,
-                            baseLog.getOpenedAt(), serverTime,
+                            baseAttempt.openedAt(), serverTime,
                             duplicateThreshold
                     );
 
                     log.debug("이동 분석 결과: level={}, 이전위치=({}, {}), 현재위치=({}, {}), 시간차={}초",
                             movementLevel,
-                            baseLog.getCurrentLat(), baseLog.getCurrentLng(),
+                            baseAttempt.currentLat(), baseAttempt.currentLng(),
                             currentLat, currentLng,
                             timeDiffSeconds);
 
@@ -287,13 +262,13 @@ public class UnlockService {
                     }
                 }
             } else {
-                log.debug("{}시간 이내 로그에 위치 정보 없음 - 이동 분석 불가", logWindowHours);
+                log.debug("{}시간 이내 이력에 위치 정보 없음 - 이동 분석 불가", logWindowHours);
             }
         }
 
         // 5. 짧은 시간 내 반복 시도 (위치 정보 없어도 가능)
-        long recentAttemptsCount = recentLogs.stream()
-                .filter(log -> log.getOpenedAt().isAfter(serverTime.minusMinutes(5)))
+        long recentAttemptsCount = recentAttempts.stream()
+                .filter(attempt -> attempt.openedAt().isAfter(serverTime.minusMinutes(5)))
                 .count();
 
         if (recentAttemptsCount >= 7) {
@@ -303,18 +278,13 @@ public class UnlockService {
         }
 
         // 6. 조건 반복 실패 (위치 정보 없어도 가능)
-        if (recentLogs.size() >= 15) {
-            long failedCount = recentLogs.stream()
-                    .limit(15)
-                    .filter(log -> {
-                        CapsuleOpenStatus status = log.getStatus();
-                        return status == CapsuleOpenStatus.FAIL_TIME
-                                || status == CapsuleOpenStatus.FAIL_LOCATION
-                                || status == CapsuleOpenStatus.FAIL_BOTH;
-                    })
+        if (recentAttempts.size() >= UnlockAttemptHistory.MAX_ATTEMPTS) {
+            long failedCount = recentAttempts.stream()
+                    .limit(UnlockAttemptHistory.MAX_ATTEMPTS)
+                    .filter(UnlockAttemptHistory.Attempt::isConditionFailure)
                     .count();
 
-            if (failedCount >= 15) {
+            if (failedCount >= UnlockAttemptHistory.MAX_ATTEMPTS) {
                 log.warn("조건 반복 실패: {}회, memberId={}, ip={}, capsuleId={}",
                         failedCount, memberId, ipAddress, capsule.getCapsuleId());
                 return AnomalyType.LOCATION_RETRY;
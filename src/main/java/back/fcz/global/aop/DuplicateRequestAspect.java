@@ -18,9 +18,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.reflect.Method;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Aspect
 @Component
@@ -28,9 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class DuplicateRequestAspect {
     private final CurrentUserContext currentUserContext;
-
-    private final Map<String, Long> requestMap = new ConcurrentHashMap<>();
-    private static final long COOLDOWN_MS = 2000; // 2초
+    private final DuplicateRequestGuard duplicateRequestGuard; // 2초 쿨다운, 로컬(상한/만료) + Redis
 
     @Pointcut("within(*..*Controller)")
     public void onRequest() {}
@@ -79,21 +75,12 @@ public class DuplicateRequestAspect {
                             request.getRequestURI();
         }
 
-        long now = System.currentTimeMillis();
-
         // requestId(요청을 구분하기 위한 식별자)를 선점 시도
-        Long prev = requestMap.putIfAbsent(requestId, now);
-
-        // 같은 requestId 요청이 쿨타임 내에 다시 들어 왔을 때 -> 중복된 요청임을 표시해야함
-        if (prev != null && now - prev < COOLDOWN_MS) {
+        // 같은 requestId 요청이 쿨타임 내에 다시 들어 왔을 때(다른 노드 포함) -> 중복된 요청임을 표시해야함
+        if (!duplicateRequestGuard.tryAcquire(requestId)) {
             return handleDuplicateRequest();
         }
 
-        // 같은 requstId가 새로 들어 왔을 때, 가장 마지막 요청으로부터 쿨다운 시간만큼 지났는지 확인
-        if (prev != null && now - prev >= COOLDOWN_MS) {
-            requestMap.put(requestId, now);
-        }
-
         // 핵심 로직 실행
         return joinPoint.proceed();
     }
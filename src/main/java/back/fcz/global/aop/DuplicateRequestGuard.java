@@ -0,0 +1,72 @@
+package back.fcz.global.aop;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 중복 요청 판별 (로컬 -> Redis 2단)
+ * - 로컬: 쓰기 후 COOLDOWN이 지나면 만료되고 최대 maxLocalEntries건으로 제한되는 Caffeine 캐시
+ *   (고유 요청 식별자가 계속 늘어나도 메모리가 상한 이상 커지지 않음)
+ * - Redis: SET NX PX로 다른 노드에 먼저 들어온 같은 요청까지 차단 (redis.enabled=false면 생략)
+ * - Redis 장애 시 로컬 판별만 적용
+ */
+@Slf4j
+@Component
+public class DuplicateRequestGuard {
+
+    static final Duration COOLDOWN = Duration.ofSeconds(2);
+
+    private static final String KEY_PREFIX = "duplicate_request:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean redisEnabled;
+    private final Cache<String, Long> recentRequests;
+
+    public DuplicateRequestGuard(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${duplicate-request.max-local-entries:100000}") long maxLocalEntries,
+            @Value("${duplicate-request.redis.enabled:true}") boolean redisEnabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.recentRequests = Caffeine.newBuilder()
+                .maximumSize(maxLocalEntries)
+                .expireAfterWrite(COOLDOWN)
+                .build();
+    }
+
+    /**
+     * requestId 선점 시도
+     * @return COOLDOWN 안에 같은 requestId가 처음이면 true, 중복이면 false
+     */
+    public boolean tryAcquire(String requestId) {
+        // 만료된 기록은 없는 것으로 취급되므로, 쿨다운이 지난 요청은 새 시각으로 다시 선점
+        Long prev = recentRequests.asMap().putIfAbsent(requestId, System.currentTimeMillis());
+        if (prev != null) {
+            return false;
+        }
+
+        if (!redisEnabled) {
+            return true;
+        }
+
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + requestId, "1", COOLDOWN);
+            return !Boolean.FALSE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("중복 요청 Redis 확인 실패 - 로컬 판별만 적용. error: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    long localSize() {
+        recentRequests.cleanUp();
+        return recentRequests.estimatedSize();
+    }
+}
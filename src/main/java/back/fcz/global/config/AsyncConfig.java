@@ -1,7 +1,9 @@
 package back.fcz.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -12,9 +14,26 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    // spring.threads.virtual.enabled가 켜져 있으면 @Async 작업도 가상 스레드에서 실행
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    // 가상 스레드 사용 시 동시 실행 상한 (외부 API 호출 폭주 방지, 초과 시 호출 측에서 대기)
+    @Value("${async.max-concurrency:200}")
+    private int maxConcurrency;
+
     @Override
     @Bean
     public Executor getAsyncExecutor() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            // 종료 시 실행 중인 작업을 기다림 (빈 close 시점)
+            executor.setTaskTerminationTimeout(10_000L);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(16);
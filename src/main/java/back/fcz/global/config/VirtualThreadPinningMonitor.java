@@ -0,0 +1,79 @@
+package back.fcz.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단
+ * - synchronized 블록/네이티브 호출 안에서 블로킹 I/O가 일어나면 가상 스레드가 캐리어 스레드를 점유(pinning)해
+ *   가상 스레드의 이점이 사라지므로, JFR jdk.VirtualThreadPinned 이벤트를 구독해 스택과 함께 로그로 남김
+ * - threshold-ms 이상 고정된 경우만 기록
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "virtual-thread.pinning-monitor.enabled"}, havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 15;
+
+    @Value("${virtual-thread.pinning-monitor.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(thresholdMs))
+                    .withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::logPinned);
+            recordingStream.startAsync();
+            log.info("가상 스레드 pinning 모니터 시작 - threshold: {}ms", thresholdMs);
+        } catch (Exception e) {
+            // JFR을 사용할 수 없는 환경이면 진단만 생략
+            log.warn("가상 스레드 pinning 모니터 시작 실패: {}", e.getMessage());
+            recordingStream = null;
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void logPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String frames = stackTrace == null ? "(no stack trace)" : stackTrace.getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(this::formatFrame)
+                .collect(Collectors.joining("\n\tat "));
+
+        log.warn("가상 스레드 pinning 감지 - duration: {}ms, thread: {}\n\tat {}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                frames);
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
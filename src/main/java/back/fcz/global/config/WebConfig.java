@@ -1,9 +1,12 @@
 package back.fcz.global.config;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -12,6 +15,14 @@ public class WebConfig {
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
 
+    // OSIV를 적용하지 않는 경로: 트랜잭션 사이에 S3/OpenAI 같은 원격 호출이 있어
+    // 요청 끝까지 EntityManager(와 DB 커넥션)를 붙잡으면 안 되는 API
+    private static final String[] OSIV_EXCLUDED_PATHS = {
+            "/api/v1/capsule/create/**",
+            "/api/v1/capsule/update",
+            "/api/v1/capsule/upload"
+    };
+
     @Bean
     public WebMvcConfigurer corsConfigure() {
         return new WebMvcConfigurer() {
@@ -27,4 +38,21 @@ public class WebConfig {
             }
         };
     }
+
+    /**
+     * spring.jpa.open-in-view 대신 직접 등록하는 OSIV 인터셉터
+     * - 기본 OSIV는 요청 중 처음 얻은 커넥션을 응답까지 유지하므로, 단계별로 트랜잭션을 나눈 API는 제외
+     */
+    @Bean
+    public WebMvcConfigurer openEntityManagerInViewConfigurer(EntityManagerFactory entityManagerFactory) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+                interceptor.setEntityManagerFactory(entityManagerFactory);
+                registry.addWebRequestInterceptor(interceptor)
+                        .excludePathPatterns(OSIV_EXCLUDED_PATHS);
+            }
+        };
+    }
 }
@@ -9,18 +9,38 @@ import org.springframework.stereotype.Component;
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /*
 전화번호 암/복호화 클래스
+- Cipher/MessageDigest는 스레드 안전하지 않고 생성 비용이 커서 Engine 단위로 풀링해 재사용
+  (ThreadLocal 대신 풀을 사용해 가상 스레드마다 인스턴스가 새로 생기지 않도록 함)
+- 암호문 형식(Base64(IV 16바이트 + AES/CBC/PKCS5Padding 암호문))과 해시 형식은 기존과 동일
  */
 @Component
 public class PhoneCrypto {
 
+    private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
+    private static final int IV_LENGTH = 16;
+    private static final int MAX_IDLE_ENGINES = 64;
+
+    // SecureRandom은 스레드 안전하므로 공유
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final SecretKeySpec secretKey;
     private final String shaSalt;
+    private final byte[] shaSaltBytes;
+
+    private final BlockingQueue<Engine> idleEngines = new ArrayBlockingQueue<>(MAX_IDLE_ENGINES);
 
     public PhoneCrypto(
             @Value("${security.encryption.aes-key}") String aesKeyBase64,
@@ -29,22 +49,16 @@ public class PhoneCrypto {
         byte[] keyBytes = Base64.getDecoder().decode(aesKeyBase64);
         this.secretKey = new SecretKeySpec(keyBytes, "AES");
         this.shaSalt = shaSalt;
+        this.shaSaltBytes = shaSalt.getBytes(StandardCharsets.UTF_8);
     }
 
     // AES-256 암호화
     public String encrypt(String plainPhone) {
+        Engine engine = borrow();
         try {
-            byte[] iv = genIv();
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            IvParameterSpec parameterSpec = new IvParameterSpec(iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
-            byte[] encrypted = cipher.doFinal(plainPhone.getBytes("UTF-8"));
-
-            byte[] combined = new byte[iv.length + encrypted.length];
-            System.arraycopy(iv, 0, combined, 0, iv.length);
-            System.arraycopy(encrypted, 0, combined, iv.length, encrypted.length);
-
-            return Base64.getEncoder().encodeToString(combined);
+            String result = engine.encrypt(plainPhone);
+            release(engine);
+            return result;
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.ENCRYPTION_FAILED);
         }
@@ -52,21 +66,11 @@ public class PhoneCrypto {
 
     // AES-256 복호화
     public String decrypt(String encryptedPhone) {
+        Engine engine = borrow();
         try {
-            byte[] combined = Base64.getDecoder().decode(encryptedPhone);
-
-            byte[] iv = new byte[16];
-            System.arraycopy(combined, 0, iv, 0, 16);
-
-            byte[] encrypted = new byte[combined.length - 16];
-            System.arraycopy(combined, 16, encrypted, 0, encrypted.length);
-
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            IvParameterSpec parameterSpec = new IvParameterSpec(iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
-
-            byte[] decrypted = cipher.doFinal(encrypted);
-            return new String(decrypted, "UTF-8");
+            String result = engine.decrypt(encryptedPhone);
+            release(engine);
+            return result;
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.DECRYPTION_FAILED);
         }
@@ -74,12 +78,56 @@ public class PhoneCrypto {
 
     // SHA-256 해싱 (검색용, 고정 Salt 사용)
     public String hash(String plainPhone) {
+        Engine engine = borrow();
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            String saltedPhone = plainPhone + shaSalt;
-            byte[] hash = digest.digest(saltedPhone.getBytes("UTF-8"));
+            String result = engine.hash(plainPhone);
+            release(engine);
+            return result;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.HASHING_FAILED);
+        }
+    }
 
-            return Hex.encodeHexString(hash);
+    // 목록 일괄 암호화 (입력 순서 유지, 하나라도 실패하면 예외)
+    public List<String> encryptAll(List<String> plainPhones) {
+        Engine engine = borrow();
+        try {
+            List<String> result = new ArrayList<>(plainPhones.size());
+            for (String plainPhone : plainPhones) {
+                result.add(engine.encrypt(plainPhone));
+            }
+            release(engine);
+            return result;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.ENCRYPTION_FAILED);
+        }
+    }
+
+    // 목록 일괄 복호화 (입력 순서 유지, 하나라도 실패하면 예외)
+    public List<String> decryptAll(List<String> encryptedPhones) {
+        Engine engine = borrow();
+        try {
+            List<String> result = new ArrayList<>(encryptedPhones.size());
+            for (String encryptedPhone : encryptedPhones) {
+                result.add(engine.decrypt(encryptedPhone));
+            }
+            release(engine);
+            return result;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.DECRYPTION_FAILED);
+        }
+    }
+
+    // 목록 일괄 해싱 (입력 순서 유지, 하나라도 실패하면 예외)
+    public List<String> hashAll(List<String> plainPhones) {
+        Engine engine = borrow();
+        try {
+            List<String> result = new ArrayList<>(plainPhones.size());
+            for (String plainPhone : plainPhones) {
+                result.add(engine.hash(plainPhone));
+            }
+            release(engine);
+            return result;
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.HASHING_FAILED);
         }
@@ -92,8 +140,73 @@ public class PhoneCrypto {
 
     // iv 생성
     public static byte[] genIv() {
-        byte[] iv = new byte[16];
-        new SecureRandom().nextBytes(iv);
+        byte[] iv = new byte[IV_LENGTH];
+        SECURE_RANDOM.nextBytes(iv);
         return iv;
     }
+
+    private Engine borrow() {
+        Engine engine = idleEngines.poll();
+        if (engine != null) {
+            return engine;
+        }
+        try {
+            return new Engine();
+        } catch (GeneralSecurityException e) {
+            throw new BusinessException(ErrorCode.ENCRYPTION_FAILED);
+        }
+    }
+
+    // 정상 종료된 Engine만 반납 (예외가 난 Engine은 상태를 알 수 없으므로 폐기), 풀이 가득 차면 버림
+    private void release(Engine engine) {
+        idleEngines.offer(engine);
+    }
+
+    // 한 스레드가 빌려 쓰는 Cipher/MessageDigest 묶음
+    private final class Engine {
+
+        private final Cipher encryptCipher;
+        private final Cipher decryptCipher;
+        private final MessageDigest sha256;
+
+        private Engine() throws GeneralSecurityException {
+            this.encryptCipher = Cipher.getInstance(TRANSFORMATION);
+            this.decryptCipher = Cipher.getInstance(TRANSFORMATION);
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        }
+
+        private String encrypt(String plain) throws GeneralSecurityException {
+            byte[] iv = genIv();
+            encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+
+            byte[] input = plain.getBytes(StandardCharsets.UTF_8);
+            byte[] combined = new byte[IV_LENGTH + encryptCipher.getOutputSize(input.length)];
+            System.arraycopy(iv, 0, combined, 0, IV_LENGTH);
+
+            int written = encryptCipher.doFinal(input, 0, input.length, combined, IV_LENGTH);
+            if (IV_LENGTH + written != combined.length) {
+                combined = Arrays.copyOf(combined, IV_LENGTH + written);
+            }
+            return Base64.getEncoder().encodeToString(combined);
+        }
+
+        private String decrypt(String encrypted) throws GeneralSecurityException {
+            byte[] combined = Base64.getDecoder().decode(encrypted);
+
+            decryptCipher.init(Cipher.DECRYPT_MODE, secretKey, new IvParameterSpec(combined, 0, IV_LENGTH));
+            byte[] decrypted = decryptCipher.doFinal(combined, IV_LENGTH, combined.length - IV_LENGTH);
+            return new String(decrypted, StandardCharsets.UTF_8);
+        }
+
+        private String hash(String plain) {
+            // 상위 서로게이트로 끝나는 입력은 Salt와 이어 붙였을 때 인코딩 결과가 달라질 수 있어 기존 방식 그대로 처리
+            if (!plain.isEmpty() && Character.isHighSurrogate(plain.charAt(plain.length() - 1))) {
+                return Hex.encodeHexString(sha256.digest((plain + shaSalt).getBytes(StandardCharsets.UTF_8)));
+            }
+
+            sha256.update(plain.getBytes(StandardCharsets.UTF_8));
+            sha256.update(shaSaltBytes);
+            return Hex.encodeHexString(sha256.digest());
+        }
+    }
 }
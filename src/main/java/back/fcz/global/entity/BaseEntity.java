@@ -34,4 +34,11 @@ public abstract class BaseEntity {
     public void clearDeletedAt() {
         this.deletedAt = null;
     }
+
+    // 캐시 스냅샷으로부터 엔티티를 복원할 때 감사 필드 값 유지
+    protected void restoreAuditFields(LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
 }
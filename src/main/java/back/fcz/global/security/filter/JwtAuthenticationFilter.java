@@ -5,9 +5,10 @@ import back.fcz.domain.member.service.MemberStatusCache;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
 import back.fcz.global.response.ApiResponse;
-import back.fcz.global.security.jwt.JwtProvider;
 import back.fcz.global.security.jwt.UserType;
+import back.fcz.global.security.jwt.VerifiedToken;
 import back.fcz.global.security.jwt.service.TokenBlacklistService;
+import back.fcz.global.security.jwt.service.VerifiedTokenCache;
 import back.fcz.global.security.jwt.util.CookieUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
@@ -33,7 +34,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final TokenBlacklistService tokenBlacklistService;
     private final ObjectMapper objectMapper;
     private final MemberStatusCache memberStatusCache;
@@ -67,9 +68,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new BusinessException(ErrorCode.TOKEN_BLACKLISTED);
             }
 
-            Long memberId = jwtProvider.extractMemberId(accessToken);
-            String role = jwtProvider.extractRole(accessToken);
-            UserType userType = jwtProvider.extractUserType(accessToken);
+            VerifiedToken verifiedToken = verifiedTokenCache.verify(accessToken);
+            Long memberId = verifiedToken.memberId();
+            String role = verifiedToken.role();
+            UserType userType = verifiedToken.userType();
 
             MemberStatus status = memberStatusCache.getStatus(memberId);
 
@@ -2,7 +2,7 @@ package back.fcz.global.security.filter;
 
 import back.fcz.domain.member.service.CurrentUserContext;
 import back.fcz.domain.sanction.constant.RiskLevel;
-import back.fcz.domain.sanction.service.RateLimitService;
+import back.fcz.domain.sanction.service.HybridRateLimiter;
 import back.fcz.domain.sanction.util.RequestInfoExtractor;
 import back.fcz.global.exception.ErrorCode;
 import back.fcz.global.response.ApiResponse;
@@ -28,7 +28,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final RateLimitService rateLimitService;
+    private final HybridRateLimiter hybridRateLimiter;
     private final CurrentUserContext currentUserContext;
     private final ObjectMapper objectMapper;
 
@@ -48,27 +48,15 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
         String clientIp = RequestInfoExtractor.extractIp(request);
 
-        if (currentUserContext.isAuthenticated()) {
-            Long memberId = currentUserContext.getCurrentMemberId();
+        // 쿨다운 확인 + 기본(LOW) 레벨 rate-limit 적용
+        // 한도에 한참 못 미치는 요청은 로컬에서 허용하고, 노드 몫을 다 쓴 경우에만 Redis 1회 왕복
+        boolean allowed = currentUserContext.isAuthenticated()
+                ? hybridRateLimiter.tryAcquire(currentUserContext.getCurrentMemberId(), RiskLevel.LOW)
+                : hybridRateLimiter.tryAcquireByIp(clientIp, RiskLevel.LOW);
 
-            // 쿨다운 체크
-            if (rateLimitService.isInCooldown(memberId)) {
-                sendRateLimitResponse(response);
-                return;
-            }
-
-            // 기본(LOW) 레벨 rate-limit 적용
-            rateLimitService.apply(memberId, RiskLevel.LOW);
-
-        } else {
-            // 쿨다운 체크
-            if (rateLimitService.isInCooldownByIp(clientIp)) {
-                sendRateLimitResponse(response);
-                return;
-            }
-
-            // 비회원(IP) 기준 기본 rate-limit 적용
-            rateLimitService.applyByIp(clientIp, RiskLevel.LOW);
+        if (!allowed) {
+            sendRateLimitResponse(response);
+            return;
         }
 
         filterChain.doFilter(request, response);
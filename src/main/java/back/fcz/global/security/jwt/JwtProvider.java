@@ -130,7 +130,31 @@ public class JwtProvider {
 
     // 토큰에서 UserType 추출
     public UserType extractUserType(String token) {
+        return userTypeOf(extractClaims(token));
+    }
+
+    // 토큰에서 사용자 ID 추출
+    public Long extractMemberId(String token) {
+        return memberIdOf(extractClaims(token));
+    }
+
+    public String extractRole(String token) {
+        Claims claims = extractClaims(token);
+        return claims.get(CLAIM_ROLE, String.class);
+    }
+
+    // 한 번의 파싱/서명 검증으로 인증에 필요한 값을 모두 추출 (JwtAuthenticationFilter용)
+    public VerifiedToken verify(String token) {
         Claims claims = extractClaims(token);
+        return new VerifiedToken(
+                memberIdOf(claims),
+                claims.get(CLAIM_ROLE, String.class),
+                userTypeOf(claims),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    private UserType userTypeOf(Claims claims) {
         String userType = claims.get(CLAIM_USER_TYPE, String.class);
 
         try {
@@ -140,9 +164,7 @@ public class JwtProvider {
         }
     }
 
-    // 토큰에서 사용자 ID 추출
-    public Long extractMemberId(String token) {
-        Claims claims = extractClaims(token);
+    private Long memberIdOf(Claims claims) {
         String subject = claims.getSubject();
 
         if (subject == null) {
@@ -161,11 +183,6 @@ public class JwtProvider {
         }
     }
 
-    public String extractRole(String token) {
-        Claims claims = extractClaims(token);
-        return claims.get(CLAIM_ROLE, String.class);
-    }
-
     // ---------- 공통 - 토큰 검증 ----------
 
     // 토큰 만료 확인
@@ -0,0 +1,12 @@
+package back.fcz.global.security.jwt;
+
+import java.time.Instant;
+
+// 서명/만료 검증을 마친 AccessToken에서 인증에 필요한 값만 추린 결과
+public record VerifiedToken(
+        Long memberId,
+        String role,
+        UserType userType,
+        Instant expiresAt
+) {
+}
@@ -17,6 +17,7 @@ public class TokenBlacklistService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     private static final String BLACKLIST_KEY_PREFIX = "blacklist";
 
@@ -41,6 +42,9 @@ public class TokenBlacklistService {
                     TimeUnit.SECONDS
             );
 
+            // 이 노드의 검증 캐시에서 즉시 제거 (다른 노드는 필터의 블랙리스트 확인으로 차단)
+            verifiedTokenCache.evict(accessToken);
+
             log.info("토큰 블랙리스트 추가 완료. TTL: {}초", ttl);
         } catch (BusinessException e) {
             log.error("토큰 파싱 중 오류 발생: {}", e.getMessage());
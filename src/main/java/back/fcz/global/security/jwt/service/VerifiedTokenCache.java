@@ -0,0 +1,93 @@
+package back.fcz.global.security.jwt.service;
+
+import back.fcz.global.security.jwt.JwtProvider;
+import back.fcz.global.security.jwt.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 서명 검증을 마친 AccessToken의 노드별 로컬 캐시
+ * - 요청마다 반복되는 JWT 파싱/HMAC 검증을 생략하고 검증 결과(memberId, role, userType)를 재사용
+ * - 키는 토큰 원문 대신 SHA-256 다이제스트 (메모리에 토큰 원문을 오래 보관하지 않음)
+ * - 엔트리는 토큰 만료(exp)와 MAX_TTL 중 이른 시점에 만료
+ * - 로그아웃(블랙리스트 등록) 시 evict()로 즉시 제거, 다른 노드는 필터의 블랙리스트 확인으로 차단
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private final JwtProvider jwtProvider;
+
+    private static final Duration MAX_TTL = Duration.ofMinutes(5);
+    private static final long MAX_SIZE = 50_000L;
+
+    private final Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    return remainingNanos(token);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return remainingNanos(token);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    /**
+     * 검증된 토큰 정보 반환 (캐시에 없으면 JwtProvider로 검증 후 적재)
+     * 검증 실패 시 JwtProvider와 같은 BusinessException을 그대로 던지며, 실패 결과는 캐시하지 않음
+     */
+    public VerifiedToken verify(String token) {
+        String key = digest(token);
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified = jwtProvider.verify(token);
+        if (verified.expiresAt() != null) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    public void evict(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    private static long remainingNanos(VerifiedToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        if (remaining.isNegative()) {
+            return 0L;
+        }
+        return Math.min(remaining.toNanos(), MAX_TTL.toNanos());
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package back.fcz.infra.storage;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 객체 삭제 결과
+ * - deletedKeys: 삭제된(또는 원래 없던) 키
+ * - failures: 재시도 후에도 실패한 키 -> 실패 사유(에러 코드/메시지)
+ */
+public record BulkDeleteResult(
+        List<String> deletedKeys,
+        Map<String, String> failures
+) {
+    public boolean isDeleted(String key) {
+        return !failures.containsKey(key);
+    }
+}
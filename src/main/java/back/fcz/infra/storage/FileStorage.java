@@ -1,6 +1,30 @@
 package back.fcz.infra.storage;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface FileStorage {
     StoredFile store(FileUploadCommand command, String key);
     void delete(String key);
+
+    /**
+     * 여러 객체 삭제 (키별 성공/실패를 돌려주며 예외를 던지지 않음)
+     * 기본 구현은 한 건씩 삭제, 일괄 삭제 API가 있는 저장소는 재정의
+     */
+    default BulkDeleteResult deleteAll(Collection<String> keys) {
+        List<String> deleted = new ArrayList<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+                deleted.add(key);
+            } catch (Exception e) {
+                failures.put(key, e.getMessage());
+            }
+        }
+        return new BulkDeleteResult(deleted, failures);
+    }
 }
@@ -0,0 +1,118 @@
+package back.fcz.infra.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 조회용(GET) Presigned URL 일괄 조회/캐싱 (캡슐 첨부파일, 스토리트랙 대표 이미지 공용)
+ * - 요청한 S3 키를 중복 제거 후 MGET 한 번으로 캐시 조회
+ * - 캐시 미스만 로컬에서 서명(S3 API 호출 없음)하고, 파이프라인 SET(EX) 한 번으로 저장
+ * - URL 유효시간(VALIDITY)보다 캐시 TTL을 짧게 두어 만료 직전 URL이 응답되지 않도록 함
+ * - Redis 장애 시 캐시 없이 전부 서명
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresignedUrlCache {
+
+    private final PresignedUrlProvider presignedUrlProvider;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String KEY_PREFIX = "presigned:attachment:";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(14);
+    private static final Duration VALIDITY = Duration.ofMinutes(15);
+
+    public String getUrl(String s3Key) {
+        return getUrls(List.of(s3Key)).get(s3Key);
+    }
+
+    /**
+     * S3 키별 Presigned URL (입력 순서 유지, 중복 키는 한 번만 처리)
+     */
+    public Map<String, String> getUrls(Collection<String> s3Keys) {
+        List<String> keys = s3Keys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<String, String> result = new LinkedHashMap<>(keys.size() * 2);
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        List<String> cached = readCache(keys);
+
+        Map<String, String> misses = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String s3Key = keys.get(i);
+            String url = cached != null ? cached.get(i) : null;
+
+            if (url == null) {
+                url = presignedUrlProvider.presignGet(s3Key, VALIDITY);
+                misses.put(s3Key, url);
+            }
+            result.put(s3Key, url);
+        }
+
+        log.debug("Presigned URL 일괄 조회 - 요청: {}, 캐시 미스: {}", keys.size(), misses.size());
+
+        // Redis 장애로 조회하지 못한 경우에는 저장도 생략
+        if (cached != null && !misses.isEmpty()) {
+            writeCache(misses);
+        }
+        return result;
+    }
+
+    // 캐시 일괄 조회 (Redis 장애 시 null)
+    private List<String> readCache(List<String> keys) {
+        List<String> cacheKeys = new ArrayList<>(keys.size());
+        for (String s3Key : keys) {
+            cacheKeys.add(KEY_PREFIX + s3Key);
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(cacheKeys);
+            if (values == null || values.size() != keys.size()) {
+                return null;
+            }
+            return values;
+        } catch (Exception e) {
+            log.error("Presigned URL 캐시 조회 실패 - 폴백: 전체 서명. keys: {}", keys.size(), e);
+            return null;
+        }
+    }
+
+    private void writeCache(Map<String, String> urls) {
+        Expiration expiration = Expiration.from(CACHE_TTL);
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, String> entry : urls.entrySet()) {
+                    connection.stringCommands().set(
+                            (KEY_PREFIX + entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                            entry.getValue().getBytes(StandardCharsets.UTF_8),
+                            expiration,
+                            RedisStringCommands.SetOption.upsert()
+                    );
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Presigned URL 캐시 저장 실패 - count: {}, error: {}", urls.size(), e.getMessage());
+        }
+    }
+}
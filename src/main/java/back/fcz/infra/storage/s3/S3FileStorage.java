@@ -1,23 +1,49 @@
 package back.fcz.infra.storage.s3;
 
 
+import back.fcz.infra.storage.BulkDeleteResult;
 import back.fcz.infra.storage.FileStorage;
 import back.fcz.infra.storage.FileUploadCommand;
 import back.fcz.infra.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 
 public class S3FileStorage implements FileStorage {
     private final S3Client s3Client;
 
+    // DeleteObjects 한 요청당 최대 키 수 (S3 제한)
+    static final int MAX_KEYS_PER_DELETE = 1000;
+    // 일시 오류 키만 다시 보내는 최대 시도 횟수 (첫 요청 포함)
+    static final int MAX_DELETE_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 200;
+    // 키별 오류 중 재시도하면 성공할 수 있는 코드 (권한/잘못된 키 등은 재시도하지 않음)
+    private static final Set<String> RETRYABLE_ERROR_CODES =
+            Set.of("InternalError", "SlowDown", "ServiceUnavailable", "RequestTimeout");
+
     @Value("${app.s3.bucket}")
     private String bucket;
 
@@ -48,4 +74,82 @@ public class S3FileStorage implements FileStorage {
                 .key(key)
                 .build());
     }
+
+    /**
+     * DeleteObjects로 최대 1000개씩 한 번에 삭제
+     * - quiet 모드: 응답에는 실패한 키만 담김 (없는 키 삭제는 S3에서 성공으로 처리)
+     * - 일시 오류(키별 InternalError/SlowDown 등, 요청 자체 실패)는 해당 키만 모아 백오프 후 재시도
+     * - 재시도 후에도 남은 키는 failures로 돌려줌 (호출 측이 DB 행을 남겨 다음 실행에서 재처리)
+     */
+    @Override
+    public BulkDeleteResult deleteAll(Collection<String> keys) {
+        List<String> deleted = new ArrayList<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        for (int from = 0; from < distinct.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, distinct.size()));
+            deleteChunk(chunk, deleted, failures);
+        }
+        return new BulkDeleteResult(deleted, failures);
+    }
+
+    private void deleteChunk(List<String> chunk, List<String> deleted, Map<String, String> failures) {
+        List<String> pending = chunk;
+        Map<String, String> lastErrors = new LinkedHashMap<>();
+
+        for (int attempt = 1; attempt <= MAX_DELETE_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                if (!backoff(attempt)) break;
+            }
+            lastErrors.clear();
+
+            DeleteObjectsResponse response;
+            try {
+                response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucket)
+                        .delete(Delete.builder()
+                                .objects(pending.stream()
+                                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                .quiet(true)
+                                .build())
+                        .build());
+            } catch (SdkException e) {
+                // 요청 단위 실패: 묶음 전체를 다시 시도
+                log.warn("[S3] DeleteObjects 요청 실패 attempt={} keys={} error={}", attempt, pending.size(), e.getMessage());
+                pending.forEach(key -> lastErrors.put(key, "RequestFailed: " + e.getMessage()));
+                continue;
+            }
+
+            Map<String, S3Error> errorsByKey = new LinkedHashMap<>();
+            response.errors().forEach(error -> errorsByKey.put(error.key(), error));
+
+            List<String> retry = new ArrayList<>();
+            for (String key : pending) {
+                S3Error error = errorsByKey.get(key);
+                if (error == null) {
+                    deleted.add(key);
+                } else if (RETRYABLE_ERROR_CODES.contains(error.code())) {
+                    retry.add(key);
+                    lastErrors.put(key, error.code() + ": " + error.message());
+                } else {
+                    failures.put(key, error.code() + ": " + error.message());
+                }
+            }
+            pending = retry;
+        }
+
+        pending.forEach(key -> failures.put(key, lastErrors.getOrDefault(key, "NotAttempted")));
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
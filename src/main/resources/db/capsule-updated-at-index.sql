@@ -0,0 +1,15 @@
+-- 캡슐 updated_at 인덱스 (MySQL 8)
+-- NearbyCapsuleIndexScheduler의 변경분 갱신(WHERE updated_at >= :since, 10초 주기)용
+-- prod는 ddl-auto: validate 이므로 Capsule의 @Index(idx_capsule_updated_at)는 자동 생성되지 않음 → 수동 적용 필요
+--
+-- 적용 순서
+--   1) 아래 CREATE INDEX 실행 (INPLACE/LOCK=NONE 으로 서비스 중 적용 가능, 테이블 크기만큼 시간 소요)
+--   2) 새 버전 배포 (배포가 먼저 되어도 validate는 인덱스를 검사하지 않으므로 기동은 되지만,
+--      인덱스가 생길 때까지 변경분 갱신이 매번 capsule 전체를 스캔함)
+--
+-- 롤백: 이전 버전은 인덱스를 사용하지 않으므로 애플리케이션만 되돌리면 됨
+--       (인덱스 DROP은 롤백이 확정된 뒤에만)
+
+CREATE INDEX idx_capsule_updated_at
+    ON capsule (updated_at)
+    ALGORITHM = INPLACE LOCK = NONE;
@@ -0,0 +1,41 @@
+-- 스토리트랙 참여/완료 카운터 컬럼 + 공개 목록 인덱스 (MySQL 8)
+-- prod는 ddl-auto: validate 이므로 새 버전 배포 "전에" 수동으로 적용해야 함
+--
+-- 적용 순서
+--   1) 아래 ALTER / CREATE INDEX 실행
+--      - DEFAULT 0 이라 기존 버전 애플리케이션은 그대로 동작 (새 컬럼을 모르고 INSERT 해도 0으로 채워짐)
+--      - ADD COLUMN은 8.0.12+ 에서 INSTANT, 인덱스는 INPLACE/LOCK=NONE 으로 서비스 중 적용 가능
+--   2) (선택) 백필 UPDATE 실행 → 배포 직후 목록/대시보드가 0으로 보이는 구간을 없앰
+--   3) 새 버전 배포
+--   4) 1~3 사이에 기존 버전이 처리한 참여/완료는 StorytrackCounterReconcileScheduler가 기동 60초 후부터 보정
+--
+-- 롤백: 이전 버전은 새 컬럼/인덱스를 사용하지 않으므로 애플리케이션만 되돌리면 됨
+--       (컬럼 DROP은 롤백이 확정된 뒤에만)
+
+ALTER TABLE storytrack
+    ADD COLUMN participant_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN completion_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE storytrack_step
+    ADD COLUMN completed_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_storytrack_public_list
+    ON storytrack (is_public, is_deleted, storytrack_id)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+-- 백필 (선택, 재실행해도 같은 결과)
+UPDATE storytrack s
+SET s.participant_count = (
+        SELECT COUNT(*) FROM storytrack_progress sp
+        WHERE sp.storytrack_id = s.storytrack_id AND sp.deleted_at IS NULL
+    ),
+    s.completion_count = (
+        SELECT COUNT(*) FROM storytrack_progress sp
+        WHERE sp.storytrack_id = s.storytrack_id AND sp.completed_at IS NOT NULL
+    );
+
+UPDATE storytrack_step st
+SET st.completed_count = (
+        SELECT COUNT(*) FROM storytrack_progress_step ps
+        WHERE ps.storytrack_step_id = st.storytrack_step_id
+    );
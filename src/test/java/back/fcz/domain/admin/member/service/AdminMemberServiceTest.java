@@ -6,6 +6,7 @@ import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.entity.MemberStatus;
 import back.fcz.domain.member.repository.MemberRepository;
 import back.fcz.domain.member.service.CurrentUserContext;
+import back.fcz.domain.member.service.MemberStatusCache;
 import back.fcz.domain.report.repository.ReportRepository;
 import back.fcz.domain.sanction.entity.MemberSanctionHistory;
 import back.fcz.domain.sanction.repository.MemberSanctionHistoryRepository;
@@ -40,6 +41,8 @@ class AdminMemberServiceTest {
     ReportRepository reportRepository;
     @Mock
     PhoneVerificationRepository phoneVerificationRepository;
+    @Mock
+    MemberStatusCache memberStatusCache;
 
     AdminMemberService service;
     @Captor
@@ -53,7 +56,8 @@ class AdminMemberServiceTest {
                 reportRepository,
                 phoneVerificationRepository,
                 memberSanctionHistoryRepository,
-                currentUserContext
+                currentUserContext,
+                memberStatusCache
         );
     }
 
@@ -3,9 +3,11 @@ package back.fcz.domain.admin.report.service;
 import back.fcz.domain.admin.report.dto.AdminReportStatusUpdateRequest;
 import back.fcz.domain.admin.report.dto.AdminReportStatusUpdateResponse;
 import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.service.CapsuleEntityCache;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.entity.MemberStatus;
 import back.fcz.domain.member.service.CurrentUserContext;
+import back.fcz.domain.member.service.MemberStatusCache;
 import back.fcz.domain.report.entity.Report;
 import back.fcz.domain.report.entity.ReportReasonType;
 import back.fcz.domain.report.entity.ReportStatus;
@@ -40,13 +42,19 @@ class AdminReportServiceTest {
     @Mock
     CurrentUserContext currentUserContext;
 
+    @Mock
+    CapsuleEntityCache capsuleEntityCache;
+
+    @Mock
+    MemberStatusCache memberStatusCache;
+
     AdminReportService service;
 
 
 
     @BeforeEach
     void setUp() {
-        service = new AdminReportService(reportRepository, memberSanctionHistoryRepository, currentUserContext);
+        service = new AdminReportService(reportRepository, memberSanctionHistoryRepository, currentUserContext, capsuleEntityCache, memberStatusCache);
     }
 
     @Test
@@ -0,0 +1,144 @@
+package back.fcz.domain.capsule.controller;
+
+import back.fcz.domain.capsule.DTO.request.CapsuleUpdateRequestDTO;
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.member.entity.Member;
+import back.fcz.domain.member.entity.MemberRole;
+import back.fcz.domain.member.entity.MemberStatus;
+import back.fcz.domain.member.repository.MemberRepository;
+import back.fcz.domain.member.service.CurrentUserContext;
+import back.fcz.domain.openai.moderation.service.CapsuleModerationService;
+import back.fcz.domain.sms.service.SmsNotificaationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 캡슐 수정 API는 OSIV 제외 경로라서 moderation(원격 호출) 동안 요청 스레드가 DB 커넥션을 잡고 있지 않아야 함
+ * - 테스트 트랜잭션이 커넥션을 잡지 않도록 클래스에 @Transactional을 두지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc(addFilters = false)
+class CapsuleUpdateOsivTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    CapsuleRepository capsuleRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    DataSource dataSource;
+
+    @MockitoBean
+    CurrentUserContext currentUserContext;
+
+    @MockitoBean
+    CapsuleModerationService capsuleModerationService;
+
+    @MockitoBean
+    SmsNotificaationService smsNotificationService;
+
+    @MockitoBean
+    private RedissonClient redissonClient;
+
+    private final List<Long> capsuleIds = new ArrayList<>();
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        capsuleRepository.deleteAllById(capsuleIds);
+        memberRepository.deleteAllById(memberIds);
+    }
+
+    @Test
+    @DisplayName("캡슐 수정 moderation 중에는 EntityManager/커넥션/트랜잭션이 요청 스레드에 묶여 있지 않다")
+    void updateCapsule_moderationRunsWithoutHeldConnection() throws Exception {
+        // given
+        Member member = memberRepository.save(
+                Member.builder()
+                        .userId("osiv-update-" + UUID.randomUUID())
+                        .name("홍길동")
+                        .nickname("테스터")
+                        .passwordHash("pw")
+                        .phoneHash("hash-" + UUID.randomUUID())
+                        .phoneNumber("encrypted")
+                        .role(MemberRole.USER)
+                        .status(MemberStatus.ACTIVE)
+                        .build()
+        );
+        memberIds.add(member.getMemberId());
+
+        Capsule capsule = capsuleRepository.save(
+                Capsule.builder()
+                        .memberId(member)
+                        .nickname(member.getNickname())
+                        .title("old title")
+                        .content("old content")
+                        .visibility("PUBLIC")
+                        .unlockType("TIME")
+                        .capsuleColor("white")
+                        .capsulePackingColor("navy")
+                        .maxViewCount(5)
+                        .locationRadiusM(100)
+                        .uuid(UUID.randomUUID().toString())
+                        .build()
+        );
+        capsuleIds.add(capsule.getCapsuleId());
+
+        List<Boolean> heldDuringModeration = new ArrayList<>();
+        when(capsuleModerationService.validateCapsuleText(any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    heldDuringModeration.add(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+                    heldDuringModeration.add(TransactionSynchronizationManager.hasResource(dataSource));
+                    heldDuringModeration.add(TransactionSynchronizationManager.isActualTransactionActive());
+                    return null;
+                });
+
+        // when
+        mockMvc.perform(put("/api/v1/capsule/update")
+                        .param("capsuleId", capsule.getCapsuleId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CapsuleUpdateRequestDTO("new title", null, null))))
+                .andExpect(status().isOk());
+
+        // then - OSIV EntityManager, 커넥션, 트랜잭션 모두 없음
+        assertThat(heldDuringModeration).containsExactly(false, false, false);
+        assertThat(capsuleRepository.findById(capsule.getCapsuleId()).orElseThrow().getTitle())
+                .isEqualTo("new title");
+    }
+}
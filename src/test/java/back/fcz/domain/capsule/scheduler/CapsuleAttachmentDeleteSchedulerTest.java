@@ -3,15 +3,21 @@ package back.fcz.domain.capsule.scheduler;
 import back.fcz.domain.capsule.entity.CapsuleAttachment;
 import back.fcz.domain.capsule.entity.CapsuleAttachmentStatus;
 import back.fcz.domain.capsule.repository.CapsuleAttachmentRepository;
+import back.fcz.infra.storage.BulkDeleteResult;
 import back.fcz.infra.storage.FileStorage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -29,6 +35,9 @@ class CapsuleAttachmentDeleteSchedulerTest {
     @Mock
     private FileStorage fileStorage;
 
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @Test
     @DisplayName("만료된 TEMP → DELETED 마킹")
     void markExpiredTempAsDeleted_success() {
@@ -77,28 +86,50 @@ class CapsuleAttachmentDeleteSchedulerTest {
     }
 
     @Test
-    @DisplayName("DELETED 상태: S3 삭제 성공한 것만 DB 배치 하드삭제")
+    @DisplayName("만료 TEMP가 1000건 이상이면 다음 배치까지 이어서 마킹")
+    void markExpiredTempAsDeleted_drainsAllBatches() {
+        List<CapsuleAttachment> fullPage = attachments(CapsuleAttachmentDeleteScheduler.BATCH_SIZE);
+        CapsuleAttachment last = mock(CapsuleAttachment.class);
+
+        given(repository.findTop1000ByStatusAndExpiredAtBeforeOrderByIdAsc(
+                eq(CapsuleAttachmentStatus.TEMP),
+                any(LocalDateTime.class)
+        )).willReturn(fullPage, List.of(last));
+
+        scheduler.markExpiredTempAsDeleted();
+
+        verify(fullPage.get(0)).markDeleted();
+        verify(last).markDeleted();
+        verify(repository).saveAll(fullPage);
+        verify(repository).saveAll(List.of(last));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("DELETED 상태: S3 일괄 삭제 성공한 것만 DB 배치 하드삭제")
     void hardDeletedFromS3_success_batchDeleteOnlySuccess() {
         CapsuleAttachment a1 = mock(CapsuleAttachment.class);
         given(a1.getId()).willReturn(1L);
         given(a1.getS3Key()).willReturn("capsules/10/a.png");
 
         CapsuleAttachment a2 = mock(CapsuleAttachment.class);
-        given(a2.getId()).willReturn(2L);
         given(a2.getS3Key()).willReturn("capsules/10/b.png");
 
-        // deletedAt 오래된 것부터 가져오는 쿼리로 변경된 케이스
-        given(repository.findTop1000ByStatusOrderByDeletedAtAsc(CapsuleAttachmentStatus.DELETED))
+        given(a2.getId()).willReturn(2L);
+
+        given(repository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(CapsuleAttachmentStatus.DELETED, 0L))
                 .willReturn(List.of(a1, a2));
 
-        // a2 S3 삭제 실패 시나리오
-        doNothing().when(fileStorage).delete("capsules/10/a.png");
-        doThrow(new RuntimeException("S3 error")).when(fileStorage).delete("capsules/10/b.png");
+        // a2 S3 삭제 실패 시나리오 (재시도 후에도 실패)
+        given(fileStorage.deleteAll(List.of("capsules/10/a.png", "capsules/10/b.png")))
+                .willReturn(new BulkDeleteResult(
+                        List.of("capsules/10/a.png"),
+                        Map.of("capsules/10/b.png", "AccessDenied: denied")
+                ));
 
         scheduler.hardDeletedFromS3();
 
-        verify(fileStorage).delete("capsules/10/a.png");
-        verify(fileStorage).delete("capsules/10/b.png");
+        verify(fileStorage, never()).delete(anyString());
 
         // ✅ 성공한 a1만 배치 삭제
         verify(repository).deleteAllByIdInBatch(List.of(1L));
@@ -107,10 +138,68 @@ class CapsuleAttachmentDeleteSchedulerTest {
         verify(repository, never()).deleteAllByIdInBatch(List.of(2L));
     }
 
+    @Test
+    @DisplayName("S3 삭제가 전부 실패한 배치가 나오면 같은 대상을 반복 조회하지 않고 중단")
+    void hardDeletedFromS3_allFailed_stops() {
+        List<CapsuleAttachment> fullPage = attachments(CapsuleAttachmentDeleteScheduler.BATCH_SIZE);
+        for (int i = 0; i < fullPage.size(); i++) {
+            given(fullPage.get(i).getS3Key()).willReturn("capsules/10/" + i + ".png");
+        }
+
+        given(repository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(CapsuleAttachmentStatus.DELETED, 0L))
+                .willReturn(fullPage);
+        given(fileStorage.deleteAll(anyList())).willAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            Map<String, String> failures = new HashMap<>();
+            keys.forEach(key -> failures.put(key, "SlowDown: reduce your request rate"));
+            return new BulkDeleteResult(List.of(), failures);
+        });
+
+        scheduler.hardDeletedFromS3();
+
+        verify(repository, times(1)).findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(any(), anyLong());
+        verify(repository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("S3 삭제에 계속 실패하는 행이 1000건을 넘어도 다음 실행은 그 뒤의 행을 정리")
+    void hardDeletedFromS3_permanentFailures_doNotBlockLaterRows() {
+        List<CapsuleAttachment> failingPage = attachments(CapsuleAttachmentDeleteScheduler.BATCH_SIZE);
+        for (int i = 0; i < failingPage.size(); i++) {
+            given(failingPage.get(i).getS3Key()).willReturn("capsules/10/" + i + ".png");
+        }
+        given(failingPage.get(failingPage.size() - 1).getId()).willReturn(1000L);
+
+        CapsuleAttachment later = mock(CapsuleAttachment.class);
+        given(later.getId()).willReturn(1001L);
+        given(later.getS3Key()).willReturn("capsules/11/ok.png");
+
+        given(repository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(CapsuleAttachmentStatus.DELETED, 0L))
+                .willReturn(failingPage);
+        given(repository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(CapsuleAttachmentStatus.DELETED, 1000L))
+                .willReturn(List.of(later));
+        given(fileStorage.deleteAll(anyList())).willAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            Map<String, String> failures = new HashMap<>();
+            keys.stream()
+                    .filter(key -> !key.equals("capsules/11/ok.png"))
+                    .forEach(key -> failures.put(key, "AccessDenied: denied"));
+            return new BulkDeleteResult(keys.stream().filter(key -> !failures.containsKey(key)).toList(), failures);
+        });
+
+        // 첫 실행 - 앞 배치가 전부 실패해 중단
+        scheduler.hardDeletedFromS3();
+        verify(repository, never()).deleteAllByIdInBatch(anyList());
+
+        // 다음 실행 - 실패한 배치 뒤부터 이어서 정리
+        scheduler.hardDeletedFromS3();
+        verify(repository).deleteAllByIdInBatch(List.of(1001L));
+    }
+
     @Test
     @DisplayName("DELETED 대상이 없으면 아무 것도 하지 않음")
     void hardDeletedFromS3_empty_noop() {
-        given(repository.findTop1000ByStatusOrderByDeletedAtAsc(CapsuleAttachmentStatus.DELETED))
+        given(repository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(CapsuleAttachmentStatus.DELETED, 0L))
                 .willReturn(List.of());
 
         scheduler.hardDeletedFromS3();
@@ -118,4 +207,12 @@ class CapsuleAttachmentDeleteSchedulerTest {
         verifyNoInteractions(fileStorage);
         verify(repository, never()).deleteAllByIdInBatch(anyList());
     }
+
+    private static List<CapsuleAttachment> attachments(int count) {
+        List<CapsuleAttachment> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(mock(CapsuleAttachment.class));
+        }
+        return list;
+    }
 }
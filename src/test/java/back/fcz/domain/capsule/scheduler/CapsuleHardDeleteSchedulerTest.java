@@ -0,0 +1,118 @@
+package back.fcz.domain.capsule.scheduler;
+
+import back.fcz.domain.capsule.service.CapsuleHardDeleteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapsuleHardDeleteSchedulerTest {
+
+    @InjectMocks
+    private CapsuleHardDeleteScheduler scheduler;
+
+    @Mock
+    private CapsuleHardDeleteService capsuleHardDeleteService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(CapsuleHardDeleteScheduler.LOCK_KEY), anyString(), any(Duration.class)))
+                .willReturn(true);
+    }
+
+    @Test
+    @DisplayName("체크포인트부터 이어서 청크마다 삭제하고, 끝까지 처리하면 체크포인트 초기화")
+    void run_resumesFromCheckpoint_andResetsAtEnd() {
+        given(valueOperations.get(CapsuleHardDeleteScheduler.CHECKPOINT_KEY)).willReturn("100");
+        given(capsuleHardDeleteService.findCandidateIds(eq(100L), anyInt())).willReturn(List.of(101L, 102L));
+        given(capsuleHardDeleteService.findCandidateIds(eq(102L), anyInt())).willReturn(List.of());
+        given(capsuleHardDeleteService.hardDeleteChunk(List.of(101L, 102L))).willReturn(2);
+
+        scheduler.run();
+
+        verify(capsuleHardDeleteService).hardDeleteChunk(List.of(101L, 102L));
+        verify(valueOperations).set(eq(CapsuleHardDeleteScheduler.CHECKPOINT_KEY), eq("102"), any(Duration.class));
+        verify(redisTemplate).delete(CapsuleHardDeleteScheduler.CHECKPOINT_KEY);
+        assertThat(meterRegistry.counter("capsule.hard_delete.deleted").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("청크 삭제 실패 시 더 작은 청크로 같은 구간부터 재시도")
+    void run_chunkFailure_retriesSmallerChunkFromSameCheckpoint() {
+        given(valueOperations.get(CapsuleHardDeleteScheduler.CHECKPOINT_KEY)).willReturn(null);
+        given(capsuleHardDeleteService.findCandidateIds(eq(0L), anyInt()))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(1L));
+        given(capsuleHardDeleteService.hardDeleteChunk(List.of(1L, 2L)))
+                .willThrow(new RuntimeException("lock wait timeout"));
+        given(capsuleHardDeleteService.hardDeleteChunk(List.of(1L))).willReturn(1);
+        given(capsuleHardDeleteService.findCandidateIds(eq(1L), anyInt())).willReturn(List.of());
+
+        scheduler.run();
+
+        // 기본 200 -> 실패 후 100으로 줄여 0 이후부터 다시 조회
+        verify(capsuleHardDeleteService).findCandidateIds(0L, 200);
+        verify(capsuleHardDeleteService).findCandidateIds(0L, 100);
+        verify(valueOperations, never()).set(eq(CapsuleHardDeleteScheduler.CHECKPOINT_KEY), eq("2"), any(Duration.class));
+        verify(valueOperations).set(eq(CapsuleHardDeleteScheduler.CHECKPOINT_KEY), eq("1"), any(Duration.class));
+        assertThat(meterRegistry.counter("capsule.hard_delete.chunk.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 건너뜀")
+    void run_lockNotAcquired_skips() {
+        given(valueOperations.setIfAbsent(eq(CapsuleHardDeleteScheduler.LOCK_KEY), anyString(), any(Duration.class)))
+                .willReturn(false);
+
+        scheduler.run();
+
+        verifyNoInteractions(capsuleHardDeleteService);
+    }
+
+    @Test
+    @DisplayName("청크 크기: 목표 시간 초과 시 절반, 여유 있고 가득 찬 청크면 1.5배 (범위 안에서)")
+    void adaptiveChunkSizer_adjustsWithinBounds() {
+        AdaptiveChunkSizer sizer = new AdaptiveChunkSizer(200, 50, 1000, 200);
+
+        sizer.record(50, 200);
+        assertThat(sizer.current()).isEqualTo(300);
+
+        sizer.record(50, 10); // 청크를 못 채웠으면 늘리지 않음
+        assertThat(sizer.current()).isEqualTo(300);
+
+        sizer.record(500, 300);
+        assertThat(sizer.current()).isEqualTo(150);
+
+        sizer.record(500, 150);
+        sizer.record(500, 75);
+        assertThat(sizer.current()).isEqualTo(50);
+        assertThat(sizer.shrink()).isFalse();
+    }
+}
@@ -2,6 +2,7 @@ package back.fcz.domain.capsule.scheduler;
 
 import back.fcz.domain.capsule.entity.Capsule;
 import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.capsule.service.ViewCountBuffer;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.repository.MemberRepository;
 import back.fcz.global.crypto.PhoneCrypto;
@@ -33,6 +34,9 @@ class ViewCountSyncSchedulerTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
     @Autowired
     private PhoneCrypto phoneCrypto;
 
@@ -125,19 +129,20 @@ class ViewCountSyncSchedulerTest {
     }
 
     private void setRedisViewCount(Long capsuleId, int count) {
-        String key = VIEW_COUNT_KEY_PREFIX + capsuleId;
-        redisTemplate.opsForValue().set(key, String.valueOf(count));
+        setRedisViewCount(capsuleId, String.valueOf(count));
+    }
+
+    private void setRedisViewCount(Long capsuleId, String value) {
+        redisTemplate.opsForHash().put(ViewCountBuffer.bucketKeyOf(capsuleId), String.valueOf(capsuleId), value);
     }
 
     private int getRedisViewCount(Long capsuleId) {
-        String key = VIEW_COUNT_KEY_PREFIX + capsuleId;
-        String value = redisTemplate.opsForValue().get(key);
-        return value != null ? Integer.parseInt(value) : 0;
+        return (int) viewCountBuffer.getBufferedCount(capsuleId);
     }
 
     private boolean redisKeyExists(Long capsuleId) {
-        String key = VIEW_COUNT_KEY_PREFIX + capsuleId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        String field = String.valueOf(capsuleId);
+        return redisTemplate.opsForHash().hasKey(ViewCountBuffer.bucketKeyOf(capsuleId), field);
     }
 
     // ========== 통합 테스트 ==========
@@ -347,7 +352,7 @@ class ViewCountSyncSchedulerTest {
             Long invalidCapsuleId = 88888L;
 
             setRedisViewCount(validCapsule.getCapsuleId(), 5);
-            redisTemplate.opsForValue().set(VIEW_COUNT_KEY_PREFIX + invalidCapsuleId, "invalid");
+            setRedisViewCount(invalidCapsuleId, "invalid");
 
             // When - 예외 발생하지 않고 계속 진행
             syncScheduler.syncViewCountsToDB();
@@ -2,8 +2,11 @@ package back.fcz.domain.capsule.service;
 
 import back.fcz.domain.capsule.DTO.response.CapsuleAttachmentUploadResponse;
 import back.fcz.domain.capsule.entity.CapsuleAttachment;
+import back.fcz.domain.capsule.entity.CapsuleAttachmentStatus;
 import back.fcz.domain.capsule.repository.CapsuleAttachmentRepository;
 import back.fcz.domain.openai.moderation.service.CapsuleImageModerationService;
+import back.fcz.global.exception.BusinessException;
+import back.fcz.global.exception.ErrorCode;
 import back.fcz.infra.storage.FileStorage;
 import back.fcz.infra.storage.FileUploadCommand;
 import back.fcz.infra.storage.PresignedUrlProvider;
@@ -13,15 +16,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.lang.reflect.Field;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +53,9 @@ class CapsuleAttachmentServerUploadServiceTest {
     @Mock
     private CapsuleImageModerationService capsuleImageModerationService;
 
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @Test
     @DisplayName("서버 업로드 방식 - TEMP 업로드 성공")
     void uploadTemp_success() throws Exception {
@@ -73,6 +87,7 @@ class CapsuleAttachmentServerUploadServiceTest {
                 .willReturn(storedFile);
 
         // save 시 id 세팅을 흉내 (JPA가 해주는 걸 테스트에서 재현)
+        CapsuleAttachment[] reserved = new CapsuleAttachment[1];
         given(capsuleAttachmentRepository.save(any(CapsuleAttachment.class)))
                 .willAnswer(inv -> {
                     CapsuleAttachment a = inv.getArgument(0);
@@ -80,8 +95,11 @@ class CapsuleAttachmentServerUploadServiceTest {
                     Field idField = CapsuleAttachment.class.getDeclaredField("id");
                     idField.setAccessible(true);
                     idField.set(a, 1L);
+                    reserved[0] = a;
                     return a;
                 });
+        given(capsuleAttachmentRepository.findById(1L))
+                .willAnswer(inv -> Optional.of(reserved[0]));
 
         // when
         CapsuleAttachmentUploadResponse res = service.uploadTemp(uploaderId, file);
@@ -91,5 +109,63 @@ class CapsuleAttachmentServerUploadServiceTest {
         verify(capsuleAttachmentRepository).save(any(CapsuleAttachment.class));
 
         assertThat(res.attachmentId()).isEqualTo(1L);
+        // 예약(UPLOADING) 후 검사 통과 시 TEMP로 확정
+        assertThat(reserved[0].getStatus()).isEqualTo(CapsuleAttachmentStatus.TEMP);
+    }
+
+    @Test
+    @DisplayName("서버 업로드 방식 - 유해 이미지면 S3 객체 삭제 + 예약 행 DELETED 보상")
+    void uploadTemp_moderationBlocked_compensates() throws Exception {
+        // given
+        Long uploaderId = 10L;
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "test.png",
+                "image/png",
+                "dummy".getBytes()
+        );
+
+        CapsuleAttachment reserved = CapsuleAttachment.createUploading(
+                uploaderId, "capsules/10/uuid.png", "test.png", 5L, "image/png");
+        Field idField = CapsuleAttachment.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(reserved, 2L);
+
+        given(capsuleAttachmentRepository.save(any(CapsuleAttachment.class))).willReturn(reserved);
+        given(capsuleAttachmentRepository.findById(2L)).willReturn(Optional.of(reserved));
+        given(fileStorage.store(any(FileUploadCommand.class), anyString()))
+                .willReturn(new StoredFile("capsules/10/uuid.png", "test.png", "image/png", 5L));
+        given(presignedUrlProvider.presignGet(anyString(), any()))
+                .willReturn("https://example.com/test.png");
+        doThrow(new BusinessException(ErrorCode.CAPSULE_CONTENT_BLOCKED))
+                .when(capsuleImageModerationService)
+                .validateImageUrl(anyLong(), any(), anyString());
+
+        // when
+        BusinessException ex = catchThrowableOfType(
+                () -> service.uploadTemp(uploaderId, file), BusinessException.class);
+
+        // then
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CAPSULE_CONTENT_BLOCKED);
+        verify(fileStorage).delete("capsules/10/uuid.png");
+        assertThat(reserved.getStatus()).isEqualTo(CapsuleAttachmentStatus.DELETED);
+    }
+
+    @Test
+    @DisplayName("서버 업로드 방식 - 이미지가 아니면 예약 없이 실패")
+    void uploadTemp_notImage_noReservation() {
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "test.txt",
+                "text/plain",
+                "dummy".getBytes()
+        );
+
+        BusinessException ex = catchThrowableOfType(
+                () -> service.uploadTemp(10L, file), BusinessException.class);
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CAPSULE_FILE_UPLOAD_FAILED);
+        verify(capsuleAttachmentRepository, never()).save(any(CapsuleAttachment.class));
     }
 }
@@ -15,7 +15,8 @@ import back.fcz.domain.capsule.repository.PublicCapsuleRecipientRepository;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.repository.MemberRepository;
 import back.fcz.domain.openai.moderation.service.CapsuleModerationService;
-import back.fcz.domain.sms.service.SmsNotificaationService;
+import back.fcz.domain.sms.service.SmsNotificationAsyncService;
+import back.fcz.domain.unlock.service.NearbyCapsuleIndex;
 import back.fcz.global.crypto.PhoneCrypto;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
@@ -26,7 +27,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -58,7 +62,13 @@ class CapsuleCreateServiceTest {
     @Mock
     CapsuleAttachmentRepository capsuleAttachmentRepository;
     @Mock
-    private SmsNotificaationService smsNotificaationService;
+    private SmsNotificationAsyncService smsNotificationAsyncService;
+    @Spy
+    TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    @Mock
+    CapsuleEntityCache capsuleEntityCache;
+    @Mock
+    NearbyCapsuleIndex nearbyCapsuleIndex;
 
 
     @InjectMocks
@@ -170,6 +180,8 @@ class CapsuleCreateServiceTest {
         assertNotNull(response);
         assertNull(response.capPW()); // 회원 → 비밀번호 없음
         assertEquals("title", response.title());
+        verify(smsNotificationAsyncService)
+                .sendCapsuleCreatedNotification("01000000000", member.getName(), "title");
     }
 
 
@@ -329,9 +341,6 @@ class CapsuleCreateServiceTest {
                 null
         );
 
-        when(memberRepository.findById(1L))
-                .thenReturn(Optional.of(member));
-
         BusinessException ex = assertThrows(
                 BusinessException.class,
                 () -> capsuleCreateService.createPrivateCapsule(dto)
@@ -341,6 +350,33 @@ class CapsuleCreateServiceTest {
                 ErrorCode.RECEIVERNICKNAME_IS_REQUIRED,
                 ex.getErrorCode()
         );
+        // 입력 검증은 트랜잭션 전에 끝나므로 DB 조회 없음
+        verify(memberRepository, never()).findById(any());
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("moderation에서 차단되면 트랜잭션을 열지 않고 아무것도 저장하지 않음")
+    void publicCapsuleCreate_moderationBlocked_noTransaction() {
+        CapsuleCreateRequestDTO dto = new CapsuleCreateRequestDTO(
+                1L, "nick", "title", "content", null,
+                "white", "blue", "PUBLIC", "TIME",
+                LocalDateTime.now(), null, "Seoul", "창원시 의창구",37.11, 127.22,
+                100, 10,null
+        );
+
+        when(capsuleModerationService.validateCapsuleText(
+                any(), any(), any(), any(), any(), any(), any()
+        )).thenThrow(new BusinessException(ErrorCode.CAPSULE_CONTENT_BLOCKED));
+
+        BusinessException ex = assertThrows(
+                BusinessException.class,
+                () -> capsuleCreateService.publicCapsuleCreate(dto)
+        );
+
+        assertEquals(ErrorCode.CAPSULE_CONTENT_BLOCKED, ex.getErrorCode());
+        verify(transactionTemplate, never()).execute(any());
+        verifyNoInteractions(memberRepository, capsuleRepository, nearbyCapsuleIndex);
     }
 
     @Test
@@ -422,6 +458,43 @@ class CapsuleCreateServiceTest {
     }
 
 
+    @Test
+    @DisplayName("수정 moderation에서 차단되면 트랜잭션을 열지 않고 캡슐을 변경하지 않음")
+    void updateCapsule_moderationBlocked_noTransaction() {
+        // given
+        Long capsuleId = 1L;
+
+        Member member = Member.testMember(10L, "tester", "테스터");
+
+        Capsule capsule = Capsule.builder()
+                .capsuleId(capsuleId)
+                .memberId(member)
+                .title("old title")
+                .content("old content")
+                .build();
+
+        Mockito.when(capsuleRepository.findById(capsuleId))
+                .thenReturn(Optional.of(capsule));
+        when(capsuleModerationService.validateCapsuleText(
+                any(), any(), any(), any(), any(), any(), any()
+        )).thenThrow(new BusinessException(ErrorCode.CAPSULE_CONTENT_BLOCKED));
+
+        // when & then
+        BusinessException ex = assertThrows(
+                BusinessException.class,
+                () -> capsuleCreateService.updateCapsule(
+                        capsuleId,
+                        new CapsuleUpdateRequestDTO("bad title", null, null)
+                )
+        );
+
+        assertEquals(ErrorCode.CAPSULE_CONTENT_BLOCKED, ex.getErrorCode());
+        assertEquals("old title", capsule.getTitle());
+        verify(transactionTemplate, never()).execute(any());
+        verify(capsuleRepository, never()).save(any(Capsule.class));
+        verify(capsuleModerationService).attachCapsuleId(null, capsuleId);
+    }
+
     @Test
     @DisplayName("캡슐 열람 기록이 존재하면 수정 불가")
     void updateCapsule_fail_dueToOpenedCapsule() {
@@ -0,0 +1,150 @@
+package back.fcz.domain.capsule.service;
+
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.member.entity.Member;
+import back.fcz.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapsuleEntityCacheTest {
+
+    @Mock
+    private CapsuleRepository capsuleRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CapsuleEntityCache capsuleEntityCache;
+    private Capsule capsule;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        capsuleEntityCache = new CapsuleEntityCache(
+                capsuleRepository,
+                memberRepository,
+                redisTemplate,
+                objectMapper,
+                mock(RedisMessageListenerContainer.class)
+        );
+
+        Member writer = Member.testMember(1L, "writer", "작성자");
+        capsule = Capsule.builder()
+                .memberId(writer)
+                .uuid("uuid-1")
+                .nickname("작성자")
+                .title("제목")
+                .content("내용")
+                .capsuleColor("RED")
+                .capsulePackingColor("BLUE")
+                .visibility("PUBLIC")
+                .unlockType("TIME")
+                .unlockAt(LocalDateTime.now().minusDays(1))
+                .likeCount(3)
+                .build();
+        ReflectionTestUtils.setField(capsule, "capsuleId", 100L);
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(memberRepository.getReferenceById(1L)).thenReturn(writer);
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 캡슐은 Redis에 저장되고, 이후 조회는 로컬 캐시에서 처리된다")
+    void find_cachesLocallyAfterFirstLoad() {
+        when(valueOperations.get("capsule:entity:100")).thenReturn(null);
+        when(capsuleRepository.findById(100L)).thenReturn(Optional.of(capsule));
+
+        Optional<Capsule> first = capsuleEntityCache.find(100L);
+        Optional<Capsule> second = capsuleEntityCache.find(100L);
+
+        assertThat(first).containsSame(capsule);
+        assertThat(second).isPresent();
+        assertThat(second.get()).isNotSameAs(capsule);
+        assertThat(second.get().getTitle()).isEqualTo("제목");
+        assertThat(second.get().getLikeCount()).isEqualTo(3);
+        assertThat(second.get().getMemberId().getMemberId()).isEqualTo(1L);
+
+        verify(capsuleRepository, times(1)).findById(100L);
+        verify(valueOperations).set(eq("capsule:entity:100"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 로컬/Redis 모두 비워져 다시 DB에서 조회한다")
+    void evict_forcesReload() {
+        when(valueOperations.get("capsule:entity:100")).thenReturn(null);
+        when(capsuleRepository.findById(100L)).thenReturn(Optional.of(capsule));
+
+        capsuleEntityCache.find(100L);
+        capsuleEntityCache.evict(100L);
+        capsuleEntityCache.find(100L);
+
+        verify(capsuleRepository, times(2)).findById(100L);
+        verify(redisTemplate).delete(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회로 폴백한다")
+    void find_fallsBackToDbOnRedisFailure() {
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("redis down"));
+        when(capsuleRepository.findById(100L)).thenReturn(Optional.of(capsule));
+
+        Optional<Capsule> result = capsuleEntityCache.find(100L);
+
+        assertThat(result).containsSame(capsule);
+    }
+
+    @Test
+    @DisplayName("무효화 시 다른 노드의 로컬 캐시도 비우도록 메시지를 발행한다")
+    void evict_publishesInvalidation() {
+        capsuleEntityCache.evictAll(List.of(100L, 101L));
+
+        verify(redisTemplate).convertAndSend(CapsuleEntityCache.INVALIDATION_CHANNEL, "100,101");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시를 비우고 다시 조회한다")
+    void onMessage_evictsLocalCache() {
+        when(valueOperations.get("capsule:entity:100")).thenReturn(null);
+        when(capsuleRepository.findById(100L)).thenReturn(Optional.of(capsule));
+
+        capsuleEntityCache.find(100L);
+        capsuleEntityCache.onMessage(
+                new DefaultMessage(
+                        CapsuleEntityCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                        "100".getBytes(StandardCharsets.UTF_8)
+                ),
+                null
+        );
+        capsuleEntityCache.find(100L);
+
+        verify(capsuleRepository, times(2)).findById(100L);
+    }
+}
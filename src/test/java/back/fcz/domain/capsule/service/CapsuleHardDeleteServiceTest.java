@@ -4,6 +4,8 @@ package back.fcz.domain.capsule.service;
 import back.fcz.domain.bookmark.entity.Bookmark;
 import back.fcz.domain.bookmark.repository.BookmarkRepository;
 import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.entity.CapsuleAttachment;
+import back.fcz.domain.capsule.entity.CapsuleAttachmentStatus;
 import back.fcz.domain.capsule.repository.*;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.openai.moderation.entity.*;
@@ -134,6 +136,12 @@ class CapsuleHardDeleteServiceTest {
                 .build();
         em.persist(step);
 
+        // 첨부파일 (capsule FK)
+        CapsuleAttachment attachment = CapsuleAttachment.createUploading(
+                member.getMemberId(), "capsules/1/a.png", "a.png", 10L, "image/png");
+        attachment.attachToCapsule(capsule);
+        em.persist(attachment);
+
         em.flush();
 
         // 실행
@@ -146,5 +154,11 @@ class CapsuleHardDeleteServiceTest {
         assertThat(moderationAuditLogRepository.count()).isZero();
         assertThat(reportRepository.count()).isZero();
         assertThat(storytrackStepRepository.findAll()).isEmpty();
+
+        // 첨부파일은 FK만 끊고 DELETED로 남겨 S3 정리 스케줄러가 처리
+        CapsuleAttachment detached = capsuleAttachmentRepository.findById(attachment.getId()).orElseThrow();
+        assertThat(detached.getCapsule()).isNull();
+        assertThat(detached.getStatus()).isEqualTo(CapsuleAttachmentStatus.DELETED);
+        assertThat(detached.getDeletedAt()).isNotNull();
     }
 }
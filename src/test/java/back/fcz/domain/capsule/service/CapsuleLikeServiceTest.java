@@ -39,6 +39,9 @@ public class CapsuleLikeServiceTest {
     @Mock
     private CurrentUserContext currentUserContext;
 
+    @Mock
+    private CapsuleEntityCache capsuleEntityCache;
+
     private Member member;
     private Capsule capsule;
 
@@ -0,0 +1,284 @@
+package back.fcz.domain.capsule.service;
+
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.entity.CapsuleOpenLog;
+import back.fcz.domain.capsule.entity.CapsuleOpenStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapsuleOpenLogBatchWriterTest {
+
+    private static final String WORKER_THREAD = "open-log-writer";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CapsuleOpenLogBatchWriter writer;
+
+    // 배치 INSERT 호출마다 (실행 스레드, 행 수) 기록
+    private final List<String> batchThreads = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("flush-size만큼 쌓이면 flush-interval을 기다리지 않고 한 번에 배치 저장한다")
+    void flushesBatchWhenFlushSizeReached() {
+        // given
+        writer = newWriter(100, 3, 5_000, 50, 1_000);
+        recordBatches(null);
+        writer.start();
+
+        // when
+        writer.submit(openLog(1L));
+        writer.submit(openLog(2L));
+        writer.submit(openLog(3L));
+
+        // then
+        verify(jdbcTemplate, timeout(1_000)).batchUpdate(anyString(), anyCollection(), eq(3), anySetter());
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(batchThreads).containsOnly(WORKER_THREAD);
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 offer-timeout 후 호출 스레드에서 직접 저장한다")
+    void writesOnCallerThreadWhenQueueIsFull() throws Exception {
+        // given - worker가 첫 배치 저장 중에 멈춰 있는 상태
+        writer = newWriter(1, 1, 5_000, 10, 1_000);
+        CountDownLatch workerEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        recordBatches(() -> {
+            workerEntered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+        });
+        writer.start();
+
+        writer.submit(openLog(1L));
+        assertThat(workerEntered.await(1, TimeUnit.SECONDS)).isTrue();
+        writer.submit(openLog(2L));   // 큐(용량 1)에 적재
+
+        // when - 큐 포화
+        writer.submit(openLog(3L));
+
+        // then
+        assertThat(batchThreads).contains(Thread.currentThread().getName());
+        assertThat(writer.pendingCount()).isEqualTo(1);
+
+        release.countDown();
+        writer.shutdown();
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 건별로 저장하고, 제약 위반 행은 재시도하지 않는다")
+    void fallsBackToRowByRowWhenBatchFails() {
+        // given
+        writer = newWriter(100, 2, 5_000, 50, 1_000);
+        doThrow(new QueryTimeoutException("batch timeout"))
+                .when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), anySetter());
+        doReturn(1)
+                .doThrow(new DataIntegrityViolationException("fk"))
+                .when(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+        writer.start();
+
+        // when
+        writer.submit(openLog(1L));
+        writer.submit(openLog(2L));
+
+        // then
+        verify(jdbcTemplate, timeout(1_000).times(2)).update(anyString(), any(PreparedStatementSetter.class));
+        verify(jdbcTemplate, after(300).times(2)).update(anyString(), any(PreparedStatementSetter.class));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("건별 저장이 일시적 오류로 실패하면 재시도 큐에 넣었다가 다시 저장한다")
+    void retriesTransientRowFailure() {
+        // given
+        writer = newWriter(100, 1, 50, 50, 1_000);
+        doThrow(new QueryTimeoutException("batch timeout"))
+                .when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), anySetter());
+        doThrow(new QueryTimeoutException("row timeout"))
+                .doReturn(1)
+                .when(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+        writer.start();
+
+        // when
+        writer.submit(openLog(1L));
+
+        // then
+        verify(jdbcTemplate, timeout(2_000).times(2)).update(anyString(), any(PreparedStatementSetter.class));
+        verify(jdbcTemplate, after(300).times(2)).update(anyString(), any(PreparedStatementSetter.class));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장될 때까지 재시도하고, 재시도 대기 중에는 큐를 비우지 않는다")
+    void holdsQueueUntilRetrySucceeds() {
+        // given - DB 장애 상태
+        writer = newWriter(100, 1, 50, 50, 100);
+        AtomicBoolean dbUp = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            if (!dbUp.get()) {
+                throw new QueryTimeoutException("batch timeout");
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), anySetter());
+        doAnswer(invocation -> {
+            if (!dbUp.get()) {
+                throw new QueryTimeoutException("row timeout");
+            }
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+        writer.start();
+
+        writer.submit(openLog(1L));
+        verify(jdbcTemplate, timeout(1_000).times(3)).update(anyString(), any(PreparedStatementSetter.class));
+
+        // when - 재시도 대기 중 새 로그 적재
+        writer.submit(openLog(2L));
+
+        // then - 새 로그는 큐에 남고 실패한 행도 버리지 않음
+        verify(jdbcTemplate, after(300).atLeast(3)).update(anyString(), any(PreparedStatementSetter.class));
+        assertThat(writer.pendingCount()).isEqualTo(2);
+
+        // when - DB 복구
+        dbUp.set(true);
+
+        // then
+        await(() -> writer.pendingCount() == 0, 2_000);
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 로그를 모두 저장한다")
+    void drainsQueueOnShutdown() throws Exception {
+        // given - worker가 첫 배치에서 멈춘 동안 나머지 로그는 큐에 대기
+        writer = newWriter(100, 100, 200, 50, 1_000);
+        CountDownLatch workerEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        recordBatches(() -> {
+            workerEntered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+        });
+        writer.start();
+
+        writer.submit(openLog(1L));
+        assertThat(workerEntered.await(1, TimeUnit.SECONDS)).isTrue();
+        for (long i = 2; i <= 5; i++) {
+            writer.submit(openLog(i));
+        }
+        assertThat(writer.pendingCount()).isEqualTo(4);
+
+        // when
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(writer::shutdown);
+        Thread.sleep(100);
+        release.countDown();
+        shutdown.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 재시도 대기 중인 로그는 저장될 때까지 backoff 간격으로 재시도한다")
+    void drainsRetryQueueOnShutdown() {
+        // given - worker 없이 직접 저장 경로에서 일시적 오류 발생
+        writer = newWriter(100, 10, 10, 50, 20);
+        doThrow(new QueryTimeoutException("batch timeout"))
+                .when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), anySetter());
+        doThrow(new QueryTimeoutException("row timeout"))
+                .doThrow(new QueryTimeoutException("row timeout"))
+                .doThrow(new QueryTimeoutException("row timeout"))
+                .doReturn(1)
+                .when(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+
+        writer.submit(openLog(1L));
+        assertThat(writer.pendingCount()).isEqualTo(1);
+
+        // when
+        writer.shutdown();
+
+        // then - 최초 저장 1회 + 종료 중 재시도 3회
+        verify(jdbcTemplate, times(4)).update(anyString(), any(PreparedStatementSetter.class));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    private CapsuleOpenLogBatchWriter newWriter(int queueCapacity, int flushSize, long flushIntervalMs,
+                                                long offerTimeoutMs, long retryMaxBackoffMs) {
+        return new CapsuleOpenLogBatchWriter(jdbcTemplate, queueCapacity, flushSize, flushIntervalMs,
+                offerTimeoutMs, retryMaxBackoffMs);
+    }
+
+    private static void await(BooleanSupplier condition, long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+    // worker 스레드의 첫 배치 저장에서만 onWorker를 실행 (호출 스레드 직접 저장은 바로 통과)
+    private void recordBatches(ThrowingRunnable onWorker) {
+        AtomicBoolean workerBatchSeen = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            String thread = Thread.currentThread().getName();
+            batchThreads.add(thread);
+            batchSizes.add(((Collection<?>) invocation.getArgument(1)).size());
+            if (onWorker != null && WORKER_THREAD.equals(thread) && workerBatchSeen.compareAndSet(false, true)) {
+                onWorker.run();
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), anySetter());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ParameterizedPreparedStatementSetter<CapsuleOpenLog> anySetter() {
+        return any(ParameterizedPreparedStatementSetter.class);
+    }
+
+    private static CapsuleOpenLog openLog(Long memberId) {
+        return CapsuleOpenLog.builder()
+                .capsuleId(Capsule.builder().capsuleId(10L).build())
+                .memberId(memberId)
+                .viewerType("MEMBER")
+                .status(CapsuleOpenStatus.SUCCESS)
+                .openedAt(LocalDateTime.now())
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
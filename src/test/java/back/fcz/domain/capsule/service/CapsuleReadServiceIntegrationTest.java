@@ -1,6 +1,7 @@
 package back.fcz.domain.capsule.service;
 
 import back.fcz.domain.capsule.DTO.request.CapsuleConditionRequestDTO;
+import back.fcz.domain.capsule.DTO.request.CapsuleSaveButtonRequest;
 import back.fcz.domain.capsule.DTO.response.CapsuleConditionResponseDTO;
 import back.fcz.domain.capsule.entity.*;
 import back.fcz.domain.capsule.repository.CapsuleOpenLogRepository;
@@ -36,6 +37,9 @@ class CapsuleReadServiceIntegrationTest {
     @Autowired
     private CapsuleReadService capsuleReadService;
 
+    @Autowired
+    private CapsuleSaveButtonService capsuleSaveButtonService;
+
     @Autowired
     private CapsuleRepository capsuleRepository;
 
@@ -54,6 +58,9 @@ class CapsuleReadServiceIntegrationTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
     @Autowired
     private PhoneCrypto phoneCrypto;
 
@@ -220,9 +227,7 @@ class CapsuleReadServiceIntegrationTest {
     }
 
     private int getRedisViewCount(Long capsuleId) {
-        String key = VIEW_COUNT_KEY_PREFIX + capsuleId;
-        String value = redisTemplate.opsForValue().get(key);
-        return value != null ? Integer.parseInt(value) : 0;
+        return (int) viewCountBuffer.getBufferedCount(capsuleId);
     }
 
     // ========== 공개 캡슐 통합 테스트 ==========
@@ -723,6 +728,29 @@ class CapsuleReadServiceIntegrationTest {
             int redisViewCount = getRedisViewCount(unprotectedCapsule.getCapsuleId());
             assertThat(redisViewCount).isEqualTo(2);
         }
+
+        @Test
+        @Order(8)
+        @DisplayName("비보호 캡슐 - 저장 버튼 이후 비밀번호 없이 보호 캡슐로 재조회")
+        void unprotectedCapsule_savedThenReadWithoutPassword_success() {
+            // Given - 비밀번호로 첫 조회 (캡슐 스냅샷이 캐시에 적재됨)
+            setupSecurityContext(testRecipient.getMemberId());
+            String password = "secret123";
+            Capsule unprotectedCapsule = createAndSaveUnprotectedPrivateCapsule(testSender, password);
+            capsuleReadService.conditionAndRead(createRequestDto(unprotectedCapsule.getCapsuleId(), password));
+
+            // When - 저장 후 비밀번호 없이 조회
+            capsuleSaveButtonService.saveRecipient(new CapsuleSaveButtonRequest(unprotectedCapsule.getCapsuleId()));
+            CapsuleConditionResponseDTO result = capsuleReadService.conditionAndRead(
+                    createRequestDto(unprotectedCapsule.getCapsuleId(), null)
+            );
+
+            // Then - 캐시가 무효화되어 isProtected=1 경로로 조회됨
+            assertNotNull(result);
+            assertThat(result.capsuleId()).isEqualTo(unprotectedCapsule.getCapsuleId());
+            assertThat(capsuleRepository.findById(unprotectedCapsule.getCapsuleId()).orElseThrow().getIsProtected())
+                    .isEqualTo(1);
+        }
     }
 
     // ========== 작성자 자신의 캡슐 조회 통합 테스트 ==========
@@ -20,7 +20,7 @@ import back.fcz.global.crypto.PhoneCrypto;
 import back.fcz.global.dto.InServerMemberResponse;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
-import back.fcz.infra.storage.PresignedUrlProvider;
+import back.fcz.infra.storage.PresignedUrlCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -29,7 +29,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -90,10 +89,13 @@ class CapsuleReadServiceTest {
     private SanctionConstants sanctionConstants;
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private PresignedUrlCache presignedUrlCache;
 
     @Mock
-    private PresignedUrlProvider presignedUrlProvider;
+    private CapsuleEntityCache capsuleEntityCache;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
 
     private CapsuleReadService capsuleReadService;
     private Member testMember;
@@ -129,11 +131,16 @@ class CapsuleReadServiceTest {
                 bookmarkRepository,
                 monitoringService,
                 capsuleAttachmentRepository,
-                presignedUrlProvider,
+                presignedUrlCache,
                 capsuleOpenLogService,
-                redisTemplate
+                capsuleEntityCache,
+                viewCountBuffer
         );
 
+        // 캐시는 저장소 조회 결과를 그대로 위임
+        lenient().when(capsuleEntityCache.find(anyLong()))
+                .thenAnswer(invocation -> capsuleRepository.findById(invocation.getArgument(0)));
+
         lenient().when(capsuleAttachmentRepository.findAllByCapsule_CapsuleIdAndStatus(
                 anyLong(),
                 any(CapsuleAttachmentStatus.class)
@@ -277,7 +284,9 @@ class CapsuleReadServiceTest {
                     eq(1L), eq(1L), any(CapsuleConditionRequestDTO.class)
             );
 
-            verify(capsuleOpenLogRepository, times(1)).save(any(CapsuleOpenLog.class));
+            // 첫 열람 성공 로그는 재조회 판단에 쓰이므로 즉시 저장
+            verify(capsuleOpenLogService, times(1)).saveLog(any(CapsuleOpenLog.class));
+            verify(capsuleOpenLogService, never()).saveLogWriteBehind(any(CapsuleOpenLog.class));
             verify(capsuleOpenLogService, never()).saveLogInNewTransaction(any(CapsuleOpenLog.class));
         }
 
@@ -313,7 +322,7 @@ class CapsuleReadServiceTest {
             assertNotNull(result);
 
             ArgumentCaptor<CapsuleOpenLog> logCaptor = ArgumentCaptor.forClass(CapsuleOpenLog.class);
-            verify(capsuleOpenLogRepository, times(1)).save(logCaptor.capture());
+            verify(capsuleOpenLogService, times(1)).saveLogWriteBehind(logCaptor.capture());
 
             CapsuleOpenLog savedLog = logCaptor.getValue();
             assertEquals(CapsuleOpenStatus.FAIL_LOCATION, savedLog.getStatus());
@@ -364,7 +373,7 @@ class CapsuleReadServiceTest {
             );
 
             ArgumentCaptor<CapsuleOpenLog> logCaptor = ArgumentCaptor.forClass(CapsuleOpenLog.class);
-            verify(capsuleOpenLogRepository, times(1)).save(logCaptor.capture());
+            verify(capsuleOpenLogService, times(1)).saveLogWriteBehind(logCaptor.capture());
 
             CapsuleOpenLog savedLog = logCaptor.getValue();
             assertEquals(CapsuleOpenStatus.SUSPICIOUS, savedLog.getStatus());
@@ -456,7 +465,7 @@ class CapsuleReadServiceTest {
             // Then
             assertNotNull(result);
 
-            verify(capsuleOpenLogRepository, times(1)).save(any(CapsuleOpenLog.class));
+            verify(capsuleOpenLogService, times(1)).saveLog(any(CapsuleOpenLog.class));
             verify(capsuleRecipientRepository, times(1)).save(recipient);
 
             verify(capsuleOpenLogService, never()).saveLogInNewTransaction(any(CapsuleOpenLog.class));
@@ -558,7 +567,7 @@ class CapsuleReadServiceTest {
             assertNotNull(result);
 
             ArgumentCaptor<CapsuleOpenLog> logCaptor = ArgumentCaptor.forClass(CapsuleOpenLog.class);
-            verify(capsuleOpenLogRepository, times(1)).save(logCaptor.capture());
+            verify(capsuleOpenLogService, times(1)).saveLog(logCaptor.capture());
 
             CapsuleOpenLog savedLog = logCaptor.getValue();
             assertEquals("MEMBER", savedLog.getViewerType());
@@ -600,7 +609,7 @@ class CapsuleReadServiceTest {
             assertNotNull(result);
 
             ArgumentCaptor<CapsuleOpenLog> logCaptor = ArgumentCaptor.forClass(CapsuleOpenLog.class);
-            verify(capsuleOpenLogRepository, times(1)).save(logCaptor.capture());
+            verify(capsuleOpenLogService, times(1)).saveLog(logCaptor.capture());
 
             CapsuleOpenLog savedLog = logCaptor.getValue();
             assertEquals("GUEST", savedLog.getViewerType());
@@ -687,7 +696,7 @@ class CapsuleReadServiceTest {
                     any(), any(), any(), any(), any(), any(), any()
             );
 
-            verify(capsuleOpenLogRepository, times(1)).save(any(CapsuleOpenLog.class));
+            verify(capsuleOpenLogService, times(1)).saveLogWriteBehind(any(CapsuleOpenLog.class));
             verify(capsuleOpenLogService, never()).saveLogInNewTransaction(any(CapsuleOpenLog.class));
         }
     }
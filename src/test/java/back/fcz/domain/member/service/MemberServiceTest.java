@@ -42,6 +42,8 @@ class MemberServiceTest {
     private NicknameHistoryRepository nicknameHistoryRepository;
     @Mock
     private PhoneVerificationService phoneVerificationService;
+    @Mock
+    private MemberStatusCache memberStatusCache;
 
     private MemberService memberService;
 
@@ -52,7 +54,8 @@ class MemberServiceTest {
                 memberRepository,
                 phoneCrypto,
                 nicknameHistoryRepository,
-                phoneVerificationService
+                phoneVerificationService,
+                memberStatusCache
         );
     }
 
@@ -0,0 +1,73 @@
+package back.fcz.domain.member.service;
+
+import back.fcz.domain.member.entity.MemberStatus;
+import back.fcz.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class MemberStatusCacheTest {
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private MemberStatusCache memberStatusCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        memberStatusCache = new MemberStatusCache(
+                redisTemplate,
+                mock(MemberRepository.class),
+                mock(RedisMessageListenerContainer.class)
+        );
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 상태는 로컬 캐시에서 반환해 Redis를 다시 조회하지 않는다")
+    void getStatus_localHit() {
+        when(valueOperations.get("member:status:1")).thenReturn("ACTIVE");
+
+        assertThat(memberStatusCache.getStatus(1L)).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(memberStatusCache.getStatus(1L)).isEqualTo(MemberStatus.ACTIVE);
+
+        verify(valueOperations, times(1)).get("member:status:1");
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 로컬 캐시를 비우고 다음 조회에서 변경된 상태를 읽는다")
+    void onMessage_evictsLocalCache() {
+        when(valueOperations.get("member:status:1")).thenReturn("ACTIVE", "STOP");
+        memberStatusCache.getStatus(1L);
+
+        memberStatusCache.onMessage(
+                new DefaultMessage(
+                        MemberStatusCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                        "1".getBytes(StandardCharsets.UTF_8)
+                ),
+                null
+        );
+
+        assertThat(memberStatusCache.getStatus(1L)).isEqualTo(MemberStatus.STOP);
+    }
+
+    @Test
+    @DisplayName("상태 변경 시 Redis 키를 삭제하고 무효화 메시지를 발행한다")
+    void invalidateCache_deletesAndPublishes() {
+        memberStatusCache.invalidateCache(1L);
+
+        verify(redisTemplate).delete("member:status:1");
+        verify(redisTemplate).convertAndSend(MemberStatusCache.INVALIDATION_CHANNEL, "1");
+    }
+}
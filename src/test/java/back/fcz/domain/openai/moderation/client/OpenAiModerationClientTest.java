@@ -0,0 +1,91 @@
+package back.fcz.domain.openai.moderation.client;
+
+import back.fcz.domain.openai.moderation.dto.OpenAiModerationResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)를 moderation 엔드포인트 대신 사용
+ */
+class OpenAiModerationClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> receivedBodies = new CopyOnWriteArrayList<>();
+    private final AtomicReference<String> responseBody = new AtomicReference<>();
+
+    private HttpServer server;
+    private OpenAiModerationClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/moderations", exchange -> {
+            receivedBodies.add(objectMapper.readTree(exchange.getRequestBody()));
+
+            byte[] body = responseBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/moderations";
+        client = new OpenAiModerationClient(new RestTemplateBuilder(), objectMapper, "test-key", "test-model", url);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 여러_텍스트를_한_번의_요청으로_보내고_결과를_입력_순서대로_돌려준다() {
+        responseBody.set("""
+                {"results": [
+                  {"flagged": true,  "categories": {"violence": true,  "hate": false}},
+                  {"flagged": false, "categories": {"violence": false, "hate": false}},
+                  {"flagged": true,  "categories": {"violence": true,  "hate": true}}
+                ]}
+                """);
+
+        List<OpenAiModerationResult> results = client.moderateTexts(List.of("TITLE: a\nCONTENT: b", "a", "b"));
+
+        assertThat(receivedBodies).hasSize(1);
+        JsonNode request = receivedBodies.get(0);
+        assertThat(request.path("model").asText()).isEqualTo("test-model");
+        assertThat(request.path("input").isArray()).isTrue();
+        assertThat(request.path("input")).extracting(JsonNode::asText)
+                .containsExactly("TITLE: a\nCONTENT: b", "a", "b");
+
+        assertThat(results).extracting(OpenAiModerationResult::flagged).containsExactly(true, false, true);
+        assertThat(results.get(0).categories()).containsExactly("violence");
+        assertThat(results.get(2).categories()).containsExactlyInAnyOrder("violence", "hate");
+    }
+
+    @Test
+    void 결과_개수가_입력과_다르면_호출_실패로_처리한다() {
+        responseBody.set("""
+                {"results": [{"flagged": false, "categories": {}}]}
+                """);
+
+        assertThatThrownBy(() -> client.moderateTexts(List.of("a", "b")))
+                .isInstanceOf(RestClientException.class);
+    }
+}
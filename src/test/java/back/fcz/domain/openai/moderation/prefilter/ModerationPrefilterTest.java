@@ -0,0 +1,123 @@
+package back.fcz.domain.openai.moderation.prefilter;
+
+import back.fcz.domain.openai.moderation.dto.ModerationField;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModerationPrefilterTest {
+
+    private final ModerationPrefilter prefilter = new ModerationPrefilter(
+            new ClassPathResource("moderation/prefilter-terms.txt"), true, 20);
+
+    @Test
+    void 겹치는_패턴도_한_번에_모두_찾는다() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.findAll("ushers")).containsExactlyInAnyOrder("she", "he", "hers");
+        assertThat(matcher.containsAny("ahishers")).isTrue();
+        assertThat(matcher.containsAny("xyz")).isFalse();
+        assertThat(AhoCorasickMatcher.of(List.of()).containsAny("anything")).isFalse();
+    }
+
+    @Test
+    void 정규화는_자모를_분해하고_공백_기호_숫자를_제거한다() {
+        assertThat(PrefilterNormalizer.normalize("씨 발"))
+                .isEqualTo(PrefilterNormalizer.normalize("씨발"));
+        // 호환 자모 ㅆ, ㅂ → 초성 자모 (음절 "씨"를 분해한 첫 글자와 같음)
+        assertThat(PrefilterNormalizer.normalize("ㅆㅂ")).isEqualTo("\u1108\u1107");
+        assertThat(PrefilterNormalizer.normalize("씨발")).startsWith("\u1108");
+        assertThat(PrefilterNormalizer.normalize("F.u-C k!1"))
+                .isEqualTo("fuck");
+        assertThat(PrefilterNormalizer.normalize("ｆｕｃｋ"))
+                .isEqualTo("fuck");
+    }
+
+    @Test
+    void 자모_띄어쓰기_우회도_금칙어로_차단한다() {
+        ModerationPrefilter.Result result = prefilter.check(fields("안녕", "진짜 ㅅ ㅂ 이게 뭐야"));
+
+        assertThat(result.decision()).isEqualTo(ModerationPrefilter.Decision.BLOCK);
+        assertThat(result.matches()).containsOnlyKeys(ModerationField.CONTENT);
+    }
+
+    @Test
+    void 종성이_섞인_일반_단어는_초성_금칙어에_걸리지_않는다() {
+        // "밥시간"의 ㅂ은 종성이라 "ㅂㅅ"(초성)과 다르게 정규화됨
+        ModerationPrefilter.Result result = prefilter.check(fields("점심", "밥시간에 만나자 시발점에서"));
+
+        assertThat(result.decision()).isEqualTo(ModerationPrefilter.Decision.REMOTE);
+    }
+
+    @Test
+    void 정규화는_한_글자_토큰_사이만_붙이고_단어_경계는_남긴다() {
+        assertThat(PrefilterNormalizer.normalize("a bit cheaper")).isEqualTo("a bit cheaper");
+        assertThat(PrefilterNormalizer.normalize("f.u.c.k you")).isEqualTo("fuck you");
+        assertThat(PrefilterNormalizer.normalize("아저씨 발"))
+                .isEqualTo(PrefilterNormalizer.normalize("아저씨") + " " + PrefilterNormalizer.normalize("발"));
+        assertThat(PrefilterNormalizer.compact(PrefilterNormalizer.normalize("아저씨 발")))
+                .isEqualTo(PrefilterNormalizer.normalize("아저씨발"));
+    }
+
+    @Test
+    void 단어_경계를_넘는_부분_일치는_금칙어로_보지_않는다() {
+        assertThat(prefilter.check(fields("장보기", "this one is a bit cheaper")).decision())
+                .isEqualTo(ModerationPrefilter.Decision.REMOTE);
+        assertThat(prefilter.check(fields("골프", "first class holes in one")).decision())
+                .isEqualTo(ModerationPrefilter.Decision.REMOTE);
+        assertThat(prefilter.check(fields("동네", "옆집 아저씨 발 밟았다")).decision())
+                .isEqualTo(ModerationPrefilter.Decision.REMOTE);
+        assertThat(prefilter.check(fields("부엌", "유리병 신선하게 보관")).decision())
+                .isEqualTo(ModerationPrefilter.Decision.REMOTE);
+    }
+
+    @Test
+    void 한_글자씩_띄운_우회는_계속_차단한다() {
+        assertThat(prefilter.check(fields(null, "씨 발 진짜")).decision())
+                .isEqualTo(ModerationPrefilter.Decision.BLOCK);
+        assertThat(prefilter.check(fields(null, "b.i.t.c.h")).decision())
+                .isEqualTo(ModerationPrefilter.Decision.BLOCK);
+    }
+
+    @Test
+    void 짧은_필드라도_단어_경계를_넘어_걸리면_원격_검사() {
+        Map<ModerationField, String> nickname = new LinkedHashMap<>();
+        nickname.put(ModerationField.RECEIVER_NICKNAME, "아저씨 발");
+
+        assertThat(prefilter.check(nickname).decision()).isEqualTo(ModerationPrefilter.Decision.REMOTE);
+    }
+
+    @Test
+    void 제목_본문_없이_짧은_필드만_있으면_SAFE() {
+        Map<ModerationField, String> nicknameOnly = new LinkedHashMap<>();
+        nicknameOnly.put(ModerationField.RECEIVER_NICKNAME, "친구야");
+        nicknameOnly.put(ModerationField.LOCATION_NAME, null);
+
+        assertThat(prefilter.check(nicknameOnly).decision()).isEqualTo(ModerationPrefilter.Decision.SAFE);
+
+        Map<ModerationField, String> longAddress = new LinkedHashMap<>();
+        longAddress.put(ModerationField.ADDRESS, "서울특별시 중구 세종대로 110 서울시청 본관 앞 광장");
+
+        assertThat(prefilter.check(longAddress).decision()).isEqualTo(ModerationPrefilter.Decision.REMOTE);
+    }
+
+    @Test
+    void 비활성화하면_항상_원격_검사() {
+        ModerationPrefilter disabled = new ModerationPrefilter(
+                new ClassPathResource("moderation/prefilter-terms.txt"), false, 20);
+
+        assertThat(disabled.check(fields(null, "씨발")).decision()).isEqualTo(ModerationPrefilter.Decision.REMOTE);
+    }
+
+    private static Map<ModerationField, String> fields(String title, String content) {
+        Map<ModerationField, String> fields = new LinkedHashMap<>();
+        fields.put(ModerationField.TITLE, title);
+        fields.put(ModerationField.CONTENT, content);
+        return fields;
+    }
+}
@@ -7,6 +7,7 @@ import back.fcz.domain.openai.moderation.dto.OpenAiModerationResult;
 import back.fcz.domain.openai.moderation.entity.ModerationActionType;
 import back.fcz.domain.openai.moderation.entity.ModerationAuditLog;
 import back.fcz.domain.openai.moderation.entity.ModerationDecision;
+import back.fcz.domain.openai.moderation.prefilter.ModerationPrefilter;
 import back.fcz.global.exception.BusinessException;
 import back.fcz.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,6 +22,7 @@ import org.springframework.web.client.RestClientException;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,13 +37,19 @@ class CapsuleModerationServiceTest {
     @Mock
     ModerationAuditLogWriter auditLogWriter;
 
+    @Mock
+    ModerationResultCache moderationResultCache;
+
     ObjectMapper objectMapper = new ObjectMapper();
 
+    ModerationPrefilter moderationPrefilter = ModerationPrefilter.of(List.of("씨발", "fuck"), 20);
+
     CapsuleModerationService service;
 
     @BeforeEach
     void setUp() {
-        service = new CapsuleModerationService(openAiModerationClient, auditLogWriter, objectMapper);
+        service = new CapsuleModerationService(
+                openAiModerationClient, auditLogWriter, objectMapper, moderationResultCache, moderationPrefilter);
         lenient().when(openAiModerationClient.getModel()).thenReturn("omni-moderation-2024-09-26");
     }
 
@@ -64,14 +72,14 @@ class CapsuleModerationServiceTest {
 
     @Test
     void PASS면_DB저장_없이_null_반환() {
-        // combinedInput = "CONTENT: ok"
-        OpenAiModerationResult overallPass = new OpenAiModerationResult(
+        // inputs = [combinedInput("CONTENT: ok"), CONTENT("ok")]
+        OpenAiModerationResult pass = new OpenAiModerationResult(
                 false,
                 List.of(),
                 objectMapper.createObjectNode()
         );
 
-        when(openAiModerationClient.moderateText("CONTENT: ok")).thenReturn(overallPass);
+        when(openAiModerationClient.moderateTexts(List.of("CONTENT: ok", "ok"))).thenReturn(List.of(pass, pass));
 
         Long auditId = service.validateCapsuleText(
                 1L,
@@ -85,11 +93,116 @@ class CapsuleModerationServiceTest {
 
         assertThat(auditId).isNull();
         verify(auditLogWriter, never()).saveAndReturnId(any());
+        verify(moderationResultCache).put(
+                eq("omni-moderation-2024-09-26"),
+                eq("CONTENT: ok"),
+                argThat(verdict -> !verdict.flagged())
+        );
+    }
+
+    @Test
+    void 금칙어가_있으면_OpenAI_호출없이_로그_저장_후_차단한다() {
+        when(auditLogWriter.saveAndReturnId(any())).thenReturn(55L);
+
+        BusinessException ex = catchThrowableOfType(() -> service.validateCapsuleText(
+                7L,
+                ModerationActionType.CAPSULE_CREATE,
+                "안녕",
+                "진짜 씨 8 발 너무하네",
+                null,
+                null,
+                null
+        ), BusinessException.class);
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CAPSULE_CONTENT_BLOCKED);
+        CapsuleModerationBlockedPayload payload = (CapsuleModerationBlockedPayload) ex.getData();
+        assertThat(payload.getAuditId()).isEqualTo(55L);
+        assertThat(payload.getViolations())
+                .extracting(CapsuleModerationBlockedPayload.Violation::getField)
+                .containsExactly(ModerationField.CONTENT);
+        assertThat(payload.getViolations().get(0).getCategories()).containsExactly(ModerationPrefilter.CATEGORY);
+
+        verify(openAiModerationClient, never()).moderateTexts(anyList());
+        verifyNoInteractions(moderationResultCache);
+
+        ArgumentCaptor<ModerationAuditLog> captor = ArgumentCaptor.forClass(ModerationAuditLog.class);
+        verify(auditLogWriter).saveAndReturnId(captor.capture());
+        assertThat(captor.getValue().getDecision()).isEqualTo(ModerationDecision.FLAGGED);
+    }
+
+    @Test
+    void 제목_본문_없이_짧은_닉네임만_있으면_OpenAI를_호출하지_않는다() {
+        Long auditId = service.validateCapsuleText(
+                1L,
+                ModerationActionType.CAPSULE_UPDATE,
+                null,
+                null,
+                "친구야",
+                null,
+                null
+        );
+
+        assertThat(auditId).isNull();
+        verify(openAiModerationClient, never()).moderateTexts(anyList());
+        verifyNoInteractions(moderationResultCache, auditLogWriter);
+    }
+
+    @Test
+    void 같은_입력의_PASS_판정이_캐시에_있으면_OpenAI를_호출하지_않는다() {
+        when(moderationResultCache.find("omni-moderation-2024-09-26", "CONTENT: ok"))
+                .thenReturn(Optional.of(ModerationResultCache.Verdict.pass()));
+
+        Long auditId = service.validateCapsuleText(
+                1L,
+                ModerationActionType.CAPSULE_UPDATE,
+                null,
+                "ok",
+                null,
+                null,
+                null
+        );
+
+        assertThat(auditId).isNull();
+        verify(openAiModerationClient, never()).moderateTexts(anyList());
+        verifyNoInteractions(auditLogWriter);
+    }
+
+    @Test
+    void 같은_입력의_FLAGGED_판정이_캐시에_있으면_OpenAI_호출없이_로그_저장_후_차단한다() {
+        ModerationResultCache.Verdict verdict = ModerationResultCache.Verdict.flagged(
+                List.of(new ModerationResultCache.Violation(ModerationField.CONTENT, List.of("hate"))),
+                "{\"mock\":\"raw\"}"
+        );
+        when(moderationResultCache.find("omni-moderation-2024-09-26", "CONTENT: bad"))
+                .thenReturn(Optional.of(verdict));
+        when(auditLogWriter.saveAndReturnId(any())).thenReturn(101L);
+
+        BusinessException ex = catchThrowableOfType(() -> service.validateCapsuleText(
+                7L,
+                ModerationActionType.CAPSULE_CREATE,
+                null,
+                "bad",
+                null,
+                null,
+                null
+        ), BusinessException.class);
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CAPSULE_CONTENT_BLOCKED);
+        CapsuleModerationBlockedPayload payload = (CapsuleModerationBlockedPayload) ex.getData();
+        assertThat(payload.getAuditId()).isEqualTo(101L);
+        assertThat(payload.getViolations().get(0).getField()).isEqualTo(ModerationField.CONTENT);
+        assertThat(payload.getViolations().get(0).getCategories()).containsExactly("hate");
+
+        verify(openAiModerationClient, never()).moderateTexts(anyList());
+
+        ArgumentCaptor<ModerationAuditLog> captor = ArgumentCaptor.forClass(ModerationAuditLog.class);
+        verify(auditLogWriter).saveAndReturnId(captor.capture());
+        assertThat(captor.getValue().getDecision()).isEqualTo(ModerationDecision.FLAGGED);
     }
 
     @Test
     void FLAGGED면_DB에_로그_저장하고_CAPSULE_CONTENT_BLOCKED_예외() {
-        // combinedInput = "CONTENT: bad"
+        // inputs = [combinedInput("CONTENT: bad"), CONTENT("bad")] → 한 번의 요청으로 전체/필드별 결과를 받음
         ObjectNode overallRaw = objectMapper.createObjectNode().put("flagged", true);
         OpenAiModerationResult overallFlagged = new OpenAiModerationResult(
                 true,
@@ -104,8 +217,8 @@ class CapsuleModerationServiceTest {
                 contentRaw
         );
 
-        when(openAiModerationClient.moderateText("CONTENT: bad")).thenReturn(overallFlagged);
-        when(openAiModerationClient.moderateText("bad")).thenReturn(contentFlagged);
+        when(openAiModerationClient.moderateTexts(List.of("CONTENT: bad", "bad")))
+                .thenReturn(List.of(overallFlagged, contentFlagged));
 
         when(openAiModerationClient.toRawJson(any())).thenReturn("{\"mock\":\"raw\"}");
         when(auditLogWriter.saveAndReturnId(any())).thenReturn(100L);
@@ -137,11 +250,47 @@ class CapsuleModerationServiceTest {
         assertThat(savedLog.getDecision()).isEqualTo(ModerationDecision.FLAGGED);
         assertThat(savedLog.isFlagged()).isTrue();
         assertThat(savedLog.getInputHash()).isNotBlank();
+
+        verify(moderationResultCache).put(
+                eq("omni-moderation-2024-09-26"),
+                eq("CONTENT: bad"),
+                argThat(verdict -> verdict.flagged() && verdict.violations().size() == 1)
+        );
+    }
+
+    @Test
+    void 필드별_결과는_입력_순서대로_해당_필드에_매핑된다() {
+        // inputs = [combined, TITLE("hi"), CONTENT("bad"), ADDRESS("seoul")]
+        OpenAiModerationResult flagged = new OpenAiModerationResult(
+                true, List.of("violence"), objectMapper.createObjectNode());
+        OpenAiModerationResult pass = new OpenAiModerationResult(
+                false, List.of(), objectMapper.createObjectNode());
+
+        when(openAiModerationClient.moderateTexts(List.of(
+                "TITLE: hi\nCONTENT: bad\nADDRESS: seoul", "hi", "bad", "seoul"
+        ))).thenReturn(List.of(flagged, pass, flagged, pass));
+        when(auditLogWriter.saveAndReturnId(any())).thenReturn(1L);
+
+        BusinessException ex = catchThrowableOfType(() -> service.validateCapsuleText(
+                7L,
+                ModerationActionType.CAPSULE_CREATE,
+                "hi",
+                "bad",
+                null,
+                null,
+                "seoul"
+        ), BusinessException.class);
+
+        CapsuleModerationBlockedPayload payload = (CapsuleModerationBlockedPayload) ex.getData();
+        assertThat(payload.getViolations())
+                .extracting(CapsuleModerationBlockedPayload.Violation::getField)
+                .containsExactly(ModerationField.CONTENT);
+        verify(openAiModerationClient, times(1)).moderateTexts(anyList());
     }
 
     @Test
     void OpenAI_호출_실패하면_ERROR로그_저장하고_OPENAI_MODERATION_FAILED_예외() {
-        when(openAiModerationClient.moderateText("CONTENT: ok"))
+        when(openAiModerationClient.moderateTexts(List.of("CONTENT: ok", "ok")))
                 .thenThrow(new RestClientException("timeout"));
 
         when(auditLogWriter.saveAndReturnId(any())).thenReturn(999L);
@@ -167,5 +316,6 @@ class CapsuleModerationServiceTest {
         ArgumentCaptor<ModerationAuditLog> captor = ArgumentCaptor.forClass(ModerationAuditLog.class);
         verify(auditLogWriter).saveAndReturnId(captor.capture());
         assertThat(captor.getValue().getDecision()).isEqualTo(ModerationDecision.ERROR);
+        verify(moderationResultCache, never()).put(anyString(), anyString(), any());
     }
 }
@@ -0,0 +1,65 @@
+package back.fcz.domain.openai.moderation.service;
+
+import back.fcz.domain.openai.moderation.dto.ModerationField;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ModerationResultCacheTest {
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    ModerationResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ModerationResultCache(redisTemplate, new ObjectMapper(), Duration.ofDays(7));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void 공백만_다른_입력은_같은_키로_저장되고_판정이_그대로_복원된다() {
+        ModerationResultCache.Verdict verdict = ModerationResultCache.Verdict.flagged(
+                List.of(new ModerationResultCache.Violation(ModerationField.TITLE, List.of("violence"))),
+                "{\"raw\":true}"
+        );
+
+        cache.put("model", "TITLE: hello   world", verdict);
+
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> valueCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(keyCaptor.capture(), valueCaptor.capture(), eq(Duration.ofDays(7)));
+        assertThat(keyCaptor.getValue()).startsWith("moderation:text:model:");
+
+        when(valueOperations.get(keyCaptor.getValue())).thenReturn(valueCaptor.getValue());
+        Optional<ModerationResultCache.Verdict> found = cache.find("model", " TITLE: hello\n world ");
+
+        assertThat(found).contains(verdict);
+    }
+
+    @Test
+    void Redis_장애_시_캐시_미스로_처리한다() {
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("redis down"));
+
+        assertThat(cache.find("model", "CONTENT: ok")).isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package back.fcz.domain.sanction.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlockedIpMatcherTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private BlockedIpMatcher blockedIpMatcher;
+
+    @BeforeEach
+    void setUp() {
+        blockedIpMatcher = new BlockedIpMatcher(redisTemplate, redisMessageListenerContainer);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽는 동안 들어온 델타는 스냅샷 적용 후에도 남는다")
+    void reload_keepsDeltasReceivedDuringSnapshot() {
+        // given - 스냅샷에는 없는 추가/해제가 조회 도중 pub/sub으로 도착
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        blockedIpMatcher.onMessage(message("+|198.51.100.9|" + expiresAt), null);
+
+        when(zSetOperations.rangeWithScores(anyString(), eq(0L), eq(-1L))).thenAnswer(invocation -> {
+            blockedIpMatcher.onMessage(message("+|203.0.113.0/24|" + expiresAt), null);
+            blockedIpMatcher.onMessage(message("-|198.51.100.9"), null);
+            return Set.of(new DefaultTypedTuple<>("198.51.100.9", (double) expiresAt));
+        });
+
+        // when
+        blockedIpMatcher.reload();
+
+        // then
+        assertThat(blockedIpMatcher.match("203.0.113.10")).isEqualTo("203.0.113.0/24");
+        assertThat(blockedIpMatcher.match("198.51.100.9")).isNull();
+        assertThat(blockedIpMatcher.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("add/remove는 로컬 트라이에 바로 반영하고 다른 노드에 전파한다")
+    void addAndRemove_applyLocallyAndPublish() {
+        // given
+        when(zSetOperations.rangeWithScores(anyString(), eq(0L), eq(-1L))).thenReturn(Set.of());
+        blockedIpMatcher.reload();
+
+        // when
+        blockedIpMatcher.add("192.0.2.1", Duration.ofMinutes(1));
+        blockedIpMatcher.add("192.0.2.0/24", Duration.ofMinutes(1));
+        blockedIpMatcher.remove("192.0.2.1");
+
+        // then
+        assertThat(blockedIpMatcher.match("192.0.2.1")).isEqualTo("192.0.2.0/24");
+        assertThat(blockedIpMatcher.size()).isEqualTo(1);
+        verify(redisTemplate, times(3)).convertAndSend(eq(BlockedIpMatcher.CHANGE_CHANNEL), anyString());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                BlockedIpMatcher.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package back.fcz.domain.sanction.service;
+
+import back.fcz.domain.sanction.constant.RiskLevel;
+import back.fcz.domain.sanction.properties.SanctionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HybridRateLimiterTest {
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private HybridRateLimiter hybridRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        SanctionProperties properties = new SanctionProperties();
+        properties.getRateLimit().getLocal().setShareRatio(0.5);
+
+        hybridRateLimiter = new HybridRateLimiter(rateLimitService, redisTemplate, properties);
+
+        // 60초에 10회 -> 노드 1대 기준 로컬 몫 5회
+        when(rateLimitService.limitOf(RiskLevel.LOW))
+                .thenReturn(new RateLimitService.Limit(60_000L, 10, 60_000L));
+    }
+
+    @Test
+    void 노드_몫_이내의_요청은_Redis_없이_허용된다() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW)).isTrue();
+        }
+
+        verify(rateLimitService, never()).acquire(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void 노드_몫을_다_쓰면_로컬_허용분과_함께_Redis로_확인한다() {
+        when(rateLimitService.acquire("rate_limit:member:1", RiskLevel.LOW, 5)).thenReturn(6L);
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW)).isTrue();
+        }
+
+        verify(rateLimitService).acquire("rate_limit:member:1", RiskLevel.LOW, 5);
+    }
+
+    @Test
+    void Redis가_차단하면_재확인_전까지_로컬에서_거절한다() {
+        when(rateLimitService.acquire(eq("rate_limit:ip:127.0.0.1"), eq(RiskLevel.LOW), anyInt())).thenReturn(-2L);
+
+        for (int i = 0; i < 5; i++) {
+            hybridRateLimiter.tryAcquireByIp("127.0.0.1", RiskLevel.LOW);
+        }
+
+        assertThat(hybridRateLimiter.tryAcquireByIp("127.0.0.1", RiskLevel.LOW)).isFalse();
+        assertThat(hybridRateLimiter.tryAcquireByIp("127.0.0.1", RiskLevel.LOW)).isFalse();
+
+        verify(rateLimitService, times(1)).acquire(eq("rate_limit:ip:127.0.0.1"), eq(RiskLevel.LOW), anyInt());
+    }
+
+    @Test
+    void 다른_노드가_건_쿨다운은_로컬_토큰이_남아도_거절한다() {
+        when(rateLimitService.isCoolingDown("rate_limit:member:1")).thenReturn(true);
+
+        assertThat(hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW)).isFalse();
+        assertThat(hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW)).isFalse();
+
+        // 재확인 간격 안에서는 로컬 차단 상태로 거절 (Redis 확인 1회)
+        verify(rateLimitService, times(1)).isCoolingDown("rate_limit:member:1");
+        verify(rateLimitService, never()).acquire(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void sync는_로컬_허용분을_반영하고_활성_노드_수로_몫을_나눈다() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L);
+        when(rateLimitService.reconcile(anyList())).thenReturn(List.of(3L));
+
+        hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW);
+        hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW);
+        hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW);
+
+        hybridRateLimiter.sync();
+
+        verify(rateLimitService).reconcile(List.of(
+                new RateLimitService.LocalUsage("rate_limit:member:1", RiskLevel.LOW, 3)
+        ));
+        assertThat(hybridRateLimiter.activeNodes()).isEqualTo(2);
+
+        // 남은 전체 한도 7회 중 이 노드 몫(7 * 0.5 / 2)만 로컬 허용 -> 1회 후 Redis 확인
+        when(rateLimitService.acquire("rate_limit:member:1", RiskLevel.LOW, 1)).thenReturn(5L);
+        hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW);
+        hybridRateLimiter.tryAcquire(1L, RiskLevel.LOW);
+
+        verify(rateLimitService).acquire("rate_limit:member:1", RiskLevel.LOW, 1);
+    }
+}
@@ -15,6 +15,7 @@ import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,11 +27,14 @@ class IpBlockServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private BlockedIpMatcher blockedIpMatcher;
+
     private IpBlockService ipBlockService;
 
     @BeforeEach
     void setUp() {
-        ipBlockService = new IpBlockService(redisTemplate);
+        ipBlockService = new IpBlockService(redisTemplate, blockedIpMatcher);
     }
 
     // ========== IP 차단 테스트 ==========
@@ -123,24 +127,47 @@ class IpBlockServiceTest {
 
     // ========== IP 차단 여부 확인 테스트 ==========
 
+    @Test
+    @DisplayName("IP 차단 - CIDR 대역은 네트워크 주소로 정규화해 저장")
+    void blockIp_cidrRange() {
+        // Given
+        String cidr = "203.0.113.77/24";
+        String reason = "스크래핑";
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        ipBlockService.blockIp(cidr, reason);
+
+        // Then
+        verify(valueOperations).set(eq("blocked:ip:203.0.113.0/24"), anyString(), eq(Duration.ofDays(7)));
+        verify(blockedIpMatcher).add("203.0.113.0/24", Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("IP 차단 - 잘못된 형식은 저장하지 않음")
+    void blockIp_invalidIp() {
+        // When
+        ipBlockService.blockIp("UNKNOWN", "테스트");
+
+        // Then
+        verifyNoInteractions(redisTemplate, blockedIpMatcher);
+    }
+
     @Test
     @DisplayName("IP 차단 확인 - 차단된 IP")
     void isBlocked_blockedIp() {
         // Given
         String ipAddress = "192.168.1.100";
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn("의심 활동|1234567890");
+        when(blockedIpMatcher.match(ipAddress)).thenReturn(ipAddress);
 
         // When
         boolean result = ipBlockService.isBlocked(ipAddress);
 
         // Then
         assertTrue(result, "차단된 IP는 true를 반환해야 함");
-
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        verify(valueOperations).get(keyCaptor.capture());
-        assertTrue(keyCaptor.getValue().contains("blocked:ip:"), "차단 IP 키를 사용해야 함");
+        verifyNoInteractions(redisTemplate);
     }
 
     @Test
@@ -149,8 +176,7 @@ class IpBlockServiceTest {
         // Given
         String ipAddress = "192.168.1.200";
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(null);
+        when(blockedIpMatcher.match(ipAddress)).thenReturn(null);
 
         // When
         boolean result = ipBlockService.isBlocked(ipAddress);
@@ -160,19 +186,20 @@ class IpBlockServiceTest {
     }
 
     @Test
-    @DisplayName("IP 차단 확인 - Redis 장애 시 false 반환 (Fail-Open)")
-    void isBlocked_redisFailure() {
+    @DisplayName("차단 사유 조회 - 대역 차단이면 대역 키에서 조회")
+    void getBlockReason_cidrRange() {
         // Given
-        String ipAddress = "192.168.1.100";
+        String ipAddress = "203.0.113.77";
 
+        when(blockedIpMatcher.match(ipAddress)).thenReturn("203.0.113.0/24");
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("Redis connection failed"));
+        when(valueOperations.get("blocked:ip:203.0.113.0/24")).thenReturn("스크래핑|1234567890");
 
         // When
-        boolean result = ipBlockService.isBlocked(ipAddress);
+        String reason = ipBlockService.getBlockReason(ipAddress);
 
         // Then
-        assertFalse(result, "Redis 장애 시 false를 반환해야 함 (Fail-Open)");
+        assertEquals("스크래핑", reason, "대역 차단 사유를 반환해야 함");
     }
 
     // ========== IP 차단 해제 테스트 ==========
@@ -291,7 +318,8 @@ class IpBlockServiceTest {
         ipBlockService.blockIp(ipAddress, reason);
 
         // Then - 차단 확인을 위해 모킹 설정
-        when(valueOperations.get(anyString())).thenReturn(reason + "|1234567890");
+        verify(blockedIpMatcher).add(ipAddress, Duration.ofDays(7));
+        when(blockedIpMatcher.match(ipAddress)).thenReturn(ipAddress);
         assertTrue(ipBlockService.isBlocked(ipAddress), "차단 후 isBlocked는 true를 반환해야 함");
 
         // When - 해제
@@ -299,7 +327,8 @@ class IpBlockServiceTest {
         ipBlockService.unblockIp(ipAddress);
 
         // Then - 해제 확인을 위해 모킹 재설정
-        when(valueOperations.get(anyString())).thenReturn(null);
+        verify(blockedIpMatcher).remove(ipAddress);
+        when(blockedIpMatcher.match(ipAddress)).thenReturn(null);
         assertFalse(ipBlockService.isBlocked(ipAddress), "해제 후 isBlocked는 false를 반환해야 함");
     }
 
@@ -9,15 +9,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class MonitoringServiceTest {
@@ -26,16 +29,7 @@ class MonitoringServiceTest {
     private RedisTemplate<String, String> redisTemplate;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
-
-    @Mock
-    private SanctionService sanctionService;
-
-    @Mock
-    private IpBlockService ipBlockService;
-
-    @Mock
-    private RateLimitService rateLimitService;
+    private SanctionAsyncService sanctionAsyncService;
 
     @Mock
     private SanctionProperties sanctionProperties;
@@ -51,113 +45,153 @@ class MonitoringServiceTest {
 
     @BeforeEach
     void setUp() {
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
-
         given(sanctionProperties.getMonitoring()).willReturn(monitoringProperties);
         given(monitoringProperties.getThresholds()).willReturn(thresholds);
+        given(monitoringProperties.getSuspicionTtl()).willReturn(Duration.ofDays(7));
+        given(thresholds.getWarning()).willReturn(30);
+        given(thresholds.getLimit()).willReturn(100);
+        given(monitoringProperties.getSanctionLease()).willReturn(Duration.ofMinutes(5));
     }
 
     @Test
-    void warning_threshold_초과시_rate_limit이_적용된다() {
+    void warning_구간에_들어서면_rate_limit이_비동기로_적용된다() {
         // given
-        given(thresholds.getWarning()).willReturn(30);
-        given(thresholds.getLimit()).willReturn(100);
+        givenMediumCooldown();
+        givenScriptResult(40L, 1L);
 
-        SanctionProperties.RateLimit rateLimit = new SanctionProperties.RateLimit();
-        rateLimit.setCooldownSeconds(Map.of(RiskLevel.MEDIUM, 1800));
+        // when
+        monitoringService.incrementSuspicionScore(1L, 40);
 
-        given(sanctionProperties.getRateLimit()).willReturn(rateLimit);
+        // then
+        verify(sanctionAsyncService).applyCooldown(1L, 30);
+        verify(sanctionAsyncService, never()).suspendMember(anyLong(), anyString());
+    }
 
-        given(valueOperations.increment(anyString(), anyLong()))
-                .willReturn(40L);
+    @Test
+    void limit_구간에_들어서면_자동제재가_비동기로_발동된다() {
+        // given
+        givenScriptResult(110L, 2L);
+        given(sanctionAsyncService.suspendMember(anyLong(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
 
         // when
-        monitoringService.incrementSuspicionScore(1L, 40);
+        monitoringService.incrementSuspicionScore(1L, 60);
 
         // then
-        verify(rateLimitService).applyCooldown(eq(1L), anyInt());
-        verify(sanctionService, never()).applyAutoSuspension(any(), any(), anyInt());
+        verify(sanctionAsyncService).suspendMember(eq(1L), contains("의심 활동 누적"));
+        verify(sanctionAsyncService, never()).applyCooldown(anyLong(), anyInt());
     }
 
     @Test
-    void limit_threshold_초과시_자동제재가_발동된다() {
+    void 제재가_성공하면_점수와_처리중_표시를_초기화한다() {
         // given
-        given(thresholds.getLimit()).willReturn(50);
-
-        given(valueOperations.increment(anyString(), anyLong()))
-                .willReturn(60L);
+        givenScriptResult(110L, 2L);
+        given(sanctionAsyncService.suspendMember(anyLong(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
 
         // when
         monitoringService.incrementSuspicionScore(1L, 60);
 
         // then
-        verify(sanctionService).applyAutoSuspension(
-                eq(1L),
-                contains("의심 활동 누적"),
-                anyInt()
-        );
+        verify(redisTemplate).delete(List.of("suspicion:member:1", "{suspicion:member:1}:sanctioning"));
+    }
+
+    @Test
+    void 제재가_실패하면_점수는_유지하고_처리중_표시만_지워_다시_발동되게_한다() {
+        // given
+        givenScriptResult(110L, 2L);
+        given(sanctionAsyncService.blockIp(anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(false));
+
+        // when
+        monitoringService.incrementSuspicionScoreByIp("127.0.0.1", 80);
 
-        verify(rateLimitService, never()).applyCooldown(anyLong(), anyInt());
+        // then
+        verify(redisTemplate).delete("{suspicion:ip:127.0.0.1}:sanctioning");
+        verify(redisTemplate, never()).delete(anyCollection());
     }
 
     @Test
-    void 의심점수_증가시_매번_TTL이_갱신된다() {
+    void 이미_들어선_구간_안에서의_증가는_제재를_다시_요청하지_않는다() {
         // given
-        given(thresholds.getWarning()).willReturn(100);
-        given(thresholds.getLimit()).willReturn(200);
-        // getExpire 호출 제거 - 더 이상 TTL 체크 안 함
-        given(valueOperations.increment(anyString(), anyLong()))
-                .willReturn(10L);
-        given(monitoringProperties.getSuspicionTtl())
-                .willReturn(Duration.ofDays(7));
+        givenScriptResult(50L, 0L);
 
         // when
         monitoringService.incrementSuspicionScore(1L, 10);
 
         // then
-        verify(redisTemplate).expire(
-                contains("suspicion:member:1"),
-                eq(Duration.ofDays(7))
-        );
+        verifyNoInteractions(sanctionAsyncService);
     }
 
     @Test
-    void IP_warning_threshold_초과시_rate_limit이_적용된다() {
+    void 점수_증가_TTL_임계값을_스크립트_한_번으로_전달한다() {
         // given
-        given(thresholds.getWarning()).willReturn(30);
-        given(thresholds.getLimit()).willReturn(100);
+        givenScriptResult(10L, 0L);
 
-        SanctionProperties.RateLimit rateLimit = new SanctionProperties.RateLimit();
-        rateLimit.setCooldownSeconds(Map.of(RiskLevel.MEDIUM, 1800));
+        // when
+        monitoringService.incrementSuspicionScore(1L, 10);
 
-        given(sanctionProperties.getRateLimit()).willReturn(rateLimit);
+        // then
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of("suspicion:member:1", "{suspicion:member:1}:sanctioning")),
+                eq("10"),
+                eq(String.valueOf(Duration.ofDays(7).toMillis())),
+                eq("30"),
+                eq("100"),
+                eq(String.valueOf(Duration.ofMinutes(5).toMillis()))
+        );
+    }
 
-        given(valueOperations.increment(anyString(), anyLong()))
-                .willReturn(35L);
+    @Test
+    void IP_warning_구간에_들어서면_rate_limit이_비동기로_적용된다() {
+        // given
+        givenMediumCooldown();
+        givenScriptResult(35L, 1L);
 
         // when
         monitoringService.incrementSuspicionScoreByIp("127.0.0.1", 35);
 
         // then
-        verify(rateLimitService).applyCooldownByIp(eq("127.0.0.1"), anyInt());
-        verify(ipBlockService, never()).blockIp(anyString(), anyString());
+        verify(sanctionAsyncService).applyCooldownByIp("127.0.0.1", 30);
+        verify(sanctionAsyncService, never()).blockIp(anyString(), anyString());
     }
 
     @Test
-    void IP_limit_threshold_초과시_IP차단이_발동된다() {
+    void IP_limit_구간에_들어서면_IP차단이_비동기로_발동된다() {
         // given
-        given(thresholds.getLimit()).willReturn(50);
-
-        given(valueOperations.increment(anyString(), anyLong()))
-                .willReturn(80L);
+        givenScriptResult(180L, 2L);
+        given(sanctionAsyncService.blockIp(anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(true));
 
         // when
         monitoringService.incrementSuspicionScoreByIp("127.0.0.1", 80);
 
         // then
-        verify(ipBlockService).blockIp(
-                eq("127.0.0.1"),
-                contains("의심 활동 누적")
-        );
+        verify(sanctionAsyncService).blockIp(eq("127.0.0.1"), contains("의심 활동 누적"));
+    }
+
+    @Test
+    void Redis_장애_시_제재없이_통과한다() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RuntimeException("redis down"));
+
+        // when
+        monitoringService.incrementSuspicionScore(1L, 100);
+
+        // then
+        verifyNoInteractions(sanctionAsyncService);
+    }
+
+    private void givenScriptResult(long score, long crossedTier) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(score, crossedTier));
+    }
+
+    private void givenMediumCooldown() {
+        SanctionProperties.RateLimit rateLimit = new SanctionProperties.RateLimit();
+        rateLimit.setCooldownSeconds(Map.of(RiskLevel.MEDIUM, 1800));
+        given(sanctionProperties.getRateLimit()).willReturn(rateLimit);
     }
 }
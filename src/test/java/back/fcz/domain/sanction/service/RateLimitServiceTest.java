@@ -8,12 +8,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -23,9 +26,6 @@ class RateLimitServiceTest {
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
-    @Mock
-    private ZSetOperations<String, String> zSetOperations;
-
     @Mock
     private SanctionProperties sanctionProperties;
 
@@ -37,106 +37,91 @@ class RateLimitServiceTest {
     }
 
     @Test
-    void applyCooldown_회원_분단위_TTL로_expire_호출된다() {
+    void applyCooldown_회원_윈도우키와_별도의_쿨다운키를_SET_PX로_저장한다() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
         // when
         rateLimitService.applyCooldown(1L, 10);
 
         // then
-        verify(redisTemplate).expire(
-                eq("rate_limit:member:1"),
-                eq(Duration.ofMinutes(10))
-        );
+        verify(valueOperations).set("{rate_limit:member:1}:cooldown", "1", 600_000L, TimeUnit.MILLISECONDS);
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
     }
 
     @Test
-    void applyCooldownByIp_IP_분단위_TTL로_expire_호출된다() {
+    void applyCooldownByIp_IP_윈도우키와_별도의_쿨다운키를_SET_PX로_저장한다() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
         // when
         rateLimitService.applyCooldownByIp("127.0.0.1", 5);
 
         // then
-        verify(redisTemplate).expire(
-                eq("rate_limit:ip:127.0.0.1"),
-                eq(Duration.ofMinutes(5))
-        );
+        verify(valueOperations).set("{rate_limit:ip:127.0.0.1}:cooldown", "1", 300_000L, TimeUnit.MILLISECONDS);
     }
 
     @Test
-    void apply_윈도우내_요청수_초과하지_않으면_쿨다운_expire는_호출되지_않는다() {
+    void tryAcquire_윈도우내_요청수_초과하지_않으면_허용된다() {
         // given
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        when(zSetOperations.zCard(anyString())).thenReturn(5L);
-
-        SanctionProperties.RateLimit rateLimit = new SanctionProperties.RateLimit();
-        rateLimit.setWindowSeconds(Map.of(RiskLevel.MEDIUM, 60));
-        rateLimit.setMaxRequests(Map.of(RiskLevel.MEDIUM, 5));
-        rateLimit.setCooldownSeconds(Map.of(RiskLevel.MEDIUM, 600));
-
-        when(sanctionProperties.getRateLimit()).thenReturn(rateLimit);
+        givenMediumRateLimit();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(5L);
 
         // when
-        rateLimitService.apply(1L, RiskLevel.MEDIUM);
+        boolean allowed = rateLimitService.tryAcquire(1L, RiskLevel.MEDIUM);
 
         // then
-        verify(zSetOperations).removeRangeByScore(startsWith("rate_limit:member:1"), anyDouble(), anyDouble());
-        verify(zSetOperations).add(startsWith("rate_limit:member:1"), anyString(), anyDouble());
-
-        verify(redisTemplate).expire(
-                eq("rate_limit:member:1"),
-                eq(Duration.ofSeconds(60))
-        );
-
-        verify(redisTemplate, never()).expire(
-                eq("rate_limit:member:1"),
-                eq(Duration.ofSeconds(600))
+        assertThat(allowed).isTrue();
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of("rate_limit:member:1", "{rate_limit:member:1}:cooldown")),
+                anyString(),
+                eq("60000"),
+                eq("5"),
+                eq("600000"),
+                anyString()
         );
     }
 
     @Test
-    void apply_요청수_초과하면_쿨다운_expire만_호출된다() {
+    void tryAcquire_요청수_초과하면_차단된다() {
         // given
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        when(zSetOperations.zCard(anyString())).thenReturn(6L);
-
-        SanctionProperties.RateLimit rateLimit = new SanctionProperties.RateLimit();
-        rateLimit.setWindowSeconds(Map.of(RiskLevel.MEDIUM, 60));
-        rateLimit.setMaxRequests(Map.of(RiskLevel.MEDIUM, 5));
-        rateLimit.setCooldownSeconds(Map.of(RiskLevel.MEDIUM, 600));
-
-        when(sanctionProperties.getRateLimit()).thenReturn(rateLimit);
+        givenMediumRateLimit();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-2L);
 
-        // when
-        rateLimitService.apply(1L, RiskLevel.MEDIUM);
+        // when & then
+        assertThat(rateLimitService.tryAcquire(1L, RiskLevel.MEDIUM)).isFalse();
+    }
 
-        // then
-        verify(redisTemplate, times(1)).expire(
-                eq("rate_limit:member:1"),
-                eq(Duration.ofSeconds(600))
-        );
+    @Test
+    void tryAcquireByIp_쿨다운_중이면_차단된다() {
+        // given
+        givenMediumRateLimit();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-1L);
 
-        verify(redisTemplate, never()).expire(
-                eq("rate_limit:member:1"),
-                eq(Duration.ofSeconds(60))
-        );
+        // when & then
+        assertThat(rateLimitService.tryAcquireByIp("127.0.0.1", RiskLevel.MEDIUM)).isFalse();
     }
 
     @Test
-    void apply_Redis_장애가_나도_fail_open으로_예외가_외부로_전파되지_않는다() {
+    void tryAcquire_Redis_장애가_나도_fail_open으로_허용된다() {
         // given
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        doThrow(new RuntimeException("redis down"))
-                .when(zSetOperations)
-                .add(anyString(), anyString(), anyDouble());
+        givenMediumRateLimit();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RuntimeException("redis down"));
+
+        // when & then
+        assertThat(rateLimitService.tryAcquire(1L, RiskLevel.MEDIUM)).isTrue();
+    }
 
+    private void givenMediumRateLimit() {
         SanctionProperties.RateLimit rateLimit = new SanctionProperties.RateLimit();
         rateLimit.setWindowSeconds(Map.of(RiskLevel.MEDIUM, 60));
         rateLimit.setMaxRequests(Map.of(RiskLevel.MEDIUM, 5));
         rateLimit.setCooldownSeconds(Map.of(RiskLevel.MEDIUM, 600));
 
         when(sanctionProperties.getRateLimit()).thenReturn(rateLimit);
-
-        // when & then
-        assertDoesNotThrow(() ->
-                rateLimitService.apply(1L, RiskLevel.MEDIUM)
-        );
     }
 }
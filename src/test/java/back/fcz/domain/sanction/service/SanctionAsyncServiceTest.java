@@ -0,0 +1,87 @@
+package back.fcz.domain.sanction.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SanctionAsyncServiceTest {
+
+    @Mock
+    private SanctionService sanctionService;
+
+    @Mock
+    private IpBlockService ipBlockService;
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    private SanctionAsyncService sanctionAsyncService;
+
+    @BeforeEach
+    void setUp() {
+        sanctionAsyncService = new SanctionAsyncService(sanctionService, ipBlockService, rateLimitService);
+    }
+
+    @Test
+    void 같은_회원의_정지가_처리_중이면_중복_요청은_건너뛴다() {
+        // given - 처리 도중 같은 제재가 다시 요청되는 상황
+        doAnswer(invocation -> {
+            sanctionAsyncService.suspendMember(1L, "중복");
+            return null;
+        }).when(sanctionService).applyAutoSuspension(eq(1L), anyString(), anyInt());
+
+        // when
+        sanctionAsyncService.suspendMember(1L, "의심 활동 누적");
+
+        // then
+        verify(sanctionService, times(1)).applyAutoSuspension(1L, "의심 활동 누적", 7);
+    }
+
+    @Test
+    void 처리가_끝난_뒤의_요청은_다시_적용된다() {
+        // when
+        sanctionAsyncService.applyCooldownByIp("127.0.0.1", 5);
+        sanctionAsyncService.applyCooldownByIp("127.0.0.1", 5);
+
+        // then
+        verify(rateLimitService, times(2)).applyCooldownByIp("127.0.0.1", 5);
+    }
+
+    @Test
+    void 제재_실패는_호출_측에_전파되지_않는다() {
+        // given
+        doThrow(new RuntimeException("db down"))
+                .when(sanctionService).applyAutoSuspension(anyLong(), anyString(), anyInt());
+
+        // when & then
+        assertThatCode(() -> sanctionAsyncService.suspendMember(1L, "의심 활동 누적"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void 정지_결과를_반환하고_이미_처리_중이면_null을_반환한다() {
+        // given - 처리 도중 같은 제재가 다시 요청되는 상황
+        AtomicReference<Boolean> nested = new AtomicReference<>();
+        doAnswer(invocation -> {
+            nested.set(sanctionAsyncService.blockIp("127.0.0.1", "중복").join());
+            return null;
+        }).when(ipBlockService).blockIp(eq("127.0.0.1"), anyString());
+        doThrow(new RuntimeException("db down"))
+                .when(sanctionService).applyAutoSuspension(anyLong(), anyString(), anyInt());
+
+        // when & then
+        assertThat(sanctionAsyncService.blockIp("127.0.0.1", "의심 활동 누적").join()).isTrue();
+        assertThat(nested.get()).isNull();
+        assertThat(sanctionAsyncService.suspendMember(1L, "의심 활동 누적").join()).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package back.fcz.domain.storytrack.scheduler;
+
+import back.fcz.domain.storytrack.repository.StorytrackRepository;
+import back.fcz.domain.storytrack.repository.StorytrackStepRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StorytrackCounterReconcileSchedulerTest {
+
+    @InjectMocks
+    private StorytrackCounterReconcileScheduler scheduler;
+
+    @Mock
+    private StorytrackRepository storytrackRepository;
+
+    @Mock
+    private StorytrackStepRepository storytrackStepRepository;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("최대 id까지 구간별로 나눠 보정")
+    void reconcile_coversAllIdRanges() {
+        given(storytrackRepository.findMaxStorytrackId()).willReturn(1200L);
+        given(storytrackRepository.reconcileCounters(anyLong(), anyLong())).willReturn(0);
+        given(storytrackStepRepository.findMaxStepId()).willReturn(300L);
+        given(storytrackStepRepository.reconcileCompletedCounts(0L, 300L)).willReturn(2);
+
+        scheduler.reconcile();
+
+        verify(storytrackRepository).reconcileCounters(0L, 500L);
+        verify(storytrackRepository).reconcileCounters(500L, 1000L);
+        verify(storytrackRepository).reconcileCounters(1000L, 1200L);
+        verify(storytrackRepository, times(3)).reconcileCounters(anyLong(), anyLong());
+        verify(storytrackStepRepository).reconcileCompletedCounts(0L, 300L);
+    }
+
+    @Test
+    @DisplayName("한 구간이 실패해도 나머지 구간은 계속 보정")
+    void reconcile_continuesAfterFailedRange() {
+        given(storytrackRepository.findMaxStorytrackId()).willReturn(1000L);
+        given(storytrackRepository.reconcileCounters(0L, 500L)).willThrow(new RuntimeException("lock wait timeout"));
+        given(storytrackRepository.reconcileCounters(500L, 1000L)).willReturn(1);
+        given(storytrackStepRepository.findMaxStepId()).willReturn(0L);
+
+        scheduler.reconcile();
+
+        verify(storytrackRepository).reconcileCounters(500L, 1000L);
+        verify(storytrackStepRepository, never()).reconcileCompletedCounts(anyLong(), anyLong());
+    }
+}
@@ -7,11 +7,14 @@ import back.fcz.domain.capsule.repository.CapsuleRepository;
 import back.fcz.domain.capsule.service.CapsuleReadService;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.repository.MemberRepository;
+import back.fcz.domain.storytrack.dto.StorytrackMemberType;
 import back.fcz.domain.storytrack.dto.request.CreateStorytrackRequest;
 import back.fcz.domain.storytrack.dto.request.JoinStorytrackRequest;
 import back.fcz.domain.storytrack.dto.response.CreateStorytrackResponse;
 import back.fcz.domain.storytrack.dto.response.JoinStorytrackResponse;
+import back.fcz.domain.storytrack.dto.response.TotalStorytrackResponse;
 import back.fcz.domain.storytrack.entity.Storytrack;
+import back.fcz.domain.storytrack.entity.StorytrackAttachment;
 import back.fcz.domain.storytrack.entity.StorytrackProgress;
 import back.fcz.domain.storytrack.entity.StorytrackStep;
 import back.fcz.domain.storytrack.repository.StorytrackAttachmentRepository;
@@ -19,16 +22,21 @@ import back.fcz.domain.storytrack.repository.StorytrackProgressRepository;
 import back.fcz.domain.storytrack.repository.StorytrackRepository;
 import back.fcz.domain.storytrack.repository.StorytrackStepRepository;
 import back.fcz.global.exception.BusinessException;
+import back.fcz.global.dto.PageResponse;
 import back.fcz.global.exception.ErrorCode;
+import back.fcz.infra.storage.PresignedUrlCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,6 +59,7 @@ class StorytrackServiceTest {
     @Mock private MemberRepository memberRepository;
     @Mock private CapsuleReadService capsuleReadService;
     @Mock private StorytrackAttachmentRepository storytrackAttachmentRepository;
+    @Mock private PresignedUrlCache presignedUrlCache;
 
     @Test
     @DisplayName("스토리트랙 생성 성공")
@@ -255,6 +264,7 @@ class StorytrackServiceTest {
         assertThat(response.title()).isEqualTo("title");
         assertThat(response.storytrackType()).isEqualTo("SEQUENTIAL");
         assertThat(response.completedSteps()).isEqualTo(0);
+        verify(storytrackRepository).incrementParticipantCount(any());
     }
 
     @Test
@@ -418,4 +428,111 @@ class StorytrackServiceTest {
         // then
         verify(progress).completeStep(step, 3);
     }
+
+    @Test
+    @DisplayName("마지막 단계 완료 시 단계 완료/완주 카운터 증가")
+    void openCapsuleAndUpdateProgress_lastStep_incrementsCounters() {
+        // given
+        Storytrack storytrack = Storytrack.builder()
+                .storytrackId(1L)
+                .totalSteps(1)
+                .trackType("SEQUENTIAL")
+                .build();
+
+        StorytrackProgress progress = StorytrackProgress.builder()
+                .storytrack(storytrack)
+                .completedSteps(0)
+                .lastCompletedStep(0)
+                .build();
+
+        StorytrackStep step = StorytrackStep.builder()
+                .id(5L)
+                .stepOrder(1)
+                .build();
+
+        CapsuleConditionRequestDTO request =
+                new CapsuleConditionRequestDTO(
+                        10L, null, null, null, null, null, null, null
+                );
+
+        CapsuleConditionResponseDTO response = mock(CapsuleConditionResponseDTO.class);
+        given(response.result()).willReturn("SUCCESS");
+
+        given(storytrackProgressRepository
+                .findByStorytrack_StorytrackIdAndMember_MemberIdAndDeletedAtIsNull(1L, 1L))
+                .willReturn(Optional.of(progress));
+        given(storytrackStepRepository
+                .findByCapsule_CapsuleIdAndStorytrack_StorytrackId(10L, 1L))
+                .willReturn(Optional.of(step));
+        given(capsuleReadService.conditionAndRead(request))
+                .willReturn(response);
+
+        // when
+        storytrackService.openCapsuleAndUpdateProgress(1L, 1L, request);
+
+        // then
+        assertThat(progress.getCompletedAt()).isNotNull();
+        verify(storytrackStepRepository).incrementCompletedCount(5L);
+        verify(storytrackRepository).incrementCompletionCount(1L);
+    }
+
+    @Test
+    @DisplayName("참여 종료 시 참여자 카운터 감소")
+    void deleteParticipant_decrementsParticipantCount() {
+        // given
+        StorytrackProgress progress = StorytrackProgress.builder()
+                .completedSteps(0)
+                .lastCompletedStep(0)
+                .build();
+
+        given(storytrackProgressRepository
+                .findByStorytrack_StorytrackIdAndMember_MemberIdAndDeletedAtIsNull(1L, 1L))
+                .willReturn(Optional.of(progress));
+
+        // when
+        storytrackService.deleteParticipant(1L, 1L);
+
+        // then
+        verify(storytrackRepository).decrementParticipantCount(1L);
+    }
+
+    @Test
+    @DisplayName("스토리트랙 목록 조회 - 대표 이미지는 중복 S3 키를 한 번만 캐시 일괄 조회")
+    void readTotalStorytrack_resolvesImageUrlsInBatch() {
+        // given
+        given(storytrackRepository.findPublicStorytracksWithMemberType(eq(1L), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(totalResponse(1L), totalResponse(2L), totalResponse(3L))));
+
+        given(storytrackAttachmentRepository.findActiveImagesByStorytrackIds(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(
+                        thumbnail(1L, "storytracks/1/same.png"),
+                        thumbnail(2L, "storytracks/1/same.png")
+                ));
+
+        given(presignedUrlCache.getUrls(any()))
+                .willReturn(Map.of("storytracks/1/same.png", "https://signed/same"));
+
+        // when
+        PageResponse<TotalStorytrackResponse> response = storytrackService.readTotalStorytrack(1L, 0, 20);
+
+        // then
+        assertThat(response.getContent())
+                .extracting(TotalStorytrackResponse::imageUrl)
+                .containsExactly("https://signed/same", "https://signed/same", null);
+        verify(presignedUrlCache, times(1)).getUrls(argThat(keys -> keys.size() == 2));
+    }
+
+    private static TotalStorytrackResponse totalResponse(Long storytrackId) {
+        return new TotalStorytrackResponse(
+                storytrackId, "creator", "title", "desc", "SEQUENTIAL",
+                1, 0, 1, null, 0L, StorytrackMemberType.NOT_JOINED, null
+        );
+    }
+
+    private static StorytrackAttachment thumbnail(Long storytrackId, String s3Key) {
+        StorytrackAttachment attachment = StorytrackAttachment.createUploading(
+                1L, s3Key, "a.png", 10L, "image/png");
+        attachment.attachToStorytrack(Storytrack.builder().storytrackId(storytrackId).build());
+        return attachment;
+    }
 }
@@ -14,10 +14,12 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -31,6 +33,9 @@ class FirstComeServiceTest {
     @Autowired
     private FirstComeService firstComeService;
 
+    @Autowired
+    private FirstComeTicketService firstComeTicketService;
+
     @Autowired
     private CapsuleRepository capsuleRepository;
 
@@ -40,6 +45,9 @@ class FirstComeServiceTest {
     @Autowired
     private PublicCapsuleRecipientRepository publicCapsuleRecipientRepository;
 
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     private Member testMember;
     private Capsule testCapsule;
 
@@ -76,6 +84,18 @@ class FirstComeServiceTest {
                 .currentViewCount(0)
                 .build();
         capsuleRepository.save(testCapsule);
+
+        // 이전 테스트에서 같은 ID로 남은 선착순 티켓 키 제거
+        firstComeTicketService.clear(testCapsule.getCapsuleId());
+        clearPending(testCapsule.getCapsuleId());
+    }
+
+    private void clearPending(Long capsuleId) {
+        redisTemplate.delete(List.of(
+                FirstComeTicketService.pendingKey(capsuleId),
+                FirstComeTicketService.processingKey(capsuleId)
+        ));
+        redisTemplate.opsForSet().remove(FirstComeTicketService.PENDING_CAPSULES_KEY, String.valueOf(capsuleId));
     }
 
     @Test
@@ -201,6 +221,73 @@ class FirstComeServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FIRST_COME_CLOSED);
     }
 
+    @Test
+    @DisplayName("DB 기준으로 이미 마감된 캡슐의 티켓은 수신자로 저장하지 않는다")
+    void persistTicket_soldOutInDb_skipsRecipient() {
+        // given - Redis 티켓과 달리 DB 조회수는 이미 가득 참
+        Capsule soldOut = Capsule.builder()
+                .memberId(testMember)
+                .uuid("test-uuid-soldout-" + System.currentTimeMillis())
+                .nickname("테스터")
+                .title("마감")
+                .content("마감")
+                .visibility("PUBLIC")
+                .unlockType("TIME")
+                .unlockAt(LocalDateTime.now().minusDays(1))
+                .capsuleColor("blue")
+                .capsulePackingColor("red")
+                .maxViewCount(3)
+                .currentViewCount(3)
+                .build();
+        capsuleRepository.save(soldOut);
+
+        // when
+        boolean persisted = firstComeService.persistTicket(
+                soldOut.getCapsuleId(),
+                testMember.getMemberId(),
+                LocalDateTime.now()
+        );
+
+        // then
+        assertThat(persisted).isFalse();
+        assertThat(publicCapsuleRecipientRepository
+                .existsByCapsuleId_CapsuleIdAndMemberId(soldOut.getCapsuleId(), testMember.getMemberId()))
+                .isFalse();
+        assertThat(capsuleRepository.findById(soldOut.getCapsuleId()).orElseThrow().getCurrentViewCount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("티켓 키가 다시 초기화되어도 아직 DB에 반영되지 않은 대기 항목만큼 잔여 수량에서 뺀다")
+    void tryAcquire_reinitialize_subtractsPendingBacklog() {
+        Long capsuleId = testCapsule.getCapsuleId();
+        LocalDateTime unlockedAt = LocalDateTime.now();
+
+        // given - 2명 발급 후 DB 반영 전에 티켓 키가 사라짐 (clear / TTL 만료)
+        for (long memberId = 1L; memberId <= 2L; memberId++) {
+            assertThat(firstComeTicketService.tryAcquire(capsuleId, memberId,
+                    FirstComeTicketService.toPendingPayload(capsuleId, memberId, unlockedAt)))
+                    .isEqualTo(FirstComeTicketService.GRANTED);
+        }
+        firstComeTicketService.clear(capsuleId);
+
+        try {
+            // when & then - DB 기준 3명 남았지만 대기 2건을 빼면 1명만 더 발급
+            assertThat(firstComeTicketService.tryAcquire(capsuleId, 1L, null))
+                    .isEqualTo(FirstComeTicketService.ALREADY_VIEWED);
+            assertThat(firstComeTicketService.tryAcquire(capsuleId, 3L, null))
+                    .isEqualTo(FirstComeTicketService.GRANTED);
+            assertThat(firstComeTicketService.tryAcquire(capsuleId, 4L, null))
+                    .isEqualTo(FirstComeTicketService.SOLD_OUT);
+            assertThat(redisTemplate.opsForSet()
+                    .isMember(FirstComeTicketService.PENDING_CAPSULES_KEY, String.valueOf(capsuleId)))
+                    .isTrue();
+        } finally {
+            firstComeTicketService.clear(capsuleId);
+            clearPending(capsuleId);
+        }
+    }
+
     @Test
     @DisplayName("남은 선착순 인원 조회")
     void getRemainingCount() {
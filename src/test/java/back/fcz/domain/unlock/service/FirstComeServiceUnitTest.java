@@ -30,6 +30,9 @@ public class FirstComeServiceUnitTest {
     @Autowired
     private FirstComeService firstComeService;
 
+    @Autowired
+    private FirstComeTicketService firstComeTicketService;
+
     @Autowired
     private CapsuleRepository capsuleRepository;
 
@@ -69,6 +72,9 @@ public class FirstComeServiceUnitTest {
                 .currentViewCount(0)
                 .build();
         capsuleRepository.save(testCapsule);
+
+        // 이전 테스트에서 같은 ID로 남은 선착순 티켓 키 제거
+        firstComeTicketService.clear(testCapsule.getCapsuleId());
     }
 
     @Test
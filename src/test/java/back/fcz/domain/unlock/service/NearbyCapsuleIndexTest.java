@@ -0,0 +1,108 @@
+package back.fcz.domain.unlock.service;
+
+import back.fcz.domain.capsule.DTO.CapsuleLocation;
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.capsule.service.CapsuleEntityCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class NearbyCapsuleIndexTest {
+    private NearbyCapsuleIndex nearbyCapsuleIndex;
+    private CapsuleRepository capsuleRepository;
+    private CapsuleEntityCache capsuleEntityCache;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final LocalDateTime sixtyDaysAgo = now.minusDays(60);
+
+    @BeforeEach
+    void setUp() {
+        capsuleRepository = mock(CapsuleRepository.class);
+        capsuleEntityCache = mock(CapsuleEntityCache.class);
+        nearbyCapsuleIndex = new NearbyCapsuleIndex(capsuleRepository, capsuleEntityCache);
+
+        // 인덱스가 넘긴 ID에 해당하는 캡슐만 돌려주도록 설정
+        when(capsuleEntityCache.findAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return List.of(
+                            createCapsule(1L, 37.5674, 126.9780, 0),
+                            createCapsule(2L, 37.5709, 126.9780, 0),
+                            createCapsule(3L, 37.6500, 127.1000, 0)
+                    ).stream()
+                    .filter(capsule -> ids.contains(capsule.getCapsuleId()))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("초기 적재 전에는 DB bounding box 조회로 폴백한다")
+    void findNearbyCapsules_beforeWarmUp_usesRepository() {
+        nearbyCapsuleIndex.findNearbyCapsules(37.55, 37.58, 126.96, 126.99, now, sixtyDaysAgo);
+
+        verify(capsuleRepository).findNearbyCapsules(37.55, 37.58, 126.96, 126.99, now, sixtyDaysAgo);
+        verifyNoInteractions(capsuleEntityCache);
+    }
+
+    @Test
+    @DisplayName("적재 후에는 bounding box 내 캡슐만 DB 조회 없이 반환한다")
+    void findNearbyCapsules_afterWarmUp_returnsOnlyCapsulesInBox() {
+        when(capsuleRepository.findIndexableLocations(any(LocalDateTime.class))).thenReturn(List.of(
+                new CapsuleLocation(1L, 37.5674, 126.9780, "PUBLIC", 0),
+                new CapsuleLocation(2L, 37.5709, 126.9780, "PUBLIC", 0),
+                new CapsuleLocation(3L, 37.6500, 127.1000, "PUBLIC", 0)
+        ));
+        nearbyCapsuleIndex.rebuild();
+
+        List<Capsule> result = nearbyCapsuleIndex.findNearbyCapsules(37.55, 37.58, 126.96, 126.99, now, sixtyDaysAgo);
+
+        assertThat(result).extracting(Capsule::getCapsuleId).containsExactlyInAnyOrder(1L, 2L);
+        verify(capsuleRepository, never()).findNearbyCapsules(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(), any());
+    }
+
+    @Test
+    @DisplayName("증분 갱신에서 삭제된 캡슐은 인덱스에서 제거된다")
+    void refresh_removesDeletedCapsule() {
+        when(capsuleRepository.findIndexableLocations(any(LocalDateTime.class))).thenReturn(List.of(
+                new CapsuleLocation(1L, 37.5674, 126.9780, "PUBLIC", 0),
+                new CapsuleLocation(2L, 37.5709, 126.9780, "PUBLIC", 0)
+        ));
+        nearbyCapsuleIndex.rebuild();
+
+        when(capsuleRepository.findLocationsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(
+                new CapsuleLocation(2L, 37.5709, 126.9780, "PUBLIC", 1)
+        ));
+        nearbyCapsuleIndex.refresh();
+
+        List<Capsule> result = nearbyCapsuleIndex.findNearbyCapsules(37.55, 37.58, 126.96, 126.99, now, sixtyDaysAgo);
+
+        assertThat(result).extracting(Capsule::getCapsuleId).containsExactly(1L);
+    }
+
+    // 테스트용 엔티티 생성
+    private Capsule createCapsule(Long id, double lat, double lng, int isDeleted) {
+        return Capsule.builder()
+                .capsuleId(id)
+                .uuid("uuid-" + id)
+                .nickname("nickname")
+                .title("title")
+                .content("content")
+                .capsuleColor("RED")
+                .capsulePackingColor("RED")
+                .visibility("PUBLIC")
+                .unlockType("TIME")
+                .unlockAt(LocalDateTime.now().minusDays(1))
+                .locationLat(lat)
+                .locationLng(lng)
+                .isDeleted(isDeleted)
+                .build();
+    }
+}
@@ -2,7 +2,6 @@ package back.fcz.domain.unlock.service;
 
 import back.fcz.domain.capsule.entity.Capsule;
 import back.fcz.domain.capsule.repository.CapsuleLikeRepository;
-import back.fcz.domain.capsule.repository.CapsuleRepository;
 import back.fcz.domain.capsule.repository.PublicCapsuleRecipientRepository;
 import back.fcz.domain.unlock.dto.request.NearbyOpenCapsuleRequest;
 import back.fcz.domain.unlock.dto.response.NearbyOpenCapsuleResponse;
@@ -22,17 +21,17 @@ import static org.mockito.Mockito.when;
 public class NearbyOpenCapsuleServiceTest {
     private NearbyOpenCapsuleService nearbyOpenCapsuleService;
     private PublicCapsuleRecipientRepository publicCapsuleRecipientRepository;
-    private CapsuleRepository capsuleRepository;
+    private NearbyCapsuleIndex nearbyCapsuleIndex;
     private CapsuleLikeRepository capsuleLikeRepository;
     private UnlockService unlockService;
 
     @BeforeEach
     void setUp() {
         publicCapsuleRecipientRepository = mock(PublicCapsuleRecipientRepository.class);
-        capsuleRepository = mock(CapsuleRepository.class);
+        nearbyCapsuleIndex = mock(NearbyCapsuleIndex.class);
         capsuleLikeRepository = mock(CapsuleLikeRepository.class);
         unlockService = mock(UnlockService.class);
-        nearbyOpenCapsuleService = new NearbyOpenCapsuleService(publicCapsuleRecipientRepository, capsuleRepository, capsuleLikeRepository, unlockService);
+        nearbyOpenCapsuleService = new NearbyOpenCapsuleService(publicCapsuleRecipientRepository, nearbyCapsuleIndex, capsuleLikeRepository, unlockService);
     }
 
     // 테스트에 사용할 사용자 위치. 서울 시청 위도, 경도
@@ -52,7 +51,7 @@ public class NearbyOpenCapsuleServiceTest {
         Capsule capsule3 = createCapsule(3L, 37.5845, 127.0000);
         List<Capsule> mockCapsules = Arrays.asList(capsule1, capsule2, capsule3);
 
-        when(capsuleRepository.findNearbyCapsules(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(mockCapsules);
+        when(nearbyCapsuleIndex.findNearbyCapsules(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(mockCapsules);
 
         // 사용자와 capsule1 사이의 거리: 100m, 사용자와 capsule2 사이의 거리: 500m, 사용자와 capsule3 사이의 거리: 2000m
         when(unlockService.calculateDistanceInMeters(eq(37.5674), eq(126.9780), eq(userLat), eq(userLng)))
@@ -87,7 +86,7 @@ public class NearbyOpenCapsuleServiceTest {
                 .thenReturn(java.util.Set.of(1L));
 
         Capsule capsule = createCapsule(1L, 37.5709, 126.9780);
-        when(capsuleRepository.findNearbyCapsules(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(nearbyCapsuleIndex.findNearbyCapsules(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(List.of(capsule));
 
         // 사용자와 capsule 사이의 거리: 500m
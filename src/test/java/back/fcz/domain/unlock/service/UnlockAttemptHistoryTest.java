@@ -0,0 +1,101 @@
+package back.fcz.domain.unlock.service;
+
+import back.fcz.domain.capsule.entity.Capsule;
+import back.fcz.domain.capsule.entity.CapsuleOpenLog;
+import back.fcz.domain.capsule.entity.CapsuleOpenStatus;
+import back.fcz.domain.capsule.repository.CapsuleOpenLogRepository;
+import back.fcz.domain.sanction.constant.SanctionConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnlockAttemptHistoryTest {
+
+    private static final String KEY = "unlock:attempts:1:member:2";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private CapsuleOpenLogRepository capsuleOpenLogRepository;
+
+    @Mock
+    private SanctionConstants sanctionConstants;
+
+    @InjectMocks
+    private UnlockAttemptHistory unlockAttemptHistory;
+
+    private final LocalDateTime windowStart = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+    }
+
+    @Test
+    @DisplayName("이력 키가 없으면 DB의 최근 로그를 반환하고 Redis에 채운다")
+    void findRecent_missingKey_backfillsFromDb() {
+        // given
+        given(listOperations.range(KEY, 0, UnlockAttemptHistory.MAX_ATTEMPTS - 1)).willReturn(List.of());
+        given(sanctionConstants.getLogWindowHours()).willReturn(24);
+        CapsuleOpenLog openLog = CapsuleOpenLog.builder()
+                .capsuleId(Capsule.builder().capsuleId(1L).build())
+                .memberId(2L)
+                .status(CapsuleOpenStatus.FAIL_LOCATION)
+                .openedAt(windowStart.plusHours(1))
+                .currentLat(37.5)
+                .currentLng(127.0)
+                .build();
+        given(capsuleOpenLogRepository.findTop15ByCapsuleId_CapsuleIdAndMemberIdAndOpenedAtAfterOrderByOpenedAtDesc(
+                1L, 2L, windowStart)).willReturn(List.of(openLog));
+
+        // when
+        List<UnlockAttemptHistory.Attempt> attempts = unlockAttemptHistory.findRecent(1L, 2L, null, windowStart);
+
+        // then
+        assertThat(attempts).extracting(UnlockAttemptHistory.Attempt::status)
+                .containsExactly(CapsuleOpenStatus.FAIL_LOCATION);
+        verify(redisTemplate).execute(
+                any(RedisScript.class),
+                eq(List.of(KEY)),
+                eq(String.valueOf(UnlockAttemptHistory.MAX_ATTEMPTS)),
+                eq(String.valueOf(24 * 60 * 60 * 1000L)),
+                eq(windowStart.plusHours(1) + "|FAIL_LOCATION|37.5|127.0")
+        );
+    }
+
+    @Test
+    @DisplayName("이력 키가 있으면 DB를 조회하지 않는다")
+    void findRecent_existingKey_skipsDb() {
+        // given
+        given(listOperations.range(KEY, 0, UnlockAttemptHistory.MAX_ATTEMPTS - 1))
+                .willReturn(List.of(windowStart.plusHours(2) + "|SUCCESS||"));
+
+        // when
+        List<UnlockAttemptHistory.Attempt> attempts = unlockAttemptHistory.findRecent(1L, 2L, null, windowStart);
+
+        // then
+        assertThat(attempts).hasSize(1);
+        assertThat(attempts.get(0).hasLocation()).isFalse();
+        verifyNoInteractions(capsuleOpenLogRepository);
+    }
+}
@@ -4,8 +4,8 @@ import back.fcz.domain.capsule.entity.AnomalyType;
 import back.fcz.domain.capsule.entity.Capsule;
 import back.fcz.domain.capsule.entity.CapsuleOpenLog;
 import back.fcz.domain.capsule.entity.CapsuleOpenStatus;
-import back.fcz.domain.capsule.repository.CapsuleOpenLogRepository;
 import back.fcz.domain.capsule.repository.CapsuleRepository;
+import back.fcz.domain.capsule.service.CapsuleOpenLogService;
 import back.fcz.domain.member.entity.Member;
 import back.fcz.domain.member.entity.MemberRole;
 import back.fcz.domain.member.entity.MemberStatus;
@@ -35,7 +35,10 @@ class UnlockServiceIntegrationTest {
     private CapsuleRepository capsuleRepository;
 
     @Autowired
-    private CapsuleOpenLogRepository capsuleOpenLogRepository;
+    private CapsuleOpenLogService capsuleOpenLogService;
+
+    @Autowired
+    private UnlockAttemptHistory unlockAttemptHistory;
 
     @Autowired
     private MemberRepository memberRepository;
@@ -69,7 +72,7 @@ class UnlockServiceIntegrationTest {
                 .status(CapsuleOpenStatus.FAIL_LOCATION)
                 .anomalyType(AnomalyType.NONE)
                 .build();
-        capsuleOpenLogRepository.save(oldLog);
+        saveLog(oldLog);
 
         // When: 23시간 후 50m 이동하여 시도 (GPS 오차 범위)
         var result = unlockService.validateTimeAndLocationConditions(
@@ -108,7 +111,7 @@ class UnlockServiceIntegrationTest {
                 .status(CapsuleOpenStatus.FAIL_LOCATION)
                 .anomalyType(AnomalyType.NONE)
                 .build();
-        capsuleOpenLogRepository.save(oldLog);
+        saveLog(oldLog);
 
         // When: 25시간 후 부산에서 시도 (정상적으로 가능한 이동)
         var result = unlockService.validateTimeAndLocationConditions(
@@ -147,7 +150,7 @@ class UnlockServiceIntegrationTest {
                 .status(CapsuleOpenStatus.FAIL_LOCATION)
                 .anomalyType(AnomalyType.NONE)
                 .build();
-        capsuleOpenLogRepository.save(recentLog);
+        saveLog(recentLog);
 
         // When: 2초 후 부산에서 시도 (불가능한 이동이지만 중복 요청)
         var result = unlockService.validateTimeAndLocationConditions(
@@ -191,7 +194,7 @@ class UnlockServiceIntegrationTest {
                 .status(CapsuleOpenStatus.FAIL_LOCATION)
                 .anomalyType(AnomalyType.NONE)
                 .build();
-        capsuleOpenLogRepository.saveAndFlush(recentLog);
+        saveLog(recentLog);
 
         // When
         var result = unlockService.validateTimeAndLocationConditions(
@@ -234,7 +237,7 @@ class UnlockServiceIntegrationTest {
                 .status(CapsuleOpenStatus.FAIL_LOCATION)
                 .anomalyType(AnomalyType.NONE)
                 .build();
-        capsuleOpenLogRepository.save(oldLog);
+        saveLog(oldLog);
 
         // When: 30분 후 인천공항에서 시도 (약 50km)
         var result = unlockService.validateTimeAndLocationConditions(
@@ -271,7 +274,7 @@ class UnlockServiceIntegrationTest {
                 .status(CapsuleOpenStatus.FAIL_LOCATION)
                 .anomalyType(AnomalyType.NONE)
                 .build();
-        capsuleOpenLogRepository.save(guestLog);
+        saveLog(guestLog);
 
         // When: 같은 IP에서 비회원이 시도 (50m 이동)
         var result = unlockService.validateTimeAndLocationConditions(
@@ -286,6 +289,12 @@ class UnlockServiceIntegrationTest {
 
     // === Helper Methods ===
 
+    // 열람 로그 저장 (이상 탐지 이력도 함께 기록), H2 ID 재사용으로 이전 실행의 Redis 이력이 섞이지 않도록 먼저 비움
+    private void saveLog(CapsuleOpenLog openLog) {
+        unlockAttemptHistory.clear(openLog.getCapsuleId().getCapsuleId(), openLog.getMemberId(), openLog.getIpAddress());
+        capsuleOpenLogService.saveLogWriteBehind(openLog);
+    }
+
     private Member createTestMember() {
         return Member.builder()
                 .userId("test-user")
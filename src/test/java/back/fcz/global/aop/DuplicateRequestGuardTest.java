@@ -0,0 +1,75 @@
+package back.fcz.global.aop;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicateRequestGuardTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    void 같은_요청이_쿨다운_안에_다시_들어오면_중복으로_판단한다() {
+        DuplicateRequestGuard guard = new DuplicateRequestGuard(redisTemplate, 1_000, false);
+
+        assertThat(guard.tryAcquire("1:POST:/api/v1/capsule")).isTrue();
+        assertThat(guard.tryAcquire("1:POST:/api/v1/capsule")).isFalse();
+        assertThat(guard.tryAcquire("2:POST:/api/v1/capsule")).isTrue();
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void 다른_노드에서_먼저_선점한_요청은_Redis_SET_NX로_차단된다() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("duplicate_request:1:POST:/api/v1/capsule"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        DuplicateRequestGuard guard = new DuplicateRequestGuard(redisTemplate, 1_000, true);
+
+        assertThat(guard.tryAcquire("1:POST:/api/v1/capsule")).isFalse();
+        verify(valueOperations).setIfAbsent(
+                "duplicate_request:1:POST:/api/v1/capsule", "1", DuplicateRequestGuard.COOLDOWN);
+    }
+
+    @Test
+    void Redis_장애_시_로컬_판별만_적용된다() {
+        when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("redis down"));
+
+        DuplicateRequestGuard guard = new DuplicateRequestGuard(redisTemplate, 1_000, true);
+
+        assertThat(guard.tryAcquire("1:POST:/api/v1/capsule")).isTrue();
+        assertThat(guard.tryAcquire("1:POST:/api/v1/capsule")).isFalse();
+    }
+
+    @Test
+    void 고유_요청이_계속_들어와도_로컬_기록은_설정한_상한을_넘지_않는다() {
+        int maxEntries = 10_000;
+        int uniqueRequests = 200_000;
+        DuplicateRequestGuard guard = new DuplicateRequestGuard(redisTemplate, maxEntries, false);
+
+        for (int i = 0; i < uniqueRequests; i++) {
+            guard.tryAcquire("127.0.0.1:Mozilla/5.0 (synthetic-" + i + "):POST:/api/v1/capsule/" + i + "/like");
+            if (i % 50_000 == 0) {
+                assertThat(guard.localSize()).isLessThanOrEqualTo(maxEntries);
+            }
+        }
+
+        assertThat(guard.localSize()).isLessThanOrEqualTo(maxEntries);
+        verifyNoInteractions(redisTemplate);
+    }
+}
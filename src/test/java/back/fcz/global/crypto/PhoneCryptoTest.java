@@ -1,11 +1,21 @@
 package back.fcz.global.crypto;
 
+import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -72,4 +82,47 @@ public class PhoneCryptoTest {
         // then
         assertThat(result).isFalse();
     }
+
+    @Test
+    @DisplayName("풀링된 엔진의 암호문/해시는 기존 방식(호출마다 Cipher/MessageDigest 생성)과 호환되어야 한다")
+    void pooled_engine_compatible_with_legacy_format() throws Exception {
+        // given
+        String phone = "01055556666";
+        byte[] key = Base64.getDecoder().decode("MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=");
+        String salt = "test-salt-for-phone-number-hashing";
+
+        // when
+        byte[] combined = Base64.getDecoder().decode(phoneCrypto.encrypt(phone));
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"),
+                new IvParameterSpec(Arrays.copyOfRange(combined, 0, 16)));
+        String legacyDecrypted = new String(
+                cipher.doFinal(Arrays.copyOfRange(combined, 16, combined.length)), StandardCharsets.UTF_8);
+
+        String legacyHash = Hex.encodeHexString(
+                MessageDigest.getInstance("SHA-256").digest((phone + salt).getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(legacyDecrypted).isEqualTo(phone);
+        assertThat(phoneCrypto.hash(phone)).isEqualTo(legacyHash);
+    }
+
+    @Test
+    @DisplayName("일괄 암호화/복호화/해싱은 입력 순서를 유지하고 단건 결과와 같아야 한다")
+    void batch_apis_keep_order() {
+        // given
+        List<String> phones = List.of("01011112222", "01033334444", "01055556666");
+
+        // when
+        List<String> decrypted = phoneCrypto.decryptAll(phoneCrypto.encryptAll(phones));
+        List<String> hashes = phoneCrypto.hashAll(phones);
+
+        // then
+        assertThat(decrypted).containsExactlyElementsOf(phones);
+        assertThat(hashes).containsExactly(
+                phoneCrypto.hash(phones.get(0)),
+                phoneCrypto.hash(phones.get(1)),
+                phoneCrypto.hash(phones.get(2))
+        );
+    }
 }
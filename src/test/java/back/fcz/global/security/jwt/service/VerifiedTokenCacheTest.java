@@ -0,0 +1,69 @@
+package back.fcz.global.security.jwt.service;
+
+import back.fcz.global.exception.BusinessException;
+import back.fcz.global.security.jwt.JwtProperties;
+import back.fcz.global.security.jwt.JwtProvider;
+import back.fcz.global.security.jwt.UserType;
+import back.fcz.global.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class VerifiedTokenCacheTest {
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-for-verified-token-cache-0123456789");
+        properties.getAccessToken().setExpiration(60_000L);
+        properties.getRefreshToken().setExpiration(120_000L);
+
+        jwtProvider = spy(new JwtProvider(properties));
+        verifiedTokenCache = new VerifiedTokenCache(jwtProvider);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 파싱/검증하고 이후에는 캐시된 결과를 반환한다")
+    void verify_cachesVerifiedToken() {
+        String token = jwtProvider.generateMemberAccessToken(1L, "ROLE_USER");
+
+        VerifiedToken first = verifiedTokenCache.verify(token);
+        VerifiedToken second = verifiedTokenCache.verify(token);
+
+        assertThat(first.memberId()).isEqualTo(1L);
+        assertThat(first.role()).isEqualTo("ROLE_USER");
+        assertThat(first.userType()).isEqualTo(UserType.MEMBER);
+        assertThat(second).isSameAs(first);
+        verify(jwtProvider, times(1)).verify(token);
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 다시 검증한다")
+    void evict_forcesReverification() {
+        String token = jwtProvider.generateMemberAccessToken(1L, "ROLE_USER");
+        verifiedTokenCache.verify(token);
+
+        verifiedTokenCache.evict(token);
+        verifiedTokenCache.verify(token);
+
+        verify(jwtProvider, times(2)).verify(token);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않고 매번 예외를 던진다")
+    void verify_invalidToken_notCached() {
+        String token = jwtProvider.generateMemberAccessToken(1L, "ROLE_USER") + "tampered";
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> verifiedTokenCache.verify(token))
+                    .isInstanceOf(BusinessException.class);
+        }
+        verify(jwtProvider, times(2)).verify(token);
+    }
+}
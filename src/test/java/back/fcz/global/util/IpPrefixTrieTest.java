@@ -0,0 +1,129 @@
+package back.fcz.global.util;
+
+import back.fcz.domain.sanction.util.IpPrefixTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IpPrefixTrie 테스트")
+class IpPrefixTrieTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long FUTURE = NOW + 60_000L;
+
+    @Test
+    @DisplayName("단일 IP 규칙은 해당 IP만 매칭한다")
+    void matchSingleIp() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("192.168.1.100", FUTURE));
+
+        // when & then
+        assertThat(trie.match("192.168.1.100", NOW)).isEqualTo("192.168.1.100");
+        assertThat(trie.match("192.168.1.101", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("CIDR 규칙은 대역 안의 모든 IP를 매칭한다")
+    void matchCidrRange() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("203.0.113.0/24", FUTURE, "2001:db8::/32", FUTURE));
+
+        // when & then
+        assertThat(trie.match("203.0.113.0", NOW)).isEqualTo("203.0.113.0/24");
+        assertThat(trie.match("203.0.113.255", NOW)).isEqualTo("203.0.113.0/24");
+        assertThat(trie.match("203.0.114.1", NOW)).isNull();
+        assertThat(trie.match("2001:db8:abcd::1", NOW)).isEqualTo("2001:db8::/32");
+        assertThat(trie.match("2001:db9::1", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("IPv4-mapped IPv6 주소는 IPv4 규칙으로 매칭한다")
+    void matchIpv4MappedIpv6() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("10.0.0.0/8", FUTURE));
+
+        // when & then
+        assertThat(trie.match("::ffff:10.1.2.3", NOW)).isEqualTo("10.0.0.0/8");
+    }
+
+    @Test
+    @DisplayName("만료된 규칙은 매칭하지 않는다")
+    void expiredRuleDoesNotMatch() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("192.168.1.100", NOW - 1));
+
+        // when & then
+        assertThat(trie.match("192.168.1.100", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 IP나 호스트명은 매칭하지 않는다")
+    void invalidIpDoesNotMatch() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("0.0.0.0/0", FUTURE));
+
+        // when & then
+        assertThat(trie.match("UNKNOWN", NOW)).isNull();
+        assertThat(trie.match("256.1.1.1", NOW)).isNull();
+        assertThat(trie.match("1.2.3", NOW)).isNull();
+        assertThat(trie.match("1.2.3.4", NOW)).isEqualTo("0.0.0.0/0");
+    }
+
+    @Test
+    @DisplayName("IPv6 리터럴은 축약/IPv4 표기/scope를 직접 파싱한다")
+    void matchIpv6Literals() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("2001:db8::/32", FUTURE, "::1", FUTURE));
+
+        // when & then
+        assertThat(trie.match("2001:0db8:0000:0000:0000:0000:0000:0001", NOW)).isEqualTo("2001:db8::/32");
+        assertThat(trie.match("2001:DB8::", NOW)).isEqualTo("2001:db8::/32");
+        assertThat(trie.match("2001:db8::1%eth0", NOW)).isEqualTo("2001:db8::/32");
+        assertThat(trie.match("2001:db8::192.0.2.1", NOW)).isEqualTo("2001:db8::/32");
+        assertThat(trie.match("0:0:0:0:0:0:0:1", NOW)).isEqualTo("::1");
+    }
+
+    @Test
+    @DisplayName("':'가 있어도 IPv6 리터럴이 아니면 DNS 조회 없이 거절한다")
+    void invalidIpv6IsRejectedWithoutLookup() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("::/0", FUTURE));
+
+        // when & then
+        assertThat(trie.match("zz:1", NOW)).isNull();
+        assertThat(trie.match("example.com:80", NOW)).isNull();
+        assertThat(trie.match("localhost:1", NOW)).isNull();
+        assertThat(trie.match("1::2::3", NOW)).isNull();
+        assertThat(trie.match("1:2:3:4:5:6:7:8:9", NOW)).isNull();
+        assertThat(trie.match("12345::1", NOW)).isNull();
+        assertThat(trie.match("::1%", NOW)).isNull();
+        assertThat(trie.match("１::1", NOW)).isNull();
+        assertThat(trie.match("::2", NOW)).isEqualTo("::/0");
+    }
+
+    @Test
+    @DisplayName("CIDR 규칙은 네트워크 주소로 정규화한다")
+    void normalizeRule() {
+        assertThat(IpPrefixTrie.normalize("203.0.113.77/24")).isEqualTo("203.0.113.0/24");
+        assertThat(IpPrefixTrie.normalize("192.168.1.100")).isEqualTo("192.168.1.100");
+        assertThat(IpPrefixTrie.normalize("10.0.0.0/33")).isNull();
+        assertThat(IpPrefixTrie.normalize("UNKNOWN")).isNull();
+    }
+
+    @Test
+    @DisplayName("remove는 같은 규칙만 제거하고 다른 규칙은 그대로 둔다")
+    void removeRule() {
+        // given
+        IpPrefixTrie trie = IpPrefixTrie.of(Map.of("203.0.113.0/24", FUTURE, "203.0.113.7", FUTURE));
+
+        // when & then
+        assertThat(trie.remove("203.0.113.0/25")).isFalse();
+        assertThat(trie.remove("203.0.113.0/24")).isTrue();
+        assertThat(trie.match("203.0.113.1", NOW)).isNull();
+        assertThat(trie.match("203.0.113.7", NOW)).isEqualTo("203.0.113.7");
+        assertThat(trie.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,65 @@
+package back.fcz.infra.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PresignedUrlCacheTest {
+    private PresignedUrlProvider presignedUrlProvider;
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private PresignedUrlCache presignedUrlCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        presignedUrlProvider = mock(PresignedUrlProvider.class);
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(presignedUrlProvider.presignGet(anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> "signed:" + invocation.getArgument(0));
+
+        presignedUrlCache = new PresignedUrlCache(presignedUrlProvider, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("중복 키는 한 번만 조회하고, 캐시 미스만 서명해 파이프라인으로 저장한다")
+    void getUrls_signsOnlyMisses() {
+        when(valueOperations.multiGet(List.of("presigned:attachment:a", "presigned:attachment:b")))
+                .thenReturn(Arrays.asList("cached:a", null));
+
+        Map<String, String> urls = presignedUrlCache.getUrls(List.of("a", "b", "a"));
+
+        assertThat(urls).containsExactly(
+                Map.entry("a", "cached:a"),
+                Map.entry("b", "signed:b")
+        );
+        verify(presignedUrlProvider, times(1)).presignGet(eq("b"), any(Duration.class));
+        verify(presignedUrlProvider, never()).presignGet(eq("a"), any(Duration.class));
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 전부 서명하고 캐시에 저장하지 않는다")
+    void getUrls_redisFailure_signsAll() {
+        when(valueOperations.multiGet(anyList())).thenThrow(new RuntimeException("redis down"));
+
+        Map<String, String> urls = presignedUrlCache.getUrls(List.of("a", "b"));
+
+        assertThat(urls).containsEntry("a", "signed:a").containsEntry("b", "signed:b");
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,93 @@
+package back.fcz.infra.storage.s3;
+
+import back.fcz.infra.storage.BulkDeleteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class S3FileStorageTest {
+    private S3Client s3Client;
+    private S3FileStorage s3FileStorage;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        s3FileStorage = new S3FileStorage(s3Client);
+        ReflectionTestUtils.setField(s3FileStorage, "bucket", "test-bucket");
+    }
+
+    @Test
+    @DisplayName("1000개를 넘는 키는 1000개씩 나눠 DeleteObjects 요청")
+    void deleteAll_chunksByMaxKeys() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            keys.add("capsules/1/" + i + ".png");
+        }
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder().build());
+
+        BulkDeleteResult result = s3FileStorage.deleteAll(keys);
+
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(3)).deleteObjects(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(request -> request.delete().objects().size())
+                .containsExactly(1000, 1000, 500);
+        assertThat(captor.getAllValues().get(0).delete().quiet()).isTrue();
+        assertThat(result.deletedKeys()).hasSize(2500);
+        assertThat(result.failures()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일시 오류 키만 재시도하고, 재시도 대상이 아닌 오류는 바로 실패로 보고")
+    void deleteAll_retriesOnlyRetryableErrors() {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder()
+                        .errors(
+                                S3Error.builder().key("b").code("SlowDown").message("slow down").build(),
+                                S3Error.builder().key("c").code("AccessDenied").message("denied").build()
+                        )
+                        .build())
+                .thenReturn(DeleteObjectsResponse.builder().build());
+
+        BulkDeleteResult result = s3FileStorage.deleteAll(List.of("a", "b", "c"));
+
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(2)).deleteObjects(captor.capture());
+        assertThat(captor.getAllValues().get(1).delete().objects())
+                .extracting(ObjectIdentifier::key)
+                .containsExactly("b");
+
+        assertThat(result.deletedKeys()).containsExactly("a", "b");
+        assertThat(result.failures()).containsOnlyKeys("c");
+        assertThat(result.isDeleted("c")).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 자체가 계속 실패하면 최대 시도 후 전부 실패로 보고")
+    void deleteAll_requestFailure_reportsAllKeysAfterMaxAttempts() {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(SdkClientException.create("connection reset"));
+
+        BulkDeleteResult result = s3FileStorage.deleteAll(List.of("a", "b"));
+
+        verify(s3Client, times(S3FileStorage.MAX_DELETE_ATTEMPTS)).deleteObjects(any(DeleteObjectsRequest.class));
+        assertThat(result.deletedKeys()).isEmpty();
+        assertThat(result.failures()).containsOnlyKeys("a", "b");
+    }
+}